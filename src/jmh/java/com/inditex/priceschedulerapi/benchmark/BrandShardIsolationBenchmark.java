@@ -0,0 +1,103 @@
+package com.inditex.priceschedulerapi.benchmark;
+
+import com.inditex.priceschedulerapi.application.dto.PriceQueryRequest;
+import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import com.inditex.priceschedulerapi.domain.valueobject.ProductId;
+import com.inditex.priceschedulerapi.infrastructure.persistence.entity.PriceEntity;
+import com.inditex.priceschedulerapi.infrastructure.persistence.index.BrandShard;
+import com.inditex.priceschedulerapi.infrastructure.persistence.mapper.PriceEntityMapper;
+import com.inditex.priceschedulerapi.infrastructure.persistence.memory.InMemoryPriceRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of lookup latency of one brand while the index of another brand is rebuilt.
+ *
+ * Both groups run lookups of brand 1 on the in-memory repository. In {@code reloading}, one more
+ * thread rebuilds the shard of brand 2 (a quarter of {@code rows}) in a loop; in {@code idle},
+ * nothing else runs. Shards share no lock and no data, so the difference between the two
+ * latency distributions is the cost of the rebuild's CPU and garbage collection, not of waiting
+ * for it. Run with {@code -prof gc} to see the allocation rate of the reloads.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class BrandShardIsolationBenchmark {
+
+    private static final BrandId LOOKUP_BRAND = BrandId.of(1);
+    private static final BrandId RELOADED_BRAND = BrandId.of(2);
+
+    @Param({"1000000"})
+    private int rows;
+
+    private InMemoryPriceRepository repository;
+    private PriceQueryRequest[] queries;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<PriceEntity> entities = SyntheticPrices.entities(rows, 42);
+        repository = new InMemoryPriceRepository(SyntheticPrices.jpaRepository(entities), new PriceEntityMapper());
+        repository.load();
+        queries = Arrays.stream(SyntheticPrices.queries(rows, 16_384, 7))
+                .filter(query -> query.brandId() == LOOKUP_BRAND.getValue().intValue())
+                .toArray(PriceQueryRequest[]::new);
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        int next;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            next = 0;
+        }
+    }
+
+    @Benchmark
+    @Group("idle")
+    public Optional<Price> idleLookup(Cursor cursor) {
+        return lookup(cursor);
+    }
+
+    @Benchmark
+    @Group("reloading")
+    @GroupThreads(3)
+    public Optional<Price> lookupDuringReload(Cursor cursor) {
+        return lookup(cursor);
+    }
+
+    @Benchmark
+    @Group("reloading")
+    @GroupThreads(1)
+    public BrandShard reloadOtherBrand() {
+        return repository.reload(RELOADED_BRAND);
+    }
+
+    private Optional<Price> lookup(Cursor cursor) {
+        PriceQueryRequest query = queries[cursor.next++ % queries.length];
+        return repository.findTopApplicablePrice(
+                ProductId.of(query.productId()), BrandId.of(query.brandId()), query.applicationDate());
+    }
+}
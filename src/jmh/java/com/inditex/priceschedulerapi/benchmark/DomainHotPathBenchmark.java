@@ -0,0 +1,81 @@
+package com.inditex.priceschedulerapi.benchmark;
+
+import com.inditex.priceschedulerapi.application.dto.PriceQueryRequest;
+import com.inditex.priceschedulerapi.application.dto.PriceQueryResponse;
+import com.inditex.priceschedulerapi.application.mapper.PriceMapper;
+import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.valueobject.DateRange;
+import com.inditex.priceschedulerapi.infrastructure.persistence.entity.PriceEntity;
+import com.inditex.priceschedulerapi.infrastructure.persistence.mapper.PriceEntityMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micro-benchmarks of the per-request building blocks: the date range check,
+ * the entity to domain conversion and the domain to DTO conversion.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DomainHotPathBenchmark {
+
+    private static final int SAMPLES = 1024;
+
+    private final PriceEntityMapper entityMapper = new PriceEntityMapper();
+    private final PriceMapper priceMapper = new PriceMapper();
+
+    private PriceEntity[] entities;
+    private Price[] prices;
+    private DateRange[] dateRanges;
+    private LocalDateTime[] dates;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        List<PriceEntity> generated = SyntheticPrices.entities(SAMPLES, 42);
+        entities = generated.toArray(PriceEntity[]::new);
+        prices = generated.stream().map(entityMapper::toDomain).toArray(Price[]::new);
+        dateRanges = new DateRange[SAMPLES];
+        dates = new LocalDateTime[SAMPLES];
+        PriceQueryRequest[] queries = SyntheticPrices.queries(SAMPLES, SAMPLES, 7);
+        for (int i = 0; i < SAMPLES; i++) {
+            dateRanges[i] = prices[i].getDateRange();
+            dates[i] = queries[i].applicationDate();
+        }
+    }
+
+    @Benchmark
+    public boolean dateRangeContains() {
+        int i = next();
+        return dateRanges[i].contains(dates[i]);
+    }
+
+    @Benchmark
+    public Price entityToDomain() {
+        return entityMapper.toDomain(entities[next()]);
+    }
+
+    @Benchmark
+    public PriceQueryResponse domainToResponse() {
+        return priceMapper.toResponse(prices[next()]);
+    }
+
+    private int next() {
+        return cursor++ & (SAMPLES - 1);
+    }
+}
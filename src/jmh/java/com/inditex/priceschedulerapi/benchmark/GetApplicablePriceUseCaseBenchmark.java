@@ -0,0 +1,116 @@
+package com.inditex.priceschedulerapi.benchmark;
+
+import com.inditex.priceschedulerapi.application.dto.PriceQueryRequest;
+import com.inditex.priceschedulerapi.application.dto.PriceQueryResponse;
+import com.inditex.priceschedulerapi.application.mapper.PriceMapper;
+import com.inditex.priceschedulerapi.application.usecase.GetApplicablePriceUseCase;
+import com.inditex.priceschedulerapi.domain.repository.PriceRepository;
+import com.inditex.priceschedulerapi.domain.service.PriceSelectionService;
+import com.inditex.priceschedulerapi.infrastructure.cache.CachingPriceSelectionService;
+import com.inditex.priceschedulerapi.infrastructure.cache.PriceSegmentCache;
+import com.inditex.priceschedulerapi.infrastructure.metrics.PriceLookupMetrics;
+import com.inditex.priceschedulerapi.infrastructure.persistence.columnar.ColumnarPriceRepository;
+import com.inditex.priceschedulerapi.infrastructure.persistence.columnar.PriceSnapshotProperties;
+import com.inditex.priceschedulerapi.infrastructure.persistence.entity.PriceEntity;
+import com.inditex.priceschedulerapi.infrastructure.persistence.mapper.PriceEntityMapper;
+import com.inditex.priceschedulerapi.infrastructure.persistence.memory.InMemoryPriceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end benchmark of {@link GetApplicablePriceUseCase#execute} against a synthetic
+ * multi-million-row dataset loaded into the in-memory or the columnar repository, with and
+ * without the segment cache in front of the selection service.
+ *
+ * Every thread cycles through its own pre-generated random queries, a share of which miss.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+@Threads(4)
+public class GetApplicablePriceUseCaseBenchmark {
+
+    private static final int QUERIES = 1 << 16;
+
+    @State(Scope.Benchmark)
+    public static class Dataset {
+
+        @Param({"2000000"})
+        int rows;
+
+        @Param({"in-memory", "columnar"})
+        String repository;
+
+        @Param({"uncached", "cached"})
+        String selection;
+
+        GetApplicablePriceUseCase useCase;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            List<PriceEntity> entities = SyntheticPrices.entities(rows, 42);
+            PriceRepository priceRepository = switch (repository) {
+                case "columnar" -> {
+                    ColumnarPriceRepository columnar = new ColumnarPriceRepository(
+                            SyntheticPrices.jpaRepository(entities), new PriceEntityMapper(),
+                            new PriceSnapshotProperties(null, false, false));
+                    columnar.load();
+                    yield columnar;
+                }
+                default -> {
+                    InMemoryPriceRepository inMemory = new InMemoryPriceRepository(
+                            SyntheticPrices.jpaRepository(entities), new PriceEntityMapper());
+                    inMemory.load();
+                    yield inMemory;
+                }
+            };
+
+            PriceSelectionService service = switch (selection) {
+                case "cached" -> new CachingPriceSelectionService(priceRepository, new PriceSegmentCache(100_000, 64L << 20));
+                default -> new PriceSelectionService(priceRepository);
+            };
+            useCase = new GetApplicablePriceUseCase(service, new PriceMapper(),
+                    new PriceLookupMetrics(new SimpleMeterRegistry(), Set.of(1)));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Queries {
+
+        PriceQueryRequest[] queries;
+        int cursor;
+
+        @Setup(Level.Trial)
+        public void setUp(Dataset dataset) {
+            queries = SyntheticPrices.queries(dataset.rows, QUERIES, Thread.currentThread().threadId());
+        }
+
+        PriceQueryRequest next() {
+            return queries[cursor++ & (QUERIES - 1)];
+        }
+    }
+
+    @Benchmark
+    public Optional<PriceQueryResponse> execute(Dataset dataset, Queries queries) {
+        return dataset.useCase.execute(queries.next());
+    }
+}
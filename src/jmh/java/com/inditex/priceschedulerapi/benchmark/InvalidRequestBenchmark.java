@@ -0,0 +1,85 @@
+package com.inditex.priceschedulerapi.benchmark;
+
+import com.inditex.priceschedulerapi.domain.valueobject.ProductId;
+import com.inditex.priceschedulerapi.presentation.exception.GlobalExceptionHandler;
+import com.inditex.priceschedulerapi.presentation.exception.GlobalExceptionHandler.ErrorResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of rejecting an invalid lookup ({@code productId=-1}): the value object validation
+ * failure plus the error body built by {@link GlobalExceptionHandler}.
+ *
+ * {@code stackCapturing} reproduces the previous path, an {@link IllegalArgumentException} with
+ * its stack trace and a freshly built body; {@code stackless} runs the current one, a
+ * {@code DomainValidationException} and a precomputed body. The validation is thrown
+ * {@code depth} frames below the catching method, as it would be under a servlet stack.
+ * Run with {@code -prof gc} to compare allocations per rejected request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class InvalidRequestBenchmark {
+
+    @Param({"0", "100"})
+    private int depth;
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Benchmark
+    public ErrorResponse stackCapturing() {
+        try {
+            return rejectWithStack(depth, -1L);
+        } catch (IllegalArgumentException ex) {
+            Map<String, String> errors = new HashMap<>();
+            errors.put("error", ex.getMessage());
+            return new ErrorResponse(400, "Invalid argument", errors, LocalDateTime.now());
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> stackless() {
+        try {
+            reject(depth, -1L);
+            return null;
+        } catch (IllegalArgumentException ex) {
+            return handler.handleIllegalArgumentException(ex);
+        }
+    }
+
+    private static ErrorResponse rejectWithStack(int depth, long productId) {
+        if (depth > 0) {
+            return rejectWithStack(depth - 1, productId);
+        }
+        if (productId <= 0) {
+            throw new IllegalArgumentException("Product ID must be positive");
+        }
+        return null;
+    }
+
+    private static ProductId reject(int depth, long productId) {
+        if (depth > 0) {
+            return reject(depth - 1, productId);
+        }
+        return ProductId.of(productId);
+    }
+}
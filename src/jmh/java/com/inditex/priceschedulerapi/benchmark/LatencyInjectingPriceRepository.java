@@ -0,0 +1,95 @@
+package com.inditex.priceschedulerapi.benchmark;
+
+import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.model.PriceSegment;
+import com.inditex.priceschedulerapi.domain.model.PriceTimeline;
+import com.inditex.priceschedulerapi.domain.repository.PriceRepository;
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import com.inditex.priceschedulerapi.domain.valueobject.PriceLookup;
+import com.inditex.priceschedulerapi.domain.valueobject.ProductId;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * PriceRepository decorator that blocks the calling thread for a fixed time before every
+ * repository call, simulating the round trip to a remote database.
+ *
+ * Deliberately not a Spring component: benchmarks register it explicitly with {@link #injector}
+ * so that component scanning of the test classpath never picks it up.
+ */
+final class LatencyInjectingPriceRepository implements PriceRepository {
+
+    private final PriceRepository delegate;
+    private final Duration latency;
+
+    LatencyInjectingPriceRepository(PriceRepository delegate, Duration latency) {
+        this.delegate = delegate;
+        this.latency = latency;
+    }
+
+    /**
+     * @param latency the latency added to every repository call
+     * @return a post processor wrapping every PriceRepository bean of the context
+     */
+    static BeanPostProcessor injector(Duration latency) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof PriceRepository repository
+                        ? new LatencyInjectingPriceRepository(repository, latency)
+                        : bean;
+            }
+        };
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(ProductId productId, BrandId brandId, LocalDateTime applicationDate) {
+        pause();
+        return delegate.findApplicablePrices(productId, brandId, applicationDate);
+    }
+
+    @Override
+    public Optional<Price> findTopApplicablePrice(ProductId productId, BrandId brandId, LocalDateTime applicationDate) {
+        pause();
+        return delegate.findTopApplicablePrice(productId, brandId, applicationDate);
+    }
+
+    @Override
+    public Map<PriceLookup, List<Price>> findApplicablePrices(Collection<PriceLookup> lookups) {
+        pause();
+        return delegate.findApplicablePrices(lookups);
+    }
+
+    @Override
+    public List<Price> findPrices(ProductId productId, BrandId brandId) {
+        pause();
+        return delegate.findPrices(productId, brandId);
+    }
+
+    @Override
+    public PriceTimeline findTimeline(ProductId productId, BrandId brandId) {
+        pause();
+        return delegate.findTimeline(productId, brandId);
+    }
+
+    @Override
+    public Optional<PriceSegment> findEffectiveSegment(ProductId productId, BrandId brandId, LocalDateTime applicationDate) {
+        pause();
+        return delegate.findEffectiveSegment(productId, brandId, applicationDate);
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while injecting latency", e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.inditex.priceschedulerapi.benchmark;
+
+import com.inditex.priceschedulerapi.PriceSchedulerApiApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The application started on a random port with its own in-memory database, plus an HTTP
+ * client cycling through the price lookups of the sample data. Shared by the HTTP benchmarks.
+ */
+final class PriceApiServer implements AutoCloseable {
+
+    private static final String[] APPLICATION_DATES = {
+            "2020-06-14T10:00:00", "2020-06-14T16:00:00", "2020-06-15T10:00:00", "2020-06-16T21:00:00"
+    };
+
+    private final ConfigurableApplicationContext context;
+    private final HttpClient client;
+    private final URI[] priceUris;
+
+    private PriceApiServer(ConfigurableApplicationContext context) {
+        this.context = context;
+        int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+        this.client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        this.priceUris = new URI[APPLICATION_DATES.length];
+        for (int i = 0; i < priceUris.length; i++) {
+            priceUris[i] = URI.create("http://localhost:" + port
+                    + "/api/v1/prices?productId=35455&brandId=1&applicationDate=" + APPLICATION_DATES[i]);
+        }
+    }
+
+    /**
+     * Starts the application with logging and SQL output turned down and the segment cache
+     * disabled, so that every request reaches the repository.
+     *
+     * @param initializer initializer applied to the context before it is refreshed
+     * @param args additional command line arguments, taking precedence over application.yml
+     * @return the running server
+     */
+    static PriceApiServer start(ApplicationContextInitializer<ConfigurableApplicationContext> initializer, String... args) {
+        String database = "benchmark-" + UUID.randomUUID();
+        List<String> arguments = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+                "--price-scheduler.r2dbc.url=r2dbc:h2:mem:///" + database,
+                "--spring.jpa.show-sql=false",
+                "--spring.main.banner-mode=off",
+                "--price-scheduler.cache.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"));
+        arguments.addAll(List.of(args));
+
+        return new PriceApiServer(new SpringApplicationBuilder(PriceSchedulerApiApplication.class)
+                .initializers(initializer)
+                .run(arguments.toArray(String[]::new)));
+    }
+
+    /**
+     * Sends the price lookup selected by the cursor and checks that it succeeded.
+     *
+     * @param cursor any counter; consecutive values cycle through the sample lookups
+     * @return size of the response body
+     */
+    int getPrice(int cursor) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(priceUris[cursor & (APPLICATION_DATES.length - 1)]).GET().build();
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode());
+        }
+        return response.body().length;
+    }
+
+    @Override
+    public void close() {
+        client.close();
+        context.close();
+    }
+}
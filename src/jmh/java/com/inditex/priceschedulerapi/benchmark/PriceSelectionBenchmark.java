@@ -0,0 +1,93 @@
+package com.inditex.priceschedulerapi.benchmark;
+
+import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.model.PriceSegment;
+import com.inditex.priceschedulerapi.domain.repository.PriceRepository;
+import com.inditex.priceschedulerapi.domain.service.PriceSelectionService;
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import com.inditex.priceschedulerapi.domain.valueobject.ProductId;
+import com.inditex.priceschedulerapi.infrastructure.persistence.mapper.PriceEntityMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark of the priority resolution in {@link PriceSelectionService#findApplicablePrice}
+ * in isolation, with a stubbed repository that always returns the same overlapping candidates.
+ *
+ * Also compares resolving an hourly series over a season one date at a time, with a timeline
+ * built per lookup as a repository query would, against a single
+ * {@link PriceSelectionService#findEffectiveSegments} sweep over one timeline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriceSelectionBenchmark {
+
+    private static final int SEASON_HOURS = 92 * 24;
+
+    private final ProductId productId = ProductId.of(1L);
+    private final BrandId brandId = BrandId.of(1);
+    private final LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 16, 0);
+    private final List<LocalDateTime> hourlySeason = Stream.iterate(LocalDateTime.of(2020, 6, 1, 0, 0), date -> date.plusHours(1))
+            .limit(SEASON_HOURS)
+            .toList();
+
+    private PriceSelectionService service;
+
+    @Setup
+    public void setUp() {
+        PriceEntityMapper mapper = new PriceEntityMapper();
+        List<Price> candidates = SyntheticPrices.entities(SyntheticPrices.PRICES_PER_PRODUCT, 42).stream()
+                .map(mapper::toDomain)
+                .toList();
+        service = new PriceSelectionService(new StubPriceRepository(candidates));
+    }
+
+    @Benchmark
+    public Optional<Price> findApplicablePrice() {
+        return service.findApplicablePrice(productId, brandId, applicationDate);
+    }
+
+    @Benchmark
+    public void findSeasonSeriesPerDate(Blackhole blackhole) {
+        for (LocalDateTime date : hourlySeason) {
+            blackhole.consume(service.findEffectiveSegment(productId, brandId, date));
+        }
+    }
+
+    @Benchmark
+    public List<Optional<PriceSegment>> findSeasonSeriesInOneSweep() {
+        return service.findEffectiveSegments(productId, brandId, hourlySeason);
+    }
+
+    private record StubPriceRepository(List<Price> candidates) implements PriceRepository {
+
+        @Override
+        public List<Price> findApplicablePrices(ProductId productId, BrandId brandId, LocalDateTime applicationDate) {
+            return candidates;
+        }
+
+        @Override
+        public List<Price> findPrices(ProductId productId, BrandId brandId) {
+            return candidates;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.inditex.priceschedulerapi.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.inditex.priceschedulerapi.application.dto.PriceBatchQueryResponse;
+import com.inditex.priceschedulerapi.application.dto.PriceQueryRequest;
+import com.inditex.priceschedulerapi.application.mapper.PriceMapper;
+import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.model.PriceSegment;
+import com.inditex.priceschedulerapi.infrastructure.persistence.mapper.PriceEntityMapper;
+import com.inditex.priceschedulerapi.infrastructure.serialization.EpochMillisModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the encodings served by the price API: serializing and parsing a single
+ * {@code PriceQueryResponse} and a batch response as JSON (ISO date strings), CBOR and Smile
+ * (epoch millisecond dates). The payload size of every encoding is printed once per trial.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationFormatBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"single", "batch"})
+    private String payload;
+
+    private Object value;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        PriceEntityMapper entityMapper = new PriceEntityMapper();
+        PriceMapper priceMapper = new PriceMapper();
+        List<Price> prices = SyntheticPrices.entities(BATCH_SIZE, 42).stream()
+                .map(entityMapper::toDomain)
+                .toList();
+        PriceQueryRequest[] queries = SyntheticPrices.queries(BATCH_SIZE, BATCH_SIZE, 7);
+
+        if (payload.equals("single")) {
+            Price price = prices.getFirst();
+            value = priceMapper.toResponse(PriceSegment.of(price.getDateRange(), price));
+        } else {
+            List<PriceBatchQueryResponse.Result> results = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                results.add(new PriceBatchQueryResponse.Result(queries[i].productId(), queries[i].brandId(),
+                        queries[i].applicationDate(), true, priceMapper.toResponse(prices.get(i))));
+            }
+            value = new PriceBatchQueryResponse(results);
+        }
+
+        ObjectMapper mapper = switch (format) {
+            case "json" -> Jackson2ObjectMapperBuilder.json().build();
+            case "cbor" -> binary(Jackson2ObjectMapperBuilder.cbor());
+            case "smile" -> binary(Jackson2ObjectMapperBuilder.smile());
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+        writer = mapper.writerFor(value.getClass());
+        reader = mapper.readerFor(value.getClass());
+        encoded = writer.writeValueAsBytes(value);
+        System.out.printf("%n%s %s payload: %d bytes%n", format, payload, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public Object parse() throws IOException {
+        return reader.readValue(encoded);
+    }
+
+    private static ObjectMapper binary(Jackson2ObjectMapperBuilder builder) {
+        return builder
+                .postConfigurer(mapper -> mapper.registerModule(new EpochMillisModule(ZoneOffset.UTC)))
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.inditex.priceschedulerapi.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP benchmark of {@code GET /api/v1/prices} served by Tomcat on platform threads versus
+ * virtual threads ({@code spring.threads.virtual.enabled}), with a fixed latency injected in
+ * front of the JPA repository to stand in for a slow database.
+ *
+ * The client runs more concurrent requests than Tomcat's default pool of 200 platform threads,
+ * so the platform run queues requests in the connector while the virtual run parks one cheap
+ * thread per request. The segment cache is disabled so that every request reaches the repository.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Threads(400)
+public class ServletThreadingBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Server {
+
+        @Param({"platform", "virtual"})
+        String threading;
+
+        @Param({"20"})
+        int dbLatencyMillis;
+
+        PriceApiServer api;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            api = PriceApiServer.start(
+                    context -> context.getBeanFactory().addBeanPostProcessor(
+                            LatencyInjectingPriceRepository.injector(Duration.ofMillis(dbLatencyMillis))),
+                    "--spring.threads.virtual.enabled=" + "virtual".equals(threading));
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            api.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Requests {
+
+        int cursor;
+    }
+
+    @Benchmark
+    public int getPrice(Server server, Requests requests) throws IOException, InterruptedException {
+        return server.api.getPrice(requests.cursor++);
+    }
+}
@@ -0,0 +1,153 @@
+package com.inditex.priceschedulerapi.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup time of the packaged application, from the launch of its process until
+ * {@code /actuator/health} answers, on the plain JVM, with Spring AOT, with Spring AOT and a CDS
+ * archive, and as a native image. Every invocation starts a new process with its own in-memory
+ * database and stops it afterwards.
+ *
+ * The artifacts are built beforehand: {@code mvn -Pcds -DskipTests package} for the {@code jvm},
+ * {@code aot} and {@code cds} modes (all run the jar extracted to {@code target/cds}, so they only
+ * differ by their flags), then {@code mvn -Pnative -DskipTests native:compile} for {@code native}.
+ * Modes can be selected with {@code -Djmh.args="StartupBenchmark -p mode=jvm,aot,cds"}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 10)
+@Fork(1)
+public class StartupBenchmark {
+
+    private static final Path TARGET = Path.of(System.getProperty("price-scheduler.benchmark.target", "target"));
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    @State(Scope.Benchmark)
+    public static class Launcher {
+
+        @Param({"jvm", "aot", "cds", "native"})
+        String mode;
+
+        List<String> command;
+        HttpClient client;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            command = new ArrayList<>();
+            if ("native".equals(mode)) {
+                command.add(requireFile(TARGET.resolve("price-scheduler-api")).toString());
+            } else {
+                Path jar;
+                try (var jars = Files.list(TARGET.resolve("cds"))) {
+                    jar = jars.filter(path -> path.toString().endsWith(".jar")).findFirst()
+                            .orElseThrow(() -> new IllegalStateException("No jar in " + TARGET.resolve("cds")
+                                    + ", build it with mvn -Pcds -DskipTests package"));
+                }
+                command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+                if ("cds".equals(mode)) {
+                    command.add("-XX:SharedArchiveFile=" + requireFile(TARGET.resolve("cds/application.jsa")));
+                }
+                command.add("-Dspring.aot.enabled=" + !"jvm".equals(mode));
+                command.add("-jar");
+                command.add(jar.toString());
+            }
+            command.addAll(List.of(
+                    "--spring.jpa.show-sql=false",
+                    "--spring.main.banner-mode=off",
+                    "--logging.level.root=WARN",
+                    "--logging.level.org.hibernate.SQL=WARN",
+                    "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"));
+            client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            client.close();
+        }
+
+        private static Path requireFile(Path path) {
+            if (!Files.isRegularFile(path)) {
+                throw new IllegalStateException("Missing " + path + ", see the build commands of StartupBenchmark");
+            }
+            return path;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Instance {
+
+        Process process;
+
+        @TearDown(Level.Invocation)
+        public void stop() throws InterruptedException {
+            if (process != null) {
+                process.destroy();
+                if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                    process.destroyForcibly().waitFor();
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public int startUntilHealthy(Launcher launcher, Instance instance) throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>(launcher.command);
+        command.add("--server.port=" + port);
+        command.add("--spring.datasource.url=jdbc:h2:mem:startup-" + port + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL");
+        instance.process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+
+        HttpRequest health = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health")).GET().build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!instance.process.isAlive()) {
+                throw new IllegalStateException("The " + launcher.mode + " process exited with " + instance.process.exitValue());
+            }
+            try {
+                HttpResponse<Void> response = launcher.client.send(health, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return response.statusCode();
+                }
+            } catch (IOException notListeningYet) {
+                // Connection refused until Tomcat has started
+            }
+            Thread.sleep(5);
+        }
+        throw new IllegalStateException("The " + launcher.mode + " process did not start within " + STARTUP_TIMEOUT);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.inditex.priceschedulerapi.benchmark;
+
+import com.inditex.priceschedulerapi.application.dto.PriceQueryRequest;
+import com.inditex.priceschedulerapi.infrastructure.persistence.entity.PriceEntity;
+import com.inditex.priceschedulerapi.infrastructure.persistence.repository.JpaPriceRepositoryAdapter;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic synthetic dataset for the benchmarks.
+ *
+ * Every product repeats the shape of the exercise sample data: a year-long base price
+ * overlapped by three higher priority promotions, so lookups resolve real overlaps.
+ */
+final class SyntheticPrices {
+
+    static final int PRICES_PER_PRODUCT = 4;
+    static final int BRANDS = 4;
+
+    private static final LocalDateTime YEAR_START = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private static final LocalDateTime YEAR_END = LocalDateTime.of(2020, 12, 31, 23, 59, 59);
+    private static final String[] CURRENCIES = {"EUR", "USD", "GBP"};
+
+    private SyntheticPrices() {
+    }
+
+    /**
+     * Generates {@code rows} price entities, four per (productId, brandId) key.
+     */
+    static List<PriceEntity> entities(int rows, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<PriceEntity> entities = new ArrayList<>(rows);
+        for (int i = 0; entities.size() < rows; i++) {
+            long productId = 1L + i / BRANDS;
+            int brandId = 1 + i % BRANDS;
+            String currency = CURRENCIES[random.nextInt(CURRENCIES.length)];
+            LocalDateTime promoStart = YEAR_START.plusDays(random.nextInt(300)).plusHours(random.nextInt(24));
+
+            entities.add(entity(productId, brandId, 1, YEAR_START, YEAR_END, 0, random, currency));
+            entities.add(entity(productId, brandId, 2, promoStart, promoStart.plusHours(3).plusMinutes(30),
+                    1, random, currency));
+            entities.add(entity(productId, brandId, 3, promoStart.plusDays(1), promoStart.plusDays(1).plusHours(11),
+                    1, random, currency));
+            entities.add(entity(productId, brandId, 4, promoStart.plusDays(1).plusHours(16), YEAR_END,
+                    1, random, currency));
+        }
+        return entities.size() > rows ? entities.subList(0, rows) : entities;
+    }
+
+    /**
+     * Generates {@code count} queries spread over the keys and the year of the dataset,
+     * including a share of misses on unknown products.
+     */
+    static PriceQueryRequest[] queries(int rows, int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        long keys = Math.max(1, rows / PRICES_PER_PRODUCT);
+        PriceQueryRequest[] queries = new PriceQueryRequest[count];
+        for (int i = 0; i < count; i++) {
+            long key = random.nextLong(keys + keys / 20);
+            LocalDateTime applicationDate = YEAR_START.plusMinutes(random.nextInt(366 * 24 * 60));
+            queries[i] = new PriceQueryRequest(1L + key / BRANDS, 1 + (int) (key % BRANDS), applicationDate);
+        }
+        return queries;
+    }
+
+    /**
+     * Spring Data repository stand-in answering {@code findAll} and {@code findByBrandId} with the given entities,
+     * so the in-memory repositories can be loaded without a database.
+     */
+    static JpaPriceRepositoryAdapter jpaRepository(List<PriceEntity> entities) {
+        return (JpaPriceRepositoryAdapter) Proxy.newProxyInstance(
+                JpaPriceRepositoryAdapter.class.getClassLoader(),
+                new Class<?>[]{JpaPriceRepositoryAdapter.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAll") && method.getParameterCount() == 0) {
+                        return entities;
+                    }
+                    if (method.getName().equals("count") && method.getParameterCount() == 0) {
+                        return (long) entities.size();
+                    }
+                    if (method.getName().equals("findByBrandId")) {
+                        return entities.stream().filter(entity -> entity.getBrandId().equals(args[0])).toList();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static PriceEntity entity(long productId, int brandId, int priceList, LocalDateTime startDate,
+                                      LocalDateTime endDate, int priority, SplittableRandom random,
+                                      String currency) {
+        return PriceEntity.builder()
+                .productId(productId)
+                .brandId(brandId)
+                .priceList(priceList)
+                .startDate(startDate)
+                .endDate(endDate)
+                .priority(priority)
+                .price(BigDecimal.valueOf(500 + random.nextInt(9500), 2))
+                .currency(currency)
+                .build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.inditex.priceschedulerapi.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP benchmark of {@code GET /api/v1/prices} on the Spring MVC + JPA stack (Tomcat, platform
+ * or virtual threads) versus the WebFlux + R2DBC stack (Reactor Netty event loops).
+ *
+ * The reactive stack is only compiled with the {@code reactive} Maven profile, so this benchmark
+ * runs with {@code -Pbenchmark,reactive}. The segment cache is disabled so that every request
+ * reaches the database.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Threads(400)
+public class WebStackBenchmark {
+
+    private static final String REACTIVE_CONTROLLER =
+            "com.inditex.priceschedulerapi.presentation.controller.ReactivePriceController";
+
+    @State(Scope.Benchmark)
+    public static class Server {
+
+        @Param({"servlet", "servlet-virtual", "reactive"})
+        String stack;
+
+        PriceApiServer api;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            if ("reactive".equals(stack) && !ClassUtils.isPresent(REACTIVE_CONTROLLER, null)) {
+                throw new IllegalStateException("The reactive stack is not on the classpath, run with -Pbenchmark,reactive");
+            }
+            api = PriceApiServer.start(context -> { },
+                    "--spring.main.web-application-type=" + ("reactive".equals(stack) ? "reactive" : "servlet"),
+                    "--spring.threads.virtual.enabled=" + "servlet-virtual".equals(stack));
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            api.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Requests {
+
+        int cursor;
+    }
+
+    @Benchmark
+    public int getPrice(Server server, Requests requests) throws IOException, InterruptedException {
+        return server.api.getPrice(requests.cursor++);
+    }
+}
@@ -0,0 +1,26 @@
+package com.inditex.priceschedulerapi.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO for batch price query requests.
+ * Groups several price queries so they can be resolved in a single call.
+ *
+ * @param queries Price queries to resolve, answered in the same order
+ */
+public record PriceBatchQueryRequest(
+        @NotEmpty(message = "Queries cannot be empty")
+        @Size(max = PriceBatchQueryRequest.MAX_QUERIES, message = "Queries cannot contain more than {max} elements")
+        List<@NotNull(message = "Query cannot be null") @Valid PriceQueryRequest> queries
+) {
+
+    /**
+     * Maximum number of queries accepted in one batch.
+     */
+    public static final int MAX_QUERIES = 1000;
+}
@@ -0,0 +1,36 @@
+package com.inditex.priceschedulerapi.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for batch price query responses.
+ * Contains one result per requested query, in the same order as the request.
+ *
+ * @param results Result of every query
+ */
+public record PriceBatchQueryResponse(
+        List<Result> results
+) {
+
+    /**
+     * Result of a single query of the batch.
+     *
+     * @param productId Requested product identifier
+     * @param brandId Requested brand identifier
+     * @param applicationDate Requested application date
+     * @param found Whether an applicable price exists
+     * @param price Applicable price, or null when not found
+     */
+    public record Result(
+            Long productId,
+            Integer brandId,
+            @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+            LocalDateTime applicationDate,
+            boolean found,
+            PriceQueryResponse price
+    ) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.inditex.priceschedulerapi.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a change of the current price of a product and brand, sent to subscribers.
+ *
+ * @param productId Product identifier
+ * @param brandId Brand identifier
+ * @param effectiveFrom Start of the validity window of the price, or of the period without price;
+ *                      the time of the event when that start is unknown
+ * @param price The price applicable from then on, with its validity window, or null if no price applies
+ */
+public record PriceChangeNotification(
+        Long productId,
+        Integer brandId,
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        LocalDateTime effectiveFrom,
+        PriceQueryResponse price
+) {
+}
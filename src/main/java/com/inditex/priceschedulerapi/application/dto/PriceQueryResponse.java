@@ -1,6 +1,7 @@
 package com.inditex.priceschedulerapi.application.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -17,6 +18,10 @@ import java.time.LocalDateTime;
  * @param endDate End date of price applicability
  * @param price Final price to apply
  * @param currency Currency code (ISO)
+ * @param validFrom First instant from which this price is the applicable one (start of its effective segment);
+ *                  omitted when not resolved, as in batch results
+ * @param validUntil Last instant at which this price is still the applicable one, before the next change;
+ *                   omitted when not resolved, as in batch results
  */
 public record PriceQueryResponse(
         Long productId,
@@ -27,6 +32,12 @@ public record PriceQueryResponse(
         @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
         LocalDateTime endDate,
         BigDecimal price,
-        String currency
+        String currency,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        LocalDateTime validFrom,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        LocalDateTime validUntil
 ) {
 }
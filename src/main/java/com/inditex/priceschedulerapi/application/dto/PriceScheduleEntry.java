@@ -0,0 +1,32 @@
+package com.inditex.priceschedulerapi.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for one entry of a price schedule.
+ * Each entry is a period, clipped to the requested window, during which a single price is the
+ * applicable one. Consecutive entries describe consecutive periods; gaps mean no price applies.
+ *
+ * @param productId Product identifier
+ * @param brandId Brand identifier
+ * @param priceList Price list identifier (tariff) of the applicable price
+ * @param startDate First instant of the period (inclusive)
+ * @param endDate Last instant of the period (inclusive)
+ * @param price Final price to apply during the period
+ * @param currency Currency code (ISO)
+ */
+public record PriceScheduleEntry(
+        Long productId,
+        Integer brandId,
+        Integer priceList,
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        LocalDateTime startDate,
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        LocalDateTime endDate,
+        BigDecimal price,
+        String currency
+) {
+}
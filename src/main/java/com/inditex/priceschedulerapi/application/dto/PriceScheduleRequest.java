@@ -0,0 +1,32 @@
+package com.inditex.priceschedulerapi.application.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for price schedule requests.
+ * Contains the input parameters required to query the effective prices of a product over a window.
+ *
+ * @param productId Product identifier
+ * @param brandId Brand identifier
+ * @param from Start of the window (inclusive)
+ * @param to End of the window (inclusive)
+ */
+public record PriceScheduleRequest(
+        @NotNull(message = "Product ID cannot be null")
+        @Positive(message = "Product ID must be positive")
+        Long productId,
+
+        @NotNull(message = "Brand ID cannot be null")
+        @Positive(message = "Brand ID must be positive")
+        Integer brandId,
+
+        @NotNull(message = "From date cannot be null")
+        LocalDateTime from,
+
+        @NotNull(message = "To date cannot be null")
+        LocalDateTime to
+) {
+}
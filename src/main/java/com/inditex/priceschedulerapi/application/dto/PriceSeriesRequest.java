@@ -0,0 +1,37 @@
+package com.inditex.priceschedulerapi.application.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for price series requests.
+ * Contains a product and brand and the application dates at which its applicable price is queried.
+ *
+ * @param productId Product identifier
+ * @param brandId Brand identifier
+ * @param applicationDates Application dates to check price applicability, answered in the same order
+ */
+public record PriceSeriesRequest(
+        @NotNull(message = "Product ID cannot be null")
+        @Positive(message = "Product ID must be positive")
+        Long productId,
+
+        @NotNull(message = "Brand ID cannot be null")
+        @Positive(message = "Brand ID must be positive")
+        Integer brandId,
+
+        @NotEmpty(message = "Application dates cannot be empty")
+        @Size(max = PriceSeriesRequest.MAX_DATES, message = "Application dates cannot contain more than {max} elements")
+        List<@NotNull(message = "Application date cannot be null") LocalDateTime> applicationDates
+) {
+
+    /**
+     * Maximum number of application dates accepted in one series, enough for an hourly series over a year.
+     */
+    public static final int MAX_DATES = 10_000;
+}
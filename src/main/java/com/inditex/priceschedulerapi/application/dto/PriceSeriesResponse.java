@@ -0,0 +1,36 @@
+package com.inditex.priceschedulerapi.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for price series responses.
+ * Contains the applicable price of a product and brand at every requested date, in request order.
+ *
+ * @param productId Requested product identifier
+ * @param brandId Requested brand identifier
+ * @param results Result of every application date
+ */
+public record PriceSeriesResponse(
+        Long productId,
+        Integer brandId,
+        List<Result> results
+) {
+
+    /**
+     * Result of a single application date of the series.
+     *
+     * @param applicationDate Requested application date
+     * @param found Whether an applicable price exists
+     * @param price Applicable price with its validity window, or null when not found
+     */
+    public record Result(
+            @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+            LocalDateTime applicationDate,
+            boolean found,
+            PriceQueryResponse price
+    ) {
+    }
+}
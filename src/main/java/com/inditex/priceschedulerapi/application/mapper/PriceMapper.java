@@ -1,12 +1,22 @@
 package com.inditex.priceschedulerapi.application.mapper;
 
+import com.inditex.priceschedulerapi.application.dto.PriceBatchQueryResponse;
 import com.inditex.priceschedulerapi.application.dto.PriceQueryRequest;
 import com.inditex.priceschedulerapi.application.dto.PriceQueryResponse;
+import com.inditex.priceschedulerapi.application.dto.PriceScheduleEntry;
+import com.inditex.priceschedulerapi.application.dto.PriceScheduleRequest;
+import com.inditex.priceschedulerapi.application.dto.PriceSeriesResponse;
 import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.model.PriceSegment;
 import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import com.inditex.priceschedulerapi.domain.valueobject.DateRange;
+import com.inditex.priceschedulerapi.domain.valueobject.PriceLookup;
 import com.inditex.priceschedulerapi.domain.valueobject.ProductId;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 /**
  * Mapper to convert between DTOs (application layer) and domain objects.
  * Follows the principle of keeping domain logic separate from API concerns.
@@ -35,12 +45,80 @@ public class PriceMapper {
     }
 
     /**
-     * Converts a Price domain object to a PriceQueryResponse DTO.
+     * Converts a PriceQueryRequest DTO to a domain price lookup.
+     *
+     * @param request the price query request
+     * @return PriceLookup with the product, brand and application date of the request
+     */
+    public PriceLookup toLookup(PriceQueryRequest request) {
+        return PriceLookup.of(toProductId(request), toBrandId(request), request.applicationDate());
+    }
+
+    /**
+     * Converts a PriceScheduleRequest DTO to the schedule window.
+     *
+     * @param request the price schedule request
+     * @return DateRange covering the requested window
+     * @throws IllegalArgumentException if the window starts after it ends
+     */
+    public DateRange toWindow(PriceScheduleRequest request) {
+        return DateRange.of(request.from(), request.to());
+    }
+
+    /**
+     * Converts a query of a batch and its selected price to a batch result DTO.
+     *
+     * @param request the price query request
+     * @param price the selected price, if any
+     * @return the batch result DTO
+     */
+    public PriceBatchQueryResponse.Result toBatchResult(PriceQueryRequest request, Optional<Price> price) {
+        return new PriceBatchQueryResponse.Result(
+                request.productId(),
+                request.brandId(),
+                request.applicationDate(),
+                price.isPresent(),
+                price.map(this::toResponse).orElse(null)
+        );
+    }
+
+    /**
+     * Converts an application date of a series and its effective segment to a series result DTO.
+     *
+     * @param applicationDate the requested application date
+     * @param segment the effective segment containing the date, if any
+     * @return the series result DTO
+     */
+    public PriceSeriesResponse.Result toSeriesResult(LocalDateTime applicationDate, Optional<PriceSegment> segment) {
+        return new PriceSeriesResponse.Result(
+                applicationDate,
+                segment.isPresent(),
+                segment.map(this::toResponse).orElse(null)
+        );
+    }
+
+    /**
+     * Converts a Price domain object to a PriceQueryResponse DTO, without validity window.
      *
      * @param price the domain price object
      * @return the response DTO
      */
     public PriceQueryResponse toResponse(Price price) {
+        return toResponse(price, null, null);
+    }
+
+    /**
+     * Converts an effective price segment to a PriceQueryResponse DTO whose validity window is
+     * the segment's: from its start until the next change of the effective price.
+     *
+     * @param segment the effective segment containing the queried date
+     * @return the response DTO
+     */
+    public PriceQueryResponse toResponse(PriceSegment segment) {
+        return toResponse(segment.getPrice(), segment.getValidity().getStartDate(), segment.getValidity().getEndDate());
+    }
+
+    private PriceQueryResponse toResponse(Price price, LocalDateTime validFrom, LocalDateTime validUntil) {
         return new PriceQueryResponse(
                 price.getProductId().getValue(),
                 price.getBrandId().getValue(),
@@ -48,6 +126,27 @@ public class PriceMapper {
                 price.getDateRange().getStartDate(),
                 price.getDateRange().getEndDate(),
                 price.getPrice().getAmount(),
+                price.getPrice().getCurrencyCode(),
+                validFrom,
+                validUntil
+        );
+    }
+
+    /**
+     * Converts an effective price segment to a schedule entry DTO.
+     *
+     * @param segment the effective segment, already clipped to the requested window
+     * @return the schedule entry DTO
+     */
+    public PriceScheduleEntry toScheduleEntry(PriceSegment segment) {
+        Price price = segment.getPrice();
+        return new PriceScheduleEntry(
+                price.getProductId().getValue(),
+                price.getBrandId().getValue(),
+                price.getPriceList().getValue(),
+                segment.getValidity().getStartDate(),
+                segment.getValidity().getEndDate(),
+                price.getPrice().getAmount(),
                 price.getPrice().getCurrencyCode()
         );
     }
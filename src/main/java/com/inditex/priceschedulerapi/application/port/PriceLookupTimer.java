@@ -0,0 +1,19 @@
+package com.inditex.priceschedulerapi.application.port;
+
+import java.util.function.Supplier;
+
+/**
+ * Port through which the application layer times its single price lookups.
+ * Implemented by the infrastructure metrics, so use cases do not depend on a metrics library.
+ */
+public interface PriceLookupTimer {
+
+    /**
+     * Runs a single price lookup and records how long it took.
+     *
+     * @param brandId the brand of the lookup
+     * @param lookup the lookup to run
+     * @return the result of the lookup
+     */
+    <T> T time(Integer brandId, Supplier<T> lookup);
+}
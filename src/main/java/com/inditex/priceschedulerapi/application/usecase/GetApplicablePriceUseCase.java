@@ -1,16 +1,30 @@
 package com.inditex.priceschedulerapi.application.usecase;
 
+import com.inditex.priceschedulerapi.application.dto.PriceBatchQueryRequest;
+import com.inditex.priceschedulerapi.application.dto.PriceBatchQueryResponse;
 import com.inditex.priceschedulerapi.application.dto.PriceQueryRequest;
 import com.inditex.priceschedulerapi.application.dto.PriceQueryResponse;
+import com.inditex.priceschedulerapi.application.dto.PriceScheduleEntry;
+import com.inditex.priceschedulerapi.application.dto.PriceScheduleRequest;
+import com.inditex.priceschedulerapi.application.dto.PriceSeriesRequest;
+import com.inditex.priceschedulerapi.application.dto.PriceSeriesResponse;
 import com.inditex.priceschedulerapi.application.mapper.PriceMapper;
+import com.inditex.priceschedulerapi.application.port.PriceLookupTimer;
 import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.model.PriceSegment;
 import com.inditex.priceschedulerapi.domain.service.PriceSelectionService;
 import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import com.inditex.priceschedulerapi.domain.valueobject.DateRange;
+import com.inditex.priceschedulerapi.domain.valueobject.PriceLookup;
 import com.inditex.priceschedulerapi.domain.valueobject.ProductId;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Use case for querying the applicable price for a product, brand and date.
@@ -29,26 +43,108 @@ public class GetApplicablePriceUseCase {
 
     private final PriceSelectionService priceSelectionService;
     private final PriceMapper priceMapper;
+    private final PriceLookupTimer priceLookupTimer;
 
     /**
      * Executes the use case to find the applicable price.
+     * The response carries the validity window of the price: from the start of its effective
+     * segment until the next change of the product's effective price.
      *
      * @param request the price query request containing productId, brandId and applicationDate
      * @return Optional containing the price response, or empty if no price is found
      */
     public Optional<PriceQueryResponse> execute(PriceQueryRequest request) {
+        return priceLookupTimer.time(request.brandId(), () -> {
+            // Convert DTO to domain value objects
+            ProductId productId = priceMapper.toProductId(request);
+            BrandId brandId = priceMapper.toBrandId(request);
+
+            // Execute domain logic: the effective segment carries the winning price and its validity window
+            Optional<PriceSegment> segment = priceSelectionService.findEffectiveSegment(
+                    productId,
+                    brandId,
+                    request.applicationDate()
+            );
+
+            // Convert domain object to DTO
+            return segment.map(priceMapper::toResponse);
+        });
+    }
+
+    /**
+     * Executes the use case for a batch of queries, resolving all of them with a single
+     * repository call instead of one per query.
+     *
+     * @param request the batch request containing the queries to resolve
+     * @return the batch response, with one result per query in request order
+     */
+    public PriceBatchQueryResponse executeBatch(PriceBatchQueryRequest request) {
+        List<PriceQueryRequest> queries = request.queries();
+
+        // Convert DTOs to domain lookups
+        List<PriceLookup> lookups = queries.stream()
+                .map(priceMapper::toLookup)
+                .toList();
+
+        // Execute domain logic
+        List<Optional<Price>> prices = priceSelectionService.findApplicablePrices(lookups);
+
+        // Convert domain objects to DTOs, keeping the request order
+        List<PriceBatchQueryResponse.Result> results = new ArrayList<>(queries.size());
+        for (int i = 0; i < queries.size(); i++) {
+            results.add(priceMapper.toBatchResult(queries.get(i), prices.get(i)));
+        }
+        return new PriceBatchQueryResponse(results);
+    }
+
+    /**
+     * Executes the use case for a series of application dates of a single product and brand.
+     *
+     * The product's prices are fetched once and all the dates are resolved in one sweep over its
+     * timeline, instead of one lookup per date.
+     *
+     * @param request the series request containing productId, brandId and the application dates
+     * @return the series response, with one result per application date in request order
+     */
+    public PriceSeriesResponse executeSeries(PriceSeriesRequest request) {
+        List<LocalDateTime> applicationDates = request.applicationDates();
+
+        // Execute domain logic: one timeline, one sweep
+        List<Optional<PriceSegment>> segments = priceSelectionService.findEffectiveSegments(
+                ProductId.of(request.productId()),
+                BrandId.of(request.brandId()),
+                applicationDates
+        );
+
+        // Convert domain objects to DTOs, keeping the request order
+        List<PriceSeriesResponse.Result> results = new ArrayList<>(applicationDates.size());
+        for (int i = 0; i < applicationDates.size(); i++) {
+            results.add(priceMapper.toSeriesResult(applicationDates.get(i), segments.get(i)));
+        }
+        return new PriceSeriesResponse(request.productId(), request.brandId(), results);
+    }
+
+    /**
+     * Executes the use case for a window, producing the effective price schedule of a product.
+     *
+     * The window is validated and the product's timeline loaded eagerly, so invalid requests fail
+     * before anything is written; the entries themselves are mapped lazily as they are consumed.
+     *
+     * @param request the schedule request containing productId, brandId and the [from, to] window
+     * @return the schedule entries, in chronological order
+     */
+    public Stream<PriceScheduleEntry> executeSchedule(PriceScheduleRequest request) {
         // Convert DTO to domain value objects
-        ProductId productId = priceMapper.toProductId(request);
-        BrandId brandId = priceMapper.toBrandId(request);
+        DateRange window = priceMapper.toWindow(request);
 
         // Execute domain logic
-        Optional<Price> price = priceSelectionService.findApplicablePrice(
-                productId,
-                brandId,
-                request.applicationDate()
+        Stream<PriceSegment> segments = priceSelectionService.findSchedule(
+                ProductId.of(request.productId()),
+                BrandId.of(request.brandId()),
+                window
         );
 
-        // Convert domain object to DTO
-        return price.map(priceMapper::toResponse);
+        // Convert domain objects to DTOs
+        return segments.map(priceMapper::toScheduleEntry);
     }
 }
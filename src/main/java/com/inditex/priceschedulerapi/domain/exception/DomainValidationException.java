@@ -0,0 +1,21 @@
+package com.inditex.priceschedulerapi.domain.exception;
+
+/**
+ * Thrown when a value object or domain model is built from invalid data.
+ *
+ * Validation failures are expected outcomes of malformed input rather than programming errors,
+ * and their message already says what is wrong, so the exception does not capture a stack trace:
+ * rejecting invalid input costs an allocation instead of a stack walk. It stays an
+ * {@link IllegalArgumentException} for callers and handlers.
+ */
+public class DomainValidationException extends IllegalArgumentException {
+
+    public DomainValidationException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
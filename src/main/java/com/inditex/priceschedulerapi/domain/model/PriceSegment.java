@@ -0,0 +1,68 @@
+package com.inditex.priceschedulerapi.domain.model;
+
+import com.inditex.priceschedulerapi.domain.exception.DomainValidationException;
+import com.inditex.priceschedulerapi.domain.valueobject.DateRange;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * A period of a product's price timeline during which a single price is the effective one.
+ * The priority rule has already been applied: {@code price} is the winning price for every
+ * instant of {@code validity}.
+ */
+@Getter
+@EqualsAndHashCode
+public final class PriceSegment {
+
+    private final DateRange validity;
+    private final Price price;
+
+    private PriceSegment(DateRange validity, Price price) {
+        if (validity == null) {
+            throw new DomainValidationException("Segment validity cannot be null");
+        }
+        if (price == null) {
+            throw new DomainValidationException("Segment price cannot be null");
+        }
+        this.validity = validity;
+        this.price = price;
+    }
+
+    public static PriceSegment of(DateRange validity, Price price) {
+        return new PriceSegment(validity, price);
+    }
+
+    /**
+     * Checks if the given date falls within this segment (inclusive).
+     */
+    public boolean contains(LocalDateTime date) {
+        return validity.contains(date);
+    }
+
+    /**
+     * Restricts this segment to the part of its validity that falls inside the given window.
+     *
+     * @param window the window to clip to; must overlap this segment
+     * @return this segment if it lies entirely inside the window, otherwise a clipped copy
+     */
+    public PriceSegment clipTo(DateRange window) {
+        if (window == null) {
+            throw new DomainValidationException("Window cannot be null");
+        }
+        LocalDateTime startDate = validity.getStartDate().isBefore(window.getStartDate())
+                ? window.getStartDate() : validity.getStartDate();
+        LocalDateTime endDate = validity.getEndDate().isAfter(window.getEndDate())
+                ? window.getEndDate() : validity.getEndDate();
+        if (startDate.equals(validity.getStartDate()) && endDate.equals(validity.getEndDate())) {
+            return this;
+        }
+        return new PriceSegment(DateRange.of(startDate, endDate), price);
+    }
+
+    @Override
+    public String toString() {
+        return validity + " -> " + price.getPriceList();
+    }
+}
@@ -0,0 +1,258 @@
+package com.inditex.priceschedulerapi.domain.model;
+
+import com.inditex.priceschedulerapi.domain.exception.DomainValidationException;
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import com.inditex.priceschedulerapi.domain.valueobject.DateRange;
+import com.inditex.priceschedulerapi.domain.valueobject.ProductId;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Effective price timeline of a product within a brand.
+ *
+ * The overlapping prices of a product/brand are flattened into a sorted list of
+ * non-overlapping {@link PriceSegment}s, each carrying the price that wins under the
+ * priority rule (highest priority; on ties, the first price in input order, as
+ * {@code Stream.max} does). Instants not covered by any price have no segment.
+ * Resolving a date is a single binary search with no priority comparison.
+ */
+@Getter
+@EqualsAndHashCode
+public final class PriceTimeline {
+
+    private final ProductId productId;
+    private final BrandId brandId;
+    private final List<PriceSegment> segments;
+
+    private PriceTimeline(ProductId productId, BrandId brandId, List<PriceSegment> segments) {
+        this.productId = productId;
+        this.brandId = brandId;
+        this.segments = segments;
+    }
+
+    /**
+     * Factory method that flattens the given prices into an effective price timeline.
+     *
+     * @param productId the product identifier
+     * @param brandId the brand identifier
+     * @param prices every price of the product and brand, in any order
+     * @return the flattened timeline
+     */
+    public static PriceTimeline of(ProductId productId, BrandId brandId, Collection<Price> prices) {
+        return new PriceTimeline(productId, brandId, flatten(prices));
+    }
+
+    /**
+     * Factory method for a product and brand without prices.
+     */
+    public static PriceTimeline empty(ProductId productId, BrandId brandId) {
+        return new PriceTimeline(productId, brandId, List.of());
+    }
+
+    /**
+     * Finds the segment containing the given date.
+     *
+     * @param date the date to resolve
+     * @return Optional containing the effective segment, or empty if no price applies on that date
+     */
+    public Optional<PriceSegment> segmentAt(LocalDateTime date) {
+        int index = indexOfSegmentAt(date);
+        return index < 0 ? Optional.empty() : Optional.of(segments.get(index));
+    }
+
+    /**
+     * Finds the position of the segment containing the given date.
+     *
+     * @param date the date to resolve
+     * @return the segment index, or -1 if no price applies on that date
+     */
+    public int indexOfSegmentAt(LocalDateTime date) {
+        if (date == null) {
+            throw new DomainValidationException("Date to check cannot be null");
+        }
+        int low = 0;
+        int high = segments.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (segments.get(mid).getValidity().getStartDate().isAfter(date)) {
+                high = mid - 1;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return high >= 0 && segments.get(high).contains(date) ? high : -1;
+    }
+
+    /**
+     * Finds the segment containing each of the given dates in a single merge of the dates with the
+     * segments, instead of one binary search per date. The dates are visited in ascending order
+     * (sorted first, unless they already are) while a cursor moves forward over the segments, so
+     * each segment and each date is passed once.
+     *
+     * @param dates the dates to resolve, in any order, possibly repeated
+     * @return the effective segment of every date, in the same order as the dates; empty where no price applies
+     */
+    public List<Optional<PriceSegment>> segmentsAt(List<LocalDateTime> dates) {
+        if (dates == null) {
+            throw new DomainValidationException("Dates to check cannot be null");
+        }
+        int[] order = ascendingOrder(dates);
+
+        @SuppressWarnings("unchecked")
+        Optional<PriceSegment>[] found = new Optional[dates.size()];
+        int cursor = 0;
+        Optional<PriceSegment> current = segments.isEmpty() ? Optional.empty() : Optional.of(segments.getFirst());
+        for (int position : order) {
+            LocalDateTime date = dates.get(position);
+            if (cursor < segments.size() && segments.get(cursor).getValidity().getEndDate().isBefore(date)) {
+                do {
+                    cursor++;
+                } while (cursor < segments.size() && segments.get(cursor).getValidity().getEndDate().isBefore(date));
+                current = cursor < segments.size() ? Optional.of(segments.get(cursor)) : Optional.empty();
+            }
+            boolean covered = current.isPresent() && !current.get().getValidity().getStartDate().isAfter(date);
+            found[position] = covered ? current : Optional.empty();
+        }
+        return List.of(found);
+    }
+
+    /**
+     * Positions of the dates in ascending date order. Already sorted dates, as in regular series,
+     * are detected in one pass and not sorted again.
+     */
+    private static int[] ascendingOrder(List<LocalDateTime> dates) {
+        int[] order = new int[dates.size()];
+        boolean sorted = true;
+        for (int i = 0; i < order.length; i++) {
+            if (dates.get(i) == null) {
+                throw new DomainValidationException("Date to check cannot be null");
+            }
+            order[i] = i;
+            sorted &= i == 0 || !dates.get(i - 1).isAfter(dates.get(i));
+        }
+        if (sorted) {
+            return order;
+        }
+        return Arrays.stream(order).boxed()
+                .sorted(Comparator.comparing(dates::get))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    /**
+     * Streams the segments overlapping the given window, in chronological order and clipped to it.
+     * The first segment is found with a binary search and the stream stops at the first segment
+     * starting after the window, so the cost depends on the number of price changes inside the
+     * window rather than on its length.
+     *
+     * @param window the inclusive window to cover
+     * @return the effective segments within the window
+     */
+    public Stream<PriceSegment> segmentsWithin(DateRange window) {
+        if (window == null) {
+            throw new DomainValidationException("Window cannot be null");
+        }
+        return segments.subList(indexOfFirstSegmentEndingOnOrAfter(window.getStartDate()), segments.size()).stream()
+                .takeWhile(segment -> !segment.getValidity().getStartDate().isAfter(window.getEndDate()))
+                .map(segment -> segment.clipTo(window));
+    }
+
+    /**
+     * Binary search for the first segment whose validity ends on or after the given date.
+     * Segments do not overlap, so their end dates are sorted as well.
+     *
+     * @return the segment index, or the number of segments when every segment ends before the date
+     */
+    private int indexOfFirstSegmentEndingOnOrAfter(LocalDateTime date) {
+        int low = 0;
+        int high = segments.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (segments.get(mid).getValidity().getEndDate().isBefore(date)) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    public boolean isEmpty() {
+        return segments.isEmpty();
+    }
+
+    /**
+     * Sweeps the start/end boundaries of the prices in order, keeping the active prices in a
+     * priority queue, and emits a segment each time the winning price changes.
+     * Ranges are inclusive, so a price stops being active one nanosecond after its end date.
+     */
+    private static List<PriceSegment> flatten(Collection<Price> prices) {
+        if (prices.isEmpty()) {
+            return List.of();
+        }
+
+        Candidate[] candidates = new Candidate[prices.size()];
+        TreeSet<LocalDateTime> boundaries = new TreeSet<>();
+        int order = 0;
+        for (Price price : prices) {
+            Candidate candidate = new Candidate(price, order);
+            candidates[order++] = candidate;
+            boundaries.add(candidate.startsAt());
+            boundaries.add(candidate.endsBefore());
+        }
+        Arrays.sort(candidates, Comparator.comparing(Candidate::startsAt));
+
+        PriorityQueue<Candidate> active = new PriorityQueue<>(
+                Comparator.comparing((Candidate candidate) -> candidate.price().getPriority()).reversed()
+                        .thenComparingInt(Candidate::order));
+
+        List<PriceSegment> segments = new ArrayList<>();
+        int next = 0;
+        Price winner = null;
+        LocalDateTime winnerSince = null;
+        for (LocalDateTime boundary : boundaries) {
+            while (next < candidates.length && !candidates[next].startsAt().isAfter(boundary)) {
+                active.add(candidates[next++]);
+            }
+            while (!active.isEmpty() && !active.peek().endsBefore().isAfter(boundary)) {
+                active.poll();
+            }
+
+            Price current = active.isEmpty() ? null : active.peek().price();
+            if (current != winner) {
+                if (winner != null) {
+                    segments.add(PriceSegment.of(DateRange.of(winnerSince, boundary.minusNanos(1)), winner));
+                }
+                winner = current;
+                winnerSince = boundary;
+            }
+        }
+        return List.copyOf(segments);
+    }
+
+    /**
+     * A price taking part in the sweep, with its exclusive end and original input position.
+     */
+    private record Candidate(Price price, int order, LocalDateTime startsAt, LocalDateTime endsBefore) {
+
+        Candidate(Price price, int order) {
+            this(price, order, price.getDateRange().getStartDate(), price.getDateRange().getEndDate().plusNanos(1));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return productId + "/" + brandId + " " + segments;
+    }
+}
@@ -1,11 +1,19 @@
 package com.inditex.priceschedulerapi.domain.repository;
 
 import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.model.PriceSegment;
+import com.inditex.priceschedulerapi.domain.model.PriceTimeline;
 import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import com.inditex.priceschedulerapi.domain.valueobject.PriceLookup;
 import com.inditex.priceschedulerapi.domain.valueobject.ProductId;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Repository interface for Price aggregate.
@@ -23,4 +31,73 @@ public interface PriceRepository {
      * @return list of matching prices
      */
     List<Price> findApplicablePrices(ProductId productId, BrandId brandId, LocalDateTime applicationDate);
+
+    /**
+     * Finds the applicable price with the highest priority for the given product, brand and date.
+     * The default implementation picks it from {@link #findApplicablePrices(ProductId, BrandId, LocalDateTime)};
+     * implementations should override it to select the winner at the source, so that the
+     * discarded candidates are never transferred nor mapped. Ties keep the first candidate.
+     *
+     * @param productId the product identifier
+     * @param brandId the brand identifier
+     * @param applicationDate the date to check for applicability
+     * @return Optional containing the highest priority applicable price, or empty if none applies
+     */
+    default Optional<Price> findTopApplicablePrice(ProductId productId, BrandId brandId, LocalDateTime applicationDate) {
+        return findApplicablePrices(productId, brandId, applicationDate).stream()
+                .max(Comparator.comparing(Price::getPriority));
+    }
+
+    /**
+     * Finds the applicable prices of several lookups at once.
+     * The default implementation resolves the lookups one by one; implementations backed by a
+     * database should override it to fetch the whole batch in a single round trip.
+     *
+     * @param lookups the product, brand and application date of every lookup
+     * @return matching prices per lookup; every given lookup is present as a key
+     */
+    default Map<PriceLookup, List<Price>> findApplicablePrices(Collection<PriceLookup> lookups) {
+        Map<PriceLookup, List<Price>> pricesByLookup = new HashMap<>();
+        for (PriceLookup lookup : lookups) {
+            pricesByLookup.computeIfAbsent(lookup, pending -> findApplicablePrices(
+                    pending.getProductId(), pending.getBrandId(), pending.getApplicationDate()));
+        }
+        return pricesByLookup;
+    }
+
+    /**
+     * Finds every price of the given product and brand, regardless of its date range.
+     *
+     * @param productId the product identifier
+     * @param brandId the brand identifier
+     * @return list of prices
+     */
+    List<Price> findPrices(ProductId productId, BrandId brandId);
+
+    /**
+     * Finds the effective price timeline of the given product and brand.
+     * Implementations holding prices in memory should return a timeline flattened at load time.
+     *
+     * @param productId the product identifier
+     * @param brandId the brand identifier
+     * @return the flattened timeline, empty if the product has no prices for the brand
+     */
+    default PriceTimeline findTimeline(ProductId productId, BrandId brandId) {
+        return PriceTimeline.of(productId, brandId, findPrices(productId, brandId));
+    }
+
+    /**
+     * Finds the effective price segment of the given product and brand containing the given date.
+     * The default implementation resolves it from {@link #findTimeline}; implementations backed by
+     * a database should override it to fetch only the prices that can bound that segment instead
+     * of the product's whole price history.
+     *
+     * @param productId the product identifier
+     * @param brandId the brand identifier
+     * @param applicationDate the date to check for applicability
+     * @return Optional containing the effective segment, or empty if no price applies on that date
+     */
+    default Optional<PriceSegment> findEffectiveSegment(ProductId productId, BrandId brandId, LocalDateTime applicationDate) {
+        return findTimeline(productId, brandId).segmentAt(applicationDate);
+    }
 }
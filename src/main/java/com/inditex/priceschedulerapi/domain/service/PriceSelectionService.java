@@ -1,8 +1,11 @@
 package com.inditex.priceschedulerapi.domain.service;
 
 import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.model.PriceSegment;
 import com.inditex.priceschedulerapi.domain.repository.PriceRepository;
 import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import com.inditex.priceschedulerapi.domain.valueobject.DateRange;
+import com.inditex.priceschedulerapi.domain.valueobject.PriceLookup;
 import com.inditex.priceschedulerapi.domain.valueobject.ProductId;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -10,7 +13,9 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Domain service responsible for selecting the applicable price based on business rules.
@@ -29,7 +34,9 @@ public class PriceSelectionService {
     /**
      * Finds the applicable price for a given product, brand and application date.
      *
-     * When multiple prices match the criteria, selects the one with highest priority.
+     * When multiple prices match the criteria, selects the one with highest priority. The selection
+     * is delegated to {@link PriceRepository#findTopApplicablePrice}, so repositories able to pick
+     * the winner at the source never return the discarded candidates.
      *
      * @param productId the product identifier
      * @param brandId the brand identifier
@@ -37,9 +44,72 @@ public class PriceSelectionService {
      * @return Optional containing the selected price, or empty if no price is applicable
      */
     public Optional<Price> findApplicablePrice(ProductId productId, BrandId brandId, LocalDateTime applicationDate) {
-        List<Price> applicablePrices = priceRepository.findApplicablePrices(productId, brandId, applicationDate);
+        return priceRepository.findTopApplicablePrice(productId, brandId, applicationDate);
+    }
+
+    /**
+     * Finds the applicable price of every lookup of a batch with a single repository call.
+     *
+     * Each lookup is resolved with the same rule as {@link #findApplicablePrice}.
+     *
+     * @param lookups the product, brand and application date of every lookup
+     * @return the selected price of every lookup, in the same order as the lookups
+     */
+    public List<Optional<Price>> findApplicablePrices(List<PriceLookup> lookups) {
+        Map<PriceLookup, List<Price>> pricesByLookup = priceRepository.findApplicablePrices(lookups);
+
+        return lookups.stream()
+                .map(lookup -> pricesByLookup.getOrDefault(lookup, List.of()).stream()
+                        .max(Comparator.comparing(Price::getPriority)))
+                .toList();
+    }
 
-        return applicablePrices.stream()
-                .max(Comparator.comparing(Price::getPriority));
+    /**
+     * Finds the effective price segment containing the given application date.
+     *
+     * The segment comes from the product's flattened timeline, so its price already is the
+     * highest-priority one and its validity tells until when that answer holds. Resolving it is
+     * delegated to {@link PriceRepository#findEffectiveSegment}, so database-backed repositories
+     * only fetch the prices around the date.
+     *
+     * @param productId the product identifier
+     * @param brandId the brand identifier
+     * @param applicationDate the date to check price applicability
+     * @return Optional containing the effective segment, or empty if no price is applicable
+     */
+    public Optional<PriceSegment> findEffectiveSegment(ProductId productId, BrandId brandId, LocalDateTime applicationDate) {
+        return priceRepository.findEffectiveSegment(productId, brandId, applicationDate);
+    }
+
+    /**
+     * Finds the effective price segment of a product and brand at each of the given application dates.
+     *
+     * The product's timeline is loaded once and every date is resolved in the same sweep over it,
+     * with the same rule as {@link #findEffectiveSegment}.
+     *
+     * @param productId the product identifier
+     * @param brandId the brand identifier
+     * @param applicationDates the dates to check price applicability, in any order
+     * @return the effective segment of every date, in the same order as the dates
+     */
+    public List<Optional<PriceSegment>> findEffectiveSegments(ProductId productId, BrandId brandId,
+                                                              List<LocalDateTime> applicationDates) {
+        return priceRepository.findTimeline(productId, brandId).segmentsAt(applicationDates);
+    }
+
+    /**
+     * Finds the effective price schedule of a product and brand within the given window.
+     *
+     * The schedule is read from the product's flattened timeline, so every entry already carries
+     * the highest-priority price, exactly as {@link #findApplicablePrice} would resolve any of its
+     * instants. Entries are clipped to the window and produced lazily.
+     *
+     * @param productId the product identifier
+     * @param brandId the brand identifier
+     * @param window the inclusive window to cover
+     * @return the effective segments within the window, in chronological order
+     */
+    public Stream<PriceSegment> findSchedule(ProductId productId, BrandId brandId, DateRange window) {
+        return priceRepository.findTimeline(productId, brandId).segmentsWithin(window);
     }
 }
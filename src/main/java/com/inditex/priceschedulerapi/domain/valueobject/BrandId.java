@@ -1,5 +1,6 @@
 package com.inditex.priceschedulerapi.domain.valueobject;
 
+import com.inditex.priceschedulerapi.domain.exception.DomainValidationException;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
@@ -11,6 +12,20 @@ import lombok.Getter;
 @EqualsAndHashCode
 public final class BrandId {
 
+    /**
+     * Canonical instances for brands 1..{@value #CACHE_HIGH}. Brands are a small closed set,
+     * so every row of a given brand shares one instance.
+     */
+    private static final int CACHE_LOW = 1;
+    static final int CACHE_HIGH = 255;
+    private static final BrandId[] CACHE = new BrandId[CACHE_HIGH - CACHE_LOW + 1];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new BrandId(CACHE_LOW + i);
+        }
+    }
+
     private final Integer value;
 
     private BrandId(Integer value) {
@@ -19,15 +34,18 @@ public final class BrandId {
     }
 
     public static BrandId of(Integer value) {
+        if (value != null && value >= CACHE_LOW && value <= CACHE_HIGH) {
+            return CACHE[value - CACHE_LOW];
+        }
         return new BrandId(value);
     }
 
     private void validateValue(Integer value) {
         if (value == null) {
-            throw new IllegalArgumentException("Brand ID cannot be null");
+            throw new DomainValidationException("Brand ID cannot be null");
         }
         if (value <= 0) {
-            throw new IllegalArgumentException("Brand ID must be positive");
+            throw new DomainValidationException("Brand ID must be positive");
         }
     }
 
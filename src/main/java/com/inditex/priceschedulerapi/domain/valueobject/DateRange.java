@@ -1,5 +1,6 @@
 package com.inditex.priceschedulerapi.domain.valueobject;
 
+import com.inditex.priceschedulerapi.domain.exception.DomainValidationException;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
@@ -28,13 +29,13 @@ public final class DateRange {
 
     private void validateDates(LocalDateTime startDate, LocalDateTime endDate) {
         if (startDate == null) {
-            throw new IllegalArgumentException("Start date cannot be null");
+            throw new DomainValidationException("Start date cannot be null");
         }
         if (endDate == null) {
-            throw new IllegalArgumentException("End date cannot be null");
+            throw new DomainValidationException("End date cannot be null");
         }
         if (startDate.isAfter(endDate)) {
-            throw new IllegalArgumentException("Start date must be before or equal to end date");
+            throw new DomainValidationException("Start date must be before or equal to end date");
         }
     }
 
@@ -43,7 +44,7 @@ public final class DateRange {
      */
     public boolean contains(LocalDateTime date) {
         if (date == null) {
-            throw new IllegalArgumentException("Date to check cannot be null");
+            throw new DomainValidationException("Date to check cannot be null");
         }
         return !date.isBefore(startDate) && !date.isAfter(endDate);
     }
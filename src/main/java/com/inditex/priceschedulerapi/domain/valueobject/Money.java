@@ -1,10 +1,13 @@
 package com.inditex.priceschedulerapi.domain.valueobject;
 
+import com.inditex.priceschedulerapi.domain.exception.DomainValidationException;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 import java.math.BigDecimal;
 import java.util.Currency;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Value Object representing monetary value with currency.
@@ -14,6 +17,12 @@ import java.util.Currency;
 @EqualsAndHashCode
 public final class Money {
 
+    /**
+     * Resolved currencies by ISO code. Only valid codes are ever stored, so the map is bounded
+     * by the ISO 4217 list.
+     */
+    private static final ConcurrentMap<String, Currency> CURRENCIES = new ConcurrentHashMap<>();
+
     private final BigDecimal amount;
     private final Currency currency;
 
@@ -26,9 +35,12 @@ public final class Money {
 
     public static Money of(BigDecimal amount, String currencyCode) {
         if (currencyCode == null) {
-            throw new IllegalArgumentException("Currency code cannot be null");
+            throw new DomainValidationException("Currency code cannot be null");
+        }
+        Currency currency = CURRENCIES.get(currencyCode);
+        if (currency == null) {
+            currency = CURRENCIES.computeIfAbsent(currencyCode, Currency::getInstance);
         }
-        Currency currency = Currency.getInstance(currencyCode);
         return new Money(amount, currency);
     }
 
@@ -38,16 +50,16 @@ public final class Money {
 
     private void validateAmount(BigDecimal amount) {
         if (amount == null) {
-            throw new IllegalArgumentException("Amount cannot be null");
+            throw new DomainValidationException("Amount cannot be null");
         }
         if (amount.compareTo(BigDecimal.ZERO) < 0) {
-            throw new IllegalArgumentException("Amount cannot be negative");
+            throw new DomainValidationException("Amount cannot be negative");
         }
     }
 
     private void validateCurrency(Currency currency) {
         if (currency == null) {
-            throw new IllegalArgumentException("Currency cannot be null");
+            throw new DomainValidationException("Currency cannot be null");
         }
     }
 
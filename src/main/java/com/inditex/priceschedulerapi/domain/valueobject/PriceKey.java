@@ -0,0 +1,42 @@
+package com.inditex.priceschedulerapi.domain.valueobject;
+
+import com.inditex.priceschedulerapi.domain.exception.DomainValidationException;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Value Object identifying the price schedule of a product within a brand.
+ * Used as lookup key by the in-memory price structures.
+ * Immutable and self-validating.
+ */
+@Getter
+@EqualsAndHashCode
+public final class PriceKey {
+
+    private final ProductId productId;
+    private final BrandId brandId;
+
+    private PriceKey(ProductId productId, BrandId brandId) {
+        validateValues(productId, brandId);
+        this.productId = productId;
+        this.brandId = brandId;
+    }
+
+    public static PriceKey of(ProductId productId, BrandId brandId) {
+        return new PriceKey(productId, brandId);
+    }
+
+    private void validateValues(ProductId productId, BrandId brandId) {
+        if (productId == null) {
+            throw new DomainValidationException("Product ID cannot be null");
+        }
+        if (brandId == null) {
+            throw new DomainValidationException("Brand ID cannot be null");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return productId + "/" + brandId;
+    }
+}
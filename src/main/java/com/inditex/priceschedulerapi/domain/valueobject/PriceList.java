@@ -1,5 +1,6 @@
 package com.inditex.priceschedulerapi.domain.valueobject;
 
+import com.inditex.priceschedulerapi.domain.exception.DomainValidationException;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
@@ -11,6 +12,20 @@ import lombok.Getter;
 @EqualsAndHashCode
 public final class PriceList {
 
+    /**
+     * Shared instances for price lists 1..{@value #CACHE_HIGH}, returned by {@link #of}
+     * in the same way as {@link Integer#valueOf(int)}.
+     */
+    private static final int CACHE_LOW = 1;
+    static final int CACHE_HIGH = 255;
+    private static final PriceList[] CACHE = new PriceList[CACHE_HIGH - CACHE_LOW + 1];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new PriceList(CACHE_LOW + i);
+        }
+    }
+
     private final Integer value;
 
     private PriceList(Integer value) {
@@ -19,15 +34,18 @@ public final class PriceList {
     }
 
     public static PriceList of(Integer value) {
+        if (value != null && value >= CACHE_LOW && value <= CACHE_HIGH) {
+            return CACHE[value - CACHE_LOW];
+        }
         return new PriceList(value);
     }
 
     private void validateValue(Integer value) {
         if (value == null) {
-            throw new IllegalArgumentException("Price list cannot be null");
+            throw new DomainValidationException("Price list cannot be null");
         }
         if (value <= 0) {
-            throw new IllegalArgumentException("Price list must be positive");
+            throw new DomainValidationException("Price list must be positive");
         }
     }
 
@@ -0,0 +1,45 @@
+package com.inditex.priceschedulerapi.domain.valueobject;
+
+import com.inditex.priceschedulerapi.domain.exception.DomainValidationException;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Value Object representing a single price lookup: a product and brand at an application date.
+ * Used to resolve several lookups in one repository call.
+ * Immutable and self-validating.
+ */
+@Getter
+@EqualsAndHashCode
+public final class PriceLookup {
+
+    private final PriceKey key;
+    private final LocalDateTime applicationDate;
+
+    private PriceLookup(PriceKey key, LocalDateTime applicationDate) {
+        if (applicationDate == null) {
+            throw new DomainValidationException("Application date cannot be null");
+        }
+        this.key = key;
+        this.applicationDate = applicationDate;
+    }
+
+    public static PriceLookup of(ProductId productId, BrandId brandId, LocalDateTime applicationDate) {
+        return new PriceLookup(PriceKey.of(productId, brandId), applicationDate);
+    }
+
+    public ProductId getProductId() {
+        return key.getProductId();
+    }
+
+    public BrandId getBrandId() {
+        return key.getBrandId();
+    }
+
+    @Override
+    public String toString() {
+        return key + "@" + applicationDate;
+    }
+}
@@ -1,5 +1,6 @@
 package com.inditex.priceschedulerapi.domain.valueobject;
 
+import com.inditex.priceschedulerapi.domain.exception.DomainValidationException;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
@@ -12,6 +13,19 @@ import lombok.Getter;
 @EqualsAndHashCode
 public final class Priority implements Comparable<Priority> {
 
+    /**
+     * Priorities are small non-negative numbers: instances 0..{@value #CACHE_HIGH} are created once and reused.
+     */
+    private static final int CACHE_LOW = 0;
+    static final int CACHE_HIGH = 255;
+    private static final Priority[] CACHE = new Priority[CACHE_HIGH - CACHE_LOW + 1];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new Priority(CACHE_LOW + i);
+        }
+    }
+
     private final Integer value;
 
     private Priority(Integer value) {
@@ -20,15 +34,18 @@ public final class Priority implements Comparable<Priority> {
     }
 
     public static Priority of(Integer value) {
+        if (value != null && value >= CACHE_LOW && value <= CACHE_HIGH) {
+            return CACHE[value - CACHE_LOW];
+        }
         return new Priority(value);
     }
 
     private void validateValue(Integer value) {
         if (value == null) {
-            throw new IllegalArgumentException("Priority value cannot be null");
+            throw new DomainValidationException("Priority value cannot be null");
         }
         if (value < 0) {
-            throw new IllegalArgumentException("Priority value cannot be negative");
+            throw new DomainValidationException("Priority value cannot be negative");
         }
     }
 
@@ -1,5 +1,6 @@
 package com.inditex.priceschedulerapi.domain.valueobject;
 
+import com.inditex.priceschedulerapi.domain.exception.DomainValidationException;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
@@ -24,10 +25,10 @@ public final class ProductId {
 
     private void validateValue(Long value) {
         if (value == null) {
-            throw new IllegalArgumentException("Product ID cannot be null");
+            throw new DomainValidationException("Product ID cannot be null");
         }
         if (value <= 0) {
-            throw new IllegalArgumentException("Product ID must be positive");
+            throw new DomainValidationException("Product ID must be positive");
         }
     }
 
@@ -0,0 +1,47 @@
+package com.inditex.priceschedulerapi.infrastructure.cache;
+
+import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.model.PriceSegment;
+import com.inditex.priceschedulerapi.domain.repository.PriceRepository;
+import com.inditex.priceschedulerapi.domain.service.PriceSelectionService;
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import com.inditex.priceschedulerapi.domain.valueobject.PriceKey;
+import com.inditex.priceschedulerapi.domain.valueobject.ProductId;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * PriceSelectionService decorator answering single lookups from a {@link PriceSegmentCache}.
+ *
+ * On a miss the effective segment is resolved from the product's timeline and cached, so every
+ * later lookup inside the same effective-price window is served without touching the repository.
+ * Dates with no applicable price are not cached.
+ */
+public class CachingPriceSelectionService extends PriceSelectionService {
+
+    private final PriceSegmentCache cache;
+
+    public CachingPriceSelectionService(PriceRepository priceRepository, PriceSegmentCache cache) {
+        super(priceRepository);
+        this.cache = cache;
+    }
+
+    @Override
+    public Optional<Price> findApplicablePrice(ProductId productId, BrandId brandId, LocalDateTime applicationDate) {
+        return findEffectiveSegment(productId, brandId, applicationDate).map(PriceSegment::getPrice);
+    }
+
+    @Override
+    public Optional<PriceSegment> findEffectiveSegment(ProductId productId, BrandId brandId, LocalDateTime applicationDate) {
+        PriceKey key = PriceKey.of(productId, brandId);
+        PriceSegment cached = cache.getIfPresent(key, applicationDate);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<PriceSegment> segment = super.findEffectiveSegment(productId, brandId, applicationDate);
+        segment.ifPresent(resolved -> cache.put(key, resolved));
+        return segment;
+    }
+}
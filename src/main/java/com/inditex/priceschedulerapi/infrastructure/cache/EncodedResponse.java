@@ -0,0 +1,17 @@
+package com.inditex.priceschedulerapi.infrastructure.cache;
+
+import org.springframework.http.MediaType;
+
+/**
+ * A price response already serialized in one encoding, ready to be written as the response body.
+ *
+ * @param contentType Media type of the body
+ * @param body Encoded bytes; shared between requests and never modified
+ * @param eTag Entity tag of the response, identical across encodings
+ */
+public record EncodedResponse(
+        MediaType contentType,
+        byte[] body,
+        String eTag
+) {
+}
@@ -0,0 +1,277 @@
+package com.inditex.priceschedulerapi.infrastructure.cache;
+
+import com.inditex.priceschedulerapi.application.dto.PriceQueryResponse;
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.http.MediaType;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * Bounded cache of serialized price responses.
+ *
+ * A response is built from a single effective price segment, so its encoded body only changes at
+ * segment boundaries. Entries are keyed by the response itself (product, brand, price and the
+ * validity window of the segment) plus the media type: any lookup resolving to the same segment
+ * is a hit, and a body can never outlive the data it was encoded from. Invalidation after a data
+ * change only releases memory.
+ *
+ * Like {@link PriceSegmentCache}, the cache is split into lock-striped partitions that evict their
+ * least recently used entries once their share of the maximum size or weight is exceeded. The weight
+ * is the exact size of the encoded bodies plus a fixed overhead per entry.
+ *
+ * Hit, miss and eviction counts are published as Micrometer {@code cache.*} meters tagged
+ * {@code cache=price-responses}, available under {@code /actuator/metrics}.
+ */
+public class EncodedResponseCache implements MeterBinder {
+
+    static final String CACHE_NAME = "price-responses";
+
+    static final int MAX_STRIPES = 16;
+    static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private final Stripe[] stripes;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public EncodedResponseCache(int maximumSize, long maximumWeight) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive");
+        }
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException("Maximum weight must be positive");
+        }
+        int stripeCount = Math.min(MAX_STRIPES, maximumSize);
+        int stripeSize = Math.ceilDiv(maximumSize, stripeCount);
+        long stripeWeight = Math.ceilDiv(maximumWeight, stripeCount);
+
+        stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(stripeSize, stripeWeight);
+        }
+    }
+
+    /**
+     * Returns the cached encoding of the given response, if any.
+     *
+     * @param response the response to encode
+     * @param contentType the media type of the encoding
+     * @return the encoded response, or null on a miss
+     */
+    public EncodedResponse getIfPresent(PriceQueryResponse response, MediaType contentType) {
+        Key key = new Key(response, contentType);
+        EncodedResponse encoded = stripeFor(key).get(key);
+        (encoded != null ? hits : misses).increment();
+        return encoded;
+    }
+
+    /**
+     * Caches the encoding of the given response, evicting least recently used entries if needed.
+     *
+     * @param response the response that was encoded
+     * @param encoded the encoded response
+     */
+    public void put(PriceQueryResponse response, EncodedResponse encoded) {
+        Key key = new Key(response, encoded.contentType());
+        evictions.add(stripeFor(key).put(key, encoded, estimateWeight(encoded)));
+    }
+
+    /**
+     * Discards every cached response, e.g. after the price data changed.
+     */
+    public void invalidateAll() {
+        for (Stripe stripe : stripes) {
+            stripe.clear();
+        }
+    }
+
+    /**
+     * Discards the cached responses of a brand. Responses of other brands stay cached.
+     *
+     * @param brandId the brand whose responses are discarded
+     */
+    public void invalidate(BrandId brandId) {
+        for (Stripe stripe : stripes) {
+            stripe.removeIf(key -> brandId.getValue().equals(key.response().brandId()));
+        }
+    }
+
+    public long size() {
+        long size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    public long weight() {
+        long weight = 0;
+        for (Stripe stripe : stripes) {
+            weight += stripe.weight();
+        }
+        return weight;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", this, EncodedResponseCache::hitCount)
+                .tags("cache", CACHE_NAME, "result", "hit")
+                .description("Number of price responses written from cached bytes")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", this, EncodedResponseCache::missCount)
+                .tags("cache", CACHE_NAME, "result", "miss")
+                .description("Number of price responses serialized on the request thread")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", this, EncodedResponseCache::evictionCount)
+                .tags("cache", CACHE_NAME)
+                .description("Number of encoded price responses evicted by size or weight")
+                .register(registry);
+        Gauge.builder("cache.size", this, EncodedResponseCache::size)
+                .tags("cache", CACHE_NAME)
+                .description("Number of cached encoded price responses")
+                .register(registry);
+        Gauge.builder("cache.weight", this, EncodedResponseCache::weight)
+                .tags("cache", CACHE_NAME)
+                .baseUnit("bytes")
+                .description("Estimated heap size of the cached encoded price responses")
+                .register(registry);
+    }
+
+    /**
+     * Heap footprint of a cached response: the encoded body plus the entry, key and ETag.
+     */
+    static int estimateWeight(EncodedResponse encoded) {
+        return ENTRY_OVERHEAD_BYTES + encoded.body().length;
+    }
+
+    private Stripe stripeFor(Key key) {
+        int hash = key.hashCode();
+        return stripes[((hash ^ (hash >>> 16)) & 0x7fffffff) % stripes.length];
+    }
+
+    private record Key(PriceQueryResponse response, MediaType contentType) {
+    }
+
+    private record Entry(EncodedResponse encoded, int weight) {
+    }
+
+    /**
+     * One lock-protected partition: an access-ordered map for LRU eviction.
+     */
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private final int maximumSize;
+        private final long maximumWeight;
+        private long weight;
+
+        Stripe(int maximumSize, long maximumWeight) {
+            this.maximumSize = maximumSize;
+            this.maximumWeight = maximumWeight;
+        }
+
+        EncodedResponse get(Key key) {
+            lock.lock();
+            try {
+                Entry entry = entries.get(key);
+                return entry != null ? entry.encoded() : null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * @return number of evicted entries
+         */
+        int put(Key key, EncodedResponse encoded, int entryWeight) {
+            lock.lock();
+            try {
+                Entry previous = entries.put(key, new Entry(encoded, entryWeight));
+                if (previous != null) {
+                    weight -= previous.weight();
+                }
+                weight += entryWeight;
+                return evictIfNeeded();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int evictIfNeeded() {
+            int evicted = 0;
+            Iterator<Entry> eldest = entries.values().iterator();
+            while ((entries.size() > maximumSize || weight > maximumWeight) && eldest.hasNext()) {
+                weight -= eldest.next().weight();
+                eldest.remove();
+                evicted++;
+            }
+            return evicted;
+        }
+
+        void removeIf(Predicate<Key> filter) {
+            lock.lock();
+            try {
+                Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    Map.Entry<Key, Entry> entry = iterator.next();
+                    if (filter.test(entry.getKey())) {
+                        weight -= entry.getValue().weight();
+                        iterator.remove();
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void clear() {
+            lock.lock();
+            try {
+                entries.clear();
+                weight = 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return entries.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        long weight() {
+            lock.lock();
+            try {
+                return weight;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
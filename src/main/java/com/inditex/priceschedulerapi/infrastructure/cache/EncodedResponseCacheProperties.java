@@ -0,0 +1,19 @@
+package com.inditex.priceschedulerapi.infrastructure.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration of the cache of serialized price responses.
+ *
+ * @param enabled Whether single price lookups write cached bytes instead of serializing every response
+ * @param maximumSize Maximum number of cached responses, counting every encoding separately
+ * @param maximumWeight Maximum heap size of the cached responses, in bytes
+ */
+@ConfigurationProperties(prefix = "price-scheduler.response-cache")
+public record EncodedResponseCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") int maximumSize,
+        @DefaultValue("33554432") long maximumWeight
+) {
+}
@@ -0,0 +1,19 @@
+package com.inditex.priceschedulerapi.infrastructure.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration of the segment-aware price cache.
+ *
+ * @param enabled Whether lookups go through the cache
+ * @param maximumSize Maximum number of cached segments
+ * @param maximumWeight Maximum estimated heap size of the cached segments, in bytes
+ */
+@ConfigurationProperties(prefix = "price-scheduler.cache")
+public record PriceCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") int maximumSize,
+        @DefaultValue("67108864") long maximumWeight
+) {
+}
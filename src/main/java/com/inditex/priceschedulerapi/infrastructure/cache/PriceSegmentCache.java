@@ -0,0 +1,305 @@
+package com.inditex.priceschedulerapi.infrastructure.cache;
+
+import com.inditex.priceschedulerapi.domain.model.PriceSegment;
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import com.inditex.priceschedulerapi.domain.valueobject.PriceKey;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * Bounded cache of effective price segments.
+ *
+ * Entries are keyed by (productId, brandId) plus the start of the segment they hold, so a lookup
+ * at any instant inside a cached segment is a hit regardless of the exact application date.
+ * The cache is split into lock-striped partitions by key; each partition evicts its least
+ * recently used entries once either its share of the maximum size or of the maximum weight
+ * (estimated heap bytes) is exceeded.
+ *
+ * Hit, miss and eviction counts are published as Micrometer {@code cache.*} meters tagged
+ * {@code cache=price-segments}, available under {@code /actuator/metrics}.
+ */
+public class PriceSegmentCache implements MeterBinder {
+
+    static final String CACHE_NAME = "price-segments";
+
+    static final int MAX_STRIPES = 16;
+    private static final int ENTRY_OVERHEAD_BYTES = 512;
+
+    private final Stripe[] stripes;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public PriceSegmentCache(int maximumSize, long maximumWeight) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive");
+        }
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException("Maximum weight must be positive");
+        }
+        int stripeCount = Math.min(MAX_STRIPES, maximumSize);
+        int stripeSize = Math.ceilDiv(maximumSize, stripeCount);
+        long stripeWeight = Math.ceilDiv(maximumWeight, stripeCount);
+
+        stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(stripeSize, stripeWeight);
+        }
+    }
+
+    /**
+     * Returns the cached segment of the given key containing the date, if any.
+     *
+     * @param key the product and brand key
+     * @param date the application date
+     * @return the cached segment, or null on a miss
+     */
+    public PriceSegment getIfPresent(PriceKey key, LocalDateTime date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Application date cannot be null");
+        }
+        PriceSegment segment = stripeFor(key).get(key, date);
+        (segment != null ? hits : misses).increment();
+        return segment;
+    }
+
+    /**
+     * Caches a segment of the given key, evicting least recently used entries if needed.
+     *
+     * @param key the product and brand key
+     * @param segment the effective segment
+     */
+    public void put(PriceKey key, PriceSegment segment) {
+        evictions.add(stripeFor(key).put(key, segment, estimateWeight(segment)));
+    }
+
+    /**
+     * Discards every cached segment, e.g. after the price data changed.
+     */
+    public void invalidateAll() {
+        for (Stripe stripe : stripes) {
+            stripe.clear();
+        }
+    }
+
+    /**
+     * Discards the cached segments of a brand, e.g. after the prices of that brand changed.
+     * Segments of other brands stay cached.
+     *
+     * @param brandId the brand whose segments are discarded
+     */
+    public void invalidate(BrandId brandId) {
+        for (Stripe stripe : stripes) {
+            stripe.removeIf(id -> id.key().getBrandId().equals(brandId));
+        }
+    }
+
+    public long size() {
+        long size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    public long weight() {
+        long weight = 0;
+        for (Stripe stripe : stripes) {
+            weight += stripe.weight();
+        }
+        return weight;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", this, PriceSegmentCache::hitCount)
+                .tags("cache", CACHE_NAME, "result", "hit")
+                .description("Number of lookups answered by a cached price segment")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", this, PriceSegmentCache::missCount)
+                .tags("cache", CACHE_NAME, "result", "miss")
+                .description("Number of lookups not answered by a cached price segment")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", this, PriceSegmentCache::evictionCount)
+                .tags("cache", CACHE_NAME)
+                .description("Number of price segments evicted by size or weight")
+                .register(registry);
+        Gauge.builder("cache.size", this, PriceSegmentCache::size)
+                .tags("cache", CACHE_NAME)
+                .description("Number of cached price segments")
+                .register(registry);
+        Gauge.builder("cache.weight", this, PriceSegmentCache::weight)
+                .tags("cache", CACHE_NAME)
+                .baseUnit("bytes")
+                .description("Estimated heap size of the cached price segments")
+                .register(registry);
+    }
+
+    /**
+     * Rough heap footprint of a cached segment: the entry, its index nodes and the price graph,
+     * plus the digits of the amount.
+     */
+    static int estimateWeight(PriceSegment segment) {
+        return ENTRY_OVERHEAD_BYTES + segment.getPrice().getPrice().getAmount().unscaledValue().bitLength() / 8;
+    }
+
+    private Stripe stripeFor(PriceKey key) {
+        int hash = key.hashCode();
+        return stripes[((hash ^ (hash >>> 16)) & 0x7fffffff) % stripes.length];
+    }
+
+    private record SegmentId(PriceKey key, LocalDateTime startDate) {
+    }
+
+    private record Entry(SegmentId id, PriceSegment segment, int weight) {
+    }
+
+    /**
+     * One lock-protected partition: an access-ordered map for LRU eviction plus, per key,
+     * the cached segments sorted by start date.
+     */
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<SegmentId, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private final Map<PriceKey, TreeMap<LocalDateTime, Entry>> entriesByKey = new HashMap<>();
+        private final int maximumSize;
+        private final long maximumWeight;
+        private long weight;
+
+        Stripe(int maximumSize, long maximumWeight) {
+            this.maximumSize = maximumSize;
+            this.maximumWeight = maximumWeight;
+        }
+
+        PriceSegment get(PriceKey key, LocalDateTime date) {
+            lock.lock();
+            try {
+                TreeMap<LocalDateTime, Entry> keyEntries = entriesByKey.get(key);
+                if (keyEntries == null) {
+                    return null;
+                }
+                Map.Entry<LocalDateTime, Entry> candidate = keyEntries.floorEntry(date);
+                if (candidate == null || !candidate.getValue().segment().contains(date)) {
+                    return null;
+                }
+                // Touch the entry so it becomes the most recently used one
+                entries.get(candidate.getValue().id());
+                return candidate.getValue().segment();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * @return number of evicted entries
+         */
+        int put(PriceKey key, PriceSegment segment, int entryWeight) {
+            SegmentId id = new SegmentId(key, segment.getValidity().getStartDate());
+            Entry entry = new Entry(id, segment, entryWeight);
+            lock.lock();
+            try {
+                Entry previous = entries.put(id, entry);
+                if (previous != null) {
+                    weight -= previous.weight();
+                }
+                entriesByKey.computeIfAbsent(key, ignored -> new TreeMap<>()).put(id.startDate(), entry);
+                weight += entryWeight;
+                return evictIfNeeded();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int evictIfNeeded() {
+            int evicted = 0;
+            Iterator<Entry> eldest = entries.values().iterator();
+            while ((entries.size() > maximumSize || weight > maximumWeight) && eldest.hasNext()) {
+                Entry entry = eldest.next();
+                eldest.remove();
+                TreeMap<LocalDateTime, Entry> keyEntries = entriesByKey.get(entry.id().key());
+                keyEntries.remove(entry.id().startDate());
+                if (keyEntries.isEmpty()) {
+                    entriesByKey.remove(entry.id().key());
+                }
+                weight -= entry.weight();
+                evicted++;
+            }
+            return evicted;
+        }
+
+        void removeIf(Predicate<SegmentId> filter) {
+            lock.lock();
+            try {
+                Iterator<Entry> iterator = entries.values().iterator();
+                while (iterator.hasNext()) {
+                    Entry entry = iterator.next();
+                    if (filter.test(entry.id())) {
+                        iterator.remove();
+                        TreeMap<LocalDateTime, Entry> keyEntries = entriesByKey.get(entry.id().key());
+                        keyEntries.remove(entry.id().startDate());
+                        if (keyEntries.isEmpty()) {
+                            entriesByKey.remove(entry.id().key());
+                        }
+                        weight -= entry.weight();
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void clear() {
+            lock.lock();
+            try {
+                entries.clear();
+                entriesByKey.clear();
+                weight = 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return entries.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        long weight() {
+            lock.lock();
+            try {
+                return weight;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
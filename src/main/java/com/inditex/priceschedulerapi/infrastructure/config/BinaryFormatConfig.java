@@ -0,0 +1,47 @@
+package com.inditex.priceschedulerapi.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.priceschedulerapi.infrastructure.serialization.BinaryFormatProperties;
+import com.inditex.priceschedulerapi.infrastructure.serialization.EpochMillisModule;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Binary content negotiation configuration.
+ * Replaces Spring MVC's default CBOR and Smile converters with ones sharing the application's
+ * Jackson customizations and writing dates as epoch milliseconds, so clients sending
+ * {@code Accept: application/cbor} or {@code application/x-jackson-smile} skip ISO date parsing.
+ */
+@Configuration
+@EnableConfigurationProperties(BinaryFormatProperties.class)
+public class BinaryFormatConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+            BinaryFormatProperties properties, ObjectProvider<Jackson2ObjectMapperBuilderCustomizer> customizers) {
+        return new MappingJackson2CborHttpMessageConverter(
+                binaryMapper(Jackson2ObjectMapperBuilder.cbor(), properties, customizers));
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+            BinaryFormatProperties properties, ObjectProvider<Jackson2ObjectMapperBuilderCustomizer> customizers) {
+        return new MappingJackson2SmileHttpMessageConverter(
+                binaryMapper(Jackson2ObjectMapperBuilder.smile(), properties, customizers));
+    }
+
+    private static ObjectMapper binaryMapper(Jackson2ObjectMapperBuilder builder, BinaryFormatProperties properties,
+                                             ObjectProvider<Jackson2ObjectMapperBuilderCustomizer> customizers) {
+        customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+        // Registered last so that it wins over the JavaTimeModule and the @JsonFormat patterns
+        return builder
+                .postConfigurer(mapper -> mapper.registerModule(new EpochMillisModule(properties.zone())))
+                .build();
+    }
+}
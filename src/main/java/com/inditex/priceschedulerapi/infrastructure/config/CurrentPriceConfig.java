@@ -0,0 +1,69 @@
+package com.inditex.priceschedulerapi.infrastructure.config;
+
+import com.inditex.priceschedulerapi.application.mapper.PriceMapper;
+import com.inditex.priceschedulerapi.domain.repository.PriceRepository;
+import com.inditex.priceschedulerapi.infrastructure.importer.PricesImportedEvent;
+import com.inditex.priceschedulerapi.infrastructure.persistence.mapper.PriceEntityMapper;
+import com.inditex.priceschedulerapi.infrastructure.persistence.repository.JpaPriceRepositoryAdapter;
+import com.inditex.priceschedulerapi.infrastructure.schedule.CurrentPriceProperties;
+import com.inditex.priceschedulerapi.infrastructure.schedule.CurrentPriceView;
+import com.inditex.priceschedulerapi.infrastructure.schedule.HierarchicalTimingWheel;
+import com.inditex.priceschedulerapi.infrastructure.schedule.OnCurrentPricesCondition;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * Current price configuration.
+ * Maintains the current price of every product and brand behind {@code GET /api/v1/prices/current}
+ * when {@code price-scheduler.current-prices.enabled} is true or, by default, in the in-memory and
+ * columnar repository modes (see {@link OnCurrentPricesCondition}).
+ */
+@Configuration
+@EnableConfigurationProperties(CurrentPriceProperties.class)
+@Slf4j
+public class CurrentPriceConfig {
+
+    /**
+     * Six levels of 64 one-second slots reach about two thousand years ahead, so every boundary of
+     * a realistic price is placed without waiting on the top level.
+     */
+    private static final int WHEEL_LEVELS = 6;
+
+    @Bean
+    @DependsOnDatabaseInitialization
+    @Conditional(OnCurrentPricesCondition.class)
+    public CurrentPriceView currentPriceView(JpaPriceRepositoryAdapter jpaRepository, PriceEntityMapper entityMapper,
+                                             PriceRepository priceRepository, PriceMapper priceMapper,
+                                             CurrentPriceProperties properties) {
+        Clock clock = Clock.systemUTC();
+        return new CurrentPriceView(jpaRepository, entityMapper, priceRepository, priceMapper, clock, properties.zone(),
+                new HierarchicalTimingWheel<>(properties.tick().toMillis(), properties.wheelSize(), WHEEL_LEVELS,
+                        clock.millis()));
+    }
+
+    /**
+     * Rebuilds the current prices of the imported brands once an import has changed the PRICES
+     * table. The import has already been committed, so a failed rebuild is logged and the previous
+     * prices kept; their boundaries still apply.
+     */
+    @Bean
+    @Conditional(OnCurrentPricesCondition.class)
+    public ApplicationListener<PayloadApplicationEvent<PricesImportedEvent>> currentPriceReloadTrigger(
+            CurrentPriceView currentPriceView) {
+        return ApplicationListener.forPayload(event -> event.brandIds().forEach(brandId -> {
+            try {
+                currentPriceView.reload(brandId);
+            } catch (RuntimeException e) {
+                log.error("Current price reload of brand {} after import failed, keeping the previous prices", brandId, e);
+            }
+        }));
+    }
+}
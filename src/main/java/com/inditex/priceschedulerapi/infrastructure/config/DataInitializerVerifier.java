@@ -1,6 +1,10 @@
 package com.inditex.priceschedulerapi.infrastructure.config;
 
 import com.inditex.priceschedulerapi.infrastructure.persistence.repository.JpaPriceRepositoryAdapter;
+import com.inditex.priceschedulerapi.infrastructure.verification.PriceTableReport;
+import com.inditex.priceschedulerapi.infrastructure.verification.PriceTableScanner;
+import com.inditex.priceschedulerapi.infrastructure.verification.PriceVerificationProperties;
+import com.inditex.priceschedulerapi.infrastructure.verification.PriceVerificationProperties.Mode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -9,6 +13,12 @@ import org.springframework.stereotype.Component;
 /**
  * Verifies that the database has been initialized correctly with sample data.
  * Runs after application startup.
+ *
+ * By default ({@code count}) only the rows are counted. The opt-in {@code scan} mode streams the
+ * PRICES table through the {@link PriceTableScanner} in parallel ID ranges, reporting the row count,
+ * the rows of every brand and a content checksum without loading the table or logging its rows; as
+ * it runs before the application is ready, it delays readiness by the duration of the scan.
+ * {@code off} skips the verification; see {@code price-scheduler.verification}.
  */
 @Component
 @RequiredArgsConstructor
@@ -16,9 +26,15 @@ import org.springframework.stereotype.Component;
 public class DataInitializerVerifier implements CommandLineRunner {
 
     private final JpaPriceRepositoryAdapter priceRepository;
+    private final PriceTableScanner priceTableScanner;
+    private final PriceVerificationProperties properties;
 
     @Override
     public void run(String... args) {
+        if (properties.mode() == Mode.OFF) {
+            return;
+        }
+
         long count = priceRepository.count();
         log.info("===========================================");
         log.info("Database initialization verification");
@@ -27,17 +43,19 @@ public class DataInitializerVerifier implements CommandLineRunner {
 
         if (count == 0) {
             log.warn("WARNING: No prices were loaded into the database!");
-        } else {
-            log.info("SUCCESS: Database initialized with {} price records", count);
-            priceRepository.findAll().forEach(price ->
-                log.info("Price loaded: Brand={}, Product={}, PriceList={}, Priority={}, Price={} {}",
-                    price.getBrandId(),
-                    price.getProductId(),
-                    price.getPriceList(),
-                    price.getPriority(),
-                    price.getPrice(),
-                    price.getCurrency())
-            );
+            return;
+        }
+        log.info("SUCCESS: Database initialized with {} price records", count);
+        if (properties.mode() == Mode.SCAN) {
+            PriceTableReport report = priceTableScanner.scan(count);
+            log.info("Price verification: {} rows in {} ID ranges scanned in {} ms ({} rows/s), checksum {}",
+                    report.rows(), report.ranges(), report.duration().toMillis(), Math.round(report.rowsPerSecond()),
+                    Long.toHexString(report.checksum()));
+            log.info("Price verification: rows per brand {}", report.rowsByBrand());
+            if (report.rows() != count) {
+                log.warn("Price verification scanned {} rows but {} were counted; the table changed during the scan",
+                        report.rows(), count);
+            }
         }
     }
 }
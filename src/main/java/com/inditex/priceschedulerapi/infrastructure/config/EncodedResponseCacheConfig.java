@@ -0,0 +1,55 @@
+package com.inditex.priceschedulerapi.infrastructure.config;
+
+import com.inditex.priceschedulerapi.infrastructure.cache.EncodedResponseCache;
+import com.inditex.priceschedulerapi.infrastructure.cache.EncodedResponseCacheProperties;
+import com.inditex.priceschedulerapi.infrastructure.importer.PricesImportedEvent;
+import com.inditex.priceschedulerapi.infrastructure.persistence.index.PriceIndexReloadedEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Response cache configuration.
+ * Keeps the serialized bytes of single price responses unless
+ * {@code price-scheduler.response-cache.enabled} is false.
+ */
+@Configuration
+@EnableConfigurationProperties(EncodedResponseCacheProperties.class)
+@ConditionalOnProperty(name = "price-scheduler.response-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class EncodedResponseCacheConfig {
+
+    @Bean
+    public EncodedResponseCache encodedResponseCache(EncodedResponseCacheProperties properties) {
+        return new EncodedResponseCache(properties.maximumSize(), properties.maximumWeight());
+    }
+
+    /**
+     * Releases the cached responses of the imported brands once an import has changed the PRICES
+     * table. Entries are keyed by their content, so this only frees memory held by responses that
+     * can no longer be resolved.
+     */
+    @Bean
+    public ApplicationListener<PayloadApplicationEvent<PricesImportedEvent>> encodedResponseCacheInvalidator(
+            EncodedResponseCache encodedResponseCache) {
+        return ApplicationListener.forPayload(event -> event.brandIds().forEach(encodedResponseCache::invalidate));
+    }
+
+    /**
+     * Releases the cached responses of the reloaded brand, or every cached response after a full
+     * reload, once a new in-memory index has been swapped in.
+     */
+    @Bean
+    public ApplicationListener<PayloadApplicationEvent<PriceIndexReloadedEvent>> encodedResponseCacheIndexInvalidator(
+            EncodedResponseCache encodedResponseCache) {
+        return ApplicationListener.forPayload(event -> {
+            if (event.brandId() == null) {
+                encodedResponseCache.invalidateAll();
+            } else {
+                encodedResponseCache.invalidate(event.brandId());
+            }
+        });
+    }
+}
@@ -0,0 +1,14 @@
+package com.inditex.priceschedulerapi.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Ahead-of-time configuration.
+ * Contributes the {@link PriceSchedulerRuntimeHints} to the AOT processing of the {@code native}
+ * and {@code cds} Maven profiles; it has no effect on a regular JVM run.
+ */
+@Configuration
+@ImportRuntimeHints(PriceSchedulerRuntimeHints.class)
+public class NativeImageConfig {
+}
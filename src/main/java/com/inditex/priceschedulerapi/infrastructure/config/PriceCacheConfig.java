@@ -0,0 +1,65 @@
+package com.inditex.priceschedulerapi.infrastructure.config;
+
+import com.inditex.priceschedulerapi.domain.repository.PriceRepository;
+import com.inditex.priceschedulerapi.domain.service.PriceSelectionService;
+import com.inditex.priceschedulerapi.infrastructure.cache.CachingPriceSelectionService;
+import com.inditex.priceschedulerapi.infrastructure.cache.PriceCacheProperties;
+import com.inditex.priceschedulerapi.infrastructure.cache.PriceSegmentCache;
+import com.inditex.priceschedulerapi.infrastructure.importer.PricesImportedEvent;
+import com.inditex.priceschedulerapi.infrastructure.persistence.index.PriceIndexReloadedEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Cache configuration.
+ * Puts a segment-aware cache in front of the PriceSelectionService unless
+ * {@code price-scheduler.cache.enabled} is false.
+ */
+@Configuration
+@EnableConfigurationProperties(PriceCacheProperties.class)
+@ConditionalOnProperty(name = "price-scheduler.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class PriceCacheConfig {
+
+    @Bean
+    public PriceSegmentCache priceSegmentCache(PriceCacheProperties properties) {
+        return new PriceSegmentCache(properties.maximumSize(), properties.maximumWeight());
+    }
+
+    @Bean
+    @Primary
+    public PriceSelectionService cachingPriceSelectionService(PriceRepository priceRepository,
+                                                              PriceSegmentCache priceSegmentCache) {
+        return new CachingPriceSelectionService(priceRepository, priceSegmentCache);
+    }
+
+    /**
+     * Drops the cached segments of the imported brands once an import has changed the PRICES table.
+     */
+    @Bean
+    public ApplicationListener<PayloadApplicationEvent<PricesImportedEvent>> priceSegmentCacheInvalidator(
+            PriceSegmentCache priceSegmentCache) {
+        return ApplicationListener.forPayload(event -> event.brandIds().forEach(priceSegmentCache::invalidate));
+    }
+
+    /**
+     * Drops the cached segments of the reloaded brand, or every cached segment after a full reload,
+     * once a new in-memory index has been swapped in, since segments cached between the import and
+     * the swap still come from the previous index.
+     */
+    @Bean
+    public ApplicationListener<PayloadApplicationEvent<PriceIndexReloadedEvent>> priceSegmentCacheIndexInvalidator(
+            PriceSegmentCache priceSegmentCache) {
+        return ApplicationListener.forPayload(event -> {
+            if (event.brandId() == null) {
+                priceSegmentCache.invalidateAll();
+            } else {
+                priceSegmentCache.invalidate(event.brandId());
+            }
+        });
+    }
+}
@@ -0,0 +1,14 @@
+package com.inditex.priceschedulerapi.infrastructure.config;
+
+import com.inditex.priceschedulerapi.presentation.controller.PriceHttpCacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * HTTP caching configuration.
+ * Binds {@code price-scheduler.http-cache} for the caching headers of price lookups.
+ */
+@Configuration
+@EnableConfigurationProperties(PriceHttpCacheProperties.class)
+public class PriceHttpCacheConfig {
+}
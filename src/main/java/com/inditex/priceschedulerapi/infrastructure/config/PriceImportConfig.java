@@ -0,0 +1,27 @@
+package com.inditex.priceschedulerapi.infrastructure.config;
+
+import com.inditex.priceschedulerapi.infrastructure.importer.PriceImportProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Import configuration.
+ * Binds {@code price-scheduler.import} for the bulk import endpoint and command line runner.
+ */
+@Configuration
+@EnableConfigurationProperties(PriceImportProperties.class)
+public class PriceImportConfig {
+
+    /**
+     * Threads of the import writers, following the same {@code spring.threads.virtual.enabled}
+     * switch as the servlet container.
+     */
+    @Bean
+    public Thread.Builder priceImportThreadBuilder(Environment environment) {
+        Thread.Builder builder = Threading.VIRTUAL.isActive(environment) ? Thread.ofVirtual() : Thread.ofPlatform();
+        return builder.name("price-import-", 1);
+    }
+}
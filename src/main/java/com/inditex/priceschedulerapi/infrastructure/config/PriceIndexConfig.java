@@ -0,0 +1,35 @@
+package com.inditex.priceschedulerapi.infrastructure.config;
+
+import com.inditex.priceschedulerapi.infrastructure.importer.PricesImportedEvent;
+import com.inditex.priceschedulerapi.infrastructure.persistence.index.PriceIndexReloader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * In-memory index configuration.
+ * Keeps the {@code in-memory} and {@code columnar} repositories in step with the PRICES table.
+ */
+@Configuration
+@Slf4j
+public class PriceIndexConfig {
+
+    /**
+     * Rebuilds the in-memory index of the imported brands once an import has changed the PRICES
+     * table; brands the import did not touch keep their index. The import has already been
+     * committed, so a failed rebuild is logged and the previous snapshot kept.
+     */
+    @Bean
+    public ApplicationListener<PayloadApplicationEvent<PricesImportedEvent>> priceIndexReloadTrigger(
+            PriceIndexReloader priceIndexReloader) {
+        return ApplicationListener.forPayload(event -> {
+            try {
+                priceIndexReloader.reload(event.brandIds());
+            } catch (RuntimeException e) {
+                log.error("Price index reload after import failed, keeping the previous snapshot", e);
+            }
+        });
+    }
+}
@@ -0,0 +1,22 @@
+package com.inditex.priceschedulerapi.infrastructure.config;
+
+import com.inditex.priceschedulerapi.infrastructure.metrics.PriceLookupMetrics;
+import com.inditex.priceschedulerapi.infrastructure.metrics.PriceLookupMetricsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metrics configuration.
+ * Registers the price lookup meters, tagged by the brands listed in {@code price-scheduler.metrics.brands}.
+ */
+@Configuration
+@EnableConfigurationProperties(PriceLookupMetricsProperties.class)
+public class PriceMetricsConfig {
+
+    @Bean
+    public PriceLookupMetrics priceLookupMetrics(MeterRegistry meterRegistry, PriceLookupMetricsProperties properties) {
+        return new PriceLookupMetrics(meterRegistry, properties.brands());
+    }
+}
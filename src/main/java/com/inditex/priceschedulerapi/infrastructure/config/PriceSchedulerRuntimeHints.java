@@ -0,0 +1,80 @@
+package com.inditex.priceschedulerapi.infrastructure.config;
+
+import com.inditex.priceschedulerapi.application.dto.PriceBatchQueryRequest;
+import com.inditex.priceschedulerapi.application.dto.PriceBatchQueryResponse;
+import com.inditex.priceschedulerapi.application.dto.PriceChangeNotification;
+import com.inditex.priceschedulerapi.application.dto.PriceQueryRequest;
+import com.inditex.priceschedulerapi.application.dto.PriceQueryResponse;
+import com.inditex.priceschedulerapi.application.dto.PriceScheduleEntry;
+import com.inditex.priceschedulerapi.application.dto.PriceScheduleRequest;
+import com.inditex.priceschedulerapi.application.dto.PriceSeriesRequest;
+import com.inditex.priceschedulerapi.application.dto.PriceSeriesResponse;
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import com.inditex.priceschedulerapi.domain.valueobject.DateRange;
+import com.inditex.priceschedulerapi.domain.valueobject.Money;
+import com.inditex.priceschedulerapi.domain.valueobject.PriceKey;
+import com.inditex.priceschedulerapi.domain.valueobject.PriceList;
+import com.inditex.priceschedulerapi.domain.valueobject.PriceLookup;
+import com.inditex.priceschedulerapi.domain.valueobject.Priority;
+import com.inditex.priceschedulerapi.domain.valueobject.ProductId;
+import com.inditex.priceschedulerapi.infrastructure.importer.PriceImportReport;
+import com.inditex.priceschedulerapi.infrastructure.persistence.entity.PriceEntity;
+import com.inditex.priceschedulerapi.presentation.exception.GlobalExceptionHandler;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Contact;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.info.License;
+import io.swagger.v3.oas.models.servers.Server;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * Reflection hints of the native image.
+ *
+ * Spring AOT registers the controller signatures and the bean definitions by itself, but not the
+ * types reached reflectively from elsewhere: the DTOs written by {@code PriceResponseEncoder}, the
+ * schedule stream and the change subscriptions, the error bodies built ahead of time by
+ * {@link GlobalExceptionHandler}, the import records read by Jackson, the JPA entity, and the
+ * OpenAPI model of {@link OpenApiConfig} rendered by springdoc.
+ */
+public class PriceSchedulerRuntimeHints implements RuntimeHintsRegistrar {
+
+    /**
+     * Package-private record of the importer, bound by Jackson from JSON lines.
+     */
+    static final String PRICE_IMPORT_RECORD = "com.inditex.priceschedulerapi.infrastructure.importer.PriceImportRecord";
+
+    private static final Class<?>[] JSON_TYPES = {
+            PriceQueryRequest.class, PriceQueryResponse.class,
+            PriceBatchQueryRequest.class, PriceBatchQueryResponse.class,
+            PriceScheduleRequest.class, PriceScheduleEntry.class,
+            PriceSeriesRequest.class, PriceSeriesResponse.class,
+            PriceChangeNotification.class, PriceImportReport.class,
+            GlobalExceptionHandler.ErrorResponse.class,
+            OpenAPI.class, Info.class, Contact.class, License.class, Server.class
+    };
+
+    private static final Class<?>[] VALUE_OBJECTS = {
+            BrandId.class, ProductId.class, PriceKey.class, PriceList.class, Priority.class,
+            Money.class, DateRange.class, PriceLookup.class
+    };
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        bindingRegistrar.registerReflectionHints(hints.reflection(), JSON_TYPES);
+        bindingRegistrar.registerReflectionHints(hints.reflection(), VALUE_OBJECTS);
+        hints.reflection().registerType(TypeReference.of(PRICE_IMPORT_RECORD),
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS,
+                MemberCategory.DECLARED_FIELDS);
+        hints.reflection().registerType(PriceEntity.class,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS,
+                MemberCategory.DECLARED_FIELDS);
+    }
+}
@@ -0,0 +1,17 @@
+package com.inditex.priceschedulerapi.infrastructure.config;
+
+import com.inditex.priceschedulerapi.infrastructure.persistence.columnar.PriceSnapshotProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Snapshot configuration.
+ * Binds {@code price-scheduler.snapshot} for the columnar repository, the only mode that can
+ * be restored from a binary snapshot.
+ */
+@Configuration
+@EnableConfigurationProperties(PriceSnapshotProperties.class)
+@ConditionalOnProperty(name = "price-scheduler.repository.mode", havingValue = "columnar")
+public class PriceSnapshotConfig {
+}
@@ -0,0 +1,14 @@
+package com.inditex.priceschedulerapi.infrastructure.config;
+
+import com.inditex.priceschedulerapi.presentation.controller.PriceSubscriptionProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Price change subscription configuration.
+ * Binds {@code price-scheduler.subscriptions} for the Server-Sent Events of {@code GET /api/v1/prices/changes}.
+ */
+@Configuration
+@EnableConfigurationProperties(PriceSubscriptionProperties.class)
+public class PriceSubscriptionConfig {
+}
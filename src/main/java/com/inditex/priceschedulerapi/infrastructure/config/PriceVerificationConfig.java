@@ -0,0 +1,14 @@
+package com.inditex.priceschedulerapi.infrastructure.config;
+
+import com.inditex.priceschedulerapi.infrastructure.verification.PriceVerificationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Startup verification configuration.
+ * Binds {@code price-scheduler.verification} for the scan of the PRICES table by {@link DataInitializerVerifier}.
+ */
+@Configuration
+@EnableConfigurationProperties(PriceVerificationProperties.class)
+public class PriceVerificationConfig {
+}
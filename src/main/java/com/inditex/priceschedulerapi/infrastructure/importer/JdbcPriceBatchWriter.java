@@ -0,0 +1,49 @@
+package com.inditex.priceschedulerapi.infrastructure.importer;
+
+import com.inditex.priceschedulerapi.domain.model.Price;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Writes batches of prices with plain JDBC batch inserts.
+ *
+ * Hibernate disables insert batching for {@code GenerationType.IDENTITY} entities, so the
+ * import bypasses JPA and lets the database generate the IDs. Every batch is one transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcPriceBatchWriter {
+
+    static final String INSERT_SQL = "INSERT INTO PRICES "
+            + "(BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Inserts the batch in a single transaction.
+     *
+     * @param batch the prices to insert
+     * @return number of inserted rows
+     * @throws org.springframework.dao.DataAccessException if the batch is rolled back
+     */
+    public int write(List<Price> batch) {
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (statement, price) -> {
+                    statement.setInt(1, price.getBrandId().getValue());
+                    statement.setObject(2, price.getDateRange().getStartDate());
+                    statement.setObject(3, price.getDateRange().getEndDate());
+                    statement.setInt(4, price.getPriceList().getValue());
+                    statement.setLong(5, price.getProductId().getValue());
+                    statement.setInt(6, price.getPriority().getValue());
+                    statement.setBigDecimal(7, price.getPrice().getAmount());
+                    statement.setString(8, price.getPrice().getCurrencyCode());
+                }));
+        return batch.size();
+    }
+}
@@ -0,0 +1,40 @@
+package com.inditex.priceschedulerapi.infrastructure.importer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Command line entry point of the bulk import.
+ * Imports {@code price-scheduler.import.file} once the application has started, e.g.
+ * {@code java -jar price-scheduler-api.jar --price-scheduler.import.file=prices.csv}.
+ */
+@Component
+@ConditionalOnProperty(name = "price-scheduler.import.file")
+@RequiredArgsConstructor
+@Slf4j
+public class PriceImportCommandLineRunner implements CommandLineRunner {
+
+    private final PriceImportPipeline pipeline;
+    private final PriceImportProperties properties;
+
+    @Override
+    public void run(String... args) throws Exception {
+        Path file = properties.file();
+        PriceImportFormat format = PriceImportFormat.fromFileName(file.getFileName().toString())
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported import file " + file
+                        + ", expected a .csv or .ndjson file"));
+
+        log.info("Importing prices from {}", file);
+        try (InputStream input = Files.newInputStream(file)) {
+            PriceImportReport report = pipeline.importPrices(input, format);
+            report.rejections().forEach(rejection -> log.warn("Rejected {}", rejection));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.inditex.priceschedulerapi.infrastructure.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.priceschedulerapi.domain.model.Price;
+import org.springframework.http.MediaType;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Supported price import file formats.
+ *
+ * CSV files use the column order of the PRICES table
+ * ({@code BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE,CURR}) with an optional
+ * header line. NDJSON files hold one JSON object per line with the field names of
+ * {@link PriceImportRecord}.
+ */
+public enum PriceImportFormat {
+
+    CSV(PriceImportFormat.CSV_MEDIA_TYPE, ".csv") {
+        @Override
+        Price parse(String line, ObjectMapper objectMapper) {
+            String[] fields = line.split(",", -1);
+            if (fields.length != COLUMNS) {
+                throw new IllegalArgumentException("Expected " + COLUMNS + " columns but found " + fields.length);
+            }
+            return new PriceImportRecord(
+                    Long.valueOf(fields[4].trim()),
+                    Integer.valueOf(fields[0].trim()),
+                    Integer.valueOf(fields[3].trim()),
+                    fields[1].trim(),
+                    fields[2].trim(),
+                    Integer.valueOf(fields[5].trim()),
+                    new BigDecimal(fields[6].trim()),
+                    fields[7].trim()
+            ).toPrice();
+        }
+
+        @Override
+        boolean isHeader(String line) {
+            return line.regionMatches(true, 0, "BRAND_ID", 0, "BRAND_ID".length());
+        }
+    },
+
+    NDJSON(PriceImportFormat.NDJSON_MEDIA_TYPE, ".ndjson") {
+        @Override
+        Price parse(String line, ObjectMapper objectMapper) throws JsonProcessingException {
+            return objectMapper.readValue(line, PriceImportRecord.class).toPrice();
+        }
+
+        @Override
+        boolean isHeader(String line) {
+            return false;
+        }
+    };
+
+    public static final String CSV_MEDIA_TYPE = "text/csv";
+    public static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
+    private static final int COLUMNS = 8;
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    PriceImportFormat(String mediaType, String extension) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+        this.extension = extension;
+    }
+
+    /**
+     * Parses and validates one line of the file.
+     *
+     * @throws IllegalArgumentException if the line holds an invalid price
+     * @throws JsonProcessingException if an NDJSON line is not valid JSON
+     */
+    abstract Price parse(String line, ObjectMapper objectMapper) throws JsonProcessingException;
+
+    abstract boolean isHeader(String line);
+
+    public static Optional<PriceImportFormat> fromMediaType(MediaType mediaType) {
+        return Arrays.stream(values())
+                .filter(format -> format.mediaType.isCompatibleWith(mediaType))
+                .findFirst();
+    }
+
+    public static Optional<PriceImportFormat> fromFileName(String fileName) {
+        String lowerCaseName = fileName.toLowerCase(Locale.ROOT);
+        return Arrays.stream(values())
+                .filter(format -> lowerCaseName.endsWith(format.extension))
+                .findFirst();
+    }
+}
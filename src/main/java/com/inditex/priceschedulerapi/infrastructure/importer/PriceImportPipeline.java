@@ -0,0 +1,205 @@
+package com.inditex.priceschedulerapi.infrastructure.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Streaming bulk import of price files.
+ *
+ * The calling thread reads the input line by line, validates every row through the domain
+ * value objects and groups valid prices into batches. Batches go through a bounded queue to
+ * a pool of writer threads that insert them with {@link JdbcPriceBatchWriter}, so parsing
+ * blocks instead of buffering when the database is the bottleneck and at most
+ * {@code queueCapacity + writers} batches are in memory at any time.
+ *
+ * Batches are written concurrently, so IDs do not follow file order.
+ *
+ * Writer threads come from the {@code priceImportThreadBuilder} bean: virtual threads when
+ * {@code spring.threads.virtual.enabled} is set, platform threads otherwise. The number of
+ * writers stays bounded either way, as each one holds a JDBC connection while it inserts.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PriceImportPipeline {
+
+    private final JdbcPriceBatchWriter batchWriter;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PriceImportProperties properties;
+    private final Thread.Builder priceImportThreadBuilder;
+
+    /**
+     * Imports every line of the input.
+     *
+     * @param input the file content, UTF-8
+     * @param format the file format
+     * @return the import report
+     * @throws IOException if the input cannot be read
+     */
+    public PriceImportReport importPrices(InputStream input, PriceImportFormat format) throws IOException {
+        long start = System.nanoTime();
+        Progress progress = new Progress(properties.maxReportedRejections());
+        BlockingQueue<List<Price>> queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        List<Price> endOfInput = new ArrayList<>(0);
+
+        ExecutorService writers = Executors.newThreadPerTaskExecutor(priceImportThreadBuilder.factory());
+        List<Future<?>> writerTasks = new ArrayList<>(properties.writers());
+        for (int i = 0; i < properties.writers(); i++) {
+            writerTasks.add(writers.submit(() -> {
+                write(queue, endOfInput, progress);
+                return null;
+            }));
+        }
+
+        try {
+            read(input, format, queue, progress);
+        } finally {
+            try {
+                for (int i = 0; i < properties.writers(); i++) {
+                    put(queue, endOfInput);
+                }
+                awaitWriters(writerTasks);
+            } finally {
+                writers.shutdownNow();
+            }
+        }
+
+        long durationNanos = System.nanoTime() - start;
+        PriceImportReport report = progress.toReport(durationNanos);
+        log.info("Price import ({}) finished: {} read, {} imported, {} rejected in {} ms ({} rows/s)",
+                format, report.rowsRead(), report.rowsImported(), report.rowsRejected(),
+                report.durationMillis(), Math.round(report.rowsPerSecond()));
+        if (report.rowsImported() > 0) {
+            eventPublisher.publishEvent(new PricesImportedEvent(report.rowsImported(), Set.copyOf(progress.brandIds)));
+        }
+        return report;
+    }
+
+    private void read(InputStream input, PriceImportFormat format, BlockingQueue<List<Price>> queue,
+                      Progress progress) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        List<Price> batch = new ArrayList<>(properties.batchSize());
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || (lineNumber == 1 && format.isHeader(line))) {
+                continue;
+            }
+            progress.rowsRead.incrementAndGet();
+            try {
+                batch.add(format.parse(line, objectMapper));
+            } catch (IllegalArgumentException e) {
+                progress.reject("line " + lineNumber + ": " + e.getMessage(), 1);
+                continue;
+            } catch (JsonProcessingException e) {
+                progress.reject("line " + lineNumber + ": Invalid JSON: " + e.getOriginalMessage(), 1);
+                continue;
+            }
+            if (batch.size() == properties.batchSize()) {
+                put(queue, batch);
+                batch = new ArrayList<>(properties.batchSize());
+            }
+        }
+        if (!batch.isEmpty()) {
+            put(queue, batch);
+        }
+    }
+
+    private void write(BlockingQueue<List<Price>> queue, List<Price> endOfInput, Progress progress)
+            throws InterruptedException {
+        List<Price> batch;
+        while ((batch = queue.take()) != endOfInput) {
+            try {
+                progress.rowsImported.addAndGet(batchWriter.write(batch));
+                batch.forEach(price -> progress.brandIds.add(price.getBrandId()));
+            } catch (RuntimeException e) {
+                // A failed batch is reported, never fatal: a dead writer would leave the reader blocked on the queue
+                progress.reject("batch of " + batch.size() + " rows: "
+                        + NestedExceptionUtils.getMostSpecificCause(e).getMessage(), batch.size());
+            }
+        }
+    }
+
+    private static void put(BlockingQueue<List<Price>> queue, List<Price> batch) throws InterruptedIOException {
+        try {
+            queue.put(batch);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Price import interrupted");
+        }
+    }
+
+    private static void awaitWriters(List<Future<?>> writerTasks) throws InterruptedIOException {
+        for (Future<?> task : writerTasks) {
+            try {
+                task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Price import interrupted");
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Price import writer failed", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Counters shared by the reader and the writers.
+     */
+    private static final class Progress {
+
+        private final AtomicLong rowsRead = new AtomicLong();
+        private final AtomicLong rowsImported = new AtomicLong();
+        private final AtomicLong rowsRejected = new AtomicLong();
+        private final Set<BrandId> brandIds = ConcurrentHashMap.newKeySet();
+        private final List<String> rejections = new ArrayList<>();
+        private final int maxReportedRejections;
+
+        Progress(int maxReportedRejections) {
+            this.maxReportedRejections = maxReportedRejections;
+        }
+
+        void reject(String reason, int rows) {
+            rowsRejected.addAndGet(rows);
+            synchronized (rejections) {
+                if (rejections.size() < maxReportedRejections) {
+                    rejections.add(reason);
+                }
+            }
+        }
+
+        PriceImportReport toReport(long durationNanos) {
+            double seconds = Math.max(durationNanos, 1) / 1_000_000_000.0;
+            synchronized (rejections) {
+                return new PriceImportReport(rowsRead.get(), rowsImported.get(), rowsRejected.get(),
+                        durationNanos / 1_000_000, rowsImported.get() / seconds, List.copyOf(rejections));
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.inditex.priceschedulerapi.infrastructure.importer;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * Configuration of the bulk price import.
+ *
+ * @param file File imported once at startup (.csv or .ndjson); null to only import through the endpoint
+ * @param batchSize Number of rows per JDBC batch insert
+ * @param writers Number of parallel writer threads
+ * @param queueCapacity Number of parsed batches that may wait for a writer before parsing blocks
+ * @param maxReportedRejections Maximum number of rejected rows detailed in the report
+ */
+@ConfigurationProperties(prefix = "price-scheduler.import")
+public record PriceImportProperties(
+        Path file,
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("4") int writers,
+        @DefaultValue("8") int queueCapacity,
+        @DefaultValue("100") int maxReportedRejections
+) {
+
+    public PriceImportProperties {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Import batch size must be positive");
+        }
+        if (writers <= 0) {
+            throw new IllegalArgumentException("Import writers must be positive");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Import queue capacity must be positive");
+        }
+        if (maxReportedRejections < 0) {
+            throw new IllegalArgumentException("Import max reported rejections cannot be negative");
+        }
+    }
+}
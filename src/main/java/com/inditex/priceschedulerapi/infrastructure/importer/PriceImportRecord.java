@@ -0,0 +1,74 @@
+package com.inditex.priceschedulerapi.infrastructure.importer;
+
+import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.valueobject.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * One raw row of a price import file, before validation.
+ * Field names match the JSON of the API so that NDJSON lines bind directly.
+ *
+ * @param productId Product identifier
+ * @param brandId Brand identifier
+ * @param priceList Price list identifier (tariff)
+ * @param startDate Start date, ISO ({@code 2020-06-14T00:00:00}), SQL ({@code 2020-06-14 00:00:00})
+ *                  or exercise ({@code 2020-06-14-00.00.00}) format
+ * @param endDate End date, in the same formats
+ * @param priority Priority of the price
+ * @param price Final price, must fit the DECIMAL(10, 2) column
+ * @param currency Currency code (ISO)
+ */
+record PriceImportRecord(
+        Long productId,
+        Integer brandId,
+        Integer priceList,
+        String startDate,
+        String endDate,
+        Integer priority,
+        BigDecimal price,
+        String currency
+) {
+
+    private static final DateTimeFormatter EXERCISE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd-HH.mm.ss");
+    private static final int MAX_INTEGER_DIGITS = 8;
+    private static final int MAX_SCALE = 2;
+
+    /**
+     * Validates the row through the domain value objects.
+     *
+     * @return the domain price
+     * @throws IllegalArgumentException if any field is missing or invalid
+     */
+    Price toPrice() {
+        if (price != null && (price.scale() > MAX_SCALE || price.precision() - price.scale() > MAX_INTEGER_DIGITS)) {
+            throw new IllegalArgumentException("Price must have at most " + MAX_INTEGER_DIGITS
+                    + " integer digits and " + MAX_SCALE + " decimals");
+        }
+        return Price.of(
+                ProductId.of(productId),
+                BrandId.of(brandId),
+                PriceList.of(priceList),
+                DateRange.of(parseDate(startDate), parseDate(endDate)),
+                Priority.of(priority),
+                Money.of(price, currency)
+        );
+    }
+
+    private static LocalDateTime parseDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            if (value.length() == 19 && value.charAt(10) == '-') {
+                return LocalDateTime.parse(value, EXERCISE_FORMAT);
+            }
+            return LocalDateTime.parse(value.replace(' ', 'T'));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date: " + value);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.inditex.priceschedulerapi.infrastructure.importer;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk price import.
+ *
+ * @param rowsRead Number of data rows read (headers and blank lines excluded)
+ * @param rowsImported Number of rows written to the PRICES table
+ * @param rowsRejected Number of rows that failed validation or whose batch failed to insert
+ * @param durationMillis Wall-clock duration of the import
+ * @param rowsPerSecond Imported rows per second
+ * @param rejections Details of the first rejected rows, as {@code "line N: reason"}
+ */
+public record PriceImportReport(
+        long rowsRead,
+        long rowsImported,
+        long rowsRejected,
+        long durationMillis,
+        double rowsPerSecond,
+        List<String> rejections
+) {
+}
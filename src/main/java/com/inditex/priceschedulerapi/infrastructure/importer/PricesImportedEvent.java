@@ -0,0 +1,15 @@
+package com.inditex.priceschedulerapi.infrastructure.importer;
+
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+
+import java.util.Set;
+
+/**
+ * Published after an import has written at least one price, so that anything derived
+ * from the PRICES table can be refreshed.
+ *
+ * @param rowsImported Number of rows written by the import
+ * @param brandIds Brands of the written rows; data of other brands did not change
+ */
+public record PricesImportedEvent(long rowsImported, Set<BrandId> brandIds) {
+}
@@ -0,0 +1,138 @@
+package com.inditex.priceschedulerapi.infrastructure.metrics;
+
+import com.inditex.priceschedulerapi.application.port.PriceLookupTimer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Micrometer meters of the single price lookup path, tagged by brand.
+ *
+ * <ul>
+ *   <li>{@code price.lookup.duration}: timer per {@link Layer}, with a percentile histogram and
+ *       p50/p95/p99. Outer layers include the time of the inner ones.</li>
+ *   <li>{@code price.lookup.responses}: lookups answered by the controller, per HTTP status.</li>
+ *   <li>{@code price.lookup.candidates}: rows fetched from the PRICES table per repository lookup.</li>
+ * </ul>
+ *
+ * Meters are created on first use and kept per brand tag, so recording never rebuilds a meter id.
+ * Only the configured brands get their own tag; the brand ids of requests come from clients, so
+ * every other brand is recorded under {@code other}, which bounds the number of meters.
+ * They can be switched off with {@code management.metrics.enable.price.lookup=false}.
+ */
+public class PriceLookupMetrics implements PriceLookupTimer {
+
+    public static final String DURATION = "price.lookup.duration";
+    public static final String RESPONSES = "price.lookup.responses";
+    public static final String CANDIDATES = "price.lookup.candidates";
+
+    private static final Duration MINIMUM_EXPECTED_DURATION = Duration.ofNanos(1_000);
+    private static final Duration MAXIMUM_EXPECTED_DURATION = Duration.ofSeconds(1);
+
+    static final String OTHER_BRAND = "other";
+    static final String UNKNOWN_BRAND = "unknown";
+
+    private final MeterRegistry registry;
+    private final Set<Integer> taggedBrands;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<ResponseKey, Counter> responses = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> candidates = new ConcurrentHashMap<>();
+
+    public PriceLookupMetrics(MeterRegistry registry, Set<Integer> taggedBrands) {
+        this.registry = registry;
+        this.taggedBrands = Set.copyOf(taggedBrands);
+    }
+
+    /**
+     * Times a lookup of the use case layer.
+     */
+    @Override
+    public <T> T time(Integer brandId, Supplier<T> lookup) {
+        return timer(Layer.USE_CASE, brandId).record(lookup);
+    }
+
+    /**
+     * @param layer the instrumented layer
+     * @param brandId the brand of the lookup
+     * @return the lookup timer of the layer and brand
+     */
+    public Timer timer(Layer layer, Integer brandId) {
+        return timers.computeIfAbsent(new TimerKey(layer, brandTag(brandId)), key -> Timer.builder(DURATION)
+                .tags("layer", key.layer().tag(), "brand", key.brand())
+                .description("Time spent resolving a single price lookup, per layer")
+                .publishPercentileHistogram()
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .minimumExpectedValue(MINIMUM_EXPECTED_DURATION)
+                .maximumExpectedValue(MAXIMUM_EXPECTED_DURATION)
+                .register(registry));
+    }
+
+    /**
+     * Counts a lookup answered by the controller.
+     *
+     * @param brandId the brand of the lookup
+     * @param status the HTTP status of the response, 200 or 404
+     */
+    public void recordResponse(Integer brandId, int status) {
+        responses.computeIfAbsent(new ResponseKey(brandTag(brandId), status), key -> Counter.builder(RESPONSES)
+                .tags("brand", key.brand(), "status", Integer.toString(key.status()))
+                .description("Price lookups answered, per HTTP status")
+                .register(registry))
+                .increment();
+    }
+
+    /**
+     * Records how many rows a repository lookup fetched.
+     *
+     * @param brandId the brand of the lookup
+     * @param rows the number of fetched rows
+     */
+    public void recordCandidates(Integer brandId, int rows) {
+        candidates.computeIfAbsent(brandTag(brandId), brand -> DistributionSummary.builder(CANDIDATES)
+                .tags("brand", brand)
+                .baseUnit("rows")
+                .description("Candidate price rows fetched per lookup")
+                .register(registry))
+                .record(rows);
+    }
+
+    private String brandTag(Integer brandId) {
+        if (brandId == null) {
+            return UNKNOWN_BRAND;
+        }
+        return taggedBrands.contains(brandId) ? brandId.toString() : OTHER_BRAND;
+    }
+
+    /**
+     * Layers of the lookup path, outermost first.
+     */
+    public enum Layer {
+        CONTROLLER("controller"),
+        USE_CASE("use-case"),
+        REPOSITORY("repository"),
+        MAPPER("mapper");
+
+        private final String tag;
+
+        Layer(String tag) {
+            this.tag = tag;
+        }
+
+        public String tag() {
+            return tag;
+        }
+    }
+
+    private record TimerKey(Layer layer, String brand) {
+    }
+
+    private record ResponseKey(String brand, int status) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.inditex.priceschedulerapi.infrastructure.metrics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Set;
+
+/**
+ * Configuration of the price lookup meters.
+ *
+ * @param brands Brands tagged with their own id; lookups of any other brand share the {@code other} tag,
+ *               so brand ids taken from requests cannot grow the meter registry without bound. In
+ *               {@code in-memory} mode the lookups of every brand shard are also timed by
+ *               {@code price.index.shard.lookup}, independently of this setting
+ */
+@ConfigurationProperties(prefix = "price-scheduler.metrics")
+public record PriceLookupMetricsProperties(
+        @DefaultValue("1") Set<Integer> brands
+) {
+}
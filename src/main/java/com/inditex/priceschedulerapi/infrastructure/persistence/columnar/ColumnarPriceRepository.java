@@ -0,0 +1,184 @@
+package com.inditex.priceschedulerapi.infrastructure.persistence.columnar;
+
+import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.model.PriceSegment;
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import com.inditex.priceschedulerapi.domain.valueobject.ProductId;
+import com.inditex.priceschedulerapi.infrastructure.persistence.columnar.PriceSnapshotFile.TableFingerprint;
+import com.inditex.priceschedulerapi.infrastructure.persistence.entity.PriceEntity;
+import com.inditex.priceschedulerapi.infrastructure.persistence.index.IndexSnapshot;
+import com.inditex.priceschedulerapi.infrastructure.persistence.index.IndexSnapshotHolder;
+import com.inditex.priceschedulerapi.infrastructure.persistence.index.ReloadablePriceRepository;
+import com.inditex.priceschedulerapi.infrastructure.persistence.mapper.PriceEntityMapper;
+import com.inditex.priceschedulerapi.infrastructure.persistence.repository.JpaPriceRepositoryAdapter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Columnar implementation of the domain PriceRepository interface.
+ * Loads the PRICES table once at startup into a {@link ColumnarPriceStore}, which keeps every
+ * price in parallel primitive arrays instead of a graph of value objects per row.
+ *
+ * When {@code price-scheduler.snapshot.path} is set, the store is restored from that
+ * {@link PriceSnapshotFile} instead of scanning the table, and the snapshot is (re)written
+ * from the database whenever it is missing, unreadable or taken from a table whose row count or
+ * maximum ID has changed since.
+ * The store is held in an {@link IndexSnapshotHolder} and can be rebuilt with {@link #reload}
+ * while lookups continue on the previous snapshot.
+ *
+ * Enabled with {@code price-scheduler.repository.mode=columnar}.
+ */
+@Component
+@ConditionalOnProperty(name = "price-scheduler.repository.mode", havingValue = "columnar")
+@DependsOnDatabaseInitialization
+@RequiredArgsConstructor
+@Slf4j
+public class ColumnarPriceRepository implements ReloadablePriceRepository {
+
+    private final JpaPriceRepositoryAdapter jpaRepository;
+    private final PriceEntityMapper mapper;
+    private final PriceSnapshotProperties snapshotProperties;
+
+    private final IndexSnapshotHolder<ColumnarPriceStore> snapshots = new IndexSnapshotHolder<>(
+            ColumnarPriceStore.empty(), ColumnarPriceStore::size, ColumnarPriceStore::keyCount);
+
+    /**
+     * Fingerprint of the PRICES table the current store was loaded from, written to snapshots.
+     */
+    private volatile TableFingerprint loadedFrom = new TableFingerprint(0, 0);
+
+    /**
+     * Builds the columnar store from the configured snapshot if there is a valid one taken from
+     * the table as it is now, otherwise from the current content of the PRICES table.
+     */
+    @PostConstruct
+    public void load() {
+        Path snapshot = snapshotProperties.path();
+        if (snapshot != null && Files.exists(snapshot) && loadSnapshot(snapshot, currentTable())) {
+            return;
+        }
+
+        IndexSnapshot<ColumnarPriceStore> loaded = reload();
+        log.info("Columnar price store loaded: {} prices, {} product/brand keys, ~{} KiB in {} ms",
+                loaded.priceCount(), loaded.keyCount(), loaded.index().estimatedBytes() / 1024,
+                loaded.buildDuration().toMillis());
+    }
+
+    /**
+     * Builds a new store from the PRICES table while lookups keep using the current one, then
+     * swaps it in atomically. The snapshot file, if configured with {@code write-on-load}, is
+     * rewritten so that the next start does not restore stale data.
+     */
+    @Override
+    public IndexSnapshot<ColumnarPriceStore> reload() {
+        IndexSnapshot<ColumnarPriceStore> loaded = snapshots.rebuild(() -> {
+            ColumnarPriceStore.Builder builder = ColumnarPriceStore.builder((int) jpaRepository.count());
+            long rows = 0;
+            long maxId = 0;
+            for (PriceEntity entity : jpaRepository.findAll()) {
+                builder.add(mapper.toDomain(entity));
+                rows++;
+                maxId = entity.getId() == null ? maxId : Math.max(maxId, entity.getId());
+            }
+            loadedFrom = new TableFingerprint(rows, maxId);
+            return builder.build();
+        });
+
+        Path snapshot = snapshotProperties.path();
+        if (snapshot != null && snapshotProperties.writeOnLoad()) {
+            try {
+                writeSnapshot(snapshot);
+            } catch (IOException e) {
+                log.warn("Could not write price snapshot {}: {}", snapshot, e.getMessage());
+            }
+        }
+        return loaded;
+    }
+
+    @Override
+    public IndexSnapshot<ColumnarPriceStore> indexSnapshot() {
+        return snapshots.snapshot();
+    }
+
+    /**
+     * Writes the currently loaded store to a snapshot file.
+     *
+     * @param path the snapshot file, replaced atomically
+     * @throws IOException if the file cannot be written
+     */
+    public void writeSnapshot(Path path) throws IOException {
+        long start = System.nanoTime();
+        ColumnarPriceStore store = snapshots.index();
+        PriceSnapshotFile.write(store, loadedFrom, path);
+        log.info("Price snapshot written to {}: {} prices in {} ms",
+                path, store.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(ProductId productId, BrandId brandId, LocalDateTime applicationDate) {
+        return snapshots.index().findApplicablePrices(productId, brandId, applicationDate);
+    }
+
+    @Override
+    public List<Price> findPrices(ProductId productId, BrandId brandId) {
+        return snapshots.index().findPrices(productId, brandId);
+    }
+
+    /**
+     * Finds the winning price without materializing the other candidates: the lookup runs on
+     * the primitive columns and only the selected row becomes a {@link Price}.
+     */
+    @Override
+    public Optional<Price> findTopApplicablePrice(ProductId productId, BrandId brandId, LocalDateTime applicationDate) {
+        ColumnarPriceStore current = snapshots.index();
+        int row = current.findTopApplicableRow(productId, brandId, applicationDate);
+        return row == ColumnarPriceStore.NOT_FOUND ? Optional.empty() : Optional.of(current.priceAt(row));
+    }
+
+    /**
+     * Resolves the segment on the primitive columns from the winning row and the rows that can cut
+     * its validity, instead of flattening the product's whole history into a timeline.
+     */
+    @Override
+    public Optional<PriceSegment> findEffectiveSegment(ProductId productId, BrandId brandId, LocalDateTime applicationDate) {
+        return snapshots.index().findEffectiveSegment(productId, brandId, applicationDate);
+    }
+
+    private TableFingerprint currentTable() {
+        return new TableFingerprint(jpaRepository.count(),
+                jpaRepository.findFirstByOrderByIdDesc().map(PriceEntity::getId).orElse(0L));
+    }
+
+    private boolean loadSnapshot(Path snapshot, TableFingerprint table) {
+        IndexSnapshot<ColumnarPriceStore> restored;
+        try {
+            restored = snapshots.rebuild(() -> {
+                try {
+                    ColumnarPriceStore store = PriceSnapshotFile.read(snapshot, table, snapshotProperties.verifyChecksum());
+                    loadedFrom = table;
+                    return store;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            log.warn("Ignoring price snapshot {}, loading from the database: {}", snapshot, e.getCause().getMessage());
+            return false;
+        }
+        log.info("Columnar price store restored from {}: {} prices, {} product/brand keys in {} ms",
+                snapshot, restored.priceCount(), restored.keyCount(), restored.buildDuration().toMillis());
+        return true;
+    }
+}
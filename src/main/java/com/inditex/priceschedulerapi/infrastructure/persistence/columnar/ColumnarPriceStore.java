@@ -0,0 +1,437 @@
+package com.inditex.priceschedulerapi.infrastructure.persistence.columnar;
+
+import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.model.PriceSegment;
+import com.inditex.priceschedulerapi.domain.valueobject.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable columnar store of prices kept in parallel primitive arrays.
+ *
+ * Rows are sorted by packed (productId, brandId) key and start date. Dates are stored as
+ * epoch seconds (UTC, no zone conversion), amounts as a {@code long} of minor units with a
+ * per-currency scale and currencies as a {@code byte} ordinal into a small table. A lookup
+ * only touches those arrays and returns a row number; {@link Price} objects are materialized
+ * by {@link #priceAt(int)} once the caller knows which row it needs.
+ *
+ * Every row also carries the running maximum of end dates within its key, so applicable rows
+ * are found with a binary search and a short backwards walk, as in the interval index.
+ */
+public final class ColumnarPriceStore {
+
+    /** Row number returned when no price applies. */
+    public static final int NOT_FOUND = -1;
+
+    static final int BRAND_BITS = 16;
+    static final long MAX_PRODUCT_ID = (1L << (Long.SIZE - 1 - BRAND_BITS)) - 1;
+    static final int MAX_BRAND_ID = (1 << BRAND_BITS) - 1;
+
+    private static final ColumnarPriceStore EMPTY = new Builder(0).build();
+
+    // Columns are package-private so that PriceSnapshotFile can write and restore them as-is
+    final long[] distinctKeys;
+    final int[] keyOffsets;
+    final long[] startSeconds;
+    final long[] endSeconds;
+    final long[] maxEndSeconds;
+    final int[] sequences;
+    final int[] priorities;
+    final int[] priceLists;
+    final long[] amounts;
+    final byte[] currencyOrdinals;
+    final Currency[] currencies;
+    final int[] currencyScales;
+
+    ColumnarPriceStore(long[] distinctKeys, int[] keyOffsets, long[] startSeconds, long[] endSeconds,
+                               long[] maxEndSeconds, int[] sequences, int[] priorities, int[] priceLists,
+                               long[] amounts, byte[] currencyOrdinals, Currency[] currencies, int[] currencyScales) {
+        this.distinctKeys = distinctKeys;
+        this.keyOffsets = keyOffsets;
+        this.startSeconds = startSeconds;
+        this.endSeconds = endSeconds;
+        this.maxEndSeconds = maxEndSeconds;
+        this.sequences = sequences;
+        this.priorities = priorities;
+        this.priceLists = priceLists;
+        this.amounts = amounts;
+        this.currencyOrdinals = currencyOrdinals;
+        this.currencies = currencies;
+        this.currencyScales = currencyScales;
+    }
+
+    /**
+     * Builds a store from the given prices.
+     *
+     * @param prices the prices to store
+     * @return the columnar store
+     * @throws IllegalArgumentException if a price cannot be represented (see {@link Builder#add})
+     */
+    public static ColumnarPriceStore of(Collection<Price> prices) {
+        Builder builder = builder(prices.size());
+        prices.forEach(builder::add);
+        return builder.build();
+    }
+
+    public static ColumnarPriceStore empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    /**
+     * Packs a product and brand into a single key.
+     *
+     * @return the packed key, or -1 if the identifiers are out of the representable range
+     */
+    static long packKey(long productId, int brandId) {
+        if (productId < 0 || productId > MAX_PRODUCT_ID || brandId < 0 || brandId > MAX_BRAND_ID) {
+            return -1;
+        }
+        return productId << BRAND_BITS | brandId;
+    }
+
+    /**
+     * Finds the row of the winning price: the applicable price with the highest priority,
+     * the earliest stored one on ties. Does not allocate.
+     *
+     * @param productId the product identifier
+     * @param brandId the brand identifier
+     * @param applicationDate the date to check for applicability
+     * @return the row number, or {@link #NOT_FOUND}
+     */
+    public int findTopApplicableRow(ProductId productId, BrandId brandId, LocalDateTime applicationDate) {
+        int keyIndex = keyIndexOf(productId, brandId);
+        if (keyIndex < 0) {
+            return NOT_FOUND;
+        }
+        int from = keyOffsets[keyIndex];
+        long floor = applicationDate.toEpochSecond(ZoneOffset.UTC);
+        long ceil = applicationDate.getNano() == 0 ? floor : floor + 1;
+
+        int best = NOT_FOUND;
+        for (int row = lastStartingOnOrBefore(from, keyOffsets[keyIndex + 1], floor);
+             row >= from && maxEndSeconds[row] >= ceil; row--) {
+            if (endSeconds[row] >= ceil && (best == NOT_FOUND || priorities[row] > priorities[best]
+                    || priorities[row] == priorities[best] && sequences[row] < sequences[best])) {
+                best = row;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Finds the effective segment containing the date without flattening the product's history:
+     * the winning row's validity is narrowed by the rows that beat it (a higher priority, or an
+     * equal one stored earlier) and overlap it, ending before the date or starting after it.
+     * Only the winning row is materialized, so the segment is the one {@code PriceTimeline} would
+     * resolve for the same rows.
+     *
+     * @param productId the product identifier
+     * @param brandId the brand identifier
+     * @param applicationDate the date to check for applicability
+     * @return the effective segment, or empty if no price applies on that date
+     */
+    public Optional<PriceSegment> findEffectiveSegment(ProductId productId, BrandId brandId, LocalDateTime applicationDate) {
+        int winner = findTopApplicableRow(productId, brandId, applicationDate);
+        if (winner == NOT_FOUND) {
+            return Optional.empty();
+        }
+        int keyIndex = keyIndexOfRow(winner);
+        long floor = applicationDate.toEpochSecond(ZoneOffset.UTC);
+
+        LocalDateTime start = toDate(startSeconds[winner]);
+        LocalDateTime end = toDate(endSeconds[winner]);
+        int last = lastStartingOnOrBefore(keyOffsets[keyIndex], keyOffsets[keyIndex + 1], endSeconds[winner]);
+        for (int row = keyOffsets[keyIndex]; row <= last; row++) {
+            boolean beatsWinner = priorities[row] > priorities[winner]
+                    || priorities[row] == priorities[winner] && sequences[row] < sequences[winner];
+            if (!beatsWinner || endSeconds[row] < startSeconds[winner]) {
+                continue;
+            }
+            // A row beating the winner cannot contain the date: it ends before it or starts after it
+            if (startSeconds[row] > floor) {
+                LocalDateTime endsBefore = toDate(startSeconds[row]).minusNanos(1);
+                end = endsBefore.isBefore(end) ? endsBefore : end;
+            } else {
+                LocalDateTime startsAfter = toDate(endSeconds[row]).plusNanos(1);
+                start = startsAfter.isAfter(start) ? startsAfter : start;
+            }
+        }
+        return Optional.of(PriceSegment.of(DateRange.of(start, end), priceAt(winner)));
+    }
+
+    /**
+     * Finds all prices of the given product and brand whose date range contains the date.
+     *
+     * @return list of matching prices, in ascending start date order
+     */
+    public List<Price> findApplicablePrices(ProductId productId, BrandId brandId, LocalDateTime applicationDate) {
+        int keyIndex = keyIndexOf(productId, brandId);
+        if (keyIndex < 0) {
+            return List.of();
+        }
+        int from = keyOffsets[keyIndex];
+        long floor = applicationDate.toEpochSecond(ZoneOffset.UTC);
+        long ceil = applicationDate.getNano() == 0 ? floor : floor + 1;
+
+        List<Price> result = new ArrayList<>(2);
+        for (int row = lastStartingOnOrBefore(from, keyOffsets[keyIndex + 1], floor);
+             row >= from && maxEndSeconds[row] >= ceil; row--) {
+            if (endSeconds[row] >= ceil) {
+                result.add(priceAt(row));
+            }
+        }
+        return result.size() > 1 ? result.reversed() : result;
+    }
+
+    /**
+     * Finds every price of the given product and brand.
+     *
+     * @return list of prices, in ascending start date order
+     */
+    public List<Price> findPrices(ProductId productId, BrandId brandId) {
+        int keyIndex = keyIndexOf(productId, brandId);
+        if (keyIndex < 0) {
+            return List.of();
+        }
+        List<Price> result = new ArrayList<>(keyOffsets[keyIndex + 1] - keyOffsets[keyIndex]);
+        for (int row = keyOffsets[keyIndex]; row < keyOffsets[keyIndex + 1]; row++) {
+            result.add(priceAt(row));
+        }
+        return result;
+    }
+
+    /**
+     * Materializes the price stored in the given row.
+     *
+     * @param row a row number returned by a lookup
+     * @return the domain price
+     */
+    public Price priceAt(int row) {
+        long key = distinctKeys[keyIndexOfRow(row)];
+        int currency = currencyOrdinals[row];
+        return Price.of(
+                ProductId.of(key >>> BRAND_BITS),
+                BrandId.of((int) (key & MAX_BRAND_ID)),
+                PriceList.of(priceLists[row]),
+                DateRange.of(toDate(startSeconds[row]), toDate(endSeconds[row])),
+                Priority.of(priorities[row]),
+                Money.of(BigDecimal.valueOf(amounts[row], currencyScales[currency]), currencies[currency])
+        );
+    }
+
+    /**
+     * @return number of stored prices
+     */
+    public int size() {
+        return startSeconds.length;
+    }
+
+    /**
+     * @return number of distinct (productId, brandId) keys
+     */
+    public int keyCount() {
+        return distinctKeys.length;
+    }
+
+    /**
+     * @return approximate heap footprint of the arrays, in bytes
+     */
+    public long estimatedBytes() {
+        long perRow = Long.BYTES * 4L + Integer.BYTES * 3L + Byte.BYTES;
+        long perKey = Long.BYTES + Integer.BYTES;
+        return perRow * size() + perKey * keyCount();
+    }
+
+    private int keyIndexOf(ProductId productId, BrandId brandId) {
+        long key = packKey(productId.getValue(), brandId.getValue());
+        return key < 0 ? -1 : Math.max(-1, Arrays.binarySearch(distinctKeys, key));
+    }
+
+    /**
+     * Key offsets are strictly increasing, so the key of a row is the last offset on or before it.
+     */
+    private int keyIndexOfRow(int row) {
+        int index = Arrays.binarySearch(keyOffsets, row);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    /**
+     * Binary search for the highest row in [from, to) whose start is on or before the given second.
+     *
+     * @return the row, or from - 1 when every row starts later
+     */
+    private int lastStartingOnOrBefore(int from, int to, long epochSecond) {
+        int low = from;
+        int high = to - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (startSeconds[mid] > epochSecond) {
+                high = mid - 1;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return high;
+    }
+
+    private static LocalDateTime toDate(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Accumulates rows in input order; {@link #build()} sorts them into the columnar layout.
+     * Input order is kept as the tie-breaker between equal priorities.
+     */
+    public static final class Builder {
+
+        private long[] keys;
+        private long[] startSeconds;
+        private long[] endSeconds;
+        private int[] priorities;
+        private int[] priceLists;
+        private BigDecimal[] amounts;
+        private byte[] currencyOrdinals;
+        private final List<Currency> currencies = new ArrayList<>();
+        private int size;
+
+        private Builder(int expectedSize) {
+            int capacity = Math.max(expectedSize, 16);
+            keys = new long[capacity];
+            startSeconds = new long[capacity];
+            endSeconds = new long[capacity];
+            priorities = new int[capacity];
+            priceLists = new int[capacity];
+            amounts = new BigDecimal[capacity];
+            currencyOrdinals = new byte[capacity];
+        }
+
+        /**
+         * Adds a price.
+         *
+         * @param price the price to add
+         * @return this builder
+         * @throws IllegalArgumentException if the identifiers do not fit the packed key, the dates
+         *                                  are not whole seconds or more than 127 currencies are used
+         */
+        public Builder add(Price price) {
+            long key = packKey(price.getProductId().getValue(), price.getBrandId().getValue());
+            if (key < 0) {
+                throw new IllegalArgumentException("Product ID or brand ID out of columnar range: "
+                        + price.getProductId() + "/" + price.getBrandId());
+            }
+            LocalDateTime startDate = price.getDateRange().getStartDate();
+            LocalDateTime endDate = price.getDateRange().getEndDate();
+            if (startDate.getNano() != 0 || endDate.getNano() != 0) {
+                throw new IllegalArgumentException("Columnar store requires whole-second dates: " + price.getDateRange());
+            }
+            if (size == keys.length) {
+                grow();
+            }
+            keys[size] = key;
+            startSeconds[size] = startDate.toEpochSecond(ZoneOffset.UTC);
+            endSeconds[size] = endDate.toEpochSecond(ZoneOffset.UTC);
+            priorities[size] = price.getPriority().getValue();
+            priceLists[size] = price.getPriceList().getValue();
+            amounts[size] = price.getPrice().getAmount();
+            currencyOrdinals[size] = currencyOrdinal(price.getPrice().getCurrency());
+            size++;
+            return this;
+        }
+
+        public ColumnarPriceStore build() {
+            int[] order = IntStream.range(0, size).boxed()
+                    .sorted(Comparator.<Integer>comparingLong(i -> keys[i]).thenComparingLong(i -> startSeconds[i]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+
+            int[] scales = currencyScales();
+            long[] distinctKeys = new long[size];
+            int[] keyOffsets = new int[size + 1];
+            int keyCount = 0;
+            long[] sortedStarts = new long[size];
+            long[] sortedEnds = new long[size];
+            long[] maxEnds = new long[size];
+            int[] sequences = new int[size];
+            int[] sortedPriorities = new int[size];
+            int[] sortedPriceLists = new int[size];
+            long[] minorAmounts = new long[size];
+            byte[] sortedCurrencies = new byte[size];
+
+            for (int row = 0; row < size; row++) {
+                int source = order[row];
+                boolean newKey = keyCount == 0 || distinctKeys[keyCount - 1] != keys[source];
+                if (newKey) {
+                    distinctKeys[keyCount] = keys[source];
+                    keyOffsets[keyCount++] = row;
+                }
+                sortedStarts[row] = startSeconds[source];
+                sortedEnds[row] = endSeconds[source];
+                maxEnds[row] = newKey ? endSeconds[source] : Math.max(maxEnds[row - 1], endSeconds[source]);
+                sequences[row] = source;
+                sortedPriorities[row] = priorities[source];
+                sortedPriceLists[row] = priceLists[source];
+                sortedCurrencies[row] = currencyOrdinals[source];
+                minorAmounts[row] = amounts[source].movePointRight(scales[currencyOrdinals[source]]).longValueExact();
+            }
+            keyOffsets[keyCount] = size;
+
+            return new ColumnarPriceStore(
+                    Arrays.copyOf(distinctKeys, keyCount), Arrays.copyOf(keyOffsets, keyCount + 1),
+                    sortedStarts, sortedEnds, maxEnds, sequences, sortedPriorities, sortedPriceLists,
+                    minorAmounts, sortedCurrencies, currencies.toArray(Currency[]::new), scales);
+        }
+
+        private byte currencyOrdinal(Currency currency) {
+            int ordinal = currencies.indexOf(currency);
+            if (ordinal < 0) {
+                if (currencies.size() > Byte.MAX_VALUE) {
+                    throw new IllegalArgumentException("Columnar store supports at most "
+                            + (Byte.MAX_VALUE + 1) + " currencies");
+                }
+                currencies.add(currency);
+                ordinal = currencies.size() - 1;
+            }
+            return (byte) ordinal;
+        }
+
+        /**
+         * Scale of the minor units of every currency: its default fraction digits, widened to the
+         * largest scale seen in the data so no amount loses precision.
+         */
+        private int[] currencyScales() {
+            int[] scales = new int[currencies.size()];
+            for (int i = 0; i < scales.length; i++) {
+                scales[i] = Math.max(0, currencies.get(i).getDefaultFractionDigits());
+            }
+            for (int i = 0; i < size; i++) {
+                scales[currencyOrdinals[i]] = Math.max(scales[currencyOrdinals[i]], amounts[i].scale());
+            }
+            return scales;
+        }
+
+        private void grow() {
+            int capacity = keys.length * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            startSeconds = Arrays.copyOf(startSeconds, capacity);
+            endSeconds = Arrays.copyOf(endSeconds, capacity);
+            priorities = Arrays.copyOf(priorities, capacity);
+            priceLists = Arrays.copyOf(priceLists, capacity);
+            amounts = Arrays.copyOf(amounts, capacity);
+            currencyOrdinals = Arrays.copyOf(currencyOrdinals, capacity);
+        }
+    }
+}
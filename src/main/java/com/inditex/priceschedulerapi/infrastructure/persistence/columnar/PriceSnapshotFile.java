@@ -0,0 +1,326 @@
+package com.inditex.priceschedulerapi.infrastructure.persistence.columnar;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Currency;
+import java.util.zip.CRC32;
+
+/**
+ * Binary snapshot of a {@link ColumnarPriceStore}, written column by column so that it can be
+ * restored with {@link FileChannel#map} and bulk copies instead of a database scan.
+ *
+ * Layout (little-endian):
+ * <pre>
+ * header (72 bytes)
+ *   0  int   magic "PRCS"
+ *   4  short format version
+ *   6  short header size
+ *   8  int   row count
+ *   12 int   key count
+ *   16 int   currency count
+ *   24 long  creation time (epoch millis)
+ *   32 long  payload length
+ *   40 long  payload CRC32
+ *   48 long  PRICES row count when the store was loaded
+ *   56 long  PRICES maximum ID when the store was loaded
+ *   64 long  CRC32 of header bytes 0..63
+ * payload, every section padded to 8 bytes
+ *   currencies   ISO code (3 ASCII bytes) + amount scale (1 byte) each
+ *   keys         long[keyCount], int[keyCount + 1] offsets
+ *   columns      start, end, running max end, amount as long[rowCount];
+ *                sequence, priority, price list as int[rowCount]; currency as byte[rowCount]
+ * </pre>
+ *
+ * The {@link TableFingerprint} of the PRICES table the store was loaded from is kept in the header,
+ * so that a snapshot of a table that has changed since is rejected before its payload is read.
+ *
+ * Files are written to a sibling temporary file and moved into place, so readers never see
+ * a partial snapshot. Every section is mapped separately, so a single column is limited to 2 GiB.
+ */
+public final class PriceSnapshotFile {
+
+    static final int MAGIC = 0x53435250;
+    static final short VERSION = 2;
+    static final int HEADER_SIZE = 72;
+
+    private static final int HEADER_CRC_OFFSET = 64;
+    private static final int CHUNK_SIZE = 1 << 20;
+
+    private PriceSnapshotFile() {
+    }
+
+    /**
+     * Writes the store to the given file, replacing it atomically.
+     *
+     * @param store the store to write
+     * @param table the fingerprint of the PRICES table the store was loaded from
+     * @param path the snapshot file
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(ColumnarPriceStore store, TableFingerprint table, Path path) throws IOException {
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            SectionWriter out = new SectionWriter(channel);
+            for (int i = 0; i < store.currencies.length; i++) {
+                out.putBytes(store.currencies[i].getCurrencyCode().getBytes(StandardCharsets.US_ASCII));
+                out.putBytes(new byte[]{(byte) store.currencyScales[i]});
+            }
+            out.endSection();
+            out.putLongs(store.distinctKeys);
+            out.putInts(store.keyOffsets);
+            out.putLongs(store.startSeconds);
+            out.putLongs(store.endSeconds);
+            out.putLongs(store.maxEndSeconds);
+            out.putLongs(store.amounts);
+            out.putInts(store.sequences);
+            out.putInts(store.priorities);
+            out.putInts(store.priceLists);
+            out.putBytes(store.currencyOrdinals);
+            out.endSection();
+            out.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN)
+                    .putInt(MAGIC)
+                    .putShort(VERSION)
+                    .putShort((short) HEADER_SIZE)
+                    .putInt(store.size())
+                    .putInt(store.keyCount())
+                    .putInt(store.currencies.length)
+                    .putInt(0)
+                    .putLong(System.currentTimeMillis())
+                    .putLong(out.length)
+                    .putLong(out.crc.getValue())
+                    .putLong(table.rowCount())
+                    .putLong(table.maxId());
+            header.putLong(HEADER_CRC_OFFSET, headerCrc(header));
+            header.clear();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Restores a store from the given snapshot file.
+     *
+     * @param path the snapshot file
+     * @param table the current fingerprint of the PRICES table
+     * @param verifyChecksum whether the CRC32 of the payload is checked
+     * @return the restored store
+     * @throws IOException if the file cannot be read, is not a snapshot of a supported version,
+     *                     was taken from a table with another fingerprint, is truncated or fails
+     *                     checksum validation
+     */
+    public static ColumnarPriceStore read(Path path, TableFingerprint table, boolean verifyChecksum) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Not a price snapshot: " + path);
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getInt(0) != MAGIC) {
+                throw new IOException("Not a price snapshot: " + path);
+            }
+            short version = header.getShort(4);
+            if (version != VERSION) {
+                throw new IOException("Unsupported price snapshot version " + version + ": " + path);
+            }
+            if (header.getLong(HEADER_CRC_OFFSET) != headerCrc(header)) {
+                throw new IOException("Corrupt price snapshot header: " + path);
+            }
+            TableFingerprint snapshotTable = new TableFingerprint(header.getLong(48), header.getLong(56));
+            if (!snapshotTable.equals(table)) {
+                throw new IOException("Stale price snapshot, taken from " + snapshotTable + " instead of " + table + ": " + path);
+            }
+            int rows = header.getInt(8);
+            int keys = header.getInt(12);
+            int currencyCount = header.getInt(16);
+            long payloadLength = header.getLong(32);
+            if (channel.size() != header.getShort(6) + payloadLength) {
+                throw new IOException("Truncated price snapshot: " + path);
+            }
+
+            SectionReader in = new SectionReader(channel, header.getShort(6), verifyChecksum);
+            Currency[] currencies = new Currency[currencyCount];
+            int[] currencyScales = new int[currencyCount];
+            ByteBuffer currencySection = in.next(currencyCount * 4L);
+            byte[] code = new byte[3];
+            for (int i = 0; i < currencyCount; i++) {
+                currencySection.get(code);
+                currencies[i] = currency(new String(code, StandardCharsets.US_ASCII), path);
+                currencyScales[i] = currencySection.get();
+            }
+            long[] distinctKeys = in.longs(keys);
+            int[] keyOffsets = in.ints(keys + 1);
+            long[] startSeconds = in.longs(rows);
+            long[] endSeconds = in.longs(rows);
+            long[] maxEndSeconds = in.longs(rows);
+            long[] amounts = in.longs(rows);
+            int[] sequences = in.ints(rows);
+            int[] priorities = in.ints(rows);
+            int[] priceLists = in.ints(rows);
+            byte[] currencyOrdinals = in.bytes(rows);
+
+            if (verifyChecksum && in.crc.getValue() != header.getLong(40)) {
+                throw new IOException("Price snapshot checksum mismatch: " + path);
+            }
+            if (keyOffsets[keys] != rows) {
+                throw new IOException("Inconsistent price snapshot key offsets: " + path);
+            }
+            return new ColumnarPriceStore(distinctKeys, keyOffsets, startSeconds, endSeconds, maxEndSeconds,
+                    sequences, priorities, priceLists, amounts, currencyOrdinals, currencies, currencyScales);
+        }
+    }
+
+    /**
+     * Cheap fingerprint of the PRICES table, compared with the one stored in a snapshot to detect
+     * rows inserted or deleted since it was written. Rows updated in place are not detected: a
+     * reload, which every import triggers, rewrites the snapshot.
+     *
+     * @param rowCount Number of rows
+     * @param maxId Highest ID, 0 when the table is empty
+     */
+    public record TableFingerprint(long rowCount, long maxId) {
+    }
+
+    private static long headerCrc(ByteBuffer header) {
+        CRC32 crc = new CRC32();
+        crc.update(header.duplicate().clear().limit(HEADER_CRC_OFFSET));
+        return crc.getValue();
+    }
+
+    private static Currency currency(String code, Path path) throws IOException {
+        try {
+            return Currency.getInstance(code);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Unknown currency " + code + " in price snapshot: " + path, e);
+        }
+    }
+
+    private static long padded(long length) {
+        return (length + 7) & ~7L;
+    }
+
+    /**
+     * Buffers the payload in fixed-size chunks, updating the running CRC32 as chunks are flushed.
+     */
+    private static final class SectionWriter {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private final CRC32 crc = new CRC32();
+        private long length;
+
+        SectionWriter(FileChannel channel) throws IOException {
+            this.channel = channel;
+            channel.position(HEADER_SIZE);
+        }
+
+        void putLongs(long[] values) throws IOException {
+            for (long value : values) {
+                ensureRemaining(Long.BYTES);
+                buffer.putLong(value);
+            }
+            endSection();
+        }
+
+        void putInts(int[] values) throws IOException {
+            for (int value : values) {
+                ensureRemaining(Integer.BYTES);
+                buffer.putInt(value);
+            }
+            endSection();
+        }
+
+        void putBytes(byte[] values) throws IOException {
+            for (byte value : values) {
+                ensureRemaining(Byte.BYTES);
+                buffer.put(value);
+            }
+        }
+
+        /**
+         * Pads the current section to 8 bytes.
+         */
+        void endSection() throws IOException {
+            while ((length + buffer.position()) % 8 != 0) {
+                ensureRemaining(Byte.BYTES);
+                buffer.put((byte) 0);
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            crc.update(buffer.duplicate());
+            length += buffer.remaining();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private void ensureRemaining(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+    }
+
+    /**
+     * Maps the payload one section at a time and bulk-copies it into arrays.
+     */
+    private static final class SectionReader {
+
+        private final FileChannel channel;
+        private final boolean verifyChecksum;
+        private final CRC32 crc = new CRC32();
+        private long position;
+
+        SectionReader(FileChannel channel, long position, boolean verifyChecksum) {
+            this.channel = channel;
+            this.position = position;
+            this.verifyChecksum = verifyChecksum;
+        }
+
+        ByteBuffer next(long length) throws IOException {
+            long sectionLength = padded(length);
+            if (position + sectionLength > channel.size()) {
+                throw new IOException("Truncated price snapshot section at offset " + position);
+            }
+            ByteBuffer section = channel.map(FileChannel.MapMode.READ_ONLY, position, sectionLength)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            if (verifyChecksum) {
+                crc.update(section.duplicate());
+            }
+            position += sectionLength;
+            return section.limit((int) length);
+        }
+
+        long[] longs(int count) throws IOException {
+            long[] values = new long[count];
+            next((long) count * Long.BYTES).asLongBuffer().get(values);
+            return values;
+        }
+
+        int[] ints(int count) throws IOException {
+            int[] values = new int[count];
+            next((long) count * Integer.BYTES).asIntBuffer().get(values);
+            return values;
+        }
+
+        byte[] bytes(int count) throws IOException {
+            byte[] values = new byte[count];
+            next(count).get(values);
+            return values;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.inditex.priceschedulerapi.infrastructure.persistence.columnar;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * Configuration of the binary price snapshot used by the columnar repository.
+ *
+ * @param path Snapshot file; when null the columnar store is always loaded from the database
+ * @param verifyChecksum Whether the CRC32 of the payload is checked while loading
+ * @param writeOnLoad Whether a snapshot is written after loading from the database
+ */
+@ConfigurationProperties(prefix = "price-scheduler.snapshot")
+public record PriceSnapshotProperties(
+        Path path,
+        @DefaultValue("true") boolean verifyChecksum,
+        @DefaultValue("true") boolean writeOnLoad
+) {
+}
@@ -0,0 +1,17 @@
+package com.inditex.priceschedulerapi.infrastructure.persistence.index;
+
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+
+/**
+ * The in-memory price index of a single brand, as published by {@link BrandShards}.
+ *
+ * @param brandId the brand of the shard
+ * @param snapshot the current snapshot of the shard, versioned independently of other brands
+ * @param estimatedBytes rough estimate of the heap held by the shard's index
+ */
+public record BrandShard(
+        BrandId brandId,
+        IndexSnapshot<?> snapshot,
+        long estimatedBytes
+) {
+}
@@ -0,0 +1,41 @@
+package com.inditex.priceschedulerapi.infrastructure.persistence.index;
+
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ReloadablePriceRepository whose in-memory index is partitioned by brand, so that every brand
+ * can be reloaded or evicted without touching the data of the others.
+ */
+public interface BrandShardedPriceRepository extends ReloadablePriceRepository {
+
+    /**
+     * @return the shard of every loaded brand
+     */
+    List<BrandShard> shards();
+
+    /**
+     * @param brandId the brand
+     * @return the shard of the brand, or empty if it is not loaded
+     */
+    Optional<BrandShard> shard(BrandId brandId);
+
+    /**
+     * Rebuilds the shard of a brand from the PRICES table and publishes it atomically.
+     *
+     * @param brandId the brand to reload
+     * @return the published shard
+     */
+    BrandShard reload(BrandId brandId);
+
+    /**
+     * Drops the shard of a brand. Lookups of the brand are answered from the database until it
+     * is reloaded.
+     *
+     * @param brandId the brand to evict
+     * @return the dropped shard, or empty if the brand was not loaded
+     */
+    Optional<BrandShard> evict(BrandId brandId);
+}
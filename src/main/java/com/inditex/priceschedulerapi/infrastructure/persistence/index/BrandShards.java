@@ -0,0 +1,269 @@
+package com.inditex.priceschedulerapi.infrastructure.persistence.index;
+
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * In-memory price index partitioned by brand, every brand being a shard with its own
+ * {@link IndexSnapshotHolder}.
+ *
+ * Shards are built, swapped in and dropped independently: a rebuild or eviction only serializes,
+ * through a lock per brand, with rebuilds and evictions of the same brand, so they take effect in
+ * the order they run. Lookups of other brands keep reading their own snapshots meanwhile.
+ * Lookups never lock, they read the shard map once and then the snapshot of their brand.
+ *
+ * A brand can be in one of three states. A loaded brand is answered by its shard. An evicted brand
+ * has no shard on purpose and {@link #index} returns null, so that callers answer it some other way.
+ * Any other brand had no prices when the data was loaded and is answered by the empty index.
+ *
+ * Once bound to a registry, the size and estimated heap footprint of every shard are published as
+ * Micrometer gauges tagged by brand. Gauges of an evicted brand read 0. Every shard also gets a
+ * lookup timer, fed by {@link #time}; as meters only exist for brands that have had a shard, the
+ * number of meters is bounded by the data rather than by the brand ids of requests.
+ *
+ * @param <T> the index type
+ */
+public final class BrandShards<T> implements MeterBinder {
+
+    public static final String PRICES = "price.index.shard.prices";
+    public static final String BYTES = "price.index.shard.bytes";
+    public static final String LOOKUP = "price.index.shard.lookup";
+
+    private static final Duration MINIMUM_EXPECTED_LOOKUP = Duration.ofNanos(1_000);
+    private static final Duration MAXIMUM_EXPECTED_LOOKUP = Duration.ofSeconds(1);
+
+    private final T empty;
+    private final ToIntFunction<T> priceCount;
+    private final ToIntFunction<T> keyCount;
+    private final ToLongFunction<T> estimatedBytes;
+    private final Map<BrandId, IndexSnapshotHolder<T>> shards = new ConcurrentHashMap<>();
+    private final Set<BrandId> evicted = ConcurrentHashMap.newKeySet();
+    private final Set<BrandId> metered = ConcurrentHashMap.newKeySet();
+    private final Map<BrandId, Timer> lookupTimers = new ConcurrentHashMap<>();
+    private final Map<BrandId, ReentrantLock> locks = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final Instant createdAt = Instant.now();
+    private volatile MeterRegistry registry;
+
+    /**
+     * @param empty the index of brands without prices
+     * @param priceCount number of prices of an index
+     * @param keyCount number of product/brand keys of an index
+     * @param estimatedBytes estimated heap footprint of an index
+     */
+    public BrandShards(T empty, ToIntFunction<T> priceCount, ToIntFunction<T> keyCount,
+                       ToLongFunction<T> estimatedBytes) {
+        this.empty = empty;
+        this.priceCount = priceCount;
+        this.keyCount = keyCount;
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    /**
+     * @param brandId the brand of the lookup
+     * @return the current index of the brand, the empty index if the brand has no prices,
+     *         or null if the brand has been evicted
+     */
+    public T index(BrandId brandId) {
+        IndexSnapshotHolder<T> shard = shards.get(brandId);
+        if (shard != null) {
+            return shard.index();
+        }
+        return evicted.contains(brandId) ? null : empty;
+    }
+
+    /**
+     * Times a lookup of a brand on the lookup timer of its shard. Brands that never had a shard,
+     * or lookups before the shards are bound to a registry, are not timed.
+     *
+     * @param brandId the brand of the lookup
+     * @param lookup the lookup
+     * @param <R> the lookup result type
+     * @return the result of the lookup
+     */
+    public <R> R time(BrandId brandId, Supplier<R> lookup) {
+        Timer timer = lookupTimers.get(brandId);
+        return timer == null ? lookup.get() : timer.record(lookup);
+    }
+
+    /**
+     * Builds the shard of a brand while lookups keep using its current one, then swaps it in.
+     * Loads the brand again if it had been evicted.
+     *
+     * @param brandId the brand to rebuild
+     * @param builder builds the complete new index of the brand
+     * @return the published shard
+     */
+    public BrandShard rebuild(BrandId brandId, Supplier<T> builder) {
+        return locked(brandId, () -> {
+            IndexSnapshotHolder<T> shard = shards.get(brandId);
+            if (shard == null) {
+                // Built before being added, so that lookups never see a brand half loaded
+                shard = new IndexSnapshotHolder<>(empty, priceCount, keyCount);
+            }
+            IndexSnapshot<T> snapshot = shard.rebuild(builder);
+            shards.put(brandId, shard);
+            evicted.remove(brandId);
+            version.incrementAndGet();
+            register(brandId);
+            return describe(brandId, snapshot);
+        });
+    }
+
+    /**
+     * Rebuilds every brand from the given sources, one shard at a time, and drops the shards of
+     * brands that are no longer present. Evicted brands are loaded again.
+     *
+     * @param sources the source data of every brand
+     * @param builder builds the index of a brand from its source data
+     * @param <S> the source data type
+     * @return the aggregated snapshot of all shards
+     */
+    public <S> IndexSnapshot<Map<BrandId, T>> rebuildAll(Map<BrandId, S> sources, Function<S, T> builder) {
+        sources.forEach((brandId, source) -> rebuild(brandId, () -> builder.apply(source)));
+        for (BrandId brandId : shards.keySet()) {
+            if (!sources.containsKey(brandId)) {
+                locked(brandId, () -> drop(brandId));
+            }
+        }
+        evicted.clear();
+        return snapshot();
+    }
+
+    /**
+     * Drops the shard of a brand to release its memory. Lookups of the brand get a null index
+     * until it is rebuilt.
+     *
+     * @param brandId the brand to evict
+     * @return the dropped shard, or empty if the brand was not loaded
+     */
+    public Optional<BrandShard> evict(BrandId brandId) {
+        return locked(brandId, () -> {
+            evicted.add(brandId);
+            return drop(brandId);
+        });
+    }
+
+    /**
+     * Removes the shard of a brand. Called with the lock of the brand held.
+     */
+    private Optional<BrandShard> drop(BrandId brandId) {
+        IndexSnapshotHolder<T> shard = shards.remove(brandId);
+        if (shard == null) {
+            return Optional.empty();
+        }
+        version.incrementAndGet();
+        return Optional.of(describe(brandId, shard.snapshot()));
+    }
+
+    private <R> R locked(BrandId brandId, Supplier<R> action) {
+        ReentrantLock lock = locks.computeIfAbsent(brandId, id -> new ReentrantLock());
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param brandId the brand
+     * @return the current shard of the brand, or empty if it is not loaded
+     */
+    public Optional<BrandShard> shard(BrandId brandId) {
+        IndexSnapshotHolder<T> shard = shards.get(brandId);
+        return shard == null ? Optional.empty() : Optional.of(describe(brandId, shard.snapshot()));
+    }
+
+    /**
+     * @return the current shard of every loaded brand, by ascending brand
+     */
+    public List<BrandShard> shards() {
+        return shards.entrySet().stream()
+                .map(entry -> describe(entry.getKey(), entry.getValue().snapshot()))
+                .sorted(Comparator.comparing(shard -> shard.brandId().getValue()))
+                .toList();
+    }
+
+    /**
+     * Aggregates the current shards into one snapshot. The version increases with every shard
+     * published or dropped, the build duration is the sum of the shard builds.
+     *
+     * @return the aggregated snapshot, indexed by brand
+     */
+    public IndexSnapshot<Map<BrandId, T>> snapshot() {
+        long currentVersion = version.get();
+        Map<BrandId, T> indexes = new HashMap<>();
+        Instant builtAt = createdAt;
+        Duration buildDuration = Duration.ZERO;
+        int prices = 0;
+        int keys = 0;
+        for (Map.Entry<BrandId, IndexSnapshotHolder<T>> entry : shards.entrySet()) {
+            IndexSnapshot<T> shard = entry.getValue().snapshot();
+            indexes.put(entry.getKey(), shard.index());
+            builtAt = shard.builtAt().isAfter(builtAt) ? shard.builtAt() : builtAt;
+            buildDuration = buildDuration.plus(shard.buildDuration());
+            prices += shard.priceCount();
+            keys += shard.keyCount();
+        }
+        return new IndexSnapshot<>(Map.copyOf(indexes), currentVersion, builtAt, buildDuration, prices, keys);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+        shards.keySet().forEach(this::register);
+    }
+
+    private void register(BrandId brandId) {
+        MeterRegistry meterRegistry = registry;
+        if (meterRegistry == null || !metered.add(brandId)) {
+            return;
+        }
+        Gauge.builder(PRICES, this, shards -> shards.measure(brandId, priceCount::applyAsInt))
+                .tags("brand", brandId.toString())
+                .description("Number of prices in the in-memory index of the brand")
+                .register(meterRegistry);
+        Gauge.builder(BYTES, this, shards -> shards.measure(brandId, estimatedBytes::applyAsLong))
+                .tags("brand", brandId.toString())
+                .baseUnit("bytes")
+                .description("Estimated heap size of the in-memory index of the brand")
+                .register(meterRegistry);
+        lookupTimers.put(brandId, Timer.builder(LOOKUP)
+                .tags("brand", brandId.toString())
+                .description("Time spent answering a lookup of the brand, from its shard or from the database once evicted")
+                .publishPercentileHistogram()
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .minimumExpectedValue(MINIMUM_EXPECTED_LOOKUP)
+                .maximumExpectedValue(MAXIMUM_EXPECTED_LOOKUP)
+                .register(meterRegistry));
+    }
+
+    private double measure(BrandId brandId, ToLongFunction<T> metric) {
+        IndexSnapshotHolder<T> shard = shards.get(brandId);
+        return shard == null ? 0 : metric.applyAsLong(shard.index());
+    }
+
+    private BrandShard describe(BrandId brandId, IndexSnapshot<T> snapshot) {
+        return new BrandShard(brandId, snapshot, estimatedBytes.applyAsLong(snapshot.index()));
+    }
+}
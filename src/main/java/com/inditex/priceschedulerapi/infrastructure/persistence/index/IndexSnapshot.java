@@ -0,0 +1,26 @@
+package com.inditex.priceschedulerapi.infrastructure.persistence.index;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * An immutable, fully built in-memory price index together with the metadata of its build.
+ * Published by an {@link IndexSnapshotHolder}; version 0 is the empty index a repository starts with.
+ *
+ * @param index the index itself, never modified once published
+ * @param version monotonically increasing number of the build
+ * @param builtAt when the build finished
+ * @param buildDuration how long the build took
+ * @param priceCount number of indexed prices
+ * @param keyCount number of distinct product/brand keys
+ * @param <T> the index type
+ */
+public record IndexSnapshot<T>(
+        T index,
+        long version,
+        Instant builtAt,
+        Duration buildDuration,
+        int priceCount,
+        int keyCount
+) {
+}
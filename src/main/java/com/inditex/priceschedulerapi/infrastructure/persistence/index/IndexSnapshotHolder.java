@@ -0,0 +1,83 @@
+package com.inditex.priceschedulerapi.infrastructure.persistence.index;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Copy-on-write holder of the current {@link IndexSnapshot} of an in-memory price index.
+ *
+ * A rebuild constructs a complete new index off to the side while readers keep using the
+ * published one, then publishes it with a single atomic reference swap. Readers never lock:
+ * they read the reference once per lookup and work on that snapshot until the lookup ends.
+ * A replaced snapshot is no longer reachable from the holder, so it is reclaimed by the
+ * garbage collector as soon as the last in-flight lookup using it returns.
+ *
+ * Rebuilds are serialized, so versions are published in order and concurrent reload triggers
+ * never build the same data twice in parallel.
+ *
+ * @param <T> the index type
+ */
+public final class IndexSnapshotHolder<T> {
+
+    private final AtomicReference<IndexSnapshot<T>> current;
+    private final ToIntFunction<T> priceCount;
+    private final ToIntFunction<T> keyCount;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    /**
+     * @param empty the index published until the first rebuild, as version 0
+     * @param priceCount number of prices of an index
+     * @param keyCount number of product/brand keys of an index
+     */
+    public IndexSnapshotHolder(T empty, ToIntFunction<T> priceCount, ToIntFunction<T> keyCount) {
+        this.priceCount = priceCount;
+        this.keyCount = keyCount;
+        this.current = new AtomicReference<>(new IndexSnapshot<>(
+                empty, 0, Instant.now(), Duration.ZERO, priceCount.applyAsInt(empty), keyCount.applyAsInt(empty)));
+    }
+
+    /**
+     * @return the index of the current snapshot; callers should read it once per lookup
+     */
+    public T index() {
+        return current.get().index();
+    }
+
+    /**
+     * @return the current snapshot with its version and build metadata
+     */
+    public IndexSnapshot<T> snapshot() {
+        return current.get();
+    }
+
+    /**
+     * Builds a new index and publishes it as the next version. If the builder fails, the current
+     * snapshot stays published and the exception is propagated.
+     *
+     * @param builder builds the complete new index
+     * @return the published snapshot
+     */
+    public IndexSnapshot<T> rebuild(Supplier<T> builder) {
+        rebuildLock.lock();
+        try {
+            long start = System.nanoTime();
+            T index = builder.get();
+            IndexSnapshot<T> next = new IndexSnapshot<>(
+                    index,
+                    current.get().version() + 1,
+                    Instant.now(),
+                    Duration.ofNanos(System.nanoTime() - start),
+                    priceCount.applyAsInt(index),
+                    keyCount.applyAsInt(index)
+            );
+            current.set(next);
+            return next;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.inditex.priceschedulerapi.infrastructure.persistence.index;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.Access;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Actuator endpoint exposing the in-memory price index snapshot ({@code /actuator/priceindex}).
+ * A read reports the current snapshot; a write (POST) rebuilds it from the PRICES table.
+ * Both answer 404 in {@code jpa} mode, which has no in-memory index.
+ *
+ * When the index is sharded by brand, {@code /actuator/priceindex/{brandId}} reports (GET),
+ * rebuilds (POST) or evicts (DELETE) the shard of a single brand. They answer without a body when the
+ * brand has no shard, the brand ID is not valid or the index is not sharded.
+ *
+ * The application has no authentication, so the endpoint is read-only by default: the rebuild and
+ * evict operations are only exposed with {@code management.endpoint.priceindex.access=unrestricted}.
+ */
+@Component
+@Endpoint(id = "priceindex", defaultAccess = Access.READ_ONLY)
+@RequiredArgsConstructor
+public class PriceIndexEndpoint {
+
+    private final ObjectProvider<ReloadablePriceRepository> reloadablePriceRepository;
+    private final PriceIndexReloader priceIndexReloader;
+
+    @ReadOperation
+    public PriceIndexDescriptor priceIndex() {
+        ReloadablePriceRepository repository = reloadablePriceRepository.getIfAvailable();
+        if (repository instanceof BrandShardedPriceRepository sharded) {
+            return PriceIndexDescriptor.of(sharded.indexSnapshot(), sharded.shards());
+        }
+        return repository == null ? null : PriceIndexDescriptor.of(repository.indexSnapshot());
+    }
+
+    @WriteOperation
+    public PriceIndexDescriptor reload() {
+        return priceIndexReloader.reload().map(PriceIndexDescriptor::of).orElse(null);
+    }
+
+    @ReadOperation
+    public BrandShardDescriptor shard(@Selector int brandId) {
+        if (brandId <= 0 || !(reloadablePriceRepository.getIfAvailable() instanceof BrandShardedPriceRepository repository)) {
+            return null;
+        }
+        return repository.shard(BrandId.of(brandId)).map(BrandShardDescriptor::of).orElse(null);
+    }
+
+    @WriteOperation
+    public BrandShardDescriptor reloadShard(@Selector int brandId) {
+        if (brandId <= 0) {
+            return null;
+        }
+        return priceIndexReloader.reload(BrandId.of(brandId)).map(BrandShardDescriptor::of).orElse(null);
+    }
+
+    @DeleteOperation
+    public BrandShardDescriptor evictShard(@Selector int brandId) {
+        if (brandId <= 0) {
+            return null;
+        }
+        return priceIndexReloader.evict(BrandId.of(brandId)).map(BrandShardDescriptor::of).orElse(null);
+    }
+
+    /**
+     * Description of an index snapshot.
+     *
+     * @param version Version of the snapshot, 0 before the first build
+     * @param builtAt When the build finished
+     * @param buildDurationMillis How long the build took
+     * @param prices Number of indexed prices
+     * @param keys Number of distinct product/brand keys
+     * @param shards Shards of the loaded brands, when the index is sharded by brand
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record PriceIndexDescriptor(long version, Instant builtAt, long buildDurationMillis, int prices, int keys,
+                                       List<BrandShardDescriptor> shards) {
+
+        static PriceIndexDescriptor of(IndexSnapshot<?> snapshot) {
+            return new PriceIndexDescriptor(snapshot.version(), snapshot.builtAt(),
+                    snapshot.buildDuration().toMillis(), snapshot.priceCount(), snapshot.keyCount(), null);
+        }
+
+        static PriceIndexDescriptor of(IndexSnapshot<?> snapshot, List<BrandShard> shards) {
+            return new PriceIndexDescriptor(snapshot.version(), snapshot.builtAt(),
+                    snapshot.buildDuration().toMillis(), snapshot.priceCount(), snapshot.keyCount(),
+                    shards.stream().map(BrandShardDescriptor::of).toList());
+        }
+    }
+
+    /**
+     * Description of the index shard of a brand.
+     *
+     * @param brandId Brand of the shard
+     * @param version Version of the shard, counted per brand
+     * @param builtAt When the build finished
+     * @param buildDurationMillis How long the build took
+     * @param prices Number of indexed prices
+     * @param keys Number of distinct product/brand keys
+     * @param estimatedBytes Rough estimate of the heap held by the shard
+     */
+    public record BrandShardDescriptor(int brandId, long version, Instant builtAt, long buildDurationMillis,
+                                       int prices, int keys, long estimatedBytes) {
+
+        static BrandShardDescriptor of(BrandShard shard) {
+            IndexSnapshot<?> snapshot = shard.snapshot();
+            return new BrandShardDescriptor(shard.brandId().getValue(), snapshot.version(), snapshot.builtAt(),
+                    snapshot.buildDuration().toMillis(), snapshot.priceCount(), snapshot.keyCount(),
+                    shard.estimatedBytes());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.inditex.priceschedulerapi.infrastructure.persistence.index;
+
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+
+/**
+ * Published after a new in-memory price index has been swapped in, or the index of a brand has been
+ * dropped, so that anything derived from the previous index can be dropped.
+ *
+ * @param version Version of the published index snapshot
+ * @param brandId The only brand whose index changed, or null when every brand was reloaded
+ */
+public record PriceIndexReloadedEvent(long version, BrandId brandId) {
+
+    /**
+     * Event of a reload of every brand.
+     *
+     * @param version Version of the published index snapshot
+     */
+    public PriceIndexReloadedEvent(long version) {
+        this(version, null);
+    }
+}
@@ -0,0 +1,102 @@
+package com.inditex.priceschedulerapi.infrastructure.persistence.index;
+
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Rebuilds the in-memory price index of the active repository, if it has one, and announces
+ * the new snapshot with a {@link PriceIndexReloadedEvent}. Does nothing in {@code jpa} mode.
+ * Brand operations need a {@link BrandShardedPriceRepository} and do nothing without one.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PriceIndexReloader {
+
+    private final ObjectProvider<ReloadablePriceRepository> reloadablePriceRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * @return the published snapshot, or empty if the active repository has no in-memory index
+     */
+    public Optional<IndexSnapshot<?>> reload() {
+        ReloadablePriceRepository repository = reloadablePriceRepository.getIfAvailable();
+        if (repository == null) {
+            return Optional.empty();
+        }
+
+        IndexSnapshot<?> snapshot = repository.reload();
+        log.info("Price index snapshot {} published: {} prices, {} product/brand keys built in {} ms",
+                snapshot.version(), snapshot.priceCount(), snapshot.keyCount(), snapshot.buildDuration().toMillis());
+        eventPublisher.publishEvent(new PriceIndexReloadedEvent(snapshot.version()));
+        return Optional.of(snapshot);
+    }
+
+    /**
+     * Rebuilds the index of a single brand.
+     *
+     * @param brandId the brand to reload
+     * @return the published shard, or empty if the active repository is not sharded by brand
+     */
+    public Optional<BrandShard> reload(BrandId brandId) {
+        if (!(reloadablePriceRepository.getIfAvailable() instanceof BrandShardedPriceRepository repository)) {
+            return Optional.empty();
+        }
+
+        BrandShard shard = repository.reload(brandId);
+        log.info("Price index shard of brand {} published as version {}: {} prices, {} product/brand keys, ~{} KiB built in {} ms",
+                brandId, shard.snapshot().version(), shard.snapshot().priceCount(), shard.snapshot().keyCount(),
+                shard.estimatedBytes() / 1024, shard.snapshot().buildDuration().toMillis());
+        eventPublisher.publishEvent(new PriceIndexReloadedEvent(repository.indexSnapshot().version(), brandId));
+        return Optional.of(shard);
+    }
+
+    /**
+     * Rebuilds the indexes of the given brands one at a time, or the whole index if the active
+     * repository is not sharded by brand. A brand whose rebuild fails is logged and keeps its
+     * previous shard; the other brands are still rebuilt.
+     *
+     * @param brandIds the brands whose data changed
+     */
+    public void reload(Collection<BrandId> brandIds) {
+        if (!(reloadablePriceRepository.getIfAvailable() instanceof BrandShardedPriceRepository)) {
+            reload();
+            return;
+        }
+
+        for (BrandId brandId : brandIds) {
+            try {
+                reload(brandId);
+            } catch (RuntimeException e) {
+                log.error("Price index reload of brand {} failed, keeping its previous shard", brandId, e);
+            }
+        }
+    }
+
+    /**
+     * Drops the index of a brand, whose lookups are then answered from the database.
+     *
+     * @param brandId the brand to evict
+     * @return the dropped shard, or empty if the brand was not loaded or the active repository is
+     *         not sharded by brand
+     */
+    public Optional<BrandShard> evict(BrandId brandId) {
+        if (!(reloadablePriceRepository.getIfAvailable() instanceof BrandShardedPriceRepository repository)) {
+            return Optional.empty();
+        }
+
+        Optional<BrandShard> evicted = repository.evict(brandId);
+        evicted.ifPresent(shard -> {
+            log.info("Price index shard of brand {} evicted, releasing ~{} KiB", brandId, shard.estimatedBytes() / 1024);
+            eventPublisher.publishEvent(new PriceIndexReloadedEvent(repository.indexSnapshot().version(), brandId));
+        });
+        return evicted;
+    }
+}
@@ -0,0 +1,22 @@
+package com.inditex.priceschedulerapi.infrastructure.persistence.index;
+
+import com.inditex.priceschedulerapi.domain.repository.PriceRepository;
+
+/**
+ * PriceRepository answering lookups from an in-memory index that can be rebuilt from the
+ * PRICES table at runtime without pausing readers.
+ */
+public interface ReloadablePriceRepository extends PriceRepository {
+
+    /**
+     * @return the snapshot currently used to answer lookups
+     */
+    IndexSnapshot<?> indexSnapshot();
+
+    /**
+     * Rebuilds the index from the PRICES table and publishes it atomically.
+     *
+     * @return the published snapshot
+     */
+    IndexSnapshot<?> reload();
+}
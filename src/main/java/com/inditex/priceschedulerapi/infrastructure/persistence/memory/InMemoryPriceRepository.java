@@ -0,0 +1,174 @@
+package com.inditex.priceschedulerapi.infrastructure.persistence.memory;
+
+import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.model.PriceSegment;
+import com.inditex.priceschedulerapi.domain.model.PriceTimeline;
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import com.inditex.priceschedulerapi.domain.valueobject.PriceKey;
+import com.inditex.priceschedulerapi.domain.valueobject.ProductId;
+import com.inditex.priceschedulerapi.infrastructure.persistence.index.BrandShard;
+import com.inditex.priceschedulerapi.infrastructure.persistence.index.BrandShardedPriceRepository;
+import com.inditex.priceschedulerapi.infrastructure.persistence.index.BrandShards;
+import com.inditex.priceschedulerapi.infrastructure.persistence.index.IndexSnapshot;
+import com.inditex.priceschedulerapi.infrastructure.persistence.mapper.PriceEntityMapper;
+import com.inditex.priceschedulerapi.infrastructure.persistence.repository.JpaPriceRepositoryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory implementation of the domain PriceRepository interface.
+ * Loads the PRICES table once at startup into one {@link PriceIntervalIndex} per brand and answers
+ * lookups with a binary search instead of a per-request SQL query. Effective price timelines
+ * are flattened while loading, so {@link #findTimeline} never resolves priorities at read time.
+ *
+ * The brand indexes are {@link BrandShards}: every brand can be rebuilt with {@link #reload(BrandId)}
+ * or dropped with {@link #evict} while lookups of the other brands continue untouched. Lookups of an
+ * evicted brand are answered from the database until the brand is reloaded.
+ * The size and estimated heap footprint of every brand are published as Micrometer gauges, and the
+ * lookups of every brand are timed on the lookup timer of its shard.
+ *
+ * Enabled with {@code price-scheduler.repository.mode=in-memory}.
+ */
+@Component
+@ConditionalOnProperty(name = "price-scheduler.repository.mode", havingValue = "in-memory")
+@DependsOnDatabaseInitialization
+@RequiredArgsConstructor
+@Slf4j
+public class InMemoryPriceRepository implements BrandShardedPriceRepository, MeterBinder {
+
+    private final JpaPriceRepositoryAdapter jpaRepository;
+    private final PriceEntityMapper mapper;
+
+    private final BrandShards<PriceIntervalIndex> shards = new BrandShards<>(
+            PriceIntervalIndex.empty(), PriceIntervalIndex::size, PriceIntervalIndex::keyCount,
+            PriceIntervalIndex::estimatedBytes);
+
+    /**
+     * Builds the brand indexes from the current content of the PRICES table.
+     */
+    @PostConstruct
+    public void load() {
+        IndexSnapshot<Map<BrandId, PriceIntervalIndex>> snapshot = reload();
+        log.info("In-memory price index loaded: {} prices, {} product/brand keys in {} brand shards built in {} ms",
+                snapshot.priceCount(), snapshot.keyCount(), snapshot.index().size(),
+                snapshot.buildDuration().toMillis());
+    }
+
+    /**
+     * Rebuilds every brand index from a single scan of the PRICES table. Brands are swapped in one
+     * at a time while lookups keep using the current indexes, and brands no longer in the table are
+     * dropped. Evicted brands are loaded again.
+     */
+    @Override
+    public IndexSnapshot<Map<BrandId, PriceIntervalIndex>> reload() {
+        Map<BrandId, List<Price>> pricesByBrand = jpaRepository.findAll().stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.groupingBy(Price::getBrandId));
+        return shards.rebuildAll(pricesByBrand, PriceIntervalIndex::of);
+    }
+
+    /**
+     * Builds a new index of a brand from its rows of the PRICES table while lookups keep using the
+     * current one, then swaps it in atomically. Other brands are not affected.
+     */
+    @Override
+    public BrandShard reload(BrandId brandId) {
+        return shards.rebuild(brandId, () -> PriceIntervalIndex.of(jpaRepository.findByBrandId(brandId.getValue()).stream()
+                .map(mapper::toDomain)
+                .toList()));
+    }
+
+    @Override
+    public Optional<BrandShard> evict(BrandId brandId) {
+        return shards.evict(brandId);
+    }
+
+    @Override
+    public IndexSnapshot<Map<BrandId, PriceIntervalIndex>> indexSnapshot() {
+        return shards.snapshot();
+    }
+
+    @Override
+    public List<BrandShard> shards() {
+        return shards.shards();
+    }
+
+    @Override
+    public Optional<BrandShard> shard(BrandId brandId) {
+        return shards.shard(brandId);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        shards.bindTo(registry);
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(ProductId productId, BrandId brandId, LocalDateTime applicationDate) {
+        return shards.time(brandId, () -> {
+            PriceIntervalIndex index = shards.index(brandId);
+            if (index == null) {
+                return jpaRepository.findByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
+                                productId.getValue(), brandId.getValue(), applicationDate, applicationDate).stream()
+                        .map(mapper::toDomain)
+                        .toList();
+            }
+            return index.findApplicablePrices(PriceKey.of(productId, brandId), applicationDate);
+        });
+    }
+
+    /**
+     * Answers from the flattened timeline: a binary search for the segment containing the date,
+     * with no priority comparison at read time.
+     */
+    @Override
+    public Optional<Price> findTopApplicablePrice(ProductId productId, BrandId brandId, LocalDateTime applicationDate) {
+        return shards.time(brandId, () -> {
+            PriceIntervalIndex index = shards.index(brandId);
+            if (index == null) {
+                return jpaRepository.findFirstByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDescIdAsc(
+                                productId.getValue(), brandId.getValue(), applicationDate, applicationDate)
+                        .map(mapper::toDomain);
+            }
+            return index.findTimeline(PriceKey.of(productId, brandId)).segmentAt(applicationDate)
+                    .map(PriceSegment::getPrice);
+        });
+    }
+
+    @Override
+    public List<Price> findPrices(ProductId productId, BrandId brandId) {
+        return shards.time(brandId, () -> {
+            PriceIntervalIndex index = shards.index(brandId);
+            return index == null ? findStoredPrices(productId, brandId) : index.findPrices(PriceKey.of(productId, brandId));
+        });
+    }
+
+    @Override
+    public PriceTimeline findTimeline(ProductId productId, BrandId brandId) {
+        return shards.time(brandId, () -> {
+            PriceIntervalIndex index = shards.index(brandId);
+            if (index == null) {
+                return PriceTimeline.of(productId, brandId, findStoredPrices(productId, brandId));
+            }
+            return index.findTimeline(PriceKey.of(productId, brandId));
+        });
+    }
+
+    private List<Price> findStoredPrices(ProductId productId, BrandId brandId) {
+        return jpaRepository.findByProductIdAndBrandId(productId.getValue(), brandId.getValue()).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+}
@@ -0,0 +1,212 @@
+package com.inditex.priceschedulerapi.infrastructure.persistence.memory;
+
+import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.model.PriceTimeline;
+import com.inditex.priceschedulerapi.domain.valueobject.PriceKey;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable in-memory interval index of prices grouped by product and brand.
+ *
+ * For every (productId, brandId) the prices are kept sorted by start date together with
+ * the running maximum of their end dates. A lookup binary-searches the last price starting
+ * on or before the application date and walks backwards only while that running maximum
+ * still reaches the date, so non-overlapping history is never visited.
+ *
+ * The effective {@link PriceTimeline} of every key is flattened once while the index is built,
+ * so resolving the winning price never compares priorities at read time.
+ */
+public final class PriceIntervalIndex {
+
+    private static final PriceIntervalIndex EMPTY = new PriceIntervalIndex(Map.of(), 0, 0);
+
+    /**
+     * Rough heap footprint of the indexed objects: a price with its value objects and dates, a
+     * flattened timeline segment, and the map entry, key and arrays of a product/brand key.
+     */
+    private static final long PRICE_BYTES = 320 + 3 * 4;
+    private static final long SEGMENT_BYTES = 160;
+    private static final long KEY_BYTES = 192;
+
+    private final Map<PriceKey, Intervals> intervalsByKey;
+    private final int size;
+    private final int segmentCount;
+
+    private PriceIntervalIndex(Map<PriceKey, Intervals> intervalsByKey, int size, int segmentCount) {
+        this.intervalsByKey = intervalsByKey;
+        this.size = size;
+        this.segmentCount = segmentCount;
+    }
+
+    /**
+     * Builds an index from the given prices.
+     *
+     * @param prices the prices to index
+     * @return the interval index
+     */
+    public static PriceIntervalIndex of(Collection<Price> prices) {
+        if (prices.isEmpty()) {
+            return EMPTY;
+        }
+
+        Map<PriceKey, List<Price>> pricesByKey = prices.stream()
+                .collect(Collectors.groupingBy(price -> PriceKey.of(price.getProductId(), price.getBrandId())));
+
+        Map<PriceKey, Intervals> intervalsByKey = new HashMap<>(pricesByKey.size() * 2);
+        pricesByKey.forEach((key, keyPrices) -> intervalsByKey.put(key, Intervals.of(key, keyPrices)));
+
+        int segmentCount = 0;
+        for (Intervals intervals : intervalsByKey.values()) {
+            segmentCount += intervals.timeline.getSegments().size();
+        }
+        return new PriceIntervalIndex(intervalsByKey, prices.size(), segmentCount);
+    }
+
+    public static PriceIntervalIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Finds all prices of the given key whose date range contains the application date.
+     *
+     * @param key the product and brand key
+     * @param applicationDate the date to check for applicability
+     * @return list of matching prices, in ascending start date order
+     */
+    public List<Price> findApplicablePrices(PriceKey key, LocalDateTime applicationDate) {
+        Intervals intervals = intervalsByKey.get(key);
+        if (intervals == null) {
+            return List.of();
+        }
+        return intervals.findContaining(applicationDate);
+    }
+
+    /**
+     * Finds every price of the given key.
+     *
+     * @param key the product and brand key
+     * @return list of prices, in ascending start date order
+     */
+    public List<Price> findPrices(PriceKey key) {
+        Intervals intervals = intervalsByKey.get(key);
+        if (intervals == null) {
+            return List.of();
+        }
+        return List.of(intervals.prices);
+    }
+
+    /**
+     * Finds the effective price timeline of the given key, flattened when the index was built.
+     *
+     * @param key the product and brand key
+     * @return the timeline, empty if the key is unknown
+     */
+    public PriceTimeline findTimeline(PriceKey key) {
+        Intervals intervals = intervalsByKey.get(key);
+        if (intervals == null) {
+            return PriceTimeline.empty(key.getProductId(), key.getBrandId());
+        }
+        return intervals.timeline;
+    }
+
+    /**
+     * @return number of indexed prices
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return number of distinct (productId, brandId) keys
+     */
+    public int keyCount() {
+        return intervalsByKey.size();
+    }
+
+    /**
+     * @return rough estimate of the heap held by the index, in bytes
+     */
+    public long estimatedBytes() {
+        return PRICE_BYTES * size + SEGMENT_BYTES * segmentCount + KEY_BYTES * keyCount();
+    }
+
+    /**
+     * Prices of a single key sorted by start date, with the prefix maximum of end dates
+     * and the flattened effective timeline.
+     */
+    private static final class Intervals {
+
+        private final Price[] prices;
+        private final LocalDateTime[] startDates;
+        private final LocalDateTime[] maxEndDates;
+        private final PriceTimeline timeline;
+
+        private Intervals(Price[] prices, LocalDateTime[] startDates, LocalDateTime[] maxEndDates,
+                          PriceTimeline timeline) {
+            this.prices = prices;
+            this.startDates = startDates;
+            this.maxEndDates = maxEndDates;
+            this.timeline = timeline;
+        }
+
+        static Intervals of(PriceKey key, List<Price> keyPrices) {
+            Price[] prices = keyPrices.stream()
+                    .sorted(Comparator.comparing(price -> price.getDateRange().getStartDate()))
+                    .toArray(Price[]::new);
+
+            LocalDateTime[] startDates = new LocalDateTime[prices.length];
+            LocalDateTime[] maxEndDates = new LocalDateTime[prices.length];
+            LocalDateTime maxEndDate = null;
+            for (int i = 0; i < prices.length; i++) {
+                LocalDateTime endDate = prices[i].getDateRange().getEndDate();
+                maxEndDate = maxEndDate == null || endDate.isAfter(maxEndDate) ? endDate : maxEndDate;
+                startDates[i] = prices[i].getDateRange().getStartDate();
+                maxEndDates[i] = maxEndDate;
+            }
+            PriceTimeline timeline = PriceTimeline.of(key.getProductId(), key.getBrandId(), keyPrices);
+            return new Intervals(prices, startDates, maxEndDates, timeline);
+        }
+
+        List<Price> findContaining(LocalDateTime applicationDate) {
+            int last = lastStartingOnOrBefore(applicationDate);
+            if (last < 0) {
+                return List.of();
+            }
+
+            List<Price> result = new ArrayList<>(2);
+            for (int i = last; i >= 0 && !maxEndDates[i].isBefore(applicationDate); i--) {
+                if (!prices[i].getDateRange().getEndDate().isBefore(applicationDate)) {
+                    result.add(prices[i]);
+                }
+            }
+            return result.size() > 1 ? result.reversed() : result;
+        }
+
+        /**
+         * Binary search for the highest index whose start date is on or before the given date.
+         *
+         * @return the index, or -1 when every price starts after the date
+         */
+        private int lastStartingOnOrBefore(LocalDateTime date) {
+            int low = 0;
+            int high = startDates.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (startDates[mid].isAfter(date)) {
+                    high = mid - 1;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return high;
+        }
+    }
+}
@@ -1,18 +1,27 @@
 package com.inditex.priceschedulerapi.infrastructure.persistence.repository;
 
+import com.inditex.priceschedulerapi.domain.valueobject.PriceKey;
+import com.inditex.priceschedulerapi.domain.valueobject.PriceLookup;
 import com.inditex.priceschedulerapi.infrastructure.persistence.entity.PriceEntity;
+import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Spring Data JPA repository for PriceEntity.
- * Provides basic CRUD operations and derived queries.
+ * Provides basic CRUD operations, derived queries and criteria queries.
  */
 @Repository
-public interface JpaPriceRepositoryAdapter extends JpaRepository<PriceEntity, Long> {
+public interface JpaPriceRepositoryAdapter extends JpaRepository<PriceEntity, Long>, JpaSpecificationExecutor<PriceEntity> {
 
     /**
      * Finds all prices for a given product and brand where the application date
@@ -37,4 +46,130 @@ public interface JpaPriceRepositoryAdapter extends JpaRepository<PriceEntity, Lo
             LocalDateTime startDate,
             LocalDateTime endDate
     );
+
+    /**
+     * Finds only the highest priority price for a given product and brand where the application
+     * date falls within the start and end date range. Ties go to the lowest ID.
+     *
+     * Derived query that Spring Data JPA translates to:
+     * SELECT * FROM PRICES
+     * WHERE PRODUCT_ID = ?
+     * AND BRAND_ID = ?
+     * AND START_DATE <= ?
+     * AND END_DATE >= ?
+     * ORDER BY PRIORITY DESC, ID ASC
+     * FETCH FIRST 1 ROWS ONLY
+     *
+     * Answered from the covering index IDX_PRICES_TOP, which stops at the first applicable row.
+     *
+     * @param productId the product identifier
+     * @param brandId the brand identifier
+     * @param startDate the application date (compared with startDate)
+     * @param endDate the application date (compared with endDate)
+     * @return the winning price entity, or empty if none applies
+     */
+    Optional<PriceEntity> findFirstByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDescIdAsc(
+            Long productId,
+            Integer brandId,
+            LocalDateTime startDate,
+            LocalDateTime endDate
+    );
+
+    /**
+     * Finds the price with the highest ID, answered from the primary key index.
+     *
+     * @return the last inserted price entity, or empty if the table is empty
+     */
+    Optional<PriceEntity> findFirstByOrderByIdDesc();
+
+    /**
+     * Finds the prices of a given product and brand with at least the given priority whose date
+     * range overlaps the [from, to] window, in ID order. Used to bound the effective segment of the
+     * winning price: only prices active within its range and not outranked by it can end the segment.
+     *
+     * Derived query that Spring Data JPA translates to:
+     * SELECT * FROM PRICES
+     * WHERE PRODUCT_ID = ?
+     * AND BRAND_ID = ?
+     * AND PRIORITY >= ?
+     * AND START_DATE <= ?
+     * AND END_DATE >= ?
+     * ORDER BY ID ASC
+     *
+     * Answered from the index IDX_PRICES_TOP, which is ordered by priority within a product and brand.
+     *
+     * @param productId the product identifier
+     * @param brandId the brand identifier
+     * @param priority the lowest priority to return
+     * @param to the end of the window (compared with startDate)
+     * @param from the start of the window (compared with endDate)
+     * @return list of matching price entities, in ID order
+     */
+    List<PriceEntity> findByProductIdAndBrandIdAndPriorityGreaterThanEqualAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByIdAsc(
+            Long productId,
+            Integer brandId,
+            Integer priority,
+            LocalDateTime to,
+            LocalDateTime from
+    );
+
+    /**
+     * Finds all prices for a given product and brand, whatever their date range.
+     *
+     * Derived query that Spring Data JPA translates to:
+     * SELECT * FROM PRICES
+     * WHERE PRODUCT_ID = ?
+     * AND BRAND_ID = ?
+     *
+     * @param productId the product identifier
+     * @param brandId the brand identifier
+     * @return list of price entities
+     */
+    List<PriceEntity> findByProductIdAndBrandId(Long productId, Integer brandId);
+
+    /**
+     * Finds all prices of a brand. Used to rebuild the in-memory index of a single brand.
+     *
+     * Derived query that Spring Data JPA translates to:
+     * SELECT * FROM PRICES
+     * WHERE BRAND_ID = ?
+     *
+     * @param brandId the brand identifier
+     * @return list of price entities
+     */
+    List<PriceEntity> findByBrandId(Integer brandId);
+
+    /**
+     * Finds the prices applicable to any of the given lookups with a single query. The lookups are
+     * grouped by product and brand, so each pair is matched once, against the application dates
+     * requested for it only:
+     *
+     * SELECT * FROM PRICES
+     * WHERE (PRODUCT_ID = ? AND BRAND_ID = ?
+     *        AND (START_DATE <= ? AND END_DATE >= ? OR START_DATE <= ? AND END_DATE >= ? ...))
+     * OR (PRODUCT_ID = ? AND BRAND_ID = ? AND (...))
+     * ...
+     *
+     * Every returned row applies to at least one lookup; a row applying to several lookups is
+     * returned once, so callers still match the rows to the lookups they answer.
+     *
+     * @param lookups the lookups to resolve, not empty
+     * @return the price entities applicable to at least one lookup
+     */
+    default List<PriceEntity> findApplicableToAny(Collection<PriceLookup> lookups) {
+        Map<PriceKey, Set<LocalDateTime>> datesByKey = lookups.stream()
+                .collect(Collectors.groupingBy(PriceLookup::getKey,
+                        Collectors.mapping(PriceLookup::getApplicationDate, Collectors.toSet())));
+
+        return findAll((root, query, builder) -> builder.or(datesByKey.entrySet().stream()
+                .map(entry -> builder.and(
+                        builder.equal(root.get("productId"), entry.getKey().getProductId().getValue()),
+                        builder.equal(root.get("brandId"), entry.getKey().getBrandId().getValue()),
+                        builder.or(entry.getValue().stream()
+                                .map(date -> builder.and(
+                                        builder.lessThanOrEqualTo(root.get("startDate"), date),
+                                        builder.greaterThanOrEqualTo(root.get("endDate"), date)))
+                                .toArray(Predicate[]::new))))
+                .toArray(Predicate[]::new)));
+    }
 }
@@ -1,15 +1,28 @@
 package com.inditex.priceschedulerapi.infrastructure.persistence.repository;
 
 import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.model.PriceSegment;
+import com.inditex.priceschedulerapi.domain.model.PriceTimeline;
 import com.inditex.priceschedulerapi.domain.repository.PriceRepository;
 import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import com.inditex.priceschedulerapi.domain.valueobject.PriceKey;
+import com.inditex.priceschedulerapi.domain.valueobject.PriceLookup;
 import com.inditex.priceschedulerapi.domain.valueobject.ProductId;
+import com.inditex.priceschedulerapi.infrastructure.metrics.PriceLookupMetrics;
+import com.inditex.priceschedulerapi.infrastructure.metrics.PriceLookupMetrics.Layer;
+import com.inditex.priceschedulerapi.infrastructure.persistence.entity.PriceEntity;
 import com.inditex.priceschedulerapi.infrastructure.persistence.mapper.PriceEntityMapper;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -17,24 +30,133 @@ import java.util.stream.Collectors;
  * This class is part of the infrastructure layer and adapts Spring Data JPA
  * to the domain repository contract.
  * Follows the Adapter pattern and Dependency Inversion Principle.
+ *
+ * Default implementation, active unless {@code price-scheduler.repository.mode} selects another one.
  */
 @Component
+@ConditionalOnProperty(name = "price-scheduler.repository.mode", havingValue = "jpa", matchIfMissing = true)
 @RequiredArgsConstructor
 public class PriceRepositoryImpl implements PriceRepository {
 
     private final JpaPriceRepositoryAdapter jpaRepository;
     private final PriceEntityMapper mapper;
+    private final PriceLookupMetrics metrics;
 
     @Override
     public List<Price> findApplicablePrices(ProductId productId, BrandId brandId, LocalDateTime applicationDate) {
-        return jpaRepository.findByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
-                productId.getValue(),
-                brandId.getValue(),
-                applicationDate,
-                applicationDate
-            )
+        return metrics.timer(Layer.REPOSITORY, brandId.getValue()).record(() -> {
+            List<PriceEntity> entities = jpaRepository.findByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
+                    productId.getValue(),
+                    brandId.getValue(),
+                    applicationDate,
+                    applicationDate
+                );
+            metrics.recordCandidates(brandId.getValue(), entities.size());
+
+            Timer mapperTimer = metrics.timer(Layer.MAPPER, brandId.getValue());
+            return entities.stream()
+                .map(entity -> mapperTimer.record(() -> mapper.toDomain(entity)))
+                .collect(Collectors.toList());
+        });
+    }
+
+    /**
+     * Lets the database select the winner: only the highest priority row is transferred and mapped.
+     */
+    @Override
+    public Optional<Price> findTopApplicablePrice(ProductId productId, BrandId brandId, LocalDateTime applicationDate) {
+        return metrics.timer(Layer.REPOSITORY, brandId.getValue()).record(() -> {
+            Optional<PriceEntity> entity = jpaRepository.findFirstByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDescIdAsc(
+                    productId.getValue(),
+                    brandId.getValue(),
+                    applicationDate,
+                    applicationDate
+                );
+            metrics.recordCandidates(brandId.getValue(), entity.isPresent() ? 1 : 0);
+
+            Timer mapperTimer = metrics.timer(Layer.MAPPER, brandId.getValue());
+            return entity.map(found -> mapperTimer.record(() -> mapper.toDomain(found)));
+        });
+    }
+
+    /**
+     * Resolves the effective segment with two indexed queries instead of the product's whole price
+     * history: the winning row at the date, as in {@link #findTopApplicablePrice}, then the rows
+     * that can bound its segment, i.e. those overlapping the winner's date range with at least its
+     * priority. Lower-priority rows never win while the winner applies, so the timeline of these
+     * rows resolves the date to the same segment as the full timeline.
+     */
+    @Override
+    public Optional<PriceSegment> findEffectiveSegment(ProductId productId, BrandId brandId, LocalDateTime applicationDate) {
+        return metrics.timer(Layer.REPOSITORY, brandId.getValue()).record(() -> {
+            Optional<PriceEntity> winner = jpaRepository.findFirstByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDescIdAsc(
+                    productId.getValue(),
+                    brandId.getValue(),
+                    applicationDate,
+                    applicationDate
+                );
+            if (winner.isEmpty()) {
+                metrics.recordCandidates(brandId.getValue(), 0);
+                return Optional.empty();
+            }
+
+            List<PriceEntity> entities = jpaRepository.findByProductIdAndBrandIdAndPriorityGreaterThanEqualAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByIdAsc(
+                    productId.getValue(),
+                    brandId.getValue(),
+                    winner.get().getPriority(),
+                    winner.get().getEndDate(),
+                    winner.get().getStartDate()
+                );
+            metrics.recordCandidates(brandId.getValue(), entities.size());
+
+            Timer mapperTimer = metrics.timer(Layer.MAPPER, brandId.getValue());
+            List<Price> prices = entities.stream()
+                .map(entity -> mapperTimer.record(() -> mapper.toDomain(entity)))
+                .collect(Collectors.toList());
+            return PriceTimeline.of(productId, brandId, prices).segmentAt(applicationDate);
+        });
+    }
+
+    /**
+     * Resolves the whole batch with one query that only fetches the rows applicable to some
+     * lookup (see {@link JpaPriceRepositoryAdapter#findApplicableToAny}); each row is mapped
+     * once and then matched to every lookup of its product and brand.
+     */
+    @Override
+    public Map<PriceLookup, List<Price>> findApplicablePrices(Collection<PriceLookup> lookups) {
+        if (lookups.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<PriceKey, List<Price>> candidatesByKey = jpaRepository.findApplicableToAny(lookups)
             .stream()
             .map(mapper::toDomain)
-            .collect(Collectors.toList());
+            .collect(Collectors.groupingBy(price -> PriceKey.of(price.getProductId(), price.getBrandId())));
+
+        Map<PriceLookup, List<Price>> pricesByLookup = new HashMap<>();
+        for (PriceLookup lookup : lookups) {
+            pricesByLookup.put(lookup, candidatesByKey.getOrDefault(lookup.getKey(), List.of())
+                .stream()
+                .filter(price -> price.isApplicableOn(lookup.getApplicationDate()))
+                .collect(Collectors.toList()));
+        }
+        return pricesByLookup;
+    }
+
+    /**
+     * Loads the whole price history of the product, from which the lookups of the selection
+     * service build its timeline, so it is timed and counted like a single lookup.
+     */
+    @Override
+    public List<Price> findPrices(ProductId productId, BrandId brandId) {
+        return metrics.timer(Layer.REPOSITORY, brandId.getValue()).record(() -> {
+            List<PriceEntity> entities = jpaRepository.findByProductIdAndBrandId(productId.getValue(), brandId.getValue());
+            metrics.recordCandidates(brandId.getValue(), entities.size());
+
+            Timer mapperTimer = metrics.timer(Layer.MAPPER, brandId.getValue());
+            return entities.stream()
+                .map(entity -> mapperTimer.record(() -> mapper.toDomain(entity)))
+                .collect(Collectors.toList());
+        });
     }
 }
@@ -0,0 +1,18 @@
+package com.inditex.priceschedulerapi.infrastructure.schedule;
+
+import com.inditex.priceschedulerapi.application.dto.PriceQueryResponse;
+import com.inditex.priceschedulerapi.domain.valueobject.PriceKey;
+
+import java.time.LocalDateTime;
+
+/**
+ * A change of the current price of a product and brand.
+ *
+ * @param key the product and brand
+ * @param price the price current from now on, or null if no price applies anymore
+ * @param effectiveFrom the start of the validity window of the new price, or of the period without
+ *                      price that follows the previous one; the time of the refresh when the key left
+ *                      the PRICES table
+ */
+public record CurrentPriceChange(PriceKey key, PriceQueryResponse price, LocalDateTime effectiveFrom) {
+}
@@ -0,0 +1,28 @@
+package com.inditex.priceschedulerapi.infrastructure.schedule;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.time.ZoneId;
+
+/**
+ * Configuration of the maintained current prices behind {@code GET /api/v1/prices/current}.
+ *
+ * @param enabled Whether the current price of every product and brand is kept in memory and switched
+ *                at each price boundary; when false the endpoint resolves the current time per request.
+ *                When unset, only the in-memory and columnar repository modes keep them
+ *                (see {@link OnCurrentPricesCondition})
+ * @param zone Time zone of the price dates, used to tell which price is current
+ * @param tick Resolution of the boundary scheduler; boundaries on whole multiples of the tick are
+ *             applied when they are reached
+ * @param wheelSize Number of slots of every level of the timing wheel
+ */
+@ConfigurationProperties(prefix = "price-scheduler.current-prices")
+public record CurrentPriceProperties(
+        Boolean enabled,
+        @DefaultValue("UTC") ZoneId zone,
+        @DefaultValue("1s") Duration tick,
+        @DefaultValue("64") int wheelSize
+) {
+}
@@ -0,0 +1,308 @@
+package com.inditex.priceschedulerapi.infrastructure.schedule;
+
+import com.inditex.priceschedulerapi.application.dto.PriceQueryResponse;
+import com.inditex.priceschedulerapi.application.mapper.PriceMapper;
+import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.model.PriceSegment;
+import com.inditex.priceschedulerapi.domain.model.PriceTimeline;
+import com.inditex.priceschedulerapi.domain.repository.PriceRepository;
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import com.inditex.priceschedulerapi.domain.valueobject.PriceKey;
+import com.inditex.priceschedulerapi.domain.valueobject.ProductId;
+import com.inditex.priceschedulerapi.infrastructure.persistence.entity.PriceEntity;
+import com.inditex.priceschedulerapi.infrastructure.persistence.mapper.PriceEntityMapper;
+import com.inditex.priceschedulerapi.infrastructure.persistence.repository.JpaPriceRepositoryAdapter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Materialized view of the current price of every product and brand.
+ *
+ * The view keeps, per (productId, brandId), the response of the price effective now together
+ * with the window in which it stays effective, and schedules the end of that window on a
+ * {@link HierarchicalTimingWheel}. When a boundary of the PRICES table is reached (a price starting,
+ * or ending one nanosecond after its END_DATE) the timer fires and the next effective price of
+ * the key is swapped in, so a lookup is a map access and two comparisons with no date parsing or
+ * range search. Keys with neither a current nor a future price are not kept.
+ *
+ * Each key has at most one live timer, for its next boundary; timers left behind by a refresh
+ * are recognised by their deadline and ignored. A lookup made between a boundary and the tick
+ * applying it sees that its window has ended and resolves the key again, so answers are exact
+ * whatever the resolution of the scheduler.
+ *
+ * The view is built from a single scan of the PRICES table and refreshed per brand after imports.
+ * Boundaries are resolved through the {@link PriceRepository}, so they cost a binary search on the
+ * flattened timeline in the {@code in-memory} and {@code columnar} modes.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class CurrentPriceView implements MeterBinder {
+
+    private static final long NEVER = Long.MAX_VALUE;
+
+    private final JpaPriceRepositoryAdapter jpaRepository;
+    private final PriceEntityMapper entityMapper;
+    private final PriceRepository priceRepository;
+    private final PriceMapper priceMapper;
+    private final Clock clock;
+    private final ZoneId zone;
+    private final HierarchicalTimingWheel<Boundary> boundaries;
+    private final Map<PriceKey, Current> prices = new ConcurrentHashMap<>();
+    private final List<Consumer<CurrentPriceChange>> listeners = new CopyOnWriteArrayList<>();
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Builds the view and starts applying boundaries on a daemon thread, once per tick of the wheel,
+     * aligned to whole multiples of the tick.
+     */
+    @PostConstruct
+    public void start() {
+        long startedAt = System.nanoTime();
+        int keys = load();
+        log.info("Current prices loaded: {} product/brand keys, {} scheduled boundaries in {} ms",
+                keys, boundaries.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+
+        long tick = boundaries.tickMillis();
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("price-boundaries").daemon().factory());
+        scheduler.scheduleAtFixedRate(this::tick, tick - Math.floorMod(clock.millis(), tick), tick, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Rebuilds the view from a single scan of the PRICES table.
+     *
+     * @return number of keys with a current or future price
+     */
+    public int load() {
+        return replace(jpaRepository.findAll(), key -> true);
+    }
+
+    /**
+     * Rebuilds the keys of a brand from its rows of the PRICES table. Other brands are not affected.
+     *
+     * @param brandId the brand to refresh
+     * @return number of keys of the brand with a current or future price
+     */
+    public int reload(BrandId brandId) {
+        return replace(jpaRepository.findByBrandId(brandId.getValue()), key -> key.getBrandId().equals(brandId));
+    }
+
+    /**
+     * @return the current date and time in the zone of the price dates
+     */
+    public LocalDateTime now() {
+        return LocalDateTime.ofInstant(clock.instant(), zone);
+    }
+
+    /**
+     * Finds the price effective at the given instant, normally {@link #now()}.
+     *
+     * @param productId the product identifier
+     * @param brandId the brand identifier
+     * @param now the current date and time
+     * @return the current price, with the window in which it stays effective, or empty if none applies
+     */
+    public Optional<PriceQueryResponse> find(ProductId productId, BrandId brandId, LocalDateTime now) {
+        PriceKey key = PriceKey.of(productId, brandId);
+        Current current = prices.get(key);
+        if (current == null) {
+            return Optional.empty();
+        }
+        if (!current.covers(now)) {
+            current = update(key, priceRepository.findTimeline(productId, brandId), now);
+        }
+        return current == null ? Optional.empty() : Optional.ofNullable(current.price());
+    }
+
+    /**
+     * Registers a listener called each time the current price of a key changes: at a boundary, after
+     * a refresh, or when a lookup resolves a key whose boundary has not been applied yet. Listeners
+     * run on the thread applying the change, so they must not block.
+     *
+     * @param listener the listener
+     */
+    public void addListener(Consumer<CurrentPriceChange> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * @return number of keys with a current or future price
+     */
+    public int size() {
+        return prices.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("price.current.keys", prices, Map::size)
+                .description("Number of product/brand keys with a current or future price")
+                .register(registry);
+        Gauge.builder("price.current.boundaries", boundaries, HierarchicalTimingWheel::size)
+                .description("Number of price boundaries waiting on the timing wheel")
+                .register(registry);
+    }
+
+    /**
+     * Applies the boundaries reached since the previous tick. A failed boundary leaves its key with
+     * an ended window, which the next lookup of the key resolves again.
+     */
+    void tick() {
+        long millis = clock.millis();
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), zone);
+        for (Boundary boundary : boundaries.advance(millis)) {
+            try {
+                Current current = prices.get(boundary.key());
+                if (current != null && current.changesAt() == boundary.deadlineMillis()) {
+                    PriceKey key = boundary.key();
+                    update(key, priceRepository.findTimeline(key.getProductId(), key.getBrandId()), now);
+                }
+            } catch (RuntimeException e) {
+                log.error("Could not apply the price boundary of {}", boundary.key(), e);
+            }
+        }
+    }
+
+    private int replace(List<PriceEntity> rows, Predicate<PriceKey> scope) {
+        Map<PriceKey, List<Price>> pricesByKey = rows.stream()
+                .map(entityMapper::toDomain)
+                .collect(Collectors.groupingBy(price -> PriceKey.of(price.getProductId(), price.getBrandId())));
+
+        LocalDateTime now = now();
+        int kept = 0;
+        for (Map.Entry<PriceKey, List<Price>> entry : pricesByKey.entrySet()) {
+            PriceKey key = entry.getKey();
+            if (update(key, PriceTimeline.of(key.getProductId(), key.getBrandId(), entry.getValue()), now) != null) {
+                kept++;
+            }
+        }
+        for (PriceKey key : prices.keySet()) {
+            if (scope.test(key) && !pricesByKey.containsKey(key)) {
+                notifyIfChanged(key, prices.remove(key), null, now);
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * Resolves the key at the given instant, stores the result, schedules its next boundary unless
+     * the previous entry already has a timer for it, and notifies the listeners if the current
+     * price changed.
+     *
+     * @return the stored entry, or null when the key has neither a current nor a future price
+     */
+    private Current update(PriceKey key, PriceTimeline timeline, LocalDateTime now) {
+        Current current = resolve(timeline, now);
+        boolean kept = current.price() != null || current.changesAt() != NEVER;
+        Current previous = kept ? prices.put(key, current) : prices.remove(key);
+        if (current.changesAt() != NEVER && (previous == null || previous.changesAt() != current.changesAt())) {
+            boundaries.schedule(current.changesAt(), new Boundary(key, current.changesAt()));
+        }
+        notifyIfChanged(key, previous, current.price(), current.from().equals(LocalDateTime.MIN) ? now : current.from());
+        return kept ? current : null;
+    }
+
+    private void notifyIfChanged(PriceKey key, Current previous, PriceQueryResponse price, LocalDateTime effectiveFrom) {
+        if (listeners.isEmpty() || Objects.equals(previous == null ? null : previous.price(), price)) {
+            return;
+        }
+        CurrentPriceChange change = new CurrentPriceChange(key, price, effectiveFrom);
+        for (Consumer<CurrentPriceChange> listener : listeners) {
+            try {
+                listener.accept(change);
+            } catch (RuntimeException e) {
+                log.warn("Current price listener failed on {}", key, e);
+            }
+        }
+    }
+
+    /**
+     * Finds the segment containing the instant or, between segments, the gap up to the next one.
+     * After the last segment the gap never ends.
+     */
+    private Current resolve(PriceTimeline timeline, LocalDateTime now) {
+        List<PriceSegment> segments = timeline.getSegments();
+        int index = timeline.indexOfSegmentAt(now);
+        if (index >= 0) {
+            PriceSegment segment = segments.get(index);
+            LocalDateTime until = segment.getValidity().getEndDate();
+            return new Current(priceMapper.toResponse(segment), segment.getValidity().getStartDate(), until,
+                    changesAfter(until));
+        }
+
+        int next = indexOfFirstSegmentStartingAfter(segments, now);
+        LocalDateTime from = next == 0 ? LocalDateTime.MIN : segments.get(next - 1).getValidity().getEndDate().plusNanos(1);
+        LocalDateTime until = next == segments.size() ? LocalDateTime.MAX : segments.get(next).getValidity().getStartDate().minusNanos(1);
+        return new Current(null, from, until, changesAfter(until));
+    }
+
+    private static int indexOfFirstSegmentStartingAfter(List<PriceSegment> segments, LocalDateTime date) {
+        int low = 0;
+        int high = segments.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (segments.get(mid).getValidity().getStartDate().isAfter(date)) {
+                high = mid - 1;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Epoch millisecond of the boundary following an inclusive window, rounded up so that the
+     * timer never fires before the window has ended.
+     */
+    private long changesAfter(LocalDateTime until) {
+        if (until.equals(LocalDateTime.MAX)) {
+            return NEVER;
+        }
+        Instant boundary = until.plusNanos(1).atZone(zone).toInstant();
+        return boundary.toEpochMilli() + (boundary.getNano() % 1_000_000 == 0 ? 0 : 1);
+    }
+
+    /**
+     * A scheduled boundary of a key. Stale when the key has been refreshed with another deadline since.
+     */
+    public record Boundary(PriceKey key, long deadlineMillis) {
+    }
+
+    /**
+     * The price of a key (null between prices) and the inclusive window in which it stays current.
+     */
+    private record Current(PriceQueryResponse price, LocalDateTime from, LocalDateTime until, long changesAt) {
+
+        boolean covers(LocalDateTime date) {
+            return !date.isBefore(from) && !date.isAfter(until);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.inditex.priceschedulerapi.infrastructure.schedule;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel of items due at an epoch-millisecond deadline.
+ *
+ * Level 0 has one slot per tick; every slot of level {@code n + 1} spans a whole rotation of
+ * level {@code n}. A timer is placed in the lowest level whose rotation still reaches its
+ * deadline, and is moved one level down each time the clock enters the slot holding it, so
+ * scheduling and firing cost O(1) per timer and level whatever the number of pending timers.
+ * Deadlines beyond the rotation of the top level wait there and are placed again on every pass.
+ *
+ * Within a tick, timers are released in deadline order as soon as the clock reaches their
+ * deadline, so an item fires at its exact millisecond when {@link #advance} is called then.
+ * Timers cannot be cancelled: callers recognise stale items when they fire.
+ *
+ * Thread-safe: every operation is synchronized, as timers are added by refreshes while the
+ * scheduler thread advances the wheel.
+ *
+ * @param <T> the type of the scheduled items
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long[] slotSpans;
+    private final List<List<Timer<T>>[]> levels;
+    private final List<Timer<T>> current = new ArrayList<>();
+    private long currentTime;
+    private int size;
+
+    /**
+     * @param tickMillis duration of a level-0 slot, in milliseconds
+     * @param wheelSize number of slots of every level
+     * @param levelCount number of levels
+     * @param startMillis epoch millisecond the wheel starts at
+     */
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levelCount, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive");
+        }
+        if (wheelSize < 2) {
+            throw new IllegalArgumentException("Wheel size must be at least 2");
+        }
+        if (levelCount < 1) {
+            throw new IllegalArgumentException("Level count must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.slotSpans = new long[levelCount];
+        this.levels = new ArrayList<>(levelCount);
+        long span = tickMillis;
+        for (int level = 0; level < levelCount; level++) {
+            slotSpans[level] = span;
+            levels.add(newSlots(wheelSize));
+            span = Math.multiplyExact(span, wheelSize);
+        }
+        this.currentTime = Math.floorDiv(startMillis, tickMillis) * tickMillis;
+    }
+
+    /**
+     * Schedules an item. Deadlines already reached are released by the next {@link #advance}.
+     *
+     * @param deadlineMillis epoch millisecond the item is due at
+     * @param item the item
+     */
+    public synchronized void schedule(long deadlineMillis, T item) {
+        place(new Timer<>(deadlineMillis, item));
+        size++;
+    }
+
+    /**
+     * Moves the wheel forward to the given instant.
+     *
+     * @param nowMillis current epoch millisecond
+     * @return the items whose deadline is on or before {@code nowMillis}, in deadline order
+     */
+    public synchronized List<T> advance(long nowMillis) {
+        if (size == current.size() && currentTime + tickMillis <= nowMillis) {
+            currentTime = Math.floorDiv(nowMillis, tickMillis) * tickMillis;
+        }
+        while (currentTime + tickMillis <= nowMillis) {
+            currentTime += tickMillis;
+            for (int level = slotSpans.length - 1; level >= 0; level--) {
+                if (currentTime % slotSpans[level] == 0) {
+                    cascade(level);
+                }
+            }
+        }
+        if (current.isEmpty()) {
+            return List.of();
+        }
+
+        current.sort((left, right) -> Long.compare(left.deadline(), right.deadline()));
+        List<T> due = new ArrayList<>();
+        for (Iterator<Timer<T>> timers = current.iterator(); timers.hasNext(); ) {
+            Timer<T> timer = timers.next();
+            if (timer.deadline() > nowMillis) {
+                break;
+            }
+            due.add(timer.item());
+            timers.remove();
+        }
+        size -= due.size();
+        return due;
+    }
+
+    /**
+     * @return number of scheduled items not released yet
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return duration of a level-0 slot, in milliseconds
+     */
+    public long tickMillis() {
+        return tickMillis;
+    }
+
+    /**
+     * Empties the slot of the given level the clock has just entered, placing its timers again
+     * relative to the new time: each of them lands in a lower level or in the current tick.
+     */
+    private void cascade(int level) {
+        List<Timer<T>>[] slots = levels.get(level);
+        int slot = slotOf(currentTime, level);
+        List<Timer<T>> timers = slots[slot];
+        if (timers.isEmpty()) {
+            return;
+        }
+        slots[slot] = new ArrayList<>();
+        timers.forEach(this::place);
+    }
+
+    private void place(Timer<T> timer) {
+        long delay = timer.deadline() - currentTime;
+        if (delay < tickMillis) {
+            current.add(timer);
+            return;
+        }
+        int top = slotSpans.length - 1;
+        for (int level = 0; level <= top; level++) {
+            if (level == top || delay < slotSpans[level] * wheelSize) {
+                levels.get(level)[slotOf(timer.deadline(), level)].add(timer);
+                return;
+            }
+        }
+    }
+
+    private int slotOf(long millis, int level) {
+        return (int) Math.floorMod(Math.floorDiv(millis, slotSpans[level]), wheelSize);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<Timer<T>>[] newSlots(int wheelSize) {
+        List<Timer<T>>[] slots = new List[wheelSize];
+        for (int slot = 0; slot < wheelSize; slot++) {
+            slots[slot] = new ArrayList<>();
+        }
+        return slots;
+    }
+
+    private record Timer<T>(long deadline, T item) {
+    }
+}
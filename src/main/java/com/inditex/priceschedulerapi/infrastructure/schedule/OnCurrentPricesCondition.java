@@ -0,0 +1,35 @@
+package com.inditex.priceschedulerapi.infrastructure.schedule;
+
+import org.springframework.boot.autoconfigure.condition.ConditionMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * Matches when the current prices are maintained in memory.
+ *
+ * {@code price-scheduler.current-prices.enabled} decides when it is set. Otherwise the view is only
+ * kept in the {@code in-memory} and {@code columnar} repository modes, which hold every price in
+ * memory anyway; in the default {@code jpa} mode it would load the whole PRICES table at startup
+ * and keep an entry and a timer per product and brand.
+ */
+public class OnCurrentPricesCondition extends SpringBootCondition {
+
+    static final String ENABLED = "price-scheduler.current-prices.enabled";
+    static final String REPOSITORY_MODE = "price-scheduler.repository.mode";
+
+    @Override
+    public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+        Environment environment = context.getEnvironment();
+        ConditionMessage.Builder message = ConditionMessage.forCondition("Current prices");
+
+        Boolean enabled = environment.getProperty(ENABLED, Boolean.class);
+        if (enabled != null) {
+            return new ConditionOutcome(enabled, message.because(ENABLED + " is " + enabled));
+        }
+        String mode = environment.getProperty(REPOSITORY_MODE, "jpa");
+        return new ConditionOutcome(!"jpa".equals(mode), message.because(REPOSITORY_MODE + " is " + mode));
+    }
+}
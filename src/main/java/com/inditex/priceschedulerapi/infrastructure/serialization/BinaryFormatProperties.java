@@ -0,0 +1,17 @@
+package com.inditex.priceschedulerapi.infrastructure.serialization;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.ZoneId;
+
+/**
+ * Configuration of the binary encodings (CBOR and Smile) of the price API.
+ *
+ * @param zone Time zone of the price dates, used to write them as epoch milliseconds
+ */
+@ConfigurationProperties(prefix = "price-scheduler.binary-formats")
+public record BinaryFormatProperties(
+        @DefaultValue("UTC") ZoneId zone
+) {
+}
@@ -0,0 +1,25 @@
+package com.inditex.priceschedulerapi.infrastructure.serialization;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Media types of the binary encodings served next to JSON.
+ */
+public final class BinaryMediaTypes {
+
+    public static final String CBOR_VALUE = MediaType.APPLICATION_CBOR_VALUE;
+
+    /**
+     * CBOR sequence (RFC 8742): concatenated CBOR items, the binary counterpart of NDJSON.
+     */
+    public static final String CBOR_SEQ_VALUE = "application/cbor-seq";
+
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+
+    public static final MediaType CBOR_SEQ = MediaType.parseMediaType(CBOR_SEQ_VALUE);
+
+    public static final MediaType SMILE = MediaType.parseMediaType(SMILE_VALUE);
+
+    private BinaryMediaTypes() {
+    }
+}
@@ -0,0 +1,68 @@
+package com.inditex.priceschedulerapi.infrastructure.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Jackson module writing {@link LocalDateTime} values as epoch milliseconds in a given zone.
+ *
+ * Meant for the binary encodings, where an integer is a few bytes and needs no parsing, while the
+ * ISO string of the JSON representation is nineteen. It takes precedence over the
+ * {@code @JsonFormat} patterns of the DTOs, so it must only be registered on the binary mappers.
+ * Reading also accepts ISO strings.
+ */
+public class EpochMillisModule extends SimpleModule {
+
+    public EpochMillisModule(ZoneId zone) {
+        super("EpochMillisModule");
+        addSerializer(LocalDateTime.class, new Serializer(zone));
+        addDeserializer(LocalDateTime.class, new Deserializer(zone));
+    }
+
+    private static final class Serializer extends StdScalarSerializer<LocalDateTime> {
+
+        private final ZoneId zone;
+
+        private Serializer(ZoneId zone) {
+            super(LocalDateTime.class);
+            this.zone = zone;
+        }
+
+        @Override
+        public void serialize(LocalDateTime value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeNumber(value.atZone(zone).toInstant().toEpochMilli());
+        }
+    }
+
+    private static final class Deserializer extends StdScalarDeserializer<LocalDateTime> {
+
+        private final ZoneId zone;
+
+        private Deserializer(ZoneId zone) {
+            super(LocalDateTime.class);
+            this.zone = zone;
+        }
+
+        @Override
+        public LocalDateTime deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+                return LocalDateTime.ofInstant(Instant.ofEpochMilli(parser.getLongValue()), zone);
+            }
+            if (parser.hasToken(JsonToken.VALUE_STRING)) {
+                return LocalDateTime.parse(parser.getText().trim());
+            }
+            return (LocalDateTime) context.handleUnexpectedToken(LocalDateTime.class, parser);
+        }
+    }
+}
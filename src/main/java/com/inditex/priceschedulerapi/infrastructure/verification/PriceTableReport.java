@@ -0,0 +1,31 @@
+package com.inditex.priceschedulerapi.infrastructure.verification;
+
+import java.time.Duration;
+import java.util.SortedMap;
+
+/**
+ * Result of a scan of the PRICES table.
+ *
+ * @param rows Number of rows scanned
+ * @param rowsByBrand Number of rows of every brand, by brand identifier
+ * @param checksum Order-independent checksum of the content of the rows, excluding their generated IDs:
+ *                 two tables holding the same prices have the same checksum
+ * @param ranges Number of ID ranges the table was split into
+ * @param duration Time taken by the scan
+ */
+public record PriceTableReport(
+        long rows,
+        SortedMap<Integer, Long> rowsByBrand,
+        long checksum,
+        int ranges,
+        Duration duration
+) {
+
+    /**
+     * @return rows scanned per second
+     */
+    public double rowsPerSecond() {
+        long nanos = duration.toNanos();
+        return nanos == 0 ? 0 : rows * 1_000_000_000d / nanos;
+    }
+}
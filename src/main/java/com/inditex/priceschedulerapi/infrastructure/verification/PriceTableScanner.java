@@ -0,0 +1,206 @@
+package com.inditex.priceschedulerapi.infrastructure.verification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32C;
+
+/**
+ * Streams the PRICES table to verify its content without loading it.
+ *
+ * The ID space is split into ranges scanned in parallel, each with a forward-only result set
+ * and a bounded fetch size inside a read-only transaction (so that drivers such as PostgreSQL
+ * stream instead of buffering the result). Every row is folded into counters and a CRC32C
+ * as it is read, so a scan never holds more than one fetch of rows. Per-row checksums are
+ * summed, which makes the table checksum independent of the order and split of the scan.
+ */
+@Component
+@Slf4j
+public class PriceTableScanner {
+
+    static final String BOUNDS_SQL = "SELECT MIN(ID), MAX(ID) FROM PRICES";
+    static final String RANGE_SQL = "SELECT BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR "
+            + "FROM PRICES WHERE ID BETWEEN ? AND ?";
+
+    /**
+     * Ranges per scanning thread, so that a thread finishing early picks up more work.
+     */
+    private static final int RANGES_PER_THREAD = 4;
+
+    /**
+     * Rows counted locally before they are added to the shared progress.
+     */
+    private static final int PROGRESS_STEP = 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final PriceVerificationProperties properties;
+
+    public PriceTableScanner(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                             PriceVerificationProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.properties = properties;
+    }
+
+    /**
+     * Scans the whole table, logging the progress at the configured interval.
+     *
+     * @param expectedRows number of rows counted beforehand, for the progress percentage
+     * @return the row counts and checksum of the table
+     * @throws IllegalStateException if a range cannot be scanned or the scan is interrupted
+     */
+    public PriceTableReport scan(long expectedRows) {
+        long start = System.nanoTime();
+        List<long[]> ranges = ranges();
+        AtomicLong scanned = new AtomicLong();
+
+        List<RangeScan> results = new ArrayList<>(ranges.size());
+        ExecutorService scanners = Executors.newFixedThreadPool(properties.parallelism(),
+                Thread.ofPlatform().name("price-verifier-", 0).daemon().factory());
+        try {
+            List<Future<RangeScan>> tasks = new ArrayList<>(ranges.size());
+            for (long[] range : ranges) {
+                tasks.add(scanners.submit(() -> scan(range[0], range[1], scanned)));
+            }
+            scanners.shutdown();
+            while (!scanners.awaitTermination(properties.progressInterval().toMillis(), TimeUnit.MILLISECONDS)) {
+                long rows = scanned.get();
+                log.info("Price verification: {} of {} rows scanned ({}%) in {} s", rows, expectedRows,
+                        expectedRows == 0 ? 100 : rows * 100 / expectedRows,
+                        TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start));
+            }
+            for (Future<RangeScan> task : tasks) {
+                results.add(task.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Price verification interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Price verification failed", e.getCause());
+        } finally {
+            scanners.shutdownNow();
+        }
+
+        long rows = 0;
+        long checksum = 0;
+        SortedMap<Integer, Long> rowsByBrand = new TreeMap<>();
+        for (RangeScan result : results) {
+            rows += result.rows;
+            checksum += result.checksum;
+            result.rowsByBrand.forEach((brandId, count) -> rowsByBrand.merge(brandId, count, Long::sum));
+        }
+        return new PriceTableReport(rows, rowsByBrand, checksum, ranges.size(), Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Splits [MIN(ID), MAX(ID)] into contiguous ranges of equal width.
+     */
+    private List<long[]> ranges() {
+        long[] bounds = jdbcTemplate.queryForObject(BOUNDS_SQL, (rs, rowNum) -> {
+            long min = rs.getLong(1);
+            return rs.wasNull() ? null : new long[]{min, rs.getLong(2)};
+        });
+        if (bounds == null) {
+            return List.of();
+        }
+
+        long span = bounds[1] - bounds[0] + 1;
+        long count = Math.min(span, (long) properties.parallelism() * RANGES_PER_THREAD);
+        long width = (span + count - 1) / count;
+        List<long[]> ranges = new ArrayList<>((int) count);
+        for (long from = bounds[0]; from <= bounds[1]; from += width) {
+            ranges.add(new long[]{from, Math.min(from + width - 1, bounds[1])});
+        }
+        return ranges;
+    }
+
+    private RangeScan scan(long fromId, long toId, AtomicLong scanned) {
+        RangeScan range = new RangeScan(scanned);
+        readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(RANGE_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(properties.fetchSize());
+            statement.setLong(1, fromId);
+            statement.setLong(2, toId);
+            return statement;
+        }, (RowCallbackHandler) range::add));
+        range.flushProgress();
+        return range;
+    }
+
+    /**
+     * Counters and checksum of one range, updated row by row.
+     */
+    private static final class RangeScan {
+
+        private final AtomicLong scanned;
+        private final Map<Integer, Long> rowsByBrand = new HashMap<>();
+        private final CRC32C crc = new CRC32C();
+        private final ByteBuffer row = ByteBuffer.allocate(64);
+        private long rows;
+        private long checksum;
+        private int unreported;
+
+        private RangeScan(AtomicLong scanned) {
+            this.scanned = scanned;
+        }
+
+        void add(ResultSet rs) throws SQLException {
+            int brandId = rs.getInt(1);
+            LocalDateTime startDate = rs.getObject(2, LocalDateTime.class);
+            LocalDateTime endDate = rs.getObject(3, LocalDateTime.class);
+            BigDecimal price = rs.getBigDecimal(7);
+
+            row.clear();
+            row.putInt(brandId)
+                    .putLong(startDate.toEpochSecond(ZoneOffset.UTC)).putInt(startDate.getNano())
+                    .putLong(endDate.toEpochSecond(ZoneOffset.UTC)).putInt(endDate.getNano())
+                    .putInt(rs.getInt(4))
+                    .putLong(rs.getLong(5))
+                    .putInt(rs.getInt(6))
+                    .putLong(price.unscaledValue().longValue()).putInt(price.scale())
+                    .put(rs.getString(8).getBytes(StandardCharsets.US_ASCII));
+            crc.reset();
+            crc.update(row.array(), 0, row.position());
+
+            checksum += crc.getValue();
+            rows++;
+            rowsByBrand.merge(brandId, 1L, Long::sum);
+            if (++unreported == PROGRESS_STEP) {
+                flushProgress();
+            }
+        }
+
+        void flushProgress() {
+            scanned.addAndGet(unreported);
+            unreported = 0;
+        }
+    }
+}
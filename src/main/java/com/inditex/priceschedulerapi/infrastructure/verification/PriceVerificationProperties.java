@@ -0,0 +1,44 @@
+package com.inditex.priceschedulerapi.infrastructure.verification;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the verification of the PRICES table at startup.
+ *
+ * @param mode What the verification does once the application has started
+ * @param parallelism Number of ID ranges scanned at the same time
+ * @param fetchSize Rows fetched per round trip by each scan; the most rows a scan holds at once
+ * @param progressInterval Time between two progress lines while the table is scanned
+ */
+@ConfigurationProperties(prefix = "price-scheduler.verification")
+public record PriceVerificationProperties(
+        @DefaultValue("count") Mode mode,
+        @DefaultValue("4") int parallelism,
+        @DefaultValue("1000") int fetchSize,
+        @DefaultValue("10s") Duration progressInterval
+) {
+
+    public PriceVerificationProperties {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Verification parallelism must be positive");
+        }
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("Verification fetch size must be positive");
+        }
+        if (progressInterval.isNegative() || progressInterval.isZero()) {
+            throw new IllegalArgumentException("Verification progress interval must be positive");
+        }
+    }
+
+    public enum Mode {
+        /** No verification. */
+        OFF,
+        /** Only count the rows. */
+        COUNT,
+        /** Stream the whole table: row count, rows per brand and content checksum. Delays readiness by the scan. */
+        SCAN
+    }
+}
@@ -0,0 +1,240 @@
+package com.inditex.priceschedulerapi.presentation.controller;
+
+import com.inditex.priceschedulerapi.application.dto.PriceChangeNotification;
+import com.inditex.priceschedulerapi.application.dto.PriceQueryResponse;
+import com.inditex.priceschedulerapi.domain.valueobject.PriceKey;
+import com.inditex.priceschedulerapi.infrastructure.schedule.CurrentPriceChange;
+import com.inditex.priceschedulerapi.infrastructure.schedule.CurrentPriceView;
+import com.inditex.priceschedulerapi.infrastructure.schedule.OnCurrentPricesCondition;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans the changes of the {@link CurrentPriceView} out to Server-Sent Events subscribers.
+ *
+ * Changes are driven by the price boundaries of the view, so nothing is polled. The thread applying
+ * a change only offers it to the bounded buffer of every subscriber of the key and never writes to
+ * a connection: each subscriber is drained by its own virtual thread while it has pending changes.
+ * A subscriber whose buffer is full is disconnected instead of holding the change back; its client
+ * reconnects and receives the current state again, so no change is silently lost.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Conditional(OnCurrentPricesCondition.class)
+@Slf4j
+public class PriceChangeBroker implements MeterBinder {
+
+    static final String CURRENT_EVENT = "current";
+    static final String CHANGE_EVENT = "change";
+
+    private final CurrentPriceView currentPriceView;
+    private final PriceSubscriptionProperties properties;
+    private final Map<PriceKey, Set<Subscriber>> subscribersByKey = new ConcurrentHashMap<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong dropped = new AtomicLong();
+    private final ExecutorService senders;
+
+    @Autowired
+    public PriceChangeBroker(CurrentPriceView currentPriceView, PriceSubscriptionProperties properties) {
+        this(currentPriceView, properties,
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("price-changes-", 0).factory()));
+    }
+
+    PriceChangeBroker(CurrentPriceView currentPriceView, PriceSubscriptionProperties properties, ExecutorService senders) {
+        this.currentPriceView = currentPriceView;
+        this.properties = properties;
+        this.senders = senders;
+        currentPriceView.addListener(this::publish);
+    }
+
+    /**
+     * Opens a subscription to the given product/brand pairs. The current price of every pair is sent
+     * first as a {@value #CURRENT_EVENT} event, then each change as a {@value #CHANGE_EVENT} event.
+     *
+     * @param keys the product/brand pairs to follow
+     * @return the emitter of the subscription
+     */
+    public SseEmitter subscribe(Set<PriceKey> keys) {
+        if (keys.isEmpty()) {
+            throw new IllegalArgumentException("At least one product/brand pair is required");
+        }
+        if (keys.size() > properties.maxKeys()) {
+            throw new IllegalArgumentException("At most " + properties.maxKeys() + " product/brand pairs per subscription");
+        }
+
+        Subscriber subscriber = new Subscriber(new SseEmitter(properties.timeout().toMillis()), keys,
+                keys.size() + properties.bufferSize());
+        subscriber.emitter.onCompletion(() -> unsubscribe(subscriber));
+        subscriber.emitter.onTimeout(() -> unsubscribe(subscriber));
+        subscriber.emitter.onError(error -> unsubscribe(subscriber));
+
+        subscribers.add(subscriber);
+        keys.forEach(key -> subscribersByKey.computeIfAbsent(key, ignored -> ConcurrentHashMap.newKeySet()).add(subscriber));
+
+        // Resolved without holding the subscriber's lock: a lookup may reach the repository and publish
+        // changes to other subscribers. Changes published to this one meanwhile are held until it starts
+        LocalDateTime now = currentPriceView.now();
+        List<Event> current = new ArrayList<>(keys.size());
+        for (PriceKey key : keys) {
+            PriceQueryResponse price = currentPriceView.find(key.getProductId(), key.getBrandId(), now).orElse(null);
+            LocalDateTime effectiveFrom = price == null || price.validFrom() == null ? now : price.validFrom();
+            current.add(new Event(CURRENT_EVENT, notification(key, price, effectiveFrom)));
+        }
+        subscriber.start(current);
+        return subscriber.emitter;
+    }
+
+    /**
+     * @return number of open subscriptions
+     */
+    public int size() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("price.subscriptions.active", subscribers, Set::size)
+                .description("Number of open price change subscriptions")
+                .register(registry);
+        FunctionCounter.builder("price.subscriptions.dropped", dropped, AtomicLong::get)
+                .description("Subscriptions disconnected because their buffer of pending changes was full")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void close() {
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    private void publish(CurrentPriceChange change) {
+        Set<Subscriber> keySubscribers = subscribersByKey.get(change.key());
+        if (keySubscribers == null) {
+            return;
+        }
+        Event event = new Event(CHANGE_EVENT, notification(change.key(), change.price(), change.effectiveFrom()));
+        for (Subscriber subscriber : keySubscribers) {
+            subscriber.offer(event);
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (!subscribers.remove(subscriber)) {
+            return;
+        }
+        for (PriceKey key : subscriber.keys) {
+            subscribersByKey.computeIfPresent(key, (ignored, keySubscribers) -> {
+                keySubscribers.remove(subscriber);
+                return keySubscribers.isEmpty() ? null : keySubscribers;
+            });
+        }
+    }
+
+    private static PriceChangeNotification notification(PriceKey key, PriceQueryResponse price, LocalDateTime effectiveFrom) {
+        return new PriceChangeNotification(key.getProductId().getValue(), key.getBrandId().getValue(), effectiveFrom, price);
+    }
+
+    private record Event(String name, PriceChangeNotification notification) {
+    }
+
+    /**
+     * An open subscription with its bounded buffer. {@link #draining} is set while a sender owns the
+     * emitter, so that events are written one at a time and in order. Until {@link #start} queues the
+     * current state, changes are {@link #held} back, so that none is sent before the state it follows;
+     * a change already reflected in that state is then sent again, which subscribers treat as a no-op.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Set<PriceKey> keys;
+        private final BlockingQueue<Event> pending;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private List<Event> held = new ArrayList<>();
+
+        private Subscriber(SseEmitter emitter, Set<PriceKey> keys, int capacity) {
+            this.emitter = emitter;
+            this.keys = keys;
+            this.pending = new ArrayBlockingQueue<>(capacity);
+        }
+
+        synchronized void offer(Event event) {
+            if (held == null) {
+                enqueue(event);
+            } else if (held.size() < properties.bufferSize()) {
+                held.add(event);
+            } else {
+                disconnect();
+            }
+        }
+
+        synchronized void start(List<Event> current) {
+            List<Event> changes = held;
+            held = null;
+            current.forEach(this::enqueue);
+            changes.forEach(this::enqueue);
+        }
+
+        private void enqueue(Event event) {
+            if (!subscribers.contains(this)) {
+                return;
+            }
+            if (!pending.offer(event)) {
+                disconnect();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void disconnect() {
+            if (!subscribers.contains(this)) {
+                return;
+            }
+            dropped.incrementAndGet();
+            log.warn("Disconnecting a slow price change subscriber with {} pending changes",
+                    held == null ? pending.size() : held.size());
+            unsubscribe(this);
+            emitter.complete();
+        }
+
+        private void drain() {
+            try {
+                do {
+                    for (Event event = pending.poll(); event != null; event = pending.poll()) {
+                        emitter.send(SseEmitter.event()
+                                .name(event.name())
+                                .data(event.notification(), MediaType.APPLICATION_JSON));
+                    }
+                    draining.set(false);
+                } while (!pending.isEmpty() && draining.compareAndSet(false, true));
+            } catch (IOException | IllegalStateException e) {
+                unsubscribe(this);
+            }
+        }
+    }
+}
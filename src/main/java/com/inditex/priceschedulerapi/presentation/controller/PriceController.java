@@ -1,8 +1,26 @@
 package com.inditex.priceschedulerapi.presentation.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.inditex.priceschedulerapi.application.dto.PriceBatchQueryRequest;
+import com.inditex.priceschedulerapi.application.dto.PriceBatchQueryResponse;
 import com.inditex.priceschedulerapi.application.dto.PriceQueryRequest;
 import com.inditex.priceschedulerapi.application.dto.PriceQueryResponse;
+import com.inditex.priceschedulerapi.application.dto.PriceScheduleEntry;
+import com.inditex.priceschedulerapi.application.dto.PriceScheduleRequest;
+import com.inditex.priceschedulerapi.application.dto.PriceSeriesRequest;
+import com.inditex.priceschedulerapi.application.dto.PriceSeriesResponse;
 import com.inditex.priceschedulerapi.application.usecase.GetApplicablePriceUseCase;
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import com.inditex.priceschedulerapi.domain.valueobject.ProductId;
+import com.inditex.priceschedulerapi.infrastructure.cache.EncodedResponse;
+import com.inditex.priceschedulerapi.infrastructure.metrics.PriceLookupMetrics;
+import com.inditex.priceschedulerapi.infrastructure.metrics.PriceLookupMetrics.Layer;
+import com.inditex.priceschedulerapi.infrastructure.schedule.CurrentPriceProperties;
+import com.inditex.priceschedulerapi.infrastructure.schedule.CurrentPriceView;
+import com.inditex.priceschedulerapi.infrastructure.serialization.BinaryMediaTypes;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,25 +32,55 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * REST Controller for price queries.
  * Exposes endpoints to query applicable prices based on product, brand and date.
+ * Servlet stack only; the reactive variant is served by {@code ReactivePriceController}.
  */
 @RestController
 @RequestMapping("/api/v1/prices")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 @Validated
 @Tag(name = "Prices", description = "Price query operations")
 public class PriceController {
 
+    private static final List<MediaType> SCHEDULE_TYPES =
+            List.of(MediaType.APPLICATION_NDJSON, BinaryMediaTypes.CBOR_SEQ, BinaryMediaTypes.SMILE);
+
     private final GetApplicablePriceUseCase getApplicablePriceUseCase;
+    private final ObjectMapper objectMapper;
+    private final PriceLookupMetrics priceLookupMetrics;
+    private final PriceHttpCacheProperties httpCacheProperties;
+    private final MappingJackson2CborHttpMessageConverter cborConverter;
+    private final MappingJackson2SmileHttpMessageConverter smileConverter;
+    private final ContentNegotiationManager contentNegotiationManager;
+    private final PriceResponseEncoder priceResponseEncoder;
+    private final CurrentPriceProperties currentPriceProperties;
+    private final ObjectProvider<CurrentPriceView> currentPriceView;
 
     /**
      * Queries the applicable price for a given product, brand and application date.
@@ -40,9 +88,11 @@ public class PriceController {
      * @param productId Product identifier
      * @param brandId Brand identifier
      * @param applicationDate Date and time when the price should be applicable
-     * @return ResponseEntity with the applicable price or 404 if not found
+     * @param webRequest Current request, for the negotiation of the encoding
+     * @return ResponseEntity with the encoded applicable price and its caching headers, 304 if the
+     *         client's copy is still current (If-None-Match), or 404 if not found
      */
-    @GetMapping
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, BinaryMediaTypes.CBOR_VALUE, BinaryMediaTypes.SMILE_VALUE})
     @Operation(
             summary = "Get applicable price",
             description = "Retrieves the applicable price for a product and brand at a specific date and time. " +
@@ -52,10 +102,18 @@ public class PriceController {
             @ApiResponse(
                     responseCode = "200",
                     description = "Price found successfully",
-                    content = @Content(
-                            mediaType = "application/json",
-                            schema = @Schema(implementation = PriceQueryResponse.class)
-                    )
+                    content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = PriceQueryResponse.class)
+                            ),
+                            @Content(mediaType = BinaryMediaTypes.CBOR_VALUE),
+                            @Content(mediaType = BinaryMediaTypes.SMILE_VALUE)
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "The cached copy identified by If-None-Match is still current"
             ),
             @ApiResponse(
                     responseCode = "404",
@@ -66,7 +124,7 @@ public class PriceController {
                     description = "Invalid request parameters"
             )
     })
-    public ResponseEntity<PriceQueryResponse> getApplicablePrice(
+    public ResponseEntity<byte[]> getApplicablePrice(
             @Parameter(description = "Product identifier", required = true, example = "35455")
             @RequestParam
             @NotNull(message = "Product ID cannot be null")
@@ -87,12 +145,320 @@ public class PriceController {
             @RequestParam
             @NotNull(message = "Application date cannot be null")
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
-            LocalDateTime applicationDate
+            LocalDateTime applicationDate,
+
+            NativeWebRequest webRequest
+    ) throws HttpMediaTypeNotAcceptableException {
+        MediaType contentType = negotiate(webRequest, PriceResponseEncoder.CONTENT_TYPES);
+        return priceLookupMetrics.timer(Layer.CONTROLLER, brandId).record(() -> {
+            PriceQueryRequest request = new PriceQueryRequest(productId, brandId, applicationDate);
+
+            ResponseEntity<byte[]> response = getApplicablePriceUseCase.execute(request)
+                    .map(price -> encodedResponse(price, contentType, applicationDate))
+                    .orElse(ResponseEntity.notFound().build());
+            priceLookupMetrics.recordResponse(brandId, response.getStatusCode().value());
+            return response;
+        });
+    }
+
+    /**
+     * Queries the price of a product and brand effective now, from the maintained current prices.
+     *
+     * @param productId Product identifier
+     * @param brandId Brand identifier
+     * @param webRequest Current request, for the negotiation of the encoding
+     * @return ResponseEntity with the encoded current price and its caching headers, 304 if the
+     *         client's copy is still current, or 404 if no price applies now
+     */
+    @GetMapping(
+            value = "/current",
+            produces = {MediaType.APPLICATION_JSON_VALUE, BinaryMediaTypes.CBOR_VALUE, BinaryMediaTypes.SMILE_VALUE}
+    )
+    @Operation(
+            summary = "Get current price",
+            description = "Retrieves the price of a product and brand applicable at the current date and time. " +
+                          "Current prices are kept up to date at every price start and end, so no date is resolved per request."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Price found successfully",
+                    content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = PriceQueryResponse.class)
+                            ),
+                            @Content(mediaType = BinaryMediaTypes.CBOR_VALUE),
+                            @Content(mediaType = BinaryMediaTypes.SMILE_VALUE)
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "The cached copy identified by If-None-Match is still current"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "No price applies now for the given product and brand"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid request parameters"
+            )
+    })
+    public ResponseEntity<byte[]> getCurrentPrice(
+            @Parameter(description = "Product identifier", required = true, example = "35455")
+            @RequestParam
+            @NotNull(message = "Product ID cannot be null")
+            @Positive(message = "Product ID must be positive")
+            Long productId,
+
+            @Parameter(description = "Brand identifier", required = true, example = "1")
+            @RequestParam
+            @NotNull(message = "Brand ID cannot be null")
+            @Positive(message = "Brand ID must be positive")
+            Integer brandId,
+
+            NativeWebRequest webRequest
+    ) throws HttpMediaTypeNotAcceptableException {
+        MediaType contentType = negotiate(webRequest, PriceResponseEncoder.CONTENT_TYPES);
+        return priceLookupMetrics.timer(Layer.CONTROLLER, brandId).record(() -> {
+            CurrentPriceView currentPrices = currentPriceView.getIfAvailable();
+            LocalDateTime now;
+            Optional<PriceQueryResponse> price;
+            if (currentPrices != null) {
+                now = currentPrices.now();
+                price = currentPrices.find(ProductId.of(productId), BrandId.of(brandId), now);
+            } else {
+                now = LocalDateTime.now(currentPriceProperties.zone());
+                price = getApplicablePriceUseCase.execute(new PriceQueryRequest(productId, brandId, now));
+            }
+
+            ResponseEntity<byte[]> response = price
+                    .map(current -> encodedResponse(current, contentType, now))
+                    .orElse(ResponseEntity.notFound().build());
+            priceLookupMetrics.recordResponse(brandId, response.getStatusCode().value());
+            return response;
+        });
+    }
+
+    /**
+     * Writes the encoded price with caching headers derived from its validity window: the ETag
+     * identifies the price and window whatever the negotiated encoding, and max-age is the time left
+     * from the application date until the next change, bounded by the configured maximum.
+     * Conditional requests are answered with 304 by Spring MVC from the ETag. No Last-Modified is
+     * sent: the validity window says when a price applies, not when it was last changed, so an
+     * import changing the amount inside an unchanged window would still be reported as unmodified.
+     */
+    private ResponseEntity<byte[]> encodedResponse(PriceQueryResponse price, MediaType contentType,
+                                                   LocalDateTime applicationDate) {
+        EncodedResponse encoded = priceResponseEncoder.encode(price, contentType);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(encoded.contentType())
+                .varyBy(HttpHeaders.ACCEPT);
+        if (!httpCacheProperties.enabled() || price.validFrom() == null || price.validUntil() == null) {
+            return response.body(encoded.body());
+        }
+
+        Duration untilChange = Duration.between(applicationDate, price.validUntil()).plusNanos(1);
+        Duration maxAge = untilChange.compareTo(httpCacheProperties.maxAge()) < 0 ? untilChange : httpCacheProperties.maxAge();
+
+        return response
+                .eTag(encoded.eTag())
+                .cacheControl(CacheControl.maxAge(maxAge).cachePublic())
+                .body(encoded.body());
+    }
+
+    /**
+     * Queries the applicable prices of several product, brand and application date combinations at once.
+     *
+     * @param request Batch of price queries
+     * @return ResponseEntity with one result per query, in request order
+     */
+    @PostMapping("/batch")
+    @Operation(
+            summary = "Get applicable prices in batch",
+            description = "Retrieves the applicable price of every query of the batch with a single lookup. " +
+                          "Results are returned in request order; queries without an applicable price have found=false."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch resolved successfully",
+                    content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = PriceBatchQueryResponse.class)
+                            ),
+                            @Content(mediaType = BinaryMediaTypes.CBOR_VALUE),
+                            @Content(mediaType = BinaryMediaTypes.SMILE_VALUE)
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid request body"
+            )
+    })
+    public ResponseEntity<PriceBatchQueryResponse> getApplicablePrices(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Price queries to resolve", required = true)
+            @Valid
+            @RequestBody
+            PriceBatchQueryRequest request
     ) {
-        PriceQueryRequest request = new PriceQueryRequest(productId, brandId, applicationDate);
+        return ResponseEntity.ok(getApplicablePriceUseCase.executeBatch(request));
+    }
 
-        return getApplicablePriceUseCase.execute(request)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    /**
+     * Queries the applicable price of one product and brand at many application dates at once.
+     *
+     * @param request Product, brand and application dates to resolve
+     * @return ResponseEntity with one result per application date, in request order
+     */
+    @PostMapping("/series")
+    @Operation(
+            summary = "Get applicable prices of a product at many dates",
+            description = "Retrieves the applicable price of a product and brand at every application date of the request, " +
+                          "fetching the product's prices once and resolving all the dates in a single sweep. " +
+                          "Results are returned in request order, with the validity window of each price; " +
+                          "dates without an applicable price have found=false."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Series resolved successfully",
+                    content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = PriceSeriesResponse.class)
+                            ),
+                            @Content(mediaType = BinaryMediaTypes.CBOR_VALUE),
+                            @Content(mediaType = BinaryMediaTypes.SMILE_VALUE)
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid request body"
+            )
+    })
+    public ResponseEntity<PriceSeriesResponse> getApplicablePriceSeries(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Product, brand and application dates to resolve", required = true)
+            @Valid
+            @RequestBody
+            PriceSeriesRequest request
+    ) {
+        return ResponseEntity.ok(getApplicablePriceUseCase.executeSeries(request));
+    }
+
+    /**
+     * Streams the effective price schedule of a product and brand over a window as NDJSON, or as a
+     * CBOR sequence or Smile value stream when the client accepts one of those instead.
+     *
+     * @param productId Product identifier
+     * @param brandId Brand identifier
+     * @param from Start of the window (inclusive)
+     * @param to End of the window (inclusive)
+     * @param webRequest Current request, for the negotiation of the stream encoding
+     * @return ResponseEntity streaming one schedule entry per item, in chronological order
+     */
+    @GetMapping(
+            value = "/schedule",
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, BinaryMediaTypes.CBOR_SEQ_VALUE, BinaryMediaTypes.SMILE_VALUE}
+    )
+    @Operation(
+            summary = "Get price schedule",
+            description = "Streams one line per effective price change of a product and brand within [from, to], " +
+                          "with the highest priority already applied and every period clipped to the window. " +
+                          "Periods without an applicable price are omitted."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Schedule streamed successfully (possibly empty)",
+                    content = {
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                                    schema = @Schema(implementation = PriceScheduleEntry.class)
+                            ),
+                            @Content(mediaType = BinaryMediaTypes.CBOR_SEQ_VALUE),
+                            @Content(mediaType = BinaryMediaTypes.SMILE_VALUE)
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid request parameters"
+            )
+    })
+    public ResponseEntity<StreamingResponseBody> getPriceSchedule(
+            @Parameter(description = "Product identifier", required = true, example = "35455")
+            @RequestParam
+            @NotNull(message = "Product ID cannot be null")
+            @Positive(message = "Product ID must be positive")
+            Long productId,
+
+            @Parameter(description = "Brand identifier", required = true, example = "1")
+            @RequestParam
+            @NotNull(message = "Brand ID cannot be null")
+            @Positive(message = "Brand ID must be positive")
+            Integer brandId,
+
+            @Parameter(description = "Start of the window (ISO format)", required = true, example = "2020-06-14T00:00:00")
+            @RequestParam
+            @NotNull(message = "From date cannot be null")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime from,
+
+            @Parameter(description = "End of the window (ISO format)", required = true, example = "2020-06-30T23:59:59")
+            @RequestParam
+            @NotNull(message = "To date cannot be null")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime to,
+
+            NativeWebRequest webRequest
+    ) throws HttpMediaTypeNotAcceptableException {
+        MediaType contentType = negotiate(webRequest, SCHEDULE_TYPES);
+        boolean ndjson = contentType.equals(MediaType.APPLICATION_NDJSON);
+        ObjectMapper mapper = ndjson ? objectMapper
+                : contentType.equals(BinaryMediaTypes.CBOR_SEQ) ? cborConverter.getObjectMapper()
+                : smileConverter.getObjectMapper();
+
+        PriceScheduleRequest request = new PriceScheduleRequest(productId, brandId, from, to);
+        Stream<PriceScheduleEntry> schedule = getApplicablePriceUseCase.executeSchedule(request);
+
+        ObjectWriter entryWriter = mapper.writerFor(PriceScheduleEntry.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = output -> {
+            try (schedule; JsonGenerator generator = mapper.getFactory().createGenerator(output)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                if (ndjson) {
+                    // Lines are separated explicitly below; binary generators have no root separator
+                    generator.setRootValueSeparator(null);
+                }
+                for (Iterator<PriceScheduleEntry> entries = schedule.iterator(); entries.hasNext(); ) {
+                    entryWriter.writeValue(generator, entries.next());
+                    if (ndjson) {
+                        generator.writeRaw('\n');
+                    }
+                }
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .body(body);
+    }
+
+    /**
+     * Picks the encoding from the Accept header, in the client's order of preference.
+     * The first producible type answers wildcards.
+     */
+    private MediaType negotiate(NativeWebRequest webRequest, List<MediaType> producibleTypes)
+            throws HttpMediaTypeNotAcceptableException {
+        for (MediaType accepted : contentNegotiationManager.resolveMediaTypes(webRequest)) {
+            for (MediaType producible : producibleTypes) {
+                if (accepted.isCompatibleWith(producible)) {
+                    return producible;
+                }
+            }
+        }
+        return producibleTypes.getFirst();
     }
 }
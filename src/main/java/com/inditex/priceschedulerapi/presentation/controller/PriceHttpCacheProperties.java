@@ -0,0 +1,20 @@
+package com.inditex.priceschedulerapi.presentation.controller;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the HTTP caching headers of single price lookups.
+ *
+ * @param enabled Whether {@code GET /api/v1/prices} emits ETag and Cache-Control
+ * @param maxAge Upper bound of the advertised max-age, since an import can change a price before
+ *               its validity window ends
+ */
+@ConfigurationProperties(prefix = "price-scheduler.http-cache")
+public record PriceHttpCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("5m") Duration maxAge
+) {
+}
@@ -0,0 +1,79 @@
+package com.inditex.priceschedulerapi.presentation.controller;
+
+import com.inditex.priceschedulerapi.infrastructure.importer.PriceImportFormat;
+import com.inditex.priceschedulerapi.infrastructure.importer.PriceImportPipeline;
+import com.inditex.priceschedulerapi.infrastructure.importer.PriceImportReport;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * REST Controller for bulk price imports.
+ * Streams the request body through the import pipeline without buffering the whole file.
+ * It writes to the PRICES table without authentication, so it is only registered when
+ * {@code price-scheduler.import.endpoint-enabled} is true.
+ */
+@RestController
+@RequestMapping("/api/v1/prices/import")
+@ConditionalOnProperty(name = "price-scheduler.import.endpoint-enabled", havingValue = "true")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+@Tag(name = "Price import", description = "Bulk price loading")
+public class PriceImportController {
+
+    private final PriceImportPipeline priceImportPipeline;
+
+    /**
+     * Imports a CSV or NDJSON price file sent as the request body.
+     *
+     * @param contentType Content type of the body, selecting the file format
+     * @param body File content
+     * @return ResponseEntity with the import report
+     * @throws IOException if the body cannot be read
+     */
+    @PostMapping(consumes = {PriceImportFormat.CSV_MEDIA_TYPE, PriceImportFormat.NDJSON_MEDIA_TYPE})
+    @Operation(
+            summary = "Import prices",
+            description = "Streams a CSV (PRICES column order, optional header) or NDJSON file into the PRICES table " +
+                          "with batched inserts. Invalid rows are rejected and reported without stopping the import."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Import finished",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = PriceImportReport.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "415",
+                    description = "Unsupported file format"
+            )
+    })
+    public ResponseEntity<PriceImportReport> importPrices(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    ) throws IOException {
+        PriceImportFormat format = PriceImportFormat.fromMediaType(MediaType.parseMediaType(contentType))
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported import format: " + contentType));
+
+        return ResponseEntity.ok(priceImportPipeline.importPrices(body, format));
+    }
+}
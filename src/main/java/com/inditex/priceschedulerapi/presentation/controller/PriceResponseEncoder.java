@@ -0,0 +1,106 @@
+package com.inditex.priceschedulerapi.presentation.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.inditex.priceschedulerapi.application.dto.PriceQueryResponse;
+import com.inditex.priceschedulerapi.infrastructure.cache.EncodedResponse;
+import com.inditex.priceschedulerapi.infrastructure.cache.EncodedResponseCache;
+import com.inditex.priceschedulerapi.infrastructure.serialization.BinaryMediaTypes;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * Serializes single price responses in the negotiated encoding with the same mappers as the
+ * HTTP message converters, going through the {@link EncodedResponseCache} when it is enabled so
+ * that repeated lookups of the same effective segment write cached bytes without object mapping.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class PriceResponseEncoder {
+
+    /**
+     * Supported encodings, in the order used to answer wildcards.
+     */
+    static final List<MediaType> CONTENT_TYPES =
+            List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, BinaryMediaTypes.SMILE);
+
+    private final Map<MediaType, ObjectWriter> writers;
+    private final EncodedResponseCache cache;
+
+    public PriceResponseEncoder(ObjectMapper objectMapper,
+                                MappingJackson2CborHttpMessageConverter cborConverter,
+                                MappingJackson2SmileHttpMessageConverter smileConverter,
+                                ObjectProvider<EncodedResponseCache> cache) {
+        this.writers = Map.of(
+                MediaType.APPLICATION_JSON, writerFor(objectMapper),
+                MediaType.APPLICATION_CBOR, writerFor(cborConverter.getObjectMapper()),
+                BinaryMediaTypes.SMILE, writerFor(smileConverter.getObjectMapper())
+        );
+        this.cache = cache.getIfAvailable();
+    }
+
+    /**
+     * Returns the encoded response, from the cache when the same response was encoded before.
+     *
+     * @param response the response to encode
+     * @param contentType one of {@link #CONTENT_TYPES}
+     * @return the encoded body and its ETag
+     */
+    public EncodedResponse encode(PriceQueryResponse response, MediaType contentType) {
+        if (cache == null) {
+            return encodeNow(response, contentType);
+        }
+        EncodedResponse cached = cache.getIfPresent(response, contentType);
+        if (cached != null) {
+            return cached;
+        }
+        EncodedResponse encoded = encodeNow(response, contentType);
+        cache.put(response, encoded);
+        return encoded;
+    }
+
+    private EncodedResponse encodeNow(PriceQueryResponse response, MediaType contentType) {
+        ObjectWriter writer = writers.get(contentType);
+        if (writer == null) {
+            throw new IllegalArgumentException("Unsupported content type: " + contentType);
+        }
+        try {
+            return new EncodedResponse(contentType, writer.writeValueAsBytes(response), eTag(response));
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotWritableException("Could not encode price response", e);
+        }
+    }
+
+    /**
+     * Weak entity tag of the price and its validity window: the same price is served as JSON,
+     * CBOR and Smile.
+     */
+    static String eTag(PriceQueryResponse price) {
+        CRC32C checksum = new CRC32C();
+        checksum.update(String.join("|",
+                String.valueOf(price.productId()),
+                String.valueOf(price.brandId()),
+                String.valueOf(price.priceList()),
+                price.price().toPlainString(),
+                price.currency(),
+                String.valueOf(price.validFrom()),
+                String.valueOf(price.validUntil())
+        ).getBytes(StandardCharsets.UTF_8));
+        return "W/\"" + Long.toHexString(checksum.getValue()) + "\"";
+    }
+
+    private static ObjectWriter writerFor(ObjectMapper mapper) {
+        return mapper.writerFor(PriceQueryResponse.class);
+    }
+}
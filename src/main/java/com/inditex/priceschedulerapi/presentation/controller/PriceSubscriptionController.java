@@ -0,0 +1,96 @@
+package com.inditex.priceschedulerapi.presentation.controller;
+
+import com.inditex.priceschedulerapi.application.dto.PriceChangeNotification;
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import com.inditex.priceschedulerapi.domain.valueobject.PriceKey;
+import com.inditex.priceschedulerapi.domain.valueobject.ProductId;
+import com.inditex.priceschedulerapi.infrastructure.schedule.OnCurrentPricesCondition;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * REST Controller for price change subscriptions.
+ * Streams the changes of the current price of a set of products and brands as Server-Sent Events,
+ * pushed at the price boundaries instead of being polled.
+ * Available while the current prices are maintained ({@code price-scheduler.current-prices.enabled}).
+ */
+@RestController
+@RequestMapping("/api/v1/prices/changes")
+@Conditional(OnCurrentPricesCondition.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+@Tag(name = "Prices", description = "Price query operations")
+public class PriceSubscriptionController {
+
+    private final PriceChangeBroker priceChangeBroker;
+
+    /**
+     * Subscribes to the changes of the current price of the given product/brand pairs.
+     *
+     * @param keys Product/brand pairs, as {@code productId:brandId}
+     * @return the event stream of the subscription
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Subscribe to price changes",
+            description = "Opens a Server-Sent Events stream with one 'current' event per pair holding its current price, " +
+                          "then one 'change' event each time the applicable price of a pair starts, ends or is replaced. " +
+                          "A client that does not keep up is disconnected and receives the current state again on reconnection."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Subscription opened",
+                    content = @Content(
+                            mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                            schema = @Schema(implementation = PriceChangeNotification.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Missing, malformed or too many product/brand pairs"
+            )
+    })
+    public SseEmitter subscribe(
+            @Parameter(description = "Product/brand pairs to follow, as productId:brandId", required = true, example = "35455:1")
+            @RequestParam
+            List<String> keys
+    ) {
+        Set<PriceKey> priceKeys = new LinkedHashSet<>();
+        for (String key : keys) {
+            priceKeys.add(parseKey(key));
+        }
+        return priceChangeBroker.subscribe(priceKeys);
+    }
+
+    private static PriceKey parseKey(String key) {
+        int separator = key.indexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid product/brand pair '" + key + "', expected productId:brandId");
+        }
+        try {
+            return PriceKey.of(ProductId.of(Long.parseLong(key.substring(0, separator).trim())),
+                    BrandId.of(Integer.parseInt(key.substring(separator + 1).trim())));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid product/brand pair '" + key + "', expected productId:brandId");
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.inditex.priceschedulerapi.presentation.controller;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the price change subscriptions of {@code GET /api/v1/prices/changes}.
+ *
+ * @param bufferSize Changes waiting to be written to a subscriber, on top of its initial state;
+ *                   a subscriber that falls further behind is disconnected
+ * @param maxKeys Maximum number of product/brand pairs of a single subscription
+ * @param timeout Time after which a subscription is closed, so that clients reconnect
+ */
+@ConfigurationProperties(prefix = "price-scheduler.subscriptions")
+public record PriceSubscriptionProperties(
+        @DefaultValue("64") int bufferSize,
+        @DefaultValue("1000") int maxKeys,
+        @DefaultValue("30m") Duration timeout
+) {
+}
@@ -0,0 +1,91 @@
+package com.inditex.priceschedulerapi.presentation.exception;
+
+import com.inditex.priceschedulerapi.presentation.exception.GlobalExceptionHandler.ErrorResponse;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Precomputed error bodies of one kind of failure (same status and message).
+ *
+ * Malformed requests keep repeating the same few errors, so the body of every (field, error) pair
+ * is built once and reused; only its timestamp is refreshed, at most once per second, which is
+ * also the precision it is reported with. As error texts may echo arbitrary input, the cache is a
+ * least recently used map of at most {@link #MAX_ENTRIES} bodies: texts that keep coming back stay
+ * cached, one-off texts are evicted by the next new one.
+ */
+final class ErrorBodies {
+
+    static final int MAX_ENTRIES = 256;
+
+    private final int status;
+    private final String message;
+    private final Clock clock;
+    private final Map<Key, Timestamped> bodies = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Timestamped> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    ErrorBodies(int status, String message, Clock clock) {
+        this.status = status;
+        this.message = message;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the body reporting a single error.
+     *
+     * @param field the request field or error key
+     * @param error the error text
+     * @return the error body, timestamped within the current second
+     */
+    ErrorResponse get(String field, String error) {
+        long epochSecond = Math.floorDiv(clock.millis(), 1000);
+        if (field == null || error == null) {
+            return build(field, error, epochSecond);
+        }
+
+        Key key = new Key(field, error);
+        synchronized (bodies) {
+            Timestamped cached = bodies.get(key);
+            if (cached != null && cached.epochSecond() == epochSecond) {
+                return cached.body();
+            }
+        }
+
+        ErrorResponse body = build(field, error, epochSecond);
+        synchronized (bodies) {
+            bodies.put(key, new Timestamped(epochSecond, body));
+        }
+        return body;
+    }
+
+    int size() {
+        synchronized (bodies) {
+            return bodies.size();
+        }
+    }
+
+    private ErrorResponse build(String field, String error, long epochSecond) {
+        Map<String, String> errors = new HashMap<>(2);
+        errors.put(field, error);
+        return new ErrorResponse(
+                status,
+                message,
+                field != null && error != null ? Map.copyOf(errors) : errors,
+                LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), clock.getZone())
+        );
+    }
+
+    private record Key(String field, String error) {
+    }
+
+    private record Timestamped(long epochSecond, ErrorResponse body) {
+    }
+}
@@ -1,27 +1,48 @@
 package com.inditex.priceschedulerapi.presentation.exception;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * Global exception handler for REST controllers.
  * Handles validation errors and converts exceptions to appropriate HTTP responses.
+ * Single validation failures, the common case of malformed requests, reuse precomputed
+ * {@link ErrorBodies} instead of building a map and a response per rejected request.
  */
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class GlobalExceptionHandler {
 
+    private final ErrorBodies validationFailures;
+    private final ErrorBodies invalidArguments;
+
+    public GlobalExceptionHandler() {
+        this(Clock.systemDefaultZone());
+    }
+
+    GlobalExceptionHandler(Clock clock) {
+        this.validationFailures = new ErrorBodies(HttpStatus.BAD_REQUEST.value(), "Validation failed", clock);
+        this.invalidArguments = new ErrorBodies(HttpStatus.BAD_REQUEST.value(), "Invalid argument", clock);
+    }
+
     /**
      * Handles validation errors for request body (@Valid on @RequestBody).
      */
@@ -49,6 +70,13 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(ConstraintViolationException.class)
     public ResponseEntity<ErrorResponse> handleConstraintViolationException(ConstraintViolationException ex) {
+        Set<ConstraintViolation<?>> violations = ex.getConstraintViolations();
+        if (violations.size() == 1) {
+            ConstraintViolation<?> violation = violations.iterator().next();
+            return ResponseEntity.badRequest()
+                    .body(validationFailures.get(violation.getPropertyPath().toString(), violation.getMessage()));
+        }
+
         Map<String, String> errors = ex.getConstraintViolations().stream()
                 .collect(Collectors.toMap(
                         violation -> violation.getPropertyPath().toString(),
@@ -84,21 +112,48 @@ public class GlobalExceptionHandler {
     }
 
     /**
-     * Handles domain exceptions (e.g., IllegalArgumentException from Value Objects).
+     * Handles domain exceptions (e.g., the stackless DomainValidationException from Value Objects).
      */
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
+        return ResponseEntity.badRequest().body(invalidArguments.get("error", ex.getMessage()));
+    }
+
+    /**
+     * Handles request bodies sent with a content type the endpoint does not consume.
+     */
+    @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
+    public ResponseEntity<ErrorResponse> handleMediaTypeNotSupportedException(HttpMediaTypeNotSupportedException ex) {
         Map<String, String> errors = new HashMap<>();
-        errors.put("error", ex.getMessage());
+        errors.put("contentType", "Unsupported content type: " + ex.getContentType());
 
         ErrorResponse errorResponse = new ErrorResponse(
-                HttpStatus.BAD_REQUEST.value(),
-                "Invalid argument",
+                HttpStatus.UNSUPPORTED_MEDIA_TYPE.value(),
+                "Unsupported media type",
                 errors,
                 LocalDateTime.now()
         );
 
-        return ResponseEntity.badRequest().body(errorResponse);
+        return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).body(errorResponse);
+    }
+
+    /**
+     * Handles requests to a path or with a method no endpoint serves, such as a disabled endpoint.
+     */
+    @ExceptionHandler({NoResourceFoundException.class, HttpRequestMethodNotSupportedException.class})
+    public ResponseEntity<ErrorResponse> handleNoEndpointException(org.springframework.web.ErrorResponse ex) {
+        HttpStatus status = HttpStatus.valueOf(ex.getStatusCode().value());
+        Map<String, String> errors = new HashMap<>();
+        errors.put("error", ex.getBody().getDetail());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                status.value(),
+                status.getReasonPhrase(),
+                errors,
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(status).body(errorResponse);
     }
 
     /**
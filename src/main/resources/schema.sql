@@ -17,3 +17,11 @@ CREATE TABLE PRICES (
 
 -- Create indexes for better query performance
 CREATE INDEX IDX_PRICES_QUERY ON PRICES(PRODUCT_ID, BRAND_ID, START_DATE, END_DATE);
+
+-- Covering index for the top-priority lookup: rows of a product and brand come in descending priority,
+-- so the first one whose date range applies is the winner, and every selected column is read from the index.
+-- It also serves the follow-up query bounding the winner's effective segment (rows with at least its priority)
+CREATE INDEX IDX_PRICES_TOP ON PRICES(PRODUCT_ID, BRAND_ID, PRIORITY DESC, START_DATE, END_DATE, PRICE, CURR, PRICE_LIST);
+
+-- Brand index for reloading the in-memory index of a single brand without scanning the other brands
+CREATE INDEX IDX_PRICES_BRAND ON PRICES(BRAND_ID);
@@ -0,0 +1,103 @@
+package com.inditex.priceschedulerapi.domain.service;
+
+import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.repository.ReactivePriceRepository;
+import com.inditex.priceschedulerapi.domain.valueobject.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReactivePriceSelectionService.
+ * Tests that the reactive selection applies the same priority rule as PriceSelectionService.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactivePriceSelectionServiceTest {
+
+    @Mock
+    private ReactivePriceRepository priceRepository;
+
+    @InjectMocks
+    private ReactivePriceSelectionService priceSelectionService;
+
+    @Test
+    void findApplicablePrice_shouldCompleteEmpty_whenNoPricesFound() {
+        // Arrange
+        ProductId productId = ProductId.of(35455L);
+        BrandId brandId = BrandId.of(1);
+        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0);
+
+        when(priceRepository.findApplicablePrices(productId, brandId, applicationDate)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(priceSelectionService.findApplicablePrice(productId, brandId, applicationDate))
+                .verifyComplete();
+    }
+
+    @Test
+    void findApplicablePrice_shouldReturnHighestPriority_whenMultiplePricesFound() {
+        // Arrange
+        ProductId productId = ProductId.of(35455L);
+        BrandId brandId = BrandId.of(1);
+        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+        Price lowPriorityPrice = createPrice(productId, brandId, Priority.of(0), BigDecimal.valueOf(35.50));
+        Price highPriorityPrice = createPrice(productId, brandId, Priority.of(1), BigDecimal.valueOf(25.45));
+
+        when(priceRepository.findApplicablePrices(productId, brandId, applicationDate))
+                .thenReturn(Flux.just(lowPriorityPrice, highPriorityPrice));
+
+        // Act & Assert
+        StepVerifier.create(priceSelectionService.findApplicablePrice(productId, brandId, applicationDate))
+                .expectNext(highPriorityPrice)
+                .verifyComplete();
+    }
+
+    @Test
+    void findApplicablePrices_shouldSelectEveryLookupInOrder_withASingleRepositoryCall() {
+        // Arrange
+        ProductId productId = ProductId.of(35455L);
+        BrandId brandId = BrandId.of(1);
+        PriceLookup promotion = PriceLookup.of(productId, brandId, LocalDateTime.of(2020, 6, 14, 16, 0));
+        PriceLookup unknown = PriceLookup.of(ProductId.of(99999L), brandId, LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        Price lowPriorityPrice = createPrice(productId, brandId, Priority.of(0), BigDecimal.valueOf(35.50));
+        Price highPriorityPrice = createPrice(productId, brandId, Priority.of(1), BigDecimal.valueOf(25.45));
+
+        when(priceRepository.findApplicablePrices(List.of(promotion, unknown)))
+                .thenReturn(Mono.just(Map.of(promotion, List.of(lowPriorityPrice, highPriorityPrice), unknown, List.of())));
+
+        // Act & Assert
+        StepVerifier.create(priceSelectionService.findApplicablePrices(List.of(promotion, unknown)))
+                .expectNext(Optional.of(highPriorityPrice), Optional.empty())
+                .verifyComplete();
+        verify(priceRepository, times(1)).findApplicablePrices(List.of(promotion, unknown));
+    }
+
+    private Price createPrice(ProductId productId, BrandId brandId, Priority priority, BigDecimal amount) {
+        return Price.of(
+                productId,
+                brandId,
+                PriceList.of(1),
+                DateRange.of(
+                        LocalDateTime.of(2020, 6, 14, 0, 0),
+                        LocalDateTime.of(2020, 12, 31, 23, 59)
+                ),
+                priority,
+                Money.of(amount, "EUR")
+        );
+    }
+}
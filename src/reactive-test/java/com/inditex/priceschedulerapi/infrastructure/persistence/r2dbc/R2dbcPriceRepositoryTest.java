@@ -0,0 +1,72 @@
+package com.inditex.priceschedulerapi.infrastructure.persistence.r2dbc;
+
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import com.inditex.priceschedulerapi.domain.valueobject.PriceLookup;
+import com.inditex.priceschedulerapi.domain.valueobject.ProductId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Integration tests for R2dbcPriceRepository.
+ * Inserts prices through JDBC and reads them back through R2DBC from the same in-memory database.
+ */
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+class R2dbcPriceRepositoryTest {
+
+    @Autowired
+    private R2dbcPriceRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void deleteInsertedPrices() {
+        jdbcTemplate.update("DELETE FROM PRICES WHERE PRODUCT_ID IN (100, 200)");
+    }
+
+    @Test
+    void findApplicableToAny_shouldFetchOnlyPricesApplicableToSomeLookupOfTheBatch() {
+        // Arrange
+        insertPrice(100L, 2020);
+        insertPrice(100L, 2025);
+        insertPrice(200L, 2020);
+        insertPrice(200L, 2025);
+
+        PriceLookup firstProductLookup = PriceLookup.of(ProductId.of(100L), BrandId.of(1), LocalDateTime.of(2020, 10, 15, 10, 0));
+        PriceLookup secondProductLookup = PriceLookup.of(ProductId.of(200L), BrandId.of(1), LocalDateTime.of(2025, 10, 15, 10, 0));
+
+        // Act / Assert
+        StepVerifier.create(repository.findApplicableToAny(List.of(firstProductLookup, secondProductLookup)).collectList())
+                .assertNext(prices -> assertThat(prices)
+                        .extracting(price -> price.getProductId().getValue(), price -> price.getPriceList().getValue())
+                        .containsExactlyInAnyOrder(tuple(100L, 2020), tuple(200L, 2025)))
+                .verifyComplete();
+        StepVerifier.create(repository.findApplicablePrices(List.of(firstProductLookup, secondProductLookup)))
+                .assertNext(pricesByLookup -> {
+                    assertThat(pricesByLookup.get(firstProductLookup))
+                            .extracting(price -> price.getPriceList().getValue()).containsExactly(2020);
+                    assertThat(pricesByLookup.get(secondProductLookup))
+                            .extracting(price -> price.getPriceList().getValue()).containsExactly(2025);
+                })
+                .verifyComplete();
+    }
+
+    /**
+     * Inserts a price of brand 1 valid through October of the given year, with the year as price list.
+     */
+    private void insertPrice(long productId, int year) {
+        jdbcTemplate.update("INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR) "
+                        + "VALUES (1, ?, ?, ?, ?, 0, 10.00, 'EUR')",
+                LocalDateTime.of(year, 10, 1, 0, 0), LocalDateTime.of(year, 10, 31, 23, 59, 59), year, productId);
+    }
+}
@@ -0,0 +1,127 @@
+package com.inditex.priceschedulerapi.presentation.controller;
+
+import com.inditex.priceschedulerapi.application.dto.PriceBatchQueryResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for ReactivePriceController.
+ * Runs the application on WebFlux and Netty with the R2DBC repository and checks that it
+ * answers the same scenarios as the servlet stack.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.main.web-application-type=reactive")
+@AutoConfigureWebTestClient
+class ReactivePriceControllerIntegrationTest {
+
+    private static final String BATCH = """
+            {"queries": [
+              {"productId": 35455, "brandId": 1, "applicationDate": "2020-06-14T10:00:00"},
+              {"productId": 35455, "brandId": 1, "applicationDate": "2020-06-14T16:00:00"},
+              {"productId": 35455, "brandId": 1, "applicationDate": "2020-06-14T21:00:00"},
+              {"productId": 35455, "brandId": 1, "applicationDate": "2020-06-15T10:00:00"},
+              {"productId": 35455, "brandId": 1, "applicationDate": "2020-06-16T21:00:00"},
+              {"productId": 99999, "brandId": 1, "applicationDate": "2020-06-14T10:00:00"}
+            ]}
+            """;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void shouldReturnHighestPriorityPrice() {
+        webTestClient.get()
+                .uri("/api/v1/prices?productId=35455&brandId=1&applicationDate=2020-06-14T16:00:00")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.priceList").isEqualTo(2)
+                .jsonPath("$.startDate").isEqualTo("2020-06-14T15:00:00")
+                .jsonPath("$.price").isEqualTo(25.45)
+                .jsonPath("$.currency").isEqualTo("EUR");
+    }
+
+    @Test
+    void shouldReturn404WhenNoPriceFound() {
+        webTestClient.get()
+                .uri("/api/v1/prices?productId=99999&brandId=1&applicationDate=2020-06-14T10:00:00")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void shouldReturn400ForInvalidParameters() {
+        webTestClient.get()
+                .uri("/api/v1/prices?productId=-1&brandId=1&applicationDate=2020-06-14T10:00:00")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Validation failed");
+    }
+
+    @Test
+    void shouldReturn400ForInvalidDate() {
+        webTestClient.get()
+                .uri("/api/v1/prices?productId=35455&brandId=1&applicationDate=not-a-date")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errors.applicationDate").exists();
+    }
+
+    @Test
+    void shouldReturnBatchResultsInRequestOrder() {
+        webTestClient.post()
+                .uri("/api/v1/prices/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(BATCH)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.results.length()").isEqualTo(6)
+                .jsonPath("$.results[0].price.priceList").isEqualTo(1)
+                .jsonPath("$.results[1].price.priceList").isEqualTo(2)
+                .jsonPath("$.results[2].price.priceList").isEqualTo(1)
+                .jsonPath("$.results[3].price.priceList").isEqualTo(3)
+                .jsonPath("$.results[4].price.priceList").isEqualTo(4)
+                .jsonPath("$.results[5].found").isEqualTo(false);
+    }
+
+    @Test
+    void shouldStreamBatchResultsAsNdjson() {
+        List<PriceBatchQueryResponse.Result> results = webTestClient.post()
+                .uri("/api/v1/prices/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(BATCH)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(PriceBatchQueryResponse.Result.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(results).extracting(PriceBatchQueryResponse.Result::found)
+                .containsExactly(true, true, true, true, true, false);
+        assertThat(results.get(1).price().priceList()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReturn400ForEmptyBatch() {
+        webTestClient.post()
+                .uri("/api/v1/prices/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"queries\": []}")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+}
@@ -0,0 +1,58 @@
+package com.inditex.priceschedulerapi.application.usecase;
+
+import com.inditex.priceschedulerapi.application.dto.PriceBatchQueryRequest;
+import com.inditex.priceschedulerapi.application.dto.PriceBatchQueryResponse;
+import com.inditex.priceschedulerapi.application.dto.PriceQueryRequest;
+import com.inditex.priceschedulerapi.application.dto.PriceQueryResponse;
+import com.inditex.priceschedulerapi.application.mapper.PriceMapper;
+import com.inditex.priceschedulerapi.domain.service.ReactivePriceSelectionService;
+import com.inditex.priceschedulerapi.domain.valueobject.PriceLookup;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Reactive counterpart of {@link GetApplicablePriceUseCase}: same DTO to domain conversion,
+ * with the selection published by {@link ReactivePriceSelectionService}.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveGetApplicablePriceUseCase {
+
+    private final ReactivePriceSelectionService priceSelectionService;
+    private final PriceMapper priceMapper;
+
+    /**
+     * Executes the use case to find the applicable price.
+     *
+     * @param request the price query request containing productId, brandId and applicationDate
+     * @return the price response, or an empty Mono if no price is found
+     */
+    public Mono<PriceQueryResponse> execute(PriceQueryRequest request) {
+        return priceSelectionService.findApplicablePrice(
+                        priceMapper.toProductId(request),
+                        priceMapper.toBrandId(request),
+                        request.applicationDate())
+                .map(priceMapper::toResponse);
+    }
+
+    /**
+     * Executes the use case for a batch of queries, resolving all of them with a single
+     * repository call instead of one per query.
+     *
+     * @param request the batch request containing the queries to resolve
+     * @return one result per query, in request order
+     */
+    public Flux<PriceBatchQueryResponse.Result> executeBatch(PriceBatchQueryRequest request) {
+        List<PriceQueryRequest> queries = request.queries();
+        List<PriceLookup> lookups = queries.stream()
+                .map(priceMapper::toLookup)
+                .toList();
+
+        return priceSelectionService.findApplicablePrices(lookups)
+                .index((i, price) -> priceMapper.toBatchResult(queries.get(Math.toIntExact(i)), price));
+    }
+}
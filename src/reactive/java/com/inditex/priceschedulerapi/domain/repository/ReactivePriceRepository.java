@@ -0,0 +1,38 @@
+package com.inditex.priceschedulerapi.domain.repository;
+
+import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import com.inditex.priceschedulerapi.domain.valueobject.PriceLookup;
+import com.inditex.priceschedulerapi.domain.valueobject.ProductId;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking counterpart of {@link PriceRepository} for the reactive stack.
+ * Same contract, but results are published instead of returned, so no thread waits on the database.
+ */
+public interface ReactivePriceRepository {
+
+    /**
+     * Finds all prices applicable for a given product, brand and date.
+     *
+     * @param productId the product identifier
+     * @param brandId the brand identifier
+     * @param applicationDate the date to check for applicability
+     * @return the matching prices, possibly none
+     */
+    Flux<Price> findApplicablePrices(ProductId productId, BrandId brandId, LocalDateTime applicationDate);
+
+    /**
+     * Finds the applicable prices of every lookup of a batch.
+     *
+     * @param lookups the product, brand and application date of every lookup
+     * @return the matching prices of every distinct lookup; lookups without prices map to an empty list
+     */
+    Mono<Map<PriceLookup, List<Price>>> findApplicablePrices(Collection<PriceLookup> lookups);
+}
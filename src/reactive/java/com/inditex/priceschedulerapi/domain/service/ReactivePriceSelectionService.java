@@ -0,0 +1,56 @@
+package com.inditex.priceschedulerapi.domain.service;
+
+import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.repository.ReactivePriceRepository;
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import com.inditex.priceschedulerapi.domain.valueobject.PriceLookup;
+import com.inditex.priceschedulerapi.domain.valueobject.ProductId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BinaryOperator;
+
+/**
+ * Reactive counterpart of {@link PriceSelectionService}, applying the same business rule:
+ * when multiple prices are applicable, the one with the highest priority is selected.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactivePriceSelectionService {
+
+    private static final BinaryOperator<Price> HIGHEST_PRIORITY = BinaryOperator.maxBy(Comparator.comparing(Price::getPriority));
+
+    private final ReactivePriceRepository priceRepository;
+
+    /**
+     * Finds the applicable price for a given product, brand and application date.
+     *
+     * @param productId the product identifier
+     * @param brandId the brand identifier
+     * @param applicationDate the date to check price applicability
+     * @return the selected price, or an empty Mono if no price is applicable
+     */
+    public Mono<Price> findApplicablePrice(ProductId productId, BrandId brandId, LocalDateTime applicationDate) {
+        return priceRepository.findApplicablePrices(productId, brandId, applicationDate)
+                .reduce(HIGHEST_PRIORITY);
+    }
+
+    /**
+     * Finds the applicable price of every lookup of a batch with a single repository call.
+     *
+     * @param lookups the product, brand and application date of every lookup
+     * @return the selected price of every lookup, in the same order as the lookups
+     */
+    public Flux<Optional<Price>> findApplicablePrices(List<PriceLookup> lookups) {
+        return priceRepository.findApplicablePrices(lookups)
+                .flatMapIterable(pricesByLookup -> lookups.stream()
+                        .map(lookup -> pricesByLookup.getOrDefault(lookup, List.of()).stream().reduce(HIGHEST_PRIORITY))
+                        .toList());
+    }
+}
@@ -0,0 +1,25 @@
+package com.inditex.priceschedulerapi.infrastructure.config;
+
+import com.inditex.priceschedulerapi.infrastructure.persistence.r2dbc.R2dbcPriceProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Reactive stack configuration.
+ * Binds {@code price-scheduler.r2dbc} for the R2DBC repository and, when the application runs
+ * as a reactive web application, serves it from Reactor Netty's event loops. Tomcat stays on
+ * the classpath for the servlet stack and would otherwise be preferred by Spring Boot.
+ */
+@Configuration
+@EnableConfigurationProperties(R2dbcPriceProperties.class)
+public class ReactivePriceConfig {
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
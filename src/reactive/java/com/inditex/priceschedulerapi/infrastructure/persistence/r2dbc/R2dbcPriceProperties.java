@@ -0,0 +1,30 @@
+package com.inditex.priceschedulerapi.infrastructure.persistence.r2dbc;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Connection settings of the reactive price repository.
+ *
+ * The default URL points at the in-memory database created and initialized through JDBC,
+ * so both stacks read the same PRICES table.
+ *
+ * @param url R2DBC URL of the database
+ * @param username Database user
+ * @param password Database password
+ * @param maxPoolSize Maximum number of pooled R2DBC connections
+ */
+@ConfigurationProperties(prefix = "price-scheduler.r2dbc")
+public record R2dbcPriceProperties(
+        @DefaultValue("r2dbc:h2:mem:///price-scheduler-db") String url,
+        @DefaultValue("admin") String username,
+        @DefaultValue("") String password,
+        @DefaultValue("20") int maxPoolSize
+) {
+
+    public R2dbcPriceProperties {
+        if (maxPoolSize < 1) {
+            throw new IllegalArgumentException("R2DBC max pool size must be positive");
+        }
+    }
+}
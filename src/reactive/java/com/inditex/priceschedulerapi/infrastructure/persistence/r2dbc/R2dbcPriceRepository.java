@@ -0,0 +1,166 @@
+package com.inditex.priceschedulerapi.infrastructure.persistence.r2dbc;
+
+import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.repository.ReactivePriceRepository;
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import com.inditex.priceschedulerapi.domain.valueobject.DateRange;
+import com.inditex.priceschedulerapi.domain.valueobject.Money;
+import com.inditex.priceschedulerapi.domain.valueobject.PriceKey;
+import com.inditex.priceschedulerapi.domain.valueobject.PriceList;
+import com.inditex.priceschedulerapi.domain.valueobject.PriceLookup;
+import com.inditex.priceschedulerapi.domain.valueobject.Priority;
+import com.inditex.priceschedulerapi.domain.valueobject.ProductId;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * R2DBC implementation of the domain ReactivePriceRepository interface.
+ * Runs the same queries as the JPA adapter through a {@link DatabaseClient}, mapping rows
+ * straight to domain objects without an entity in between.
+ *
+ * The connection pool is owned by this repository instead of being exposed as a
+ * {@code ConnectionFactory} bean: such a bean would make Spring Boot back off from the JDBC
+ * DataSource that the JPA repositories, the importer and the schema initialization rely on.
+ */
+@Component
+public class R2dbcPriceRepository implements ReactivePriceRepository, DisposableBean {
+
+    private static final String SELECT_PRICES =
+            "SELECT PRODUCT_ID, BRAND_ID, PRICE_LIST, START_DATE, END_DATE, PRIORITY, PRICE, CURR FROM PRICES ";
+
+    private static final String FIND_APPLICABLE_SQL = SELECT_PRICES
+            + "WHERE PRODUCT_ID = :productId AND BRAND_ID = :brandId "
+            + "AND START_DATE <= :applicationDate AND END_DATE >= :applicationDate";
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+
+    public R2dbcPriceRepository(R2dbcPriceProperties properties) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(properties.url()).mutate()
+                .option(ConnectionFactoryOptions.USER, properties.username())
+                .option(ConnectionFactoryOptions.PASSWORD, properties.password())
+                .build();
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .initialSize(1)
+                .maxSize(properties.maxPoolSize())
+                .build());
+        this.databaseClient = DatabaseClient.create(connectionPool);
+    }
+
+    @Override
+    public Flux<Price> findApplicablePrices(ProductId productId, BrandId brandId, LocalDateTime applicationDate) {
+        return databaseClient.sql(FIND_APPLICABLE_SQL)
+                .bind("productId", productId.getValue())
+                .bind("brandId", brandId.getValue())
+                .bind("applicationDate", applicationDate)
+                .map(R2dbcPriceRepository::toDomain)
+                .all();
+    }
+
+    /**
+     * Resolves the whole batch with one query: the rows applicable to some lookup are fetched once
+     * (see {@link #findApplicableToAny}) and then matched to each lookup.
+     */
+    @Override
+    public Mono<Map<PriceLookup, List<Price>>> findApplicablePrices(Collection<PriceLookup> lookups) {
+        if (lookups.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        return findApplicableToAny(lookups)
+                .collect(Collectors.groupingBy(price -> PriceKey.of(price.getProductId(), price.getBrandId())))
+                .map(candidatesByKey -> {
+                    Map<PriceLookup, List<Price>> pricesByLookup = new HashMap<>();
+                    for (PriceLookup lookup : lookups) {
+                        pricesByLookup.put(lookup, candidatesByKey.getOrDefault(lookup.getKey(), List.of())
+                                .stream()
+                                .filter(price -> price.isApplicableOn(lookup.getApplicationDate()))
+                                .toList());
+                    }
+                    return pricesByLookup;
+                });
+    }
+
+    /**
+     * Finds the prices applicable to any of the given lookups with a single query. The lookups are
+     * grouped by product and brand, so each pair is matched once, against the application dates
+     * requested for it only, as in {@code JpaPriceRepositoryAdapter.findApplicableToAny}:
+     *
+     * SELECT ... FROM PRICES
+     * WHERE (PRODUCT_ID = :p0 AND BRAND_ID = :b0
+     *        AND (START_DATE <= :d0_0 AND END_DATE >= :d0_0 OR START_DATE <= :d0_1 AND END_DATE >= :d0_1 ...))
+     * OR (PRODUCT_ID = :p1 AND BRAND_ID = :b1 AND (...))
+     * ...
+     *
+     * @param lookups the lookups to resolve, not empty
+     * @return the prices applicable to at least one lookup, each returned once
+     */
+    Flux<Price> findApplicableToAny(Collection<PriceLookup> lookups) {
+        Map<PriceKey, Set<LocalDateTime>> datesByKey = lookups.stream()
+                .collect(Collectors.groupingBy(PriceLookup::getKey,
+                        Collectors.mapping(PriceLookup::getApplicationDate, Collectors.toSet())));
+
+        StringBuilder sql = new StringBuilder(SELECT_PRICES).append("WHERE ");
+        Map<String, Object> bindings = new HashMap<>();
+        int key = 0;
+        for (Map.Entry<PriceKey, Set<LocalDateTime>> entry : datesByKey.entrySet()) {
+            sql.append(key == 0 ? "" : " OR ")
+                    .append("(PRODUCT_ID = :p").append(key)
+                    .append(" AND BRAND_ID = :b").append(key)
+                    .append(" AND (");
+            bindings.put("p" + key, entry.getKey().getProductId().getValue());
+            bindings.put("b" + key, entry.getKey().getBrandId().getValue());
+            int date = 0;
+            for (LocalDateTime applicationDate : entry.getValue()) {
+                String name = "d" + key + "_" + date;
+                sql.append(date == 0 ? "" : " OR ")
+                        .append("START_DATE <= :").append(name).append(" AND END_DATE >= :").append(name);
+                bindings.put(name, applicationDate);
+                date++;
+            }
+            sql.append("))");
+            key++;
+        }
+
+        return databaseClient.sql(sql.toString())
+                .bindValues(bindings)
+                .map(R2dbcPriceRepository::toDomain)
+                .all();
+    }
+
+    /**
+     * Closes the pooled connections when the application context shuts down.
+     */
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+
+    private static Price toDomain(Readable row) {
+        return Price.of(
+                ProductId.of(row.get("PRODUCT_ID", Long.class)),
+                BrandId.of(row.get("BRAND_ID", Integer.class)),
+                PriceList.of(row.get("PRICE_LIST", Integer.class)),
+                DateRange.of(row.get("START_DATE", LocalDateTime.class), row.get("END_DATE", LocalDateTime.class)),
+                Priority.of(row.get("PRIORITY", Integer.class)),
+                Money.of(row.get("PRICE", BigDecimal.class), row.get("CURR", String.class))
+        );
+    }
+}
@@ -0,0 +1,97 @@
+package com.inditex.priceschedulerapi.presentation.controller;
+
+import com.inditex.priceschedulerapi.application.dto.PriceBatchQueryRequest;
+import com.inditex.priceschedulerapi.application.dto.PriceBatchQueryResponse;
+import com.inditex.priceschedulerapi.application.dto.PriceQueryRequest;
+import com.inditex.priceschedulerapi.application.dto.PriceQueryResponse;
+import com.inditex.priceschedulerapi.application.usecase.ReactiveGetApplicablePriceUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reactive REST Controller for price queries.
+ * Serves the same API as {@link PriceController} when the application runs on WebFlux.
+ */
+@RestController
+@RequestMapping("/api/v1/prices")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Prices", description = "Price query operations")
+public class ReactivePriceController {
+
+    private final ReactiveGetApplicablePriceUseCase getApplicablePriceUseCase;
+
+    /**
+     * Queries the applicable price for a given product, brand and application date.
+     *
+     * @param productId Product identifier
+     * @param brandId Brand identifier
+     * @param applicationDate Date and time when the price should be applicable
+     * @return the price with 200 OK, or 404 Not Found
+     */
+    @GetMapping
+    @Operation(summary = "Get applicable price", description = "Retrieves the price with the highest priority applicable on the given date")
+    public Mono<ResponseEntity<PriceQueryResponse>> getApplicablePrice(
+            @RequestParam
+            @NotNull(message = "Product ID cannot be null")
+            @Positive(message = "Product ID must be positive")
+            Long productId,
+
+            @RequestParam
+            @NotNull(message = "Brand ID cannot be null")
+            @Positive(message = "Brand ID must be positive")
+            Integer brandId,
+
+            @RequestParam
+            @NotNull(message = "Application date cannot be null")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime applicationDate
+    ) {
+        PriceQueryRequest request = new PriceQueryRequest(productId, brandId, applicationDate);
+
+        return getApplicablePriceUseCase.execute(request)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Queries the applicable prices of several product, brand and application date combinations at once.
+     *
+     * @param request Batch of price queries
+     * @return one result per query, in request order
+     */
+    @PostMapping(value = "/batch", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get applicable prices in batch", description = "Retrieves the applicable price of every query of the batch with a single lookup")
+    public Mono<PriceBatchQueryResponse> getApplicablePrices(@Valid @RequestBody PriceBatchQueryRequest request) {
+        return getApplicablePriceUseCase.executeBatch(request)
+                .collectList()
+                .map(PriceBatchQueryResponse::new);
+    }
+
+    /**
+     * Streams the results of a batch as newline-delimited JSON, one result per line in request order.
+     *
+     * @param request Batch of price queries
+     * @return one result per query, in request order
+     */
+    @PostMapping(value = "/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream applicable prices in batch", description = "Same as the batch query, written as one JSON result per line")
+    public Flux<PriceBatchQueryResponse.Result> streamApplicablePrices(@Valid @RequestBody PriceBatchQueryRequest request) {
+        return getApplicablePriceUseCase.executeBatch(request);
+    }
+}
@@ -0,0 +1,124 @@
+package com.inditex.priceschedulerapi.presentation.exception;
+
+import com.inditex.priceschedulerapi.presentation.exception.GlobalExceptionHandler.ErrorResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
+import org.springframework.web.server.UnsupportedMediaTypeStatusException;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Exception handler for the reactive controllers.
+ * Maps WebFlux's exceptions to the same {@link ErrorResponse} bodies as {@link GlobalExceptionHandler}.
+ */
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExceptionHandler {
+
+    /**
+     * Handles validation errors for request body (@Valid on @RequestBody).
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleValidationExceptions(WebExchangeBindException ex) {
+        Map<String, String> errors = new HashMap<>();
+        ex.getBindingResult().getAllErrors().forEach((error) -> {
+            String fieldName = error instanceof FieldError fieldError ? fieldError.getField() : error.getObjectName();
+            errors.put(fieldName, error.getDefaultMessage());
+        });
+
+        return badRequest("Validation failed", errors);
+    }
+
+    /**
+     * Handles validation errors for request parameters (@Valid on @RequestParam).
+     */
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ErrorResponse> handleConstraintViolationException(ConstraintViolationException ex) {
+        Map<String, String> errors = ex.getConstraintViolations().stream()
+                .collect(Collectors.toMap(
+                        violation -> violation.getPropertyPath().toString(),
+                        ConstraintViolation::getMessage
+                ));
+
+        return badRequest("Validation failed", errors);
+    }
+
+    /**
+     * Handles missing or unconvertible request parameters and unreadable bodies (e.g., invalid date format).
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleServerWebInputException(ServerWebInputException ex) {
+        Map<String, String> errors = new HashMap<>();
+        String name = ex.getMethodParameter() != null ? ex.getMethodParameter().getParameterName() : "request";
+        errors.put(name, ex.getReason());
+
+        return badRequest("Invalid request", errors);
+    }
+
+    /**
+     * Handles domain exceptions (e.g., IllegalArgumentException from Value Objects).
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
+        Map<String, String> errors = new HashMap<>();
+        errors.put("error", ex.getMessage());
+
+        return badRequest("Invalid argument", errors);
+    }
+
+    /**
+     * Handles request bodies sent with a content type the endpoint does not consume.
+     */
+    @ExceptionHandler(UnsupportedMediaTypeStatusException.class)
+    public ResponseEntity<ErrorResponse> handleMediaTypeNotSupportedException(UnsupportedMediaTypeStatusException ex) {
+        Map<String, String> errors = new HashMap<>();
+        errors.put("contentType", "Unsupported content type: " + ex.getContentType());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.UNSUPPORTED_MEDIA_TYPE.value(),
+                "Unsupported media type",
+                errors,
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).body(errorResponse);
+    }
+
+    /**
+     * Handles all other unexpected exceptions.
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
+        Map<String, String> errors = new HashMap<>();
+        errors.put("error", "An unexpected error occurred");
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                "Internal server error",
+                errors,
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+    }
+
+    private static ResponseEntity<ErrorResponse> badRequest(String message, Map<String, String> errors) {
+        return ResponseEntity.badRequest().body(new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                message,
+                errors,
+                LocalDateTime.now()
+        ));
+    }
+}
@@ -1,15 +1,24 @@
 package com.inditex.priceschedulerapi.application.mapper;
 
+import com.inditex.priceschedulerapi.application.dto.PriceBatchQueryResponse;
 import com.inditex.priceschedulerapi.application.dto.PriceQueryRequest;
 import com.inditex.priceschedulerapi.application.dto.PriceQueryResponse;
+import com.inditex.priceschedulerapi.application.dto.PriceScheduleEntry;
+import com.inditex.priceschedulerapi.application.dto.PriceScheduleRequest;
+import com.inditex.priceschedulerapi.application.dto.PriceSeriesResponse;
 import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.model.PriceSegment;
 import com.inditex.priceschedulerapi.domain.valueobject.*;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class PriceMapperTest {
 
@@ -72,5 +81,164 @@ class PriceMapperTest {
         assertEquals(LocalDateTime.of(2023, 12, 31, 23, 59), response.endDate());
         assertEquals(new BigDecimal("35.50"), response.price());
         assertEquals("EUR", response.currency());
+        assertNull(response.validFrom());
+        assertNull(response.validUntil());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testToResponseWithSegment_shouldExposeValidityWindow() {
+        // Given
+        Price price = Price.of(
+                ProductId.of(35455L),
+                BrandId.of(1),
+                PriceList.of(1),
+                DateRange.of(LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59)),
+                Priority.of(0),
+                Money.of(new BigDecimal("35.50"), "EUR")
+        );
+        PriceSegment segment = PriceSegment.of(
+                DateRange.of(LocalDateTime.of(2020, 6, 14, 18, 30, 0, 1), LocalDateTime.of(2020, 6, 15, 0, 0).minusNanos(1)),
+                price
+        );
+
+        // When
+        PriceQueryResponse response = priceMapper.toResponse(segment);
+
+        // Then
+        assertEquals(1, response.priceList());
+        assertEquals(LocalDateTime.of(2020, 6, 14, 0, 0), response.startDate());
+        assertEquals(LocalDateTime.of(2020, 6, 14, 18, 30, 0, 1), response.validFrom());
+        assertEquals(LocalDateTime.of(2020, 6, 15, 0, 0).minusNanos(1), response.validUntil());
+    }
+
+    @Test
+    void testToLookup() {
+        // Given
+        PriceQueryRequest request = new PriceQueryRequest(
+                35455L,
+                1,
+                LocalDateTime.of(2023, 10, 18, 10, 0)
+        );
+
+        // When
+        PriceLookup lookup = priceMapper.toLookup(request);
+
+        // Then
+        assertEquals(PriceLookup.of(ProductId.of(35455L), BrandId.of(1), LocalDateTime.of(2023, 10, 18, 10, 0)), lookup);
+    }
+
+    @Test
+    void testToBatchResultWithoutPrice() {
+        // Given
+        PriceQueryRequest request = new PriceQueryRequest(
+                99999L,
+                1,
+                LocalDateTime.of(2023, 10, 18, 10, 0)
+        );
+
+        // When
+        PriceBatchQueryResponse.Result result = priceMapper.toBatchResult(request, Optional.empty());
+
+        // Then
+        assertEquals(99999L, result.productId());
+        assertEquals(1, result.brandId());
+        assertEquals(LocalDateTime.of(2023, 10, 18, 10, 0), result.applicationDate());
+        assertFalse(result.found());
+        assertNull(result.price());
+    }
+
+    @Test
+    void testToBatchResultWithPrice() {
+        // Given
+        PriceQueryRequest request = new PriceQueryRequest(
+                35455L,
+                1,
+                LocalDateTime.of(2023, 10, 18, 10, 0)
+        );
+        Price price = Price.of(
+                ProductId.of(35455L),
+                BrandId.of(1),
+                PriceList.of(2),
+                DateRange.of(LocalDateTime.of(2023, 10, 18, 0, 0), LocalDateTime.of(2023, 12, 31, 23, 59)),
+                Priority.of(0),
+                Money.of(new BigDecimal("35.50"), "EUR")
+        );
+
+        // When
+        PriceBatchQueryResponse.Result result = priceMapper.toBatchResult(request, Optional.of(price));
+
+        // Then
+        assertTrue(result.found());
+        assertEquals(priceMapper.toResponse(price), result.price());
+    }
+
+    @Test
+    void testToSeriesResult() {
+        // Given
+        LocalDateTime applicationDate = LocalDateTime.of(2023, 10, 18, 10, 0);
+        Price price = Price.of(
+                ProductId.of(35455L),
+                BrandId.of(1),
+                PriceList.of(2),
+                DateRange.of(LocalDateTime.of(2023, 10, 18, 0, 0), LocalDateTime.of(2023, 12, 31, 23, 59)),
+                Priority.of(0),
+                Money.of(new BigDecimal("35.50"), "EUR")
+        );
+        PriceSegment segment = PriceSegment.of(price.getDateRange(), price);
+
+        // When
+        PriceSeriesResponse.Result found = priceMapper.toSeriesResult(applicationDate, Optional.of(segment));
+        PriceSeriesResponse.Result missing = priceMapper.toSeriesResult(applicationDate, Optional.empty());
+
+        // Then
+        assertEquals(applicationDate, found.applicationDate());
+        assertTrue(found.found());
+        assertEquals(priceMapper.toResponse(segment), found.price());
+        assertFalse(missing.found());
+        assertNull(missing.price());
+    }
+
+    @Test
+    void testToWindow() {
+        // Given
+        PriceScheduleRequest request = new PriceScheduleRequest(
+                35455L,
+                1,
+                LocalDateTime.of(2023, 10, 1, 0, 0),
+                LocalDateTime.of(2023, 10, 31, 23, 59)
+        );
+
+        // When
+        DateRange window = priceMapper.toWindow(request);
+
+        // Then
+        assertEquals(DateRange.of(LocalDateTime.of(2023, 10, 1, 0, 0), LocalDateTime.of(2023, 10, 31, 23, 59)), window);
+    }
+
+    @Test
+    void testToScheduleEntryUsesSegmentValidity() {
+        // Given
+        Price price = Price.of(
+                ProductId.of(35455L),
+                BrandId.of(1),
+                PriceList.of(2),
+                DateRange.of(LocalDateTime.of(2023, 10, 18, 0, 0), LocalDateTime.of(2023, 12, 31, 23, 59)),
+                Priority.of(0),
+                Money.of(new BigDecimal("35.50"), "EUR")
+        );
+        PriceSegment segment = PriceSegment.of(
+                DateRange.of(LocalDateTime.of(2023, 10, 18, 0, 0), LocalDateTime.of(2023, 10, 31, 23, 59)), price);
+
+        // When
+        PriceScheduleEntry entry = priceMapper.toScheduleEntry(segment);
+
+        // Then
+        assertEquals(35455L, entry.productId());
+        assertEquals(1, entry.brandId());
+        assertEquals(2, entry.priceList());
+        assertEquals(LocalDateTime.of(2023, 10, 18, 0, 0), entry.startDate());
+        assertEquals(LocalDateTime.of(2023, 10, 31, 23, 59), entry.endDate());
+        assertEquals(new BigDecimal("35.50"), entry.price());
+        assertEquals("EUR", entry.currency());
+    }
+}
@@ -1,19 +1,32 @@
 package com.inditex.priceschedulerapi.application.usecase;
 
+import com.inditex.priceschedulerapi.application.dto.PriceBatchQueryRequest;
+import com.inditex.priceschedulerapi.application.dto.PriceBatchQueryResponse;
 import com.inditex.priceschedulerapi.application.dto.PriceQueryRequest;
 import com.inditex.priceschedulerapi.application.dto.PriceQueryResponse;
+import com.inditex.priceschedulerapi.application.dto.PriceScheduleEntry;
+import com.inditex.priceschedulerapi.application.dto.PriceScheduleRequest;
+import com.inditex.priceschedulerapi.application.dto.PriceSeriesRequest;
+import com.inditex.priceschedulerapi.application.dto.PriceSeriesResponse;
 import com.inditex.priceschedulerapi.application.mapper.PriceMapper;
 import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.model.PriceSegment;
 import com.inditex.priceschedulerapi.domain.service.PriceSelectionService;
 import com.inditex.priceschedulerapi.domain.valueobject.*;
+import com.inditex.priceschedulerapi.infrastructure.metrics.PriceLookupMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -29,6 +42,9 @@ class GetApplicablePriceUseCaseTest {
     @Mock
     private PriceMapper priceMapper;
 
+    @Spy
+    private PriceLookupMetrics priceLookupMetrics = new PriceLookupMetrics(new SimpleMeterRegistry(), Set.of(1));
+
     @InjectMocks
     private GetApplicablePriceUseCase getApplicablePriceUseCase;
 
@@ -43,18 +59,21 @@ class GetApplicablePriceUseCaseTest {
                 Priority.of(0),
                 Money.of(new BigDecimal("35.50"), "EUR")
         );
+        PriceSegment segment = PriceSegment.of(price.getDateRange(), price);
         PriceQueryResponse response = new PriceQueryResponse(1L, 1, 1001, LocalDateTime.of(2025, 10, 19, 0, 0),
-                LocalDateTime.of(2025, 10, 20, 23, 59), new BigDecimal("35.50"), "EUR");
+                LocalDateTime.of(2025, 10, 20, 23, 59), new BigDecimal("35.50"), "EUR",
+                LocalDateTime.of(2025, 10, 19, 0, 0), LocalDateTime.of(2025, 10, 20, 23, 59));
 
         when(priceMapper.toProductId(request)).thenReturn(ProductId.of(1L));
         when(priceMapper.toBrandId(request)).thenReturn(BrandId.of(1));
-        when(priceSelectionService.findApplicablePrice(any(), any(), any()))
-                .thenReturn(Optional.of(price));
-        when(priceMapper.toResponse(price)).thenReturn(response);
+        when(priceSelectionService.findEffectiveSegment(any(), any(), any()))
+                .thenReturn(Optional.of(segment));
+        when(priceMapper.toResponse(segment)).thenReturn(response);
 
         Optional<PriceQueryResponse> result = getApplicablePriceUseCase.execute(request);
 
         assertTrue(result.isPresent());
+        assertEquals(1, priceLookupMetrics.timer(PriceLookupMetrics.Layer.USE_CASE, 1).count());
         assertEquals(response, result.get());
     }
 
@@ -64,7 +83,7 @@ class GetApplicablePriceUseCaseTest {
 
         when(priceMapper.toProductId(request)).thenReturn(ProductId.of(2L));
         when(priceMapper.toBrandId(request)).thenReturn(BrandId.of(2));
-        when(priceSelectionService.findApplicablePrice(any(), any(), any()))
+        when(priceSelectionService.findEffectiveSegment(any(), any(), any()))
                 .thenReturn(Optional.empty());
 
         Optional<PriceQueryResponse> result = getApplicablePriceUseCase.execute(request);
@@ -83,4 +102,92 @@ class GetApplicablePriceUseCaseTest {
 
         assertTrue(result.isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReturnBatchResultsInRequestOrder() {
+        PriceQueryRequest found = new PriceQueryRequest(1L, 1, LocalDateTime.of(2025, 10, 19, 10, 30));
+        PriceQueryRequest missing = new PriceQueryRequest(2L, 1, LocalDateTime.of(2025, 10, 19, 10, 30));
+        Price price = Price.of(
+                ProductId.of(1L),
+                BrandId.of(1),
+                PriceList.of(1001),
+                DateRange.of(LocalDateTime.of(2025, 10, 19, 0, 0), LocalDateTime.of(2025, 10, 20, 23, 59)),
+                Priority.of(0),
+                Money.of(new BigDecimal("35.50"), "EUR")
+        );
+        PriceLookup foundLookup = PriceLookup.of(ProductId.of(1L), BrandId.of(1), found.applicationDate());
+        PriceLookup missingLookup = PriceLookup.of(ProductId.of(2L), BrandId.of(1), missing.applicationDate());
+        PriceBatchQueryResponse.Result foundResult = new PriceBatchQueryResponse.Result(
+                1L, 1, found.applicationDate(), true, null);
+        PriceBatchQueryResponse.Result missingResult = new PriceBatchQueryResponse.Result(
+                2L, 1, missing.applicationDate(), false, null);
+
+        when(priceMapper.toLookup(found)).thenReturn(foundLookup);
+        when(priceMapper.toLookup(missing)).thenReturn(missingLookup);
+        when(priceSelectionService.findApplicablePrices(List.of(foundLookup, missingLookup)))
+                .thenReturn(List.of(Optional.of(price), Optional.empty()));
+        when(priceMapper.toBatchResult(found, Optional.of(price))).thenReturn(foundResult);
+        when(priceMapper.toBatchResult(missing, Optional.empty())).thenReturn(missingResult);
+
+        PriceBatchQueryResponse result = getApplicablePriceUseCase.executeBatch(
+                new PriceBatchQueryRequest(List.of(found, missing)));
+
+        assertEquals(List.of(foundResult, missingResult), result.results());
+    }
+
+    @Test
+    void shouldMapEveryScheduleSegmentToAnEntry() {
+        PriceScheduleRequest request = new PriceScheduleRequest(1L, 1,
+                LocalDateTime.of(2025, 10, 1, 0, 0), LocalDateTime.of(2025, 10, 31, 23, 59));
+        DateRange window = DateRange.of(request.from(), request.to());
+        Price price = Price.of(
+                ProductId.of(1L),
+                BrandId.of(1),
+                PriceList.of(1001),
+                DateRange.of(LocalDateTime.of(2025, 10, 19, 0, 0), LocalDateTime.of(2025, 10, 20, 23, 59)),
+                Priority.of(0),
+                Money.of(new BigDecimal("35.50"), "EUR")
+        );
+        PriceSegment segment = PriceSegment.of(price.getDateRange(), price);
+        PriceScheduleEntry entry = new PriceScheduleEntry(1L, 1, 1001, LocalDateTime.of(2025, 10, 19, 0, 0),
+                LocalDateTime.of(2025, 10, 20, 23, 59), new BigDecimal("35.50"), "EUR");
+
+        when(priceMapper.toWindow(request)).thenReturn(window);
+        when(priceSelectionService.findSchedule(ProductId.of(1L), BrandId.of(1), window))
+                .thenReturn(Stream.of(segment));
+        when(priceMapper.toScheduleEntry(segment)).thenReturn(entry);
+
+        List<PriceScheduleEntry> result = getApplicablePriceUseCase.executeSchedule(request).toList();
+
+        assertEquals(List.of(entry), result);
+    }
+
+    @Test
+    void shouldReturnSeriesResultsInRequestOrder() {
+        LocalDateTime inside = LocalDateTime.of(2025, 10, 19, 10, 30);
+        LocalDateTime outside = LocalDateTime.of(2025, 10, 1, 10, 30);
+        PriceSeriesRequest request = new PriceSeriesRequest(1L, 1, List.of(inside, outside));
+        Price price = Price.of(
+                ProductId.of(1L),
+                BrandId.of(1),
+                PriceList.of(1001),
+                DateRange.of(LocalDateTime.of(2025, 10, 19, 0, 0), LocalDateTime.of(2025, 10, 20, 23, 59)),
+                Priority.of(0),
+                Money.of(new BigDecimal("35.50"), "EUR")
+        );
+        PriceSegment segment = PriceSegment.of(price.getDateRange(), price);
+        PriceSeriesResponse.Result insideResult = new PriceSeriesResponse.Result(inside, true, null);
+        PriceSeriesResponse.Result outsideResult = new PriceSeriesResponse.Result(outside, false, null);
+
+        when(priceSelectionService.findEffectiveSegments(ProductId.of(1L), BrandId.of(1), List.of(inside, outside)))
+                .thenReturn(List.of(Optional.of(segment), Optional.empty()));
+        when(priceMapper.toSeriesResult(inside, Optional.of(segment))).thenReturn(insideResult);
+        when(priceMapper.toSeriesResult(outside, Optional.empty())).thenReturn(outsideResult);
+
+        PriceSeriesResponse result = getApplicablePriceUseCase.executeSeries(request);
+
+        assertEquals(1L, result.productId());
+        assertEquals(1, result.brandId());
+        assertEquals(List.of(insideResult, outsideResult), result.results());
+    }
+}
@@ -0,0 +1,33 @@
+package com.inditex.priceschedulerapi.domain.exception;
+
+import com.inditex.priceschedulerapi.domain.valueobject.ProductId;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class DomainValidationExceptionTest {
+
+    @Test
+    void shouldNotCaptureStackTrace() {
+        // Act
+        DomainValidationException exception = new DomainValidationException("Product ID must be positive");
+
+        // Assert
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(exception).hasMessage("Product ID must be positive");
+    }
+
+    @Test
+    void shouldBeThrownAsIllegalArgumentExceptionByValueObjects() {
+        // Act
+        Throwable thrown = catchThrowable(() -> ProductId.of(-1L));
+
+        // Assert
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .isInstanceOf(DomainValidationException.class)
+                .hasMessage("Product ID must be positive");
+        assertThat(thrown.getStackTrace()).isEmpty();
+    }
+}
@@ -0,0 +1,76 @@
+package com.inditex.priceschedulerapi.domain.model;
+
+import com.inditex.priceschedulerapi.domain.valueobject.*;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceSegmentTest {
+
+    private final Price price = Price.of(
+            ProductId.of(35455L),
+            BrandId.of(1),
+            PriceList.of(1),
+            DateRange.of(LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59)),
+            Priority.of(0),
+            Money.of(BigDecimal.valueOf(35.50), "EUR")
+    );
+
+    private final DateRange validity = DateRange.of(
+            LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 6, 14, 15, 0));
+
+    @Test
+    void of_shouldCreateSegment() {
+        PriceSegment segment = PriceSegment.of(validity, price);
+
+        assertEquals(validity, segment.getValidity());
+        assertEquals(price, segment.getPrice());
+    }
+
+    @Test
+    void of_shouldThrowException_whenValidityIsNull() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> PriceSegment.of(null, price));
+
+        assertEquals("Segment validity cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void of_shouldThrowException_whenPriceIsNull() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> PriceSegment.of(validity, null));
+
+        assertEquals("Segment price cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void contains_shouldUseValidityBounds() {
+        PriceSegment segment = PriceSegment.of(validity, price);
+
+        assertTrue(segment.contains(LocalDateTime.of(2020, 6, 14, 15, 0)));
+        assertFalse(segment.contains(LocalDateTime.of(2020, 6, 14, 15, 0, 1)));
+    }
+
+    @Test
+    void clipTo_shouldRestrictValidityToWindow() {
+        PriceSegment segment = PriceSegment.of(validity, price);
+
+        PriceSegment clipped = segment.clipTo(DateRange.of(
+                LocalDateTime.of(2020, 6, 14, 10, 0), LocalDateTime.of(2020, 6, 15, 0, 0)));
+
+        assertEquals(LocalDateTime.of(2020, 6, 14, 10, 0), clipped.getValidity().getStartDate());
+        assertEquals(LocalDateTime.of(2020, 6, 14, 15, 0), clipped.getValidity().getEndDate());
+        assertEquals(price, clipped.getPrice());
+    }
+
+    @Test
+    void clipTo_shouldReturnSameSegment_whenWindowCoversIt() {
+        PriceSegment segment = PriceSegment.of(validity, price);
+
+        assertSame(segment, segment.clipTo(DateRange.of(
+                LocalDateTime.of(2020, 6, 1, 0, 0), LocalDateTime.of(2020, 6, 30, 0, 0))));
+    }
+}
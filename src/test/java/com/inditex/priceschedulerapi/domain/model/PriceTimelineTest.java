@@ -0,0 +1,226 @@
+package com.inditex.priceschedulerapi.domain.model;
+
+import com.inditex.priceschedulerapi.domain.valueobject.*;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PriceTimeline.
+ * Checks that overlapping prices are flattened into non-overlapping segments
+ * carrying the highest-priority price.
+ */
+class PriceTimelineTest {
+
+    private static final ProductId PRODUCT_ID = ProductId.of(35455L);
+    private static final BrandId BRAND_ID = BrandId.of(1);
+
+    private final Price priceList1 = createPrice(1, "2020-06-14T00:00:00", "2020-12-31T23:59:59", 0);
+    private final Price priceList2 = createPrice(2, "2020-06-14T15:00:00", "2020-06-14T18:30:00", 1);
+    private final Price priceList3 = createPrice(3, "2020-06-15T00:00:00", "2020-06-15T11:00:00", 1);
+    private final Price priceList4 = createPrice(4, "2020-06-15T16:00:00", "2020-12-31T23:59:59", 1);
+
+    private final PriceTimeline timeline = PriceTimeline.of(PRODUCT_ID, BRAND_ID,
+            List.of(priceList4, priceList3, priceList2, priceList1));
+
+    @Test
+    void of_shouldFlattenOverlappingPricesIntoSortedSegments() {
+        List<PriceSegment> segments = timeline.getSegments();
+
+        assertEquals(6, segments.size());
+        assertSegment(segments.get(0), priceList1, "2020-06-14T00:00:00", "2020-06-14T14:59:59.999999999");
+        assertSegment(segments.get(1), priceList2, "2020-06-14T15:00:00", "2020-06-14T18:30:00");
+        assertSegment(segments.get(2), priceList1, "2020-06-14T18:30:00.000000001", "2020-06-14T23:59:59.999999999");
+        assertSegment(segments.get(3), priceList3, "2020-06-15T00:00:00", "2020-06-15T11:00:00");
+        assertSegment(segments.get(4), priceList1, "2020-06-15T11:00:00.000000001", "2020-06-15T15:59:59.999999999");
+        assertSegment(segments.get(5), priceList4, "2020-06-15T16:00:00", "2020-12-31T23:59:59");
+    }
+
+    @Test
+    void segmentAt_shouldResolveTheFiveExerciseScenarios() {
+        assertEquals(priceList1, priceAt("2020-06-14T10:00:00"));
+        assertEquals(priceList2, priceAt("2020-06-14T16:00:00"));
+        assertEquals(priceList1, priceAt("2020-06-14T21:00:00"));
+        assertEquals(priceList3, priceAt("2020-06-15T10:00:00"));
+        assertEquals(priceList4, priceAt("2020-06-16T21:00:00"));
+    }
+
+    @Test
+    void segmentAt_shouldKeepInclusiveEndDates() {
+        assertEquals(priceList2, priceAt("2020-06-14T18:30:00"));
+        assertEquals(priceList1, priceAt("2020-06-14T18:30:00.5"));
+        assertEquals(priceList4, priceAt("2020-12-31T23:59:59"));
+    }
+
+    @Test
+    void segmentAt_shouldReturnEmpty_whenNoPriceApplies() {
+        assertTrue(timeline.segmentAt(LocalDateTime.parse("2020-06-13T23:59:59")).isEmpty());
+        assertTrue(timeline.segmentAt(LocalDateTime.parse("2021-01-01T00:00:00")).isEmpty());
+        assertEquals(-1, timeline.indexOfSegmentAt(LocalDateTime.parse("2021-01-01T00:00:00")));
+    }
+
+    @Test
+    void segmentAt_shouldThrowException_whenDateIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> timeline.segmentAt(null));
+    }
+
+    @Test
+    void of_shouldLeaveGapsBetweenDisjointPrices() {
+        Price january = createPrice(1, "2021-01-01T00:00:00", "2021-01-31T23:59:59", 0);
+        Price march = createPrice(2, "2021-03-01T00:00:00", "2021-03-31T23:59:59", 0);
+
+        PriceTimeline disjoint = PriceTimeline.of(PRODUCT_ID, BRAND_ID, List.of(march, january));
+
+        assertEquals(2, disjoint.getSegments().size());
+        assertTrue(disjoint.segmentAt(LocalDateTime.parse("2021-02-15T00:00:00")).isEmpty());
+        assertEquals(march, disjoint.segmentAt(LocalDateTime.parse("2021-03-15T00:00:00")).get().getPrice());
+    }
+
+    @Test
+    void of_shouldMergeSegments_whenLowerPriorityPriceChangesUnderneath() {
+        Price promotion = createPrice(1, "2021-01-01T00:00:00", "2021-01-31T23:59:59", 5);
+        Price base = createPrice(2, "2021-01-10T00:00:00", "2021-01-20T23:59:59", 0);
+
+        PriceTimeline merged = PriceTimeline.of(PRODUCT_ID, BRAND_ID, List.of(base, promotion));
+
+        assertEquals(1, merged.getSegments().size());
+        assertSegment(merged.getSegments().get(0), promotion, "2021-01-01T00:00:00", "2021-01-31T23:59:59");
+    }
+
+    @Test
+    void of_shouldPreferFirstPriceInInputOrder_whenPrioritiesTie() {
+        Price first = createPrice(1, "2021-01-01T00:00:00", "2021-01-31T23:59:59", 1);
+        Price second = createPrice(2, "2021-01-01T00:00:00", "2021-01-31T23:59:59", 1);
+
+        PriceTimeline tied = PriceTimeline.of(PRODUCT_ID, BRAND_ID, List.of(first, second));
+
+        assertEquals(first, tied.segmentAt(LocalDateTime.parse("2021-01-15T00:00:00")).get().getPrice());
+    }
+
+    @Test
+    void empty_shouldHaveNoSegments() {
+        PriceTimeline empty = PriceTimeline.empty(PRODUCT_ID, BRAND_ID);
+
+        assertTrue(empty.isEmpty());
+        assertEquals(Optional.empty(), empty.segmentAt(LocalDateTime.parse("2020-06-14T10:00:00")));
+        assertTrue(PriceTimeline.of(PRODUCT_ID, BRAND_ID, List.of()).isEmpty());
+    }
+
+    @Test
+    void segmentsWithin_shouldReturnSegmentsOverlappingWindowClippedToIt() {
+        List<PriceSegment> segments = timeline.segmentsWithin(DateRange.of(
+                LocalDateTime.parse("2020-06-14T16:00:00"), LocalDateTime.parse("2020-06-15T10:00:00"))).toList();
+
+        assertEquals(3, segments.size());
+        assertSegment(segments.get(0), priceList2, "2020-06-14T16:00:00", "2020-06-14T18:30:00");
+        assertSegment(segments.get(1), priceList1, "2020-06-14T18:30:00.000000001", "2020-06-14T23:59:59.999999999");
+        assertSegment(segments.get(2), priceList3, "2020-06-15T00:00:00", "2020-06-15T10:00:00");
+    }
+
+    @Test
+    void segmentsWithin_shouldResolveEveryInstantLikeSegmentAt() {
+        DateRange window = DateRange.of(LocalDateTime.parse("2020-06-13T00:00:00"), LocalDateTime.parse("2021-01-01T00:00:00"));
+
+        List<PriceSegment> segments = timeline.segmentsWithin(window).toList();
+
+        assertEquals(timeline.getSegments(), segments);
+    }
+
+    @Test
+    void segmentsWithin_shouldReturnNothing_whenWindowFallsOutsideTimeline() {
+        DateRange window = DateRange.of(LocalDateTime.parse("2021-01-01T00:00:00"), LocalDateTime.parse("2021-02-01T00:00:00"));
+
+        assertEquals(0, timeline.segmentsWithin(window).count());
+        assertEquals(0, PriceTimeline.empty(PRODUCT_ID, BRAND_ID).segmentsWithin(window).count());
+    }
+
+    @Test
+    void segmentsWithin_shouldThrowException_whenWindowIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> timeline.segmentsWithin(null));
+    }
+
+    @Test
+    void segmentsAt_shouldResolveUnsortedAndRepeatedDatesInInputOrder() {
+        List<LocalDateTime> dates = List.of(
+                LocalDateTime.parse("2020-06-16T21:00:00"),
+                LocalDateTime.parse("2020-06-14T16:00:00"),
+                LocalDateTime.parse("2020-06-13T23:59:59"),
+                LocalDateTime.parse("2020-06-14T18:30:00"),
+                LocalDateTime.parse("2020-06-14T16:00:00"),
+                LocalDateTime.parse("2021-01-01T00:00:00"),
+                LocalDateTime.parse("2020-06-15T10:00:00"));
+
+        List<Optional<PriceSegment>> segments = timeline.segmentsAt(dates);
+
+        assertEquals(dates.size(), segments.size());
+        for (int i = 0; i < dates.size(); i++) {
+            assertEquals(timeline.segmentAt(dates.get(i)), segments.get(i));
+        }
+        assertEquals(priceList4, segments.get(0).orElseThrow().getPrice());
+        assertTrue(segments.get(2).isEmpty());
+        assertTrue(segments.get(5).isEmpty());
+    }
+
+    @Test
+    void segmentsAt_shouldResolveSortedHourlySeriesLikeSegmentAt() {
+        List<LocalDateTime> dates = Stream.iterate(LocalDateTime.parse("2020-06-13T00:00:00"), date -> date.plusMinutes(30))
+                .limit(48 * 5)
+                .toList();
+
+        List<Optional<PriceSegment>> segments = timeline.segmentsAt(dates);
+
+        for (int i = 0; i < dates.size(); i++) {
+            assertEquals(timeline.segmentAt(dates.get(i)), segments.get(i));
+        }
+    }
+
+    @Test
+    void segmentsAt_shouldReturnEmptyResults_whenTimelineIsEmpty() {
+        List<Optional<PriceSegment>> segments = PriceTimeline.empty(PRODUCT_ID, BRAND_ID)
+                .segmentsAt(List.of(LocalDateTime.parse("2020-06-14T10:00:00")));
+
+        assertEquals(List.of(Optional.empty()), segments);
+        assertTrue(timeline.segmentsAt(List.of()).isEmpty());
+    }
+
+    @Test
+    void segmentsAt_shouldThrowException_whenDatesOrADateAreNull() {
+        List<LocalDateTime> withNull = new ArrayList<>();
+        withNull.add(LocalDateTime.parse("2020-06-14T10:00:00"));
+        withNull.add(null);
+
+        assertThrows(IllegalArgumentException.class, () -> timeline.segmentsAt(null));
+        assertThrows(IllegalArgumentException.class, () -> timeline.segmentsAt(withNull));
+    }
+
+    private Price priceAt(String date) {
+        return timeline.segmentAt(LocalDateTime.parse(date)).map(PriceSegment::getPrice).orElse(null);
+    }
+
+    private void assertSegment(PriceSegment segment, Price price, String startDate, String endDate) {
+        assertEquals(price, segment.getPrice());
+        assertEquals(LocalDateTime.parse(startDate), segment.getValidity().getStartDate());
+        assertEquals(LocalDateTime.parse(endDate), segment.getValidity().getEndDate());
+    }
+
+    /**
+     * Helper method to create a Price instance for product 35455 and brand 1.
+     */
+    private Price createPrice(int priceList, String startDate, String endDate, int priority) {
+        return Price.of(
+                PRODUCT_ID,
+                BRAND_ID,
+                PriceList.of(priceList),
+                DateRange.of(LocalDateTime.parse(startDate), LocalDateTime.parse(endDate)),
+                Priority.of(priority),
+                Money.of(BigDecimal.valueOf(35.50), "EUR")
+        );
+    }
+}
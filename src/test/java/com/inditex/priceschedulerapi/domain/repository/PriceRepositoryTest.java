@@ -0,0 +1,75 @@
+package com.inditex.priceschedulerapi.domain.repository;
+
+import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.valueobject.*;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the default methods of PriceRepository, used by adapters that
+ * cannot select the winning price at the source.
+ */
+class PriceRepositoryTest {
+
+    private final PriceRepository priceRepository = mock(PriceRepository.class, CALLS_REAL_METHODS);
+
+    @Test
+    void findTopApplicablePrice_shouldReturnHighestPriorityCandidate() {
+        // Arrange
+        ProductId productId = ProductId.of(35455L);
+        BrandId brandId = BrandId.of(1);
+        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+        Price lowPriorityPrice = createPrice(productId, brandId, Priority.of(0), BigDecimal.valueOf(35.50));
+        Price highPriorityPrice = createPrice(productId, brandId, Priority.of(1), BigDecimal.valueOf(25.45));
+
+        doReturn(List.of(lowPriorityPrice, highPriorityPrice))
+                .when(priceRepository).findApplicablePrices(productId, brandId, applicationDate);
+
+        // Act
+        Optional<Price> result = priceRepository.findTopApplicablePrice(productId, brandId, applicationDate);
+
+        // Assert
+        assertThat(result).contains(highPriorityPrice);
+    }
+
+    @Test
+    void findTopApplicablePrice_shouldReturnEmpty_whenNoCandidates() {
+        // Arrange
+        ProductId productId = ProductId.of(35455L);
+        BrandId brandId = BrandId.of(1);
+        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0);
+
+        doReturn(List.of()).when(priceRepository).findApplicablePrices(productId, brandId, applicationDate);
+
+        // Act
+        Optional<Price> result = priceRepository.findTopApplicablePrice(productId, brandId, applicationDate);
+
+        // Assert
+        assertThat(result).isEmpty();
+    }
+
+    /**
+     * Helper method to create a Price instance for testing.
+     */
+    private Price createPrice(ProductId productId, BrandId brandId, Priority priority, BigDecimal amount) {
+        return Price.of(
+                productId,
+                brandId,
+                PriceList.of(1),
+                DateRange.of(
+                        LocalDateTime.of(2020, 6, 14, 0, 0),
+                        LocalDateTime.of(2020, 12, 31, 23, 59)
+                ),
+                priority,
+                Money.of(amount, "EUR")
+        );
+    }
+}
@@ -1,6 +1,8 @@
 package com.inditex.priceschedulerapi.domain.service;
 
 import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.model.PriceSegment;
+import com.inditex.priceschedulerapi.domain.model.PriceTimeline;
 import com.inditex.priceschedulerapi.domain.repository.PriceRepository;
 import com.inditex.priceschedulerapi.domain.valueobject.*;
 import org.junit.jupiter.api.Test;
@@ -11,8 +13,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,56 +34,34 @@ class PriceSelectionServiceTest {
     private PriceSelectionService priceSelectionService;
 
     @Test
-    void findApplicablePrice_shouldReturnEmpty_whenNoPricesFound() {
+    void findApplicablePrice_shouldReturnEmpty_whenNoPriceApplies() {
         // Arrange
         ProductId productId = ProductId.of(35455L);
         BrandId brandId = BrandId.of(1);
         LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0);
 
-        when(priceRepository.findApplicablePrices(productId, brandId, applicationDate))
-                .thenReturn(Collections.emptyList());
+        when(priceRepository.findTopApplicablePrice(productId, brandId, applicationDate))
+                .thenReturn(Optional.empty());
 
         // Act
         Optional<Price> result = priceSelectionService.findApplicablePrice(productId, brandId, applicationDate);
 
         // Assert
         assertFalse(result.isPresent());
-        verify(priceRepository, times(1)).findApplicablePrices(productId, brandId, applicationDate);
+        verify(priceRepository, times(1)).findTopApplicablePrice(productId, brandId, applicationDate);
     }
 
     @Test
-    void findApplicablePrice_shouldReturnOnlyPrice_whenOnePriceFound() {
-        // Arrange
-        ProductId productId = ProductId.of(35455L);
-        BrandId brandId = BrandId.of(1);
-        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0);
-
-        Price price = createPrice(productId, brandId, Priority.of(0), BigDecimal.valueOf(35.50));
-
-        when(priceRepository.findApplicablePrices(productId, brandId, applicationDate))
-                .thenReturn(List.of(price));
-
-        // Act
-        Optional<Price> result = priceSelectionService.findApplicablePrice(productId, brandId, applicationDate);
-
-        // Assert
-        assertTrue(result.isPresent());
-        assertEquals(price, result.get());
-        verify(priceRepository, times(1)).findApplicablePrices(productId, brandId, applicationDate);
-    }
-
-    @Test
-    void findApplicablePrice_shouldReturnHighestPriority_whenMultiplePricesFound() {
+    void findApplicablePrice_shouldReturnTopPriceSelectedByRepository_withoutFetchingEveryCandidate() {
         // Arrange
         ProductId productId = ProductId.of(35455L);
         BrandId brandId = BrandId.of(1);
         LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 16, 0);
 
-        Price lowPriorityPrice = createPrice(productId, brandId, Priority.of(0), BigDecimal.valueOf(35.50));
         Price highPriorityPrice = createPrice(productId, brandId, Priority.of(1), BigDecimal.valueOf(25.45));
 
-        when(priceRepository.findApplicablePrices(productId, brandId, applicationDate))
-                .thenReturn(List.of(lowPriorityPrice, highPriorityPrice));
+        when(priceRepository.findTopApplicablePrice(productId, brandId, applicationDate))
+                .thenReturn(Optional.of(highPriorityPrice));
 
         // Act
         Optional<Price> result = priceSelectionService.findApplicablePrice(productId, brandId, applicationDate);
@@ -89,33 +69,31 @@ class PriceSelectionServiceTest {
         // Assert
         assertTrue(result.isPresent());
         assertEquals(highPriorityPrice, result.get());
-        assertEquals(Priority.of(1), result.get().getPriority());
-        verify(priceRepository, times(1)).findApplicablePrices(productId, brandId, applicationDate);
+        verify(priceRepository, times(1)).findTopApplicablePrice(productId, brandId, applicationDate);
+        verify(priceRepository, never()).findApplicablePrices(any(ProductId.class), any(BrandId.class), any(LocalDateTime.class));
     }
 
     @Test
-    void findApplicablePrice_shouldReturnHighestPriority_whenMultiplePricesWithDifferentPriorities() {
+    void findSchedule_shouldReturnTimelineSegmentsClippedToWindow() {
         // Arrange
         ProductId productId = ProductId.of(35455L);
         BrandId brandId = BrandId.of(1);
-        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 15, 18, 0);
+        DateRange window = DateRange.of(LocalDateTime.of(2020, 6, 1, 0, 0), LocalDateTime.of(2020, 6, 30, 23, 59));
 
-        Price priority0 = createPrice(productId, brandId, Priority.of(0), BigDecimal.valueOf(35.50));
-        Price priority1 = createPrice(productId, brandId, Priority.of(1), BigDecimal.valueOf(30.50));
-        Price priority2 = createPrice(productId, brandId, Priority.of(2), BigDecimal.valueOf(25.45));
+        Price price = createPrice(productId, brandId, Priority.of(0), BigDecimal.valueOf(35.50));
+        PriceTimeline timeline = PriceTimeline.of(productId, brandId, List.of(price));
 
-        when(priceRepository.findApplicablePrices(productId, brandId, applicationDate))
-                .thenReturn(List.of(priority0, priority2, priority1)); // Desordenado a propósito
+        when(priceRepository.findTimeline(productId, brandId)).thenReturn(timeline);
 
         // Act
-        Optional<Price> result = priceSelectionService.findApplicablePrice(productId, brandId, applicationDate);
+        List<PriceSegment> result = priceSelectionService.findSchedule(productId, brandId, window).toList();
 
         // Assert
-        assertTrue(result.isPresent());
-        assertEquals(priority2, result.get());
-        assertEquals(Priority.of(2), result.get().getPriority());
-        assertEquals(BigDecimal.valueOf(25.45), result.get().getPrice().getAmount());
-        verify(priceRepository, times(1)).findApplicablePrices(productId, brandId, applicationDate);
+        assertEquals(1, result.size());
+        assertEquals(price, result.get(0).getPrice());
+        assertEquals(DateRange.of(LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 6, 30, 23, 59)),
+                result.get(0).getValidity());
+        verify(priceRepository, never()).findApplicablePrices(any(), any(), any());
     }
 
     /**
@@ -134,4 +112,93 @@ class PriceSelectionServiceTest {
                 Money.of(amount, "EUR")
         );
     }
+
+    @Test
+    void findEffectiveSegment_shouldReturnSegmentOfTheTimeline() {
+        // Arrange
+        ProductId productId = ProductId.of(35455L);
+        BrandId brandId = BrandId.of(1);
+        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+        Price price = createPrice(productId, brandId, Priority.of(0), BigDecimal.valueOf(35.50));
+        PriceTimeline timeline = PriceTimeline.of(productId, brandId, List.of(price));
+
+        when(priceRepository.findEffectiveSegment(productId, brandId, applicationDate)).thenCallRealMethod();
+        when(priceRepository.findTimeline(productId, brandId)).thenReturn(timeline);
+
+        // Act
+        Optional<PriceSegment> result = priceSelectionService.findEffectiveSegment(productId, brandId, applicationDate);
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals(price, result.get().getPrice());
+        verify(priceRepository, never()).findApplicablePrices(any(), any(), any());
+    }
+
+    @Test
+    void findEffectiveSegments_shouldResolveEveryDateFromASingleTimeline() {
+        // Arrange
+        ProductId productId = ProductId.of(35455L);
+        BrandId brandId = BrandId.of(1);
+        List<LocalDateTime> applicationDates = List.of(
+                LocalDateTime.of(2021, 1, 1, 0, 0),
+                LocalDateTime.of(2020, 6, 14, 16, 0),
+                LocalDateTime.of(2020, 6, 1, 0, 0));
+
+        Price price = createPrice(productId, brandId, Priority.of(0), BigDecimal.valueOf(35.50));
+        PriceTimeline timeline = PriceTimeline.of(productId, brandId, List.of(price));
+
+        when(priceRepository.findTimeline(productId, brandId)).thenReturn(timeline);
+
+        // Act
+        List<Optional<PriceSegment>> result = priceSelectionService.findEffectiveSegments(productId, brandId, applicationDates);
+
+        // Assert
+        assertEquals(3, result.size());
+        assertFalse(result.get(0).isPresent());
+        assertEquals(price, result.get(1).orElseThrow().getPrice());
+        assertFalse(result.get(2).isPresent());
+        verify(priceRepository, times(1)).findTimeline(productId, brandId);
+        verify(priceRepository, never()).findApplicablePrices(any(), any(), any());
+    }
+
+    @Test
+    void findEffectiveSegment_shouldReturnEmpty_whenNoSegmentContainsTheDate() {
+        // Arrange
+        ProductId productId = ProductId.of(35455L);
+        BrandId brandId = BrandId.of(1);
+
+        when(priceRepository.findEffectiveSegment(productId, brandId, LocalDateTime.of(2020, 6, 14, 16, 0))).thenCallRealMethod();
+        when(priceRepository.findTimeline(productId, brandId)).thenReturn(PriceTimeline.empty(productId, brandId));
+
+        // Act
+        Optional<PriceSegment> result = priceSelectionService.findEffectiveSegment(
+                productId, brandId, LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        // Assert
+        assertFalse(result.isPresent());
+    }
+
+    @Test
+    void findApplicablePrices_shouldResolveEveryLookupWithOneRepositoryCall() {
+        // Arrange
+        ProductId productId = ProductId.of(35455L);
+        BrandId brandId = BrandId.of(1);
+        PriceLookup promotion = PriceLookup.of(productId, brandId, LocalDateTime.of(2020, 6, 14, 16, 0));
+        PriceLookup unknown = PriceLookup.of(ProductId.of(99999L), brandId, LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        Price lowPriorityPrice = createPrice(productId, brandId, Priority.of(0), BigDecimal.valueOf(35.50));
+        Price highPriorityPrice = createPrice(productId, brandId, Priority.of(1), BigDecimal.valueOf(25.45));
+
+        when(priceRepository.findApplicablePrices(List.of(promotion, unknown)))
+                .thenReturn(Map.of(promotion, List.of(lowPriorityPrice, highPriorityPrice), unknown, List.of()));
+
+        // Act
+        List<Optional<Price>> result = priceSelectionService.findApplicablePrices(List.of(promotion, unknown));
+
+        // Assert
+        assertEquals(List.of(Optional.of(highPriorityPrice), Optional.empty()), result);
+        verify(priceRepository, times(1)).findApplicablePrices(List.of(promotion, unknown));
+        verify(priceRepository, never()).findApplicablePrices(any(ProductId.class), any(BrandId.class), any(LocalDateTime.class));
+    }
 }
@@ -75,4 +75,32 @@ class BrandIdTest {
         // Then
         assertEquals("42", result);
     }
-}
\ No newline at end of file
+
+    @Test
+    void of_ShouldReturnSameInstanceForCachedValues() {
+        // Given
+        Integer value = 1;
+
+        // When
+        BrandId first = BrandId.of(value);
+        BrandId second = BrandId.of(Integer.valueOf(value));
+
+        // Then
+        assertSame(first, second);
+    }
+
+    @Test
+    void of_ShouldCreateEqualInstancesBeyondCache() {
+        // Given
+        Integer value = BrandId.CACHE_HIGH + 1;
+
+        // When
+        BrandId first = BrandId.of(value);
+        BrandId second = BrandId.of(value);
+
+        // Then
+        assertNotSame(first, second);
+        assertEquals(first, second);
+        assertEquals(value, first.getValue());
+    }
+}
@@ -116,4 +116,18 @@ class MoneyTest {
         assertThrows(IllegalArgumentException.class, () ->
                 Money.of(amount, (Currency) null), "Currency cannot be null");
     }
-}
\ No newline at end of file
+
+    /**
+     * Test for Money.of(BigDecimal, String) resolving the same currency for repeated codes.
+     * Verifies that the resolved currency is shared and that invalid codes are still rejected.
+     */
+    @Test
+    void testOfReusesResolvedCurrency() {
+        Money first = Money.of(BigDecimal.ONE, "EUR");
+        Money second = Money.of(BigDecimal.TEN, "EUR");
+
+        assertSame(first.getCurrency(), second.getCurrency());
+        assertThrows(IllegalArgumentException.class, () -> Money.of(BigDecimal.ONE, "XXXX"));
+        assertThrows(IllegalArgumentException.class, () -> Money.of(BigDecimal.ONE, "XXXX"));
+    }
+}
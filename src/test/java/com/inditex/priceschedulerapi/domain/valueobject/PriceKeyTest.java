@@ -0,0 +1,49 @@
+package com.inditex.priceschedulerapi.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceKeyTest {
+
+    @Test
+    void of_ShouldCreatePriceKeyWhenValuesAreValid() {
+        // When
+        PriceKey priceKey = PriceKey.of(ProductId.of(35455L), BrandId.of(1));
+
+        // Then
+        assertEquals(ProductId.of(35455L), priceKey.getProductId());
+        assertEquals(BrandId.of(1), priceKey.getBrandId());
+    }
+
+    @Test
+    void of_ShouldThrowExceptionWhenProductIdIsNull() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> PriceKey.of(null, BrandId.of(1)));
+
+        assertEquals("Product ID cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void of_ShouldThrowExceptionWhenBrandIdIsNull() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> PriceKey.of(ProductId.of(35455L), null));
+
+        assertEquals("Brand ID cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void equals_ShouldBeTrueForSameProductAndBrand() {
+        PriceKey first = PriceKey.of(ProductId.of(35455L), BrandId.of(1));
+        PriceKey second = PriceKey.of(ProductId.of(35455L), BrandId.of(1));
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(first, PriceKey.of(ProductId.of(35455L), BrandId.of(2)));
+    }
+
+    @Test
+    void toString_ShouldReturnProductAndBrand() {
+        assertEquals("35455/1", PriceKey.of(ProductId.of(35455L), BrandId.of(1)).toString());
+    }
+}
@@ -69,4 +69,18 @@ class PriceListTest {
         // Assert
         assertEquals(validValue.toString(), stringValue);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReuseInstanceForCachedValues() {
+        // Arrange
+        Integer value = PriceList.CACHE_HIGH;
+
+        // Act
+        PriceList first = PriceList.of(value);
+        PriceList second = PriceList.of(value);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(value, first.getValue());
+    }
+}
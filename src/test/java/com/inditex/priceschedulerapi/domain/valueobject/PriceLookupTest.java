@@ -0,0 +1,47 @@
+package com.inditex.priceschedulerapi.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceLookupTest {
+
+    private static final LocalDateTime APPLICATION_DATE = LocalDateTime.of(2020, 6, 14, 10, 0);
+
+    @Test
+    void of_ShouldCreatePriceLookupWhenValuesAreValid() {
+        // When
+        PriceLookup lookup = PriceLookup.of(ProductId.of(35455L), BrandId.of(1), APPLICATION_DATE);
+
+        // Then
+        assertEquals(ProductId.of(35455L), lookup.getProductId());
+        assertEquals(BrandId.of(1), lookup.getBrandId());
+        assertEquals(PriceKey.of(ProductId.of(35455L), BrandId.of(1)), lookup.getKey());
+        assertEquals(APPLICATION_DATE, lookup.getApplicationDate());
+    }
+
+    @Test
+    void of_ShouldThrowExceptionWhenApplicationDateIsNull() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> PriceLookup.of(ProductId.of(35455L), BrandId.of(1), null));
+
+        assertEquals("Application date cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void of_ShouldThrowExceptionWhenProductIdIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> PriceLookup.of(null, BrandId.of(1), APPLICATION_DATE));
+    }
+
+    @Test
+    void equals_ShouldBeTrueForSameKeyAndDate() {
+        PriceLookup first = PriceLookup.of(ProductId.of(35455L), BrandId.of(1), APPLICATION_DATE);
+        PriceLookup second = PriceLookup.of(ProductId.of(35455L), BrandId.of(1), APPLICATION_DATE);
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(first, PriceLookup.of(ProductId.of(35455L), BrandId.of(1), APPLICATION_DATE.plusHours(1)));
+    }
+}
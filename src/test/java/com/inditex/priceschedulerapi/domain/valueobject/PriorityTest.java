@@ -195,4 +195,20 @@ class PriorityTest {
         assertEquals("42", result);
     }
 
-}
\ No newline at end of file
+    /**
+     * Test for Priority.of(value) reusing the canonical instance of a cached value.
+     */
+    @Test
+    void testPriorityOfReturnsCachedInstance() {
+        // Arrange
+        Integer value = 0;
+
+        // Act
+        Priority first = Priority.of(value);
+        Priority second = Priority.of(value);
+
+        // Assert
+        assertSame(first, second);
+        assertNotSame(Priority.of(Priority.CACHE_HIGH + 1), Priority.of(Priority.CACHE_HIGH + 1));
+    }
+}
@@ -0,0 +1,113 @@
+package com.inditex.priceschedulerapi.infrastructure.cache;
+
+import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.model.PriceSegment;
+import com.inditex.priceschedulerapi.domain.model.PriceTimeline;
+import com.inditex.priceschedulerapi.domain.repository.PriceRepository;
+import com.inditex.priceschedulerapi.domain.valueobject.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CachingPriceSelectionService.
+ * Verifies that lookups inside an already resolved segment do not reach the repository.
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingPriceSelectionServiceTest {
+
+    private static final ProductId PRODUCT_ID = ProductId.of(35455L);
+    private static final BrandId BRAND_ID = BrandId.of(1);
+
+    @Mock
+    private PriceRepository priceRepository;
+
+    private PriceSegmentCache cache;
+    private CachingPriceSelectionService service;
+
+    private final Price basePrice = createPrice(1, "2020-06-14T00:00:00", "2020-12-31T23:59:59", 0);
+    private final Price promotionPrice = createPrice(2, "2020-06-14T15:00:00", "2020-06-14T18:30:00", 1);
+
+    @BeforeEach
+    void setUp() {
+        cache = new PriceSegmentCache(100, 1_000_000);
+        service = new CachingPriceSelectionService(priceRepository, cache);
+    }
+
+    @Test
+    void findApplicablePrice_shouldResolveFromRepositoryOnceAndThenFromCache() {
+        // Arrange
+        when(priceRepository.findEffectiveSegment(eq(PRODUCT_ID), eq(BRAND_ID), any())).thenCallRealMethod();
+        when(priceRepository.findTimeline(PRODUCT_ID, BRAND_ID))
+                .thenReturn(PriceTimeline.of(PRODUCT_ID, BRAND_ID, List.of(basePrice, promotionPrice)));
+
+        // Act
+        Optional<Price> first = service.findApplicablePrice(PRODUCT_ID, BRAND_ID, LocalDateTime.of(2020, 6, 14, 16, 0));
+        Optional<Price> second = service.findApplicablePrice(PRODUCT_ID, BRAND_ID, LocalDateTime.of(2020, 6, 14, 17, 45, 12));
+
+        // Assert
+        assertEquals(Optional.of(promotionPrice), first);
+        assertEquals(Optional.of(promotionPrice), second);
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+        verify(priceRepository, times(1)).findEffectiveSegment(eq(PRODUCT_ID), eq(BRAND_ID), any());
+        verify(priceRepository, times(1)).findTimeline(PRODUCT_ID, BRAND_ID);
+        verifyNoMoreInteractions(priceRepository);
+    }
+
+    @Test
+    void findEffectiveSegment_shouldQueryRepositoryAgain_forDateInAnotherSegment() {
+        // Arrange
+        when(priceRepository.findEffectiveSegment(eq(PRODUCT_ID), eq(BRAND_ID), any())).thenCallRealMethod();
+        when(priceRepository.findTimeline(PRODUCT_ID, BRAND_ID))
+                .thenReturn(PriceTimeline.of(PRODUCT_ID, BRAND_ID, List.of(basePrice, promotionPrice)));
+
+        // Act
+        Optional<PriceSegment> promotion = service.findEffectiveSegment(PRODUCT_ID, BRAND_ID, LocalDateTime.of(2020, 6, 14, 16, 0));
+        Optional<PriceSegment> base = service.findEffectiveSegment(PRODUCT_ID, BRAND_ID, LocalDateTime.of(2020, 6, 14, 10, 0));
+
+        // Assert
+        assertEquals(promotionPrice, promotion.orElseThrow().getPrice());
+        assertEquals(basePrice, base.orElseThrow().getPrice());
+        assertEquals(2, cache.size());
+        verify(priceRepository, times(2)).findTimeline(PRODUCT_ID, BRAND_ID);
+    }
+
+    @Test
+    void findApplicablePrice_shouldNotCache_whenNoPriceApplies() {
+        // Arrange
+        when(priceRepository.findEffectiveSegment(eq(PRODUCT_ID), eq(BRAND_ID), any())).thenCallRealMethod();
+        when(priceRepository.findTimeline(PRODUCT_ID, BRAND_ID)).thenReturn(PriceTimeline.empty(PRODUCT_ID, BRAND_ID));
+
+        // Act
+        Optional<Price> result = service.findApplicablePrice(PRODUCT_ID, BRAND_ID, LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        // Assert
+        assertTrue(result.isEmpty());
+        assertEquals(0, cache.size());
+    }
+
+    /**
+     * Helper method to create a Price instance for product 35455 and brand 1.
+     */
+    private Price createPrice(int priceList, String startDate, String endDate, int priority) {
+        return Price.of(
+                PRODUCT_ID,
+                BRAND_ID,
+                PriceList.of(priceList),
+                DateRange.of(LocalDateTime.parse(startDate), LocalDateTime.parse(endDate)),
+                Priority.of(priority),
+                Money.of(BigDecimal.valueOf(35.50), "EUR")
+        );
+    }
+}
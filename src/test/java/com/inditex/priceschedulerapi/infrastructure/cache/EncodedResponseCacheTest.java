@@ -0,0 +1,159 @@
+package com.inditex.priceschedulerapi.infrastructure.cache;
+
+import com.inditex.priceschedulerapi.application.dto.PriceQueryResponse;
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for EncodedResponseCache.
+ * Covers content-keyed hits, size and weight eviction and the published statistics.
+ */
+class EncodedResponseCacheTest {
+
+    private final PriceQueryResponse promotion = createResponse(2, "25.45",
+            "2020-06-14T15:00:00", "2020-06-14T18:30:00");
+    private final PriceQueryResponse base = createResponse(1, "35.50",
+            "2020-06-14T00:00:00", "2020-06-14T14:59:59");
+
+    @Test
+    void getIfPresent_shouldHitForAnEqualResponseInTheSameEncoding() {
+        EncodedResponseCache cache = new EncodedResponseCache(100, 1_000_000);
+        EncodedResponse encoded = encode(promotion, MediaType.APPLICATION_JSON);
+        cache.put(promotion, encoded);
+
+        assertSame(encoded, cache.getIfPresent(createResponse(2, "25.45",
+                "2020-06-14T15:00:00", "2020-06-14T18:30:00"), MediaType.APPLICATION_JSON));
+        assertEquals(1, cache.hitCount());
+        assertEquals(0, cache.missCount());
+    }
+
+    @Test
+    void getIfPresent_shouldMissForAnotherEncodingOrChangedResponse() {
+        EncodedResponseCache cache = new EncodedResponseCache(100, 1_000_000);
+        cache.put(promotion, encode(promotion, MediaType.APPLICATION_JSON));
+
+        assertNull(cache.getIfPresent(promotion, MediaType.APPLICATION_CBOR));
+        assertNull(cache.getIfPresent(createResponse(2, "19.99",
+                "2020-06-14T15:00:00", "2020-06-14T18:30:00"), MediaType.APPLICATION_JSON));
+        assertNull(cache.getIfPresent(base, MediaType.APPLICATION_JSON));
+        assertEquals(0, cache.hitCount());
+        assertEquals(3, cache.missCount());
+    }
+
+    @Test
+    void put_shouldEvictLeastRecentlyUsedEntry_whenMaximumSizeIsExceeded() {
+        EncodedResponseCache cache = new EncodedResponseCache(1, 1_000_000);
+        cache.put(base, encode(base, MediaType.APPLICATION_JSON));
+        cache.put(promotion, encode(promotion, MediaType.APPLICATION_JSON));
+
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.evictionCount());
+        assertNull(cache.getIfPresent(base, MediaType.APPLICATION_JSON));
+        assertNotNull(cache.getIfPresent(promotion, MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void put_shouldEvict_whenMaximumWeightIsExceeded() {
+        EncodedResponse encoded = encode(base, MediaType.APPLICATION_JSON);
+        // Every stripe may hold the weight of a single response
+        int responseWeight = EncodedResponseCache.estimateWeight(encoded);
+        EncodedResponseCache cache = new EncodedResponseCache(100, (long) EncodedResponseCache.MAX_STRIPES * responseWeight);
+        cache.put(base, encoded);
+        cache.put(base, encode(base, MediaType.APPLICATION_CBOR));
+        cache.put(promotion, encode(promotion, MediaType.APPLICATION_JSON));
+        cache.put(promotion, encode(promotion, MediaType.APPLICATION_CBOR));
+
+        assertTrue(cache.weight() <= (long) EncodedResponseCache.MAX_STRIPES * responseWeight);
+        assertEquals(4, cache.size() + cache.evictionCount());
+    }
+
+    @Test
+    void put_shouldWeighEntriesByTheirEncodedSize() {
+        EncodedResponseCache cache = new EncodedResponseCache(100, 1_000_000);
+        EncodedResponse encoded = encode(promotion, MediaType.APPLICATION_JSON);
+        cache.put(promotion, encoded);
+        cache.put(promotion, encoded);
+
+        assertEquals(1, cache.size());
+        assertEquals(EncodedResponseCache.ENTRY_OVERHEAD_BYTES + encoded.body().length, cache.weight());
+    }
+
+    @Test
+    void invalidateAll_shouldDiscardEveryEntry() {
+        EncodedResponseCache cache = new EncodedResponseCache(100, 1_000_000);
+        cache.put(base, encode(base, MediaType.APPLICATION_JSON));
+        cache.put(promotion, encode(promotion, MediaType.APPLICATION_JSON));
+
+        cache.invalidateAll();
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.weight());
+        assertNull(cache.getIfPresent(promotion, MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void invalidate_shouldDiscardOnlyTheResponsesOfTheBrand() {
+        EncodedResponseCache cache = new EncodedResponseCache(100, 1_000_000);
+        PriceQueryResponse otherBrand = new PriceQueryResponse(35455L, 2, 1, base.startDate(), base.endDate(),
+                base.price(), "EUR", base.validFrom(), base.validUntil());
+        EncodedResponse otherEncoded = encode(otherBrand, MediaType.APPLICATION_JSON);
+        cache.put(base, encode(base, MediaType.APPLICATION_JSON));
+        cache.put(promotion, encode(promotion, MediaType.APPLICATION_JSON));
+        cache.put(otherBrand, otherEncoded);
+
+        cache.invalidate(BrandId.of(1));
+
+        assertEquals(1, cache.size());
+        assertEquals(EncodedResponseCache.estimateWeight(otherEncoded), cache.weight());
+        assertNull(cache.getIfPresent(base, MediaType.APPLICATION_JSON));
+        assertSame(otherEncoded, cache.getIfPresent(otherBrand, MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void constructor_shouldRejectNonPositiveBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new EncodedResponseCache(0, 1_000_000));
+        assertThrows(IllegalArgumentException.class, () -> new EncodedResponseCache(100, 0));
+    }
+
+    @Test
+    void bindTo_shouldPublishCacheStatistics() {
+        EncodedResponseCache cache = new EncodedResponseCache(1, 1_000_000);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        cache.put(base, encode(base, MediaType.APPLICATION_JSON));
+        cache.put(promotion, encode(promotion, MediaType.APPLICATION_JSON));
+        cache.getIfPresent(promotion, MediaType.APPLICATION_JSON);
+        cache.getIfPresent(base, MediaType.APPLICATION_JSON);
+
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "price-responses").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "price-responses").tag("result", "miss")
+                .functionCounter().count());
+        assertEquals(1.0, registry.get("cache.evictions").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.size").gauge().value());
+    }
+
+    /**
+     * Helper method to create a response for product 35455 and brand 1.
+     */
+    private static PriceQueryResponse createResponse(int priceList, String price, String validFrom, String validUntil) {
+        return new PriceQueryResponse(35455L, 1, priceList, LocalDateTime.parse(validFrom), LocalDateTime.parse(validUntil),
+                new BigDecimal(price), "EUR", LocalDateTime.parse(validFrom), LocalDateTime.parse(validUntil));
+    }
+
+    /**
+     * Helper method standing in for the real encoders: the body only needs a realistic size.
+     */
+    private static EncodedResponse encode(PriceQueryResponse response, MediaType contentType) {
+        return new EncodedResponse(contentType, response.toString().getBytes(StandardCharsets.UTF_8), "W/\"0\"");
+    }
+}
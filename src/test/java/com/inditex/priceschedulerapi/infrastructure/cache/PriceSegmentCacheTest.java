@@ -0,0 +1,165 @@
+package com.inditex.priceschedulerapi.infrastructure.cache;
+
+import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.model.PriceSegment;
+import com.inditex.priceschedulerapi.domain.model.PriceTimeline;
+import com.inditex.priceschedulerapi.domain.valueobject.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PriceSegmentCache.
+ * Covers segment-based hits, size and weight eviction and the published statistics.
+ */
+class PriceSegmentCacheTest {
+
+    private static final PriceKey KEY = PriceKey.of(ProductId.of(35455L), BrandId.of(1));
+
+    private final PriceTimeline timeline = PriceTimeline.of(KEY.getProductId(), KEY.getBrandId(), List.of(
+            createPrice(1, "2020-06-14T00:00:00", "2020-12-31T23:59:59", 0),
+            createPrice(2, "2020-06-14T15:00:00", "2020-06-14T18:30:00", 1)
+    ));
+
+    @Test
+    void getIfPresent_shouldHitForAnyDateInsideTheCachedSegment() {
+        PriceSegmentCache cache = new PriceSegmentCache(100, 1_000_000);
+        PriceSegment promotion = timeline.getSegments().get(1);
+        cache.put(KEY, promotion);
+
+        assertSame(promotion, cache.getIfPresent(KEY, LocalDateTime.parse("2020-06-14T15:00:00")));
+        assertSame(promotion, cache.getIfPresent(KEY, LocalDateTime.parse("2020-06-14T17:12:43")));
+        assertSame(promotion, cache.getIfPresent(KEY, LocalDateTime.parse("2020-06-14T18:30:00")));
+        assertEquals(3, cache.hitCount());
+        assertEquals(0, cache.missCount());
+    }
+
+    @Test
+    void getIfPresent_shouldMissOutsideTheCachedSegments() {
+        PriceSegmentCache cache = new PriceSegmentCache(100, 1_000_000);
+        cache.put(KEY, timeline.getSegments().get(1));
+
+        assertNull(cache.getIfPresent(KEY, LocalDateTime.parse("2020-06-14T10:00:00")));
+        assertNull(cache.getIfPresent(KEY, LocalDateTime.parse("2020-06-14T18:30:01")));
+        assertNull(cache.getIfPresent(PriceKey.of(ProductId.of(99999L), BrandId.of(1)),
+                LocalDateTime.parse("2020-06-14T16:00:00")));
+        assertEquals(0, cache.hitCount());
+        assertEquals(3, cache.missCount());
+    }
+
+    @Test
+    void getIfPresent_shouldThrowException_whenDateIsNull() {
+        PriceSegmentCache cache = new PriceSegmentCache(100, 1_000_000);
+
+        assertThrows(IllegalArgumentException.class, () -> cache.getIfPresent(KEY, null));
+    }
+
+    @Test
+    void put_shouldEvictLeastRecentlyUsedEntry_whenMaximumSizeIsExceeded() {
+        PriceSegmentCache cache = new PriceSegmentCache(1, 1_000_000);
+        cache.put(KEY, timeline.getSegments().get(0));
+        cache.put(KEY, timeline.getSegments().get(1));
+
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.evictionCount());
+        assertNull(cache.getIfPresent(KEY, LocalDateTime.parse("2020-06-14T10:00:00")));
+        assertNotNull(cache.getIfPresent(KEY, LocalDateTime.parse("2020-06-14T16:00:00")));
+    }
+
+    @Test
+    void put_shouldEvict_whenMaximumWeightIsExceeded() {
+        PriceSegment segment = timeline.getSegments().get(0);
+        // Every stripe may hold the weight of a single segment
+        int segmentWeight = PriceSegmentCache.estimateWeight(segment);
+        PriceSegmentCache cache = new PriceSegmentCache(100, (long) PriceSegmentCache.MAX_STRIPES * segmentWeight);
+        cache.put(KEY, segment);
+        cache.put(KEY, timeline.getSegments().get(1));
+
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.evictionCount());
+        assertTrue(cache.weight() <= segmentWeight);
+    }
+
+    @Test
+    void put_shouldReplaceEntryOfTheSameSegment() {
+        PriceSegmentCache cache = new PriceSegmentCache(100, 1_000_000);
+        PriceSegment segment = timeline.getSegments().get(0);
+        cache.put(KEY, segment);
+        cache.put(KEY, segment);
+
+        assertEquals(1, cache.size());
+        assertEquals(PriceSegmentCache.estimateWeight(segment), cache.weight());
+        assertEquals(0, cache.evictionCount());
+    }
+
+    @Test
+    void invalidateAll_shouldDiscardEveryEntry() {
+        PriceSegmentCache cache = new PriceSegmentCache(100, 1_000_000);
+        timeline.getSegments().forEach(segment -> cache.put(KEY, segment));
+
+        cache.invalidateAll();
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.weight());
+        assertNull(cache.getIfPresent(KEY, LocalDateTime.parse("2020-06-14T16:00:00")));
+    }
+
+    @Test
+    void invalidate_shouldDiscardOnlyTheEntriesOfTheBrand() {
+        PriceSegmentCache cache = new PriceSegmentCache(100, 1_000_000);
+        PriceKey otherBrand = PriceKey.of(KEY.getProductId(), BrandId.of(2));
+        timeline.getSegments().forEach(segment -> cache.put(KEY, segment));
+        cache.put(otherBrand, timeline.getSegments().get(1));
+
+        cache.invalidate(BrandId.of(1));
+
+        assertEquals(1, cache.size());
+        assertEquals(PriceSegmentCache.estimateWeight(timeline.getSegments().get(1)), cache.weight());
+        assertNull(cache.getIfPresent(KEY, LocalDateTime.parse("2020-06-14T16:00:00")));
+        assertSame(timeline.getSegments().get(1), cache.getIfPresent(otherBrand, LocalDateTime.parse("2020-06-14T16:00:00")));
+    }
+
+    @Test
+    void constructor_shouldRejectNonPositiveBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new PriceSegmentCache(0, 1_000_000));
+        assertThrows(IllegalArgumentException.class, () -> new PriceSegmentCache(100, 0));
+    }
+
+    @Test
+    void bindTo_shouldPublishCacheStatistics() {
+        PriceSegmentCache cache = new PriceSegmentCache(1, 1_000_000);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        cache.put(KEY, timeline.getSegments().get(0));
+        cache.put(KEY, timeline.getSegments().get(1));
+        cache.getIfPresent(KEY, LocalDateTime.parse("2020-06-14T16:00:00"));
+        cache.getIfPresent(KEY, LocalDateTime.parse("2020-06-14T10:00:00"));
+
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "price-segments").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "price-segments").tag("result", "miss")
+                .functionCounter().count());
+        assertEquals(1.0, registry.get("cache.evictions").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.size").gauge().value());
+    }
+
+    /**
+     * Helper method to create a Price instance for product 35455 and brand 1.
+     */
+    private Price createPrice(int priceList, String startDate, String endDate, int priority) {
+        return Price.of(
+                KEY.getProductId(),
+                KEY.getBrandId(),
+                PriceList.of(priceList),
+                DateRange.of(LocalDateTime.parse(startDate), LocalDateTime.parse(endDate)),
+                Priority.of(priority),
+                Money.of(BigDecimal.valueOf(35.50), "EUR")
+        );
+    }
+}
@@ -1,13 +1,21 @@
 package com.inditex.priceschedulerapi.infrastructure.config;
 
-import com.inditex.priceschedulerapi.infrastructure.persistence.entity.PriceEntity;
 import com.inditex.priceschedulerapi.infrastructure.persistence.repository.JpaPriceRepositoryAdapter;
+import com.inditex.priceschedulerapi.infrastructure.verification.PriceTableReport;
+import com.inditex.priceschedulerapi.infrastructure.verification.PriceTableScanner;
+import com.inditex.priceschedulerapi.infrastructure.verification.PriceVerificationProperties;
+import com.inditex.priceschedulerapi.infrastructure.verification.PriceVerificationProperties.Mode;
 import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
 
-import java.math.BigDecimal;
-import java.util.List;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 /**
@@ -20,9 +28,10 @@ class DataInitializerVerifierTest {
     void testRun_whenNoPricesInDatabase_logsEmptyDatabaseWarning() {
         // Arrange
         JpaPriceRepositoryAdapter mockRepository = mock(JpaPriceRepositoryAdapter.class);
+        PriceTableScanner mockScanner = mock(PriceTableScanner.class);
         when(mockRepository.count()).thenReturn(0L);
 
-        DataInitializerVerifier verifier = new DataInitializerVerifier(mockRepository);
+        DataInitializerVerifier verifier = new DataInitializerVerifier(mockRepository, mockScanner, properties(Mode.SCAN));
 
         // Act
         verifier.run();
@@ -30,46 +39,92 @@ class DataInitializerVerifierTest {
         // Assert
         verify(mockRepository, times(1)).count();
         verify(mockRepository, never()).findAll();
+        verifyNoInteractions(mockScanner);
     }
 
     @Test
-    void testRun_whenPricesInDatabase_logsDatabaseDetails() {
+    void testRun_whenPricesInDatabase_scansTableWithoutLoadingIt() {
         // Arrange
         JpaPriceRepositoryAdapter mockRepository = mock(JpaPriceRepositoryAdapter.class);
-        PriceEntity priceEntity = PriceEntity.builder()
-                .brandId(1)
-                .productId(100L)
-                .priceList(1)
-                .priority(0)
-                .price(BigDecimal.valueOf(123.45))
-                .currency("USD")
-                .build();
+        PriceTableScanner mockScanner = mock(PriceTableScanner.class);
+        when(mockRepository.count()).thenReturn(1L);
+        when(mockScanner.scan(1L)).thenReturn(new PriceTableReport(1, new TreeMap<>(Map.of(1, 1L)), 42L, 1,
+                Duration.ofMillis(5)));
+
+        DataInitializerVerifier verifier = new DataInitializerVerifier(mockRepository, mockScanner, properties(Mode.SCAN));
+
+        // Act
+        verifier.run();
 
+        // Assert
+        verify(mockRepository, times(1)).count();
+        verify(mockRepository, never()).findAll();
+        verify(mockScanner, times(1)).scan(1L);
+    }
+
+    @Test
+    void testRun_whenModeIsCount_onlyCountsRows() {
+        // Arrange
+        JpaPriceRepositoryAdapter mockRepository = mock(JpaPriceRepositoryAdapter.class);
+        PriceTableScanner mockScanner = mock(PriceTableScanner.class);
         when(mockRepository.count()).thenReturn(1L);
-        when(mockRepository.findAll()).thenReturn(List.of(priceEntity));
 
-        DataInitializerVerifier verifier = new DataInitializerVerifier(mockRepository);
+        DataInitializerVerifier verifier = new DataInitializerVerifier(mockRepository, mockScanner, properties(Mode.COUNT));
 
         // Act
         verifier.run();
 
         // Assert
         verify(mockRepository, times(1)).count();
-        verify(mockRepository, times(1)).findAll();
+        verify(mockScanner, never()).scan(anyLong());
+    }
+
+    @Test
+    void testRun_whenModeIsOff_doesNotTouchDatabase() {
+        // Arrange
+        JpaPriceRepositoryAdapter mockRepository = mock(JpaPriceRepositoryAdapter.class);
+        PriceTableScanner mockScanner = mock(PriceTableScanner.class);
+
+        DataInitializerVerifier verifier = new DataInitializerVerifier(mockRepository, mockScanner, properties(Mode.OFF));
+
+        // Act
+        verifier.run();
+
+        // Assert
+        verifyNoInteractions(mockRepository, mockScanner);
     }
 
     @Test
     void testRun_whenRepositoryThrowsException_shouldPropagateException() {
         // Arrange
         JpaPriceRepositoryAdapter mockRepository = mock(JpaPriceRepositoryAdapter.class);
+        PriceTableScanner mockScanner = mock(PriceTableScanner.class);
         when(mockRepository.count()).thenThrow(new RuntimeException("Database error"));
 
-        DataInitializerVerifier verifier = new DataInitializerVerifier(mockRepository);
+        DataInitializerVerifier verifier = new DataInitializerVerifier(mockRepository, mockScanner, properties(Mode.SCAN));
 
         // Act & Assert
         assertThrows(RuntimeException.class, () -> verifier.run());
 
         verify(mockRepository, times(1)).count();
         verify(mockRepository, never()).findAll();
+        verifyNoInteractions(mockScanner);
+    }
+
+    @Test
+    void testDefaults_countRowsOnly_soTheScanDoesNotDelayReadiness() {
+        // Arrange
+        Binder binder = new Binder(new MapConfigurationPropertySource(Map.of()));
+
+        // Act
+        PriceVerificationProperties defaults = binder.bindOrCreate("price-scheduler.verification",
+                PriceVerificationProperties.class);
+
+        // Assert
+        assertThat(defaults.mode()).isEqualTo(Mode.COUNT);
+    }
+
+    private static PriceVerificationProperties properties(Mode mode) {
+        return new PriceVerificationProperties(mode, 4, 1000, Duration.ofSeconds(10));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,56 @@
+package com.inditex.priceschedulerapi.infrastructure.config;
+
+import com.inditex.priceschedulerapi.application.dto.PriceBatchQueryResponse;
+import com.inditex.priceschedulerapi.application.dto.PriceQueryResponse;
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import com.inditex.priceschedulerapi.infrastructure.persistence.entity.PriceEntity;
+import com.inditex.priceschedulerapi.presentation.exception.GlobalExceptionHandler;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for PriceSchedulerRuntimeHints.
+ */
+class PriceSchedulerRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new PriceSchedulerRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void registerHints_shouldRegisterJsonPayloadsForBinding() throws NoSuchMethodException {
+        // Assert
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(PriceQueryResponse.class.getMethod("price"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(PriceBatchQueryResponse.Result.class.getMethod("price")))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(GlobalExceptionHandler.ErrorResponse.class.getMethod("errors")))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(OpenAPI.class.getMethod("getInfo"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(BrandId.class.getMethod("getValue"))).accepts(hints);
+    }
+
+    @Test
+    void registerHints_shouldRegisterEntityAndImportRecord() throws ClassNotFoundException {
+        // Arrange
+        Class<?> importRecord = Class.forName(PriceSchedulerRuntimeHints.PRICE_IMPORT_RECORD);
+
+        // Assert
+        assertThat(RuntimeHintsPredicates.reflection().onType(PriceEntity.class)
+                .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of(importRecord))
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                .accepts(hints);
+    }
+}
@@ -0,0 +1,88 @@
+package com.inditex.priceschedulerapi.infrastructure.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.priceschedulerapi.domain.model.Price;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for PriceImportFormat.
+ * Verifies parsing and validation of CSV and NDJSON lines.
+ */
+class PriceImportFormatTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void csv_shouldParseLineInTableColumnOrder() throws JsonProcessingException {
+        Price price = PriceImportFormat.CSV.parse(
+                "1,2020-06-14 15:00:00,2020-06-14-18.30.00,2,35455,1,25.45,EUR", objectMapper);
+
+        assertThat(price.getBrandId().getValue()).isEqualTo(1);
+        assertThat(price.getProductId().getValue()).isEqualTo(35455L);
+        assertThat(price.getPriceList().getValue()).isEqualTo(2);
+        assertThat(price.getPriority().getValue()).isEqualTo(1);
+        assertThat(price.getDateRange().getStartDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 15, 0));
+        assertThat(price.getDateRange().getEndDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 18, 30));
+        assertThat(price.getPrice().getAmount()).isEqualByComparingTo("25.45");
+        assertThat(price.getPrice().getCurrencyCode()).isEqualTo("EUR");
+    }
+
+    @Test
+    void csv_shouldRejectInvalidLines() {
+        assertThatThrownBy(() -> PriceImportFormat.CSV.parse("1,2,3", objectMapper))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Expected 8 columns but found 3");
+        assertThatThrownBy(() -> PriceImportFormat.CSV.parse(
+                "0,2020-06-14T00:00:00,2020-12-31T23:59:59,1,35455,0,35.50,EUR", objectMapper))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Brand ID must be positive");
+        assertThatThrownBy(() -> PriceImportFormat.CSV.parse(
+                "1,yesterday,2020-12-31T23:59:59,1,35455,0,35.50,EUR", objectMapper))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid date: yesterday");
+        assertThatThrownBy(() -> PriceImportFormat.CSV.parse(
+                "1,2020-06-14T00:00:00,2020-12-31T23:59:59,1,35455,0,35.505,EUR", objectMapper))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("2 decimals");
+    }
+
+    @Test
+    void csv_shouldRecognizeHeader() {
+        assertThat(PriceImportFormat.CSV.isHeader("BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE,CURR")).isTrue();
+        assertThat(PriceImportFormat.CSV.isHeader("1,2020-06-14T00:00:00,2020-12-31T23:59:59,1,35455,0,35.50,EUR")).isFalse();
+    }
+
+    @Test
+    void ndjson_shouldParseLineWithApiFieldNames() throws JsonProcessingException {
+        Price price = PriceImportFormat.NDJSON.parse("""
+                {"productId":35455,"brandId":1,"priceList":4,"startDate":"2020-06-15T16:00:00",\
+                "endDate":"2020-12-31T23:59:59","priority":1,"price":38.95,"currency":"EUR"}""", objectMapper);
+
+        assertThat(price.getPriceList().getValue()).isEqualTo(4);
+        assertThat(price.getPrice().getAmount()).isEqualByComparingTo("38.95");
+    }
+
+    @Test
+    void ndjson_shouldRejectMissingFields() {
+        assertThatThrownBy(() -> PriceImportFormat.NDJSON.parse("{\"brandId\":1}", objectMapper))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Product ID cannot be null");
+    }
+
+    @Test
+    void fromMediaTypeAndFileName_shouldResolveFormat() {
+        assertThat(PriceImportFormat.fromMediaType(MediaType.parseMediaType("text/csv;charset=UTF-8"))).contains(PriceImportFormat.CSV);
+        assertThat(PriceImportFormat.fromMediaType(MediaType.parseMediaType("application/x-ndjson"))).contains(PriceImportFormat.NDJSON);
+        assertThat(PriceImportFormat.fromMediaType(MediaType.APPLICATION_JSON)).isEmpty();
+        assertThat(PriceImportFormat.fromFileName("PRICES.CSV")).contains(PriceImportFormat.CSV);
+        assertThat(PriceImportFormat.fromFileName("prices.ndjson")).contains(PriceImportFormat.NDJSON);
+        assertThat(PriceImportFormat.fromFileName("prices.xlsx")).isEmpty();
+    }
+}
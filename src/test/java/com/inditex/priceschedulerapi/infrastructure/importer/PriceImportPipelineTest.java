@@ -0,0 +1,133 @@
+package com.inditex.priceschedulerapi.infrastructure.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PriceImportPipeline.
+ * Uses a mocked batch writer to check batching, rejection reporting and the import event.
+ */
+@ExtendWith(MockitoExtension.class)
+class PriceImportPipelineTest {
+
+    private static final String HEADER = "BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE,CURR\n";
+
+    @Mock
+    private JdbcPriceBatchWriter batchWriter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void importPrices_shouldWriteValidRowsInBatches_andReportRejectedOnes() throws IOException {
+        // Arrange
+        when(batchWriter.write(anyList())).thenAnswer(invocation -> invocation.<List<Price>>getArgument(0).size());
+        PriceImportPipeline pipeline = pipeline(2);
+        String csv = HEADER
+                + "1,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35455,0,35.50,EUR\n"
+                + "1,2020-06-14 15:00:00,2020-06-14 18:30:00,2,35455,1,25.45,EUR\n"
+                + "\n"
+                + "1,2020-06-15 00:00:00,2020-06-15 11:00:00,3,-1,1,30.50,EUR\n"
+                + "1,2020-06-15 16:00:00,2020-12-31 23:59:59,4,35455,1,38.95,EUR\n";
+
+        // Act
+        PriceImportReport report = pipeline.importPrices(input(csv), PriceImportFormat.CSV);
+
+        // Assert
+        assertThat(report.rowsRead()).isEqualTo(4);
+        assertThat(report.rowsImported()).isEqualTo(3);
+        assertThat(report.rowsRejected()).isEqualTo(1);
+        assertThat(report.rejections()).containsExactly("line 5: Product ID must be positive");
+        verify(batchWriter, times(2)).write(anyList());
+        verify(eventPublisher).publishEvent(new PricesImportedEvent(3, Set.of(BrandId.of(1))));
+    }
+
+    @Test
+    void importPrices_shouldReportFailedBatches_andNotPublishWhenNothingWasImported() throws IOException {
+        // Arrange
+        when(batchWriter.write(anyList())).thenThrow(new DataIntegrityViolationException("Value too long for column"));
+        PriceImportPipeline pipeline = pipeline(10);
+        String ndjson = """
+                {"productId":35455,"brandId":1,"priceList":1,"startDate":"2020-06-14T00:00:00","endDate":"2020-12-31T23:59:59","priority":0,"price":35.50,"currency":"EUR"}
+                {"productId":35455,"brandId":1,"priceList":2,"startDate":"2020-06-14T15:00:00","endDate":"2020-06-14T18:30:00","priority":1,"price":25.45,"currency":"EUR"}
+                """;
+
+        // Act
+        PriceImportReport report = pipeline.importPrices(input(ndjson), PriceImportFormat.NDJSON);
+
+        // Assert
+        assertThat(report.rowsRead()).isEqualTo(2);
+        assertThat(report.rowsImported()).isZero();
+        assertThat(report.rowsRejected()).isEqualTo(2);
+        assertThat(report.rejections()).containsExactly("batch of 2 rows: Value too long for column");
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void importPrices_shouldLimitReportedRejections() throws IOException {
+        // Arrange
+        PriceImportPipeline pipeline = new PriceImportPipeline(batchWriter, objectMapper, eventPublisher,
+                new PriceImportProperties(null, 10, 1, 1, 1), Thread.ofPlatform());
+
+        // Act
+        PriceImportReport report = pipeline.importPrices(input("not json\n{}\n"), PriceImportFormat.NDJSON);
+
+        // Assert
+        assertThat(report.rowsRejected()).isEqualTo(2);
+        assertThat(report.rejections()).hasSize(1);
+        assertThat(report.rejections().getFirst()).startsWith("line 1: Invalid JSON");
+        verifyNoInteractions(batchWriter);
+    }
+
+    @Test
+    void importPrices_shouldWriteBatchesOnVirtualThreads_whenGivenAVirtualThreadBuilder() throws IOException {
+        // Arrange
+        List<Boolean> writerThreadsVirtual = new CopyOnWriteArrayList<>();
+        when(batchWriter.write(anyList())).thenAnswer(invocation -> {
+            writerThreadsVirtual.add(Thread.currentThread().isVirtual());
+            return invocation.<List<Price>>getArgument(0).size();
+        });
+        PriceImportPipeline pipeline = new PriceImportPipeline(batchWriter, objectMapper, eventPublisher,
+                new PriceImportProperties(null, 1, 2, 1, 100), Thread.ofVirtual());
+        String csv = HEADER
+                + "1,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35455,0,35.50,EUR\n"
+                + "1,2020-06-14 15:00:00,2020-06-14 18:30:00,2,35455,1,25.45,EUR\n";
+
+        // Act
+        PriceImportReport report = pipeline.importPrices(input(csv), PriceImportFormat.CSV);
+
+        // Assert
+        assertThat(report.rowsImported()).isEqualTo(2);
+        assertThat(writerThreadsVirtual).containsExactly(true, true);
+    }
+
+    private PriceImportPipeline pipeline(int batchSize) {
+        return new PriceImportPipeline(batchWriter, objectMapper, eventPublisher,
+                new PriceImportProperties(null, batchSize, 2, 1, 100), Thread.ofPlatform());
+    }
+
+    private InputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
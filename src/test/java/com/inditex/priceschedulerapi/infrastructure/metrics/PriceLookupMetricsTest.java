@@ -0,0 +1,88 @@
+package com.inditex.priceschedulerapi.infrastructure.metrics;
+
+import com.inditex.priceschedulerapi.infrastructure.metrics.PriceLookupMetrics.Layer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for PriceLookupMetrics.
+ * Checks meter names and tags and that meters are reused per brand tag.
+ */
+class PriceLookupMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final PriceLookupMetrics metrics = new PriceLookupMetrics(registry, Set.of(1, 2));
+
+    @Test
+    void timer_shouldBeTaggedByLayerAndBrandAndReused() {
+        // Act
+        Timer timer = metrics.timer(Layer.REPOSITORY, 1);
+        timer.record(() -> { });
+
+        // Assert
+        assertThat(metrics.timer(Layer.REPOSITORY, 1)).isSameAs(timer);
+        assertThat(registry.get(PriceLookupMetrics.DURATION).tags("layer", "repository", "brand", "1").timer().count())
+                .isEqualTo(1);
+        assertThat(metrics.timer(Layer.REPOSITORY, 2)).isNotSameAs(timer);
+    }
+
+    @Test
+    void recordResponse_shouldCountPerBrandAndStatus() {
+        // Act
+        metrics.recordResponse(1, 200);
+        metrics.recordResponse(1, 200);
+        metrics.recordResponse(1, 404);
+
+        // Assert
+        Counter found = registry.get(PriceLookupMetrics.RESPONSES).tags("brand", "1", "status", "200").counter();
+        Counter notFound = registry.get(PriceLookupMetrics.RESPONSES).tags("brand", "1", "status", "404").counter();
+        assertThat(found.count()).isEqualTo(2);
+        assertThat(notFound.count()).isEqualTo(1);
+    }
+
+    @Test
+    void recordCandidates_shouldSummarizeRowsPerLookup() {
+        // Act
+        metrics.recordCandidates(1, 2);
+        metrics.recordCandidates(1, 0);
+        metrics.recordCandidates(null, 1);
+
+        // Assert
+        DistributionSummary brand1 = registry.get(PriceLookupMetrics.CANDIDATES).tags("brand", "1").summary();
+        assertThat(brand1.count()).isEqualTo(2);
+        assertThat(brand1.totalAmount()).isEqualTo(2);
+        assertThat(registry.get(PriceLookupMetrics.CANDIDATES).tags("brand", "unknown").summary().count()).isEqualTo(1);
+    }
+
+    @Test
+    void timer_shouldTagUnlistedBrandsAsOther() {
+        // Act
+        Timer timer = metrics.timer(Layer.CONTROLLER, 3);
+        timer.record(() -> { });
+        metrics.timer(Layer.CONTROLLER, 987654).record(() -> { });
+
+        // Assert
+        assertThat(metrics.timer(Layer.CONTROLLER, 987654)).isSameAs(timer);
+        assertThat(registry.get(PriceLookupMetrics.DURATION).tags("layer", "controller", "brand", "other").timer().count())
+                .isEqualTo(2);
+        assertThat(registry.find(PriceLookupMetrics.DURATION).tags("brand", "3").timer()).isNull();
+    }
+
+    @Test
+    void time_shouldRecordTheUseCaseLayer() {
+        // Act
+        String result = metrics.time(1, () -> "price");
+
+        // Assert
+        assertThat(result).isEqualTo("price");
+        assertThat(registry.get(PriceLookupMetrics.DURATION).tags("layer", "use-case", "brand", "1").timer().count())
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,202 @@
+package com.inditex.priceschedulerapi.infrastructure.persistence.columnar;
+
+import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import com.inditex.priceschedulerapi.domain.valueobject.ProductId;
+import com.inditex.priceschedulerapi.infrastructure.persistence.entity.PriceEntity;
+import com.inditex.priceschedulerapi.infrastructure.persistence.mapper.PriceEntityMapper;
+import com.inditex.priceschedulerapi.infrastructure.persistence.memory.InMemoryPriceRepository;
+import com.inditex.priceschedulerapi.infrastructure.persistence.repository.JpaPriceRepositoryAdapter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ColumnarPriceRepository.
+ * Verifies that the store is loaded once and lookups no longer hit the JPA repository.
+ */
+@ExtendWith(MockitoExtension.class)
+class ColumnarPriceRepositoryTest {
+
+    @Mock
+    private JpaPriceRepositoryAdapter jpaRepository;
+
+    private static final PriceSnapshotProperties NO_SNAPSHOT = new PriceSnapshotProperties(null, true, true);
+
+    @TempDir
+    Path directory;
+
+    private final PriceEntityMapper mapper = new PriceEntityMapper();
+
+    @Test
+    void findTopApplicablePrice_shouldAnswerFromLoadedStore() {
+        // Arrange
+        List<PriceEntity> entities = List.of(
+                createEntity(1, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0, "35.50"),
+                createEntity(2, LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30), 1, "25.45")
+        );
+        when(jpaRepository.count()).thenReturn((long) entities.size());
+        when(jpaRepository.findAll()).thenReturn(entities);
+        ColumnarPriceRepository repository = new ColumnarPriceRepository(jpaRepository, mapper, NO_SNAPSHOT);
+        repository.load();
+
+        // Act
+        Optional<Price> result = repository.findTopApplicablePrice(
+                ProductId.of(35455L), BrandId.of(1), LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        // Assert
+        assertThat(result).isPresent();
+        assertThat(result.get().getPriceList().getValue()).isEqualTo(2);
+        assertThat(result.get().getPrice().getAmount()).isEqualByComparingTo("25.45");
+        assertThat(repository.findApplicablePrices(ProductId.of(35455L), BrandId.of(1), LocalDateTime.of(2020, 6, 14, 16, 0)))
+                .extracting(price -> price.getPriceList().getValue())
+                .containsExactly(1, 2);
+        assertThat(repository.findPrices(ProductId.of(35455L), BrandId.of(1))).hasSize(2);
+        verify(jpaRepository, times(1)).findAll();
+    }
+
+    @Test
+    void findEffectiveSegment_shouldMatchTheInMemorySegment_withoutMaterializingTheHistory() {
+        // Arrange
+        List<PriceEntity> entities = List.of(
+                createEntity(1, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0, "35.50"),
+                createEntity(2, LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30), 1, "25.45"),
+                createEntity(3, LocalDateTime.of(2020, 6, 15, 0, 0), LocalDateTime.of(2020, 6, 15, 11, 0), 1, "30.50"),
+                createEntity(4, LocalDateTime.of(2020, 6, 15, 16, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 1, "38.95")
+        );
+        when(jpaRepository.findAll()).thenReturn(entities);
+        ColumnarPriceRepository columnar = spy(new ColumnarPriceRepository(jpaRepository, mapper, NO_SNAPSHOT));
+        columnar.load();
+        InMemoryPriceRepository inMemory = new InMemoryPriceRepository(jpaRepository, mapper);
+        inMemory.load();
+
+        // Act / Assert
+        for (LocalDateTime date : List.of(
+                LocalDateTime.of(2020, 6, 14, 10, 0), LocalDateTime.of(2020, 6, 14, 16, 0),
+                LocalDateTime.of(2020, 6, 14, 21, 0), LocalDateTime.of(2020, 6, 15, 10, 0),
+                LocalDateTime.of(2020, 6, 16, 21, 0), LocalDateTime.of(2020, 6, 13, 23, 0))) {
+            assertThat(columnar.findEffectiveSegment(ProductId.of(35455L), BrandId.of(1), date))
+                    .as("segment at %s", date)
+                    .isEqualTo(inMemory.findEffectiveSegment(ProductId.of(35455L), BrandId.of(1), date));
+        }
+        verify(columnar, never()).findPrices(any(), any());
+        verify(columnar, never()).findTimeline(any(), any());
+    }
+
+    @Test
+    void findTopApplicablePrice_shouldReturnEmpty_whenNothingWasLoaded() {
+        // Arrange
+        when(jpaRepository.findAll()).thenReturn(List.of());
+        ColumnarPriceRepository repository = new ColumnarPriceRepository(jpaRepository, mapper, NO_SNAPSHOT);
+        repository.load();
+
+        // Act
+        Optional<Price> result = repository.findTopApplicablePrice(
+                ProductId.of(35455L), BrandId.of(1), LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        // Assert
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void load_shouldWriteSnapshot_andRestoreItWithoutQueryingTheDatabase() {
+        // Arrange
+        Path snapshot = directory.resolve("prices.snapshot");
+        PriceSnapshotProperties properties = new PriceSnapshotProperties(snapshot, true, true);
+        List<PriceEntity> entities = List.of(
+                createEntity(1, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0, "35.50"),
+                createEntity(2, LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30), 1, "25.45")
+        );
+        when(jpaRepository.findAll()).thenReturn(entities);
+        new ColumnarPriceRepository(jpaRepository, mapper, properties).load();
+        clearInvocations(jpaRepository);
+        when(jpaRepository.count()).thenReturn(2L);
+        when(jpaRepository.findFirstByOrderByIdDesc()).thenReturn(Optional.of(entities.get(1)));
+
+        // Act
+        ColumnarPriceRepository restored = new ColumnarPriceRepository(jpaRepository, mapper, properties);
+        restored.load();
+
+        // Assert
+        assertThat(snapshot).exists();
+        assertThat(restored.findTopApplicablePrice(ProductId.of(35455L), BrandId.of(1), LocalDateTime.of(2020, 6, 14, 16, 0)))
+                .map(price -> price.getPriceList().getValue())
+                .contains(2);
+        verify(jpaRepository, never()).findAll();
+    }
+
+    @Test
+    void load_shouldReloadAndRewriteSnapshot_whenTableChangedSinceItWasWritten() throws IOException {
+        // Arrange
+        Path snapshot = directory.resolve("prices.snapshot");
+        PriceSnapshotProperties properties = new PriceSnapshotProperties(snapshot, true, true);
+        PriceEntity first = createEntity(1, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0, "35.50");
+        PriceEntity inserted = createEntity(2, LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30), 1, "25.45");
+        when(jpaRepository.findAll()).thenReturn(List.of(first));
+        new ColumnarPriceRepository(jpaRepository, mapper, properties).load();
+        when(jpaRepository.count()).thenReturn(2L);
+        when(jpaRepository.findFirstByOrderByIdDesc()).thenReturn(Optional.of(inserted));
+        when(jpaRepository.findAll()).thenReturn(List.of(first, inserted));
+
+        // Act
+        ColumnarPriceRepository reloaded = new ColumnarPriceRepository(jpaRepository, mapper, properties);
+        reloaded.load();
+
+        // Assert
+        assertThat(reloaded.findTopApplicablePrice(ProductId.of(35455L), BrandId.of(1), LocalDateTime.of(2020, 6, 14, 16, 0)))
+                .map(price -> price.getPriceList().getValue())
+                .contains(2);
+        assertThat(PriceSnapshotFile.read(snapshot, new PriceSnapshotFile.TableFingerprint(2, 2), true).size()).isEqualTo(2);
+        verify(jpaRepository, times(2)).findAll();
+    }
+
+    @Test
+    void load_shouldFallBackToDatabase_whenSnapshotIsInvalid() throws IOException {
+        // Arrange
+        Path snapshot = Files.writeString(directory.resolve("prices.snapshot"), "not a snapshot");
+        when(jpaRepository.findAll()).thenReturn(List.of(
+                createEntity(1, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0, "35.50")
+        ));
+        ColumnarPriceRepository repository = new ColumnarPriceRepository(
+                jpaRepository, mapper, new PriceSnapshotProperties(snapshot, true, false));
+
+        // Act
+        repository.load();
+
+        // Assert
+        assertThat(repository.findPrices(ProductId.of(35455L), BrandId.of(1))).hasSize(1);
+        assertThat(Files.readString(snapshot)).isEqualTo("not a snapshot");
+        verify(jpaRepository, times(1)).findAll();
+    }
+
+    /**
+     * Helper method to create a PriceEntity for product 35455 and brand 1, with the price list as ID.
+     */
+    private PriceEntity createEntity(int priceList, LocalDateTime startDate, LocalDateTime endDate,
+                                     int priority, String amount) {
+        return PriceEntity.builder()
+                .id((long) priceList)
+                .brandId(1)
+                .productId(35455L)
+                .priceList(priceList)
+                .startDate(startDate)
+                .endDate(endDate)
+                .priority(priority)
+                .price(new BigDecimal(amount))
+                .currency("EUR")
+                .build();
+    }
+}
@@ -0,0 +1,162 @@
+package com.inditex.priceschedulerapi.infrastructure.persistence.columnar;
+
+import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.model.PriceTimeline;
+import com.inditex.priceschedulerapi.domain.valueobject.*;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for ColumnarPriceStore.
+ * Uses the sample data of the exercise to check lookups on the primitive columns.
+ */
+class ColumnarPriceStoreTest {
+
+    private static final ProductId PRODUCT_ID = ProductId.of(35455L);
+    private static final BrandId BRAND_ID = BrandId.of(1);
+
+    private final Price priceList1 = createPrice(1, "2020-06-14T00:00:00", "2020-12-31T23:59:59", 0, "35.50");
+    private final Price priceList2 = createPrice(2, "2020-06-14T15:00:00", "2020-06-14T18:30:00", 1, "25.45");
+    private final Price priceList3 = createPrice(3, "2020-06-15T00:00:00", "2020-06-15T11:00:00", 1, "30.50");
+    private final Price priceList4 = createPrice(4, "2020-06-15T16:00:00", "2020-12-31T23:59:59", 1, "38.95");
+
+    private final ColumnarPriceStore store = ColumnarPriceStore.of(List.of(priceList4, priceList2, priceList1, priceList3));
+
+    @Test
+    void findTopApplicableRow_shouldResolveExerciseScenarios() {
+        assertThat(topPriceList("2020-06-14T10:00:00")).isEqualTo(1);
+        assertThat(topPriceList("2020-06-14T16:00:00")).isEqualTo(2);
+        assertThat(topPriceList("2020-06-14T21:00:00")).isEqualTo(1);
+        assertThat(topPriceList("2020-06-15T10:00:00")).isEqualTo(3);
+        assertThat(topPriceList("2020-06-16T21:00:00")).isEqualTo(4);
+    }
+
+    @Test
+    void findTopApplicableRow_shouldRespectInclusiveBoundaries_withSubSecondDates() {
+        assertThat(topPriceList("2020-06-14T18:30:00")).isEqualTo(2);
+        assertThat(topPriceList("2020-06-14T18:30:00.000000001")).isEqualTo(1);
+        assertThat(topPriceList("2020-06-14T14:59:59.999999999")).isEqualTo(1);
+    }
+
+    @Test
+    void findTopApplicableRow_shouldReturnNotFound_whenNothingApplies() {
+        assertThat(store.findTopApplicableRow(PRODUCT_ID, BRAND_ID, LocalDateTime.parse("2020-06-13T23:59:59")))
+                .isEqualTo(ColumnarPriceStore.NOT_FOUND);
+        assertThat(store.findTopApplicableRow(ProductId.of(99999L), BRAND_ID, LocalDateTime.parse("2020-06-14T10:00:00")))
+                .isEqualTo(ColumnarPriceStore.NOT_FOUND);
+        assertThat(store.findTopApplicableRow(ProductId.of(Long.MAX_VALUE), BRAND_ID, LocalDateTime.parse("2020-06-14T10:00:00")))
+                .isEqualTo(ColumnarPriceStore.NOT_FOUND);
+    }
+
+    @Test
+    void findTopApplicableRow_shouldKeepFirstStoredPrice_whenPrioritiesAreEqual() {
+        Price first = createPrice(7, "2020-06-14T12:00:00", "2020-06-14T20:00:00", 1, "10.00");
+        Price second = createPrice(8, "2020-06-14T10:00:00", "2020-06-14T20:00:00", 1, "20.00");
+        ColumnarPriceStore tied = ColumnarPriceStore.of(List.of(first, second));
+
+        int row = tied.findTopApplicableRow(PRODUCT_ID, BRAND_ID, LocalDateTime.parse("2020-06-14T13:00:00"));
+
+        assertThat(tied.priceAt(row).getPriceList().getValue()).isEqualTo(7);
+    }
+
+    @Test
+    void priceAt_shouldMaterializeEqualPrice() {
+        int row = store.findTopApplicableRow(PRODUCT_ID, BRAND_ID, LocalDateTime.parse("2020-06-14T16:00:00"));
+
+        Price price = store.priceAt(row);
+
+        assertThat(price.getProductId()).isEqualTo(PRODUCT_ID);
+        assertThat(price.getBrandId()).isEqualTo(BRAND_ID);
+        assertThat(price.getPriceList()).isEqualTo(priceList2.getPriceList());
+        assertThat(price.getDateRange()).isEqualTo(priceList2.getDateRange());
+        assertThat(price.getPriority()).isEqualTo(priceList2.getPriority());
+        assertThat(price.getPrice()).isEqualTo(priceList2.getPrice());
+    }
+
+    @Test
+    void priceAt_shouldKeepAmountScale_whenItExceedsCurrencyDigits() {
+        Price yen = Price.of(PRODUCT_ID, BRAND_ID, PriceList.of(1),
+                DateRange.of(LocalDateTime.parse("2020-01-01T00:00:00"), LocalDateTime.parse("2020-12-31T23:59:59")),
+                Priority.of(0), Money.of(new BigDecimal("1500.00"), "JPY"));
+        ColumnarPriceStore yenStore = ColumnarPriceStore.of(List.of(yen));
+
+        Price price = yenStore.priceAt(0);
+
+        assertThat(price.getPrice()).isEqualTo(yen.getPrice());
+    }
+
+    @Test
+    void findApplicablePrices_shouldReturnAllOverlappingPrices_inStartDateOrder() {
+        assertThat(store.findApplicablePrices(PRODUCT_ID, BRAND_ID, LocalDateTime.parse("2020-06-14T16:00:00")))
+                .extracting(price -> price.getPriceList().getValue())
+                .containsExactly(1, 2);
+        assertThat(store.findPrices(PRODUCT_ID, BRAND_ID))
+                .extracting(price -> price.getPriceList().getValue())
+                .containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    void findEffectiveSegment_shouldMatchTheFlattenedTimeline() {
+        // Arrange
+        List<Price> prices = List.of(priceList4, priceList2, priceList1, priceList3,
+                createPrice(5, "2020-06-15T16:00:00", "2020-06-20T00:00:00", 1, "40.00"),
+                createPrice(6, "2020-06-18T00:00:00", "2020-06-19T00:00:00", 2, "20.00"),
+                createPrice(7, "2020-06-14T12:00:00", "2020-06-14T16:00:00", 1, "28.00"));
+        ColumnarPriceStore columnar = ColumnarPriceStore.of(prices);
+        PriceTimeline timeline = PriceTimeline.of(PRODUCT_ID, BRAND_ID, prices);
+
+        // Act / Assert
+        for (LocalDateTime date = LocalDateTime.parse("2020-06-13T23:00:00");
+             date.isBefore(LocalDateTime.parse("2021-01-01T01:00:00")); date = date.plusMinutes(30)) {
+            for (LocalDateTime probe : List.of(date, date.minusNanos(1), date.plusNanos(500))) {
+                assertThat(columnar.findEffectiveSegment(PRODUCT_ID, BRAND_ID, probe))
+                        .as("segment at %s", probe)
+                        .isEqualTo(timeline.segmentAt(probe));
+            }
+        }
+        assertThat(columnar.findEffectiveSegment(ProductId.of(1L), BRAND_ID, LocalDateTime.parse("2020-06-14T10:00:00"))).isEmpty();
+    }
+
+    @Test
+    void of_shouldReportSizeAndKeyCount() {
+        assertThat(store.size()).isEqualTo(4);
+        assertThat(store.keyCount()).isEqualTo(1);
+        assertThat(store.estimatedBytes()).isPositive();
+        assertThat(ColumnarPriceStore.empty().size()).isZero();
+        assertThat(ColumnarPriceStore.empty().findPrices(PRODUCT_ID, BRAND_ID)).isEmpty();
+    }
+
+    @Test
+    void add_shouldRejectSubSecondDates() {
+        Price fractional = createPrice(1, "2020-06-14T00:00:00.5", "2020-12-31T23:59:59", 0, "35.50");
+
+        assertThatThrownBy(() -> ColumnarPriceStore.of(List.of(fractional)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("whole-second");
+    }
+
+    /**
+     * Helper method to create a Price for product 35455 and brand 1.
+     */
+    private Price createPrice(int priceList, String startDate, String endDate, int priority, String amount) {
+        return Price.of(
+                PRODUCT_ID,
+                BRAND_ID,
+                PriceList.of(priceList),
+                DateRange.of(LocalDateTime.parse(startDate), LocalDateTime.parse(endDate)),
+                Priority.of(priority),
+                Money.of(new BigDecimal(amount), "EUR")
+        );
+    }
+
+    private int topPriceList(String applicationDate) {
+        int row = store.findTopApplicableRow(PRODUCT_ID, BRAND_ID, LocalDateTime.parse(applicationDate));
+        return store.priceAt(row).getPriceList().getValue();
+    }
+}
@@ -0,0 +1,144 @@
+package com.inditex.priceschedulerapi.infrastructure.persistence.columnar;
+
+import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.valueobject.*;
+import com.inditex.priceschedulerapi.infrastructure.persistence.columnar.PriceSnapshotFile.TableFingerprint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for PriceSnapshotFile.
+ * Round-trips the sample data of the exercise and checks that damaged files are rejected.
+ */
+class PriceSnapshotFileTest {
+
+    private static final ProductId PRODUCT_ID = ProductId.of(35455L);
+    private static final BrandId BRAND_ID = BrandId.of(1);
+    private static final TableFingerprint TABLE = new TableFingerprint(4, 4);
+    private static final TableFingerprint EMPTY_TABLE = new TableFingerprint(0, 0);
+
+    @TempDir
+    Path directory;
+
+    private final ColumnarPriceStore store = ColumnarPriceStore.of(List.of(
+            createPrice(1, "2020-06-14T00:00:00", "2020-12-31T23:59:59", 0, "35.50", "EUR"),
+            createPrice(2, "2020-06-14T15:00:00", "2020-06-14T18:30:00", 1, "25.45", "EUR"),
+            createPrice(3, "2020-06-15T00:00:00", "2020-06-15T11:00:00", 1, "30.50", "USD"),
+            createPrice(4, "2020-06-15T16:00:00", "2020-12-31T23:59:59", 1, "38.95", "EUR")
+    ));
+
+    @Test
+    void read_shouldRestoreWrittenStore() throws IOException {
+        Path file = directory.resolve("prices.snapshot");
+
+        PriceSnapshotFile.write(store, TABLE, file);
+        ColumnarPriceStore restored = PriceSnapshotFile.read(file, TABLE, true);
+
+        assertThat(restored.size()).isEqualTo(store.size());
+        assertThat(restored.keyCount()).isEqualTo(store.keyCount());
+        for (String date : List.of("2020-06-14T10:00:00", "2020-06-14T16:00:00", "2020-06-15T10:00:00", "2020-06-16T21:00:00")) {
+            LocalDateTime applicationDate = LocalDateTime.parse(date);
+            int row = restored.findTopApplicableRow(PRODUCT_ID, BRAND_ID, applicationDate);
+            Price expected = store.priceAt(store.findTopApplicableRow(PRODUCT_ID, BRAND_ID, applicationDate));
+            assertThat(restored.priceAt(row).getPriceList()).isEqualTo(expected.getPriceList());
+            assertThat(restored.priceAt(row).getDateRange()).isEqualTo(expected.getDateRange());
+            assertThat(restored.priceAt(row).getPrice()).isEqualTo(expected.getPrice());
+        }
+        assertThat(directory.resolve("prices.snapshot.tmp")).doesNotExist();
+    }
+
+    @Test
+    void read_shouldRestoreEmptyStore() throws IOException {
+        Path file = directory.resolve("empty.snapshot");
+
+        PriceSnapshotFile.write(ColumnarPriceStore.empty(), EMPTY_TABLE, file);
+
+        assertThat(PriceSnapshotFile.read(file, EMPTY_TABLE, true).size()).isZero();
+    }
+
+    @Test
+    void read_shouldRejectChecksumMismatch() throws IOException {
+        Path file = directory.resolve("prices.snapshot");
+        PriceSnapshotFile.write(store, TABLE, file);
+        overwrite(file, Files.size(file) - 1, (byte) 0x7F);
+
+        assertThatThrownBy(() -> PriceSnapshotFile.read(file, TABLE, true))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("checksum mismatch");
+    }
+
+    @Test
+    void read_shouldRejectSnapshotOfAChangedTable() throws IOException {
+        Path file = directory.resolve("prices.snapshot");
+        PriceSnapshotFile.write(store, TABLE, file);
+
+        assertThatThrownBy(() -> PriceSnapshotFile.read(file, new TableFingerprint(5, 5), true))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Stale price snapshot");
+        assertThatThrownBy(() -> PriceSnapshotFile.read(file, new TableFingerprint(4, 7), true))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Stale price snapshot");
+    }
+
+    @Test
+    void read_shouldRejectUnsupportedVersion() throws IOException {
+        Path file = directory.resolve("prices.snapshot");
+        PriceSnapshotFile.write(store, TABLE, file);
+        overwrite(file, 4, (byte) (PriceSnapshotFile.VERSION + 1));
+
+        assertThatThrownBy(() -> PriceSnapshotFile.read(file, TABLE, true))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Unsupported price snapshot version");
+    }
+
+    @Test
+    void read_shouldRejectForeignAndTruncatedFiles() throws IOException {
+        Path foreign = Files.writeString(directory.resolve("foreign.snapshot"), "PRODUCT_ID;BRAND_ID;PRICE_LIST;PRICE");
+        Path truncated = directory.resolve("truncated.snapshot");
+        PriceSnapshotFile.write(store, TABLE, truncated);
+        try (FileChannel channel = FileChannel.open(truncated, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 8);
+        }
+
+        assertThatThrownBy(() -> PriceSnapshotFile.read(foreign, TABLE, true))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Not a price snapshot");
+        assertThatThrownBy(() -> PriceSnapshotFile.read(truncated, TABLE, true))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Truncated price snapshot");
+    }
+
+    private void overwrite(Path file, long position, byte value) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{value}), position);
+        }
+    }
+
+    /**
+     * Helper method to create a Price for product 35455 and brand 1.
+     */
+    private Price createPrice(int priceList, String startDate, String endDate, int priority, String amount,
+                              String currency) {
+        return Price.of(
+                PRODUCT_ID,
+                BRAND_ID,
+                PriceList.of(priceList),
+                DateRange.of(LocalDateTime.parse(startDate), LocalDateTime.parse(endDate)),
+                Priority.of(priority),
+                Money.of(new BigDecimal(amount), currency)
+        );
+    }
+}
@@ -0,0 +1,218 @@
+package com.inditex.priceschedulerapi.infrastructure.persistence.index;
+
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for BrandShards.
+ * Checks that brands are rebuilt and evicted independently and that lookups of a brand never wait
+ * for the rebuild of another.
+ */
+class BrandShardsTest {
+
+    private static final BrandId BRAND_1 = BrandId.of(1);
+    private static final BrandId BRAND_2 = BrandId.of(2);
+
+    private final BrandShards<List<String>> shards = new BrandShards<>(
+            List.of(), List::size, list -> 1, list -> 100L * list.size());
+
+    @Test
+    void index_shouldReturnEmptyIndex_whenBrandHasNoShard() {
+        assertThat(shards.index(BRAND_1)).isEmpty();
+        assertThat(shards.shards()).isEmpty();
+        assertThat(shards.snapshot().version()).isZero();
+    }
+
+    @Test
+    void rebuild_shouldOnlyReplaceTheShardOfTheBrand() {
+        // Arrange
+        shards.rebuild(BRAND_1, () -> List.of("a"));
+        shards.rebuild(BRAND_2, () -> List.of("x", "y"));
+        List<String> brand2 = shards.index(BRAND_2);
+
+        // Act
+        BrandShard rebuilt = shards.rebuild(BRAND_1, () -> List.of("a", "b", "c"));
+
+        // Assert
+        assertThat(rebuilt.snapshot().version()).isEqualTo(2);
+        assertThat(rebuilt.estimatedBytes()).isEqualTo(300);
+        assertThat(shards.index(BRAND_1)).containsExactly("a", "b", "c");
+        assertThat(shards.index(BRAND_2)).isSameAs(brand2);
+        assertThat(shards.shard(BRAND_2)).hasValueSatisfying(shard -> assertThat(shard.snapshot().version()).isEqualTo(1));
+        assertThat(shards.snapshot().version()).isEqualTo(3);
+        assertThat(shards.snapshot().priceCount()).isEqualTo(5);
+    }
+
+    @Test
+    void evict_shouldDropTheShardUntilTheBrandIsRebuilt() {
+        // Arrange
+        shards.rebuild(BRAND_1, () -> List.of("a"));
+        shards.rebuild(BRAND_2, () -> List.of("x"));
+
+        // Act
+        assertThat(shards.evict(BRAND_1)).hasValueSatisfying(shard -> assertThat(shard.brandId()).isEqualTo(BRAND_1));
+
+        // Assert
+        assertThat(shards.index(BRAND_1)).isNull();
+        assertThat(shards.index(BRAND_2)).containsExactly("x");
+        assertThat(shards.shards()).extracting(BrandShard::brandId).containsExactly(BRAND_2);
+
+        shards.rebuild(BRAND_1, () -> List.of("b"));
+        assertThat(shards.index(BRAND_1)).containsExactly("b");
+    }
+
+    @Test
+    void rebuildAll_shouldDropBrandsNoLongerPresentAndLoadEvictedOnes() {
+        // Arrange
+        shards.rebuild(BRAND_1, () -> List.of("a"));
+        shards.rebuild(BRAND_2, () -> List.of("x"));
+        shards.evict(BRAND_1);
+
+        // Act
+        IndexSnapshot<Map<BrandId, List<String>>> snapshot = shards.rebuildAll(Map.of(BRAND_1, "b"), List::of);
+
+        // Assert
+        assertThat(snapshot.index()).containsOnlyKeys(BRAND_1);
+        assertThat(snapshot.priceCount()).isEqualTo(1);
+        assertThat(shards.index(BRAND_1)).containsExactly("b");
+        assertThat(shards.index(BRAND_2)).isEmpty();
+    }
+
+    @Test
+    void index_shouldServeOtherBrands_whileARebuildIsInProgress() throws Exception {
+        // Arrange
+        shards.rebuild(BRAND_2, () -> List.of("x"));
+        CountDownLatch building = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<BrandShard> rebuild = CompletableFuture.supplyAsync(() -> shards.rebuild(BRAND_1, () -> {
+            building.countDown();
+            await(release);
+            return List.of("a");
+        }));
+        assertThat(building.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Act
+        BrandShard otherBrand = shards.rebuild(BRAND_2, () -> List.of("x", "y"));
+
+        // Assert
+        assertThat(otherBrand.snapshot().version()).isEqualTo(2);
+        assertThat(shards.index(BRAND_2)).containsExactly("x", "y");
+        assertThat(shards.index(BRAND_1)).isEmpty();
+        release.countDown();
+        assertThat(rebuild.get(5, TimeUnit.SECONDS).snapshot().priceCount()).isEqualTo(1);
+        assertThat(shards.index(BRAND_1)).containsExactly("a");
+    }
+
+    @Test
+    void rebuild_shouldSerializeConcurrentFirstRebuildsOfABrand_andKeepTheLastOne() throws Exception {
+        // Arrange
+        CountDownLatch building = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch secondBuilding = new CountDownLatch(1);
+        CompletableFuture<BrandShard> first = CompletableFuture.supplyAsync(() -> shards.rebuild(BRAND_1, () -> {
+            building.countDown();
+            await(release);
+            return List.of("a");
+        }));
+        assertThat(building.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Act
+        CompletableFuture<BrandShard> second = CompletableFuture.supplyAsync(() -> shards.rebuild(BRAND_1, () -> {
+            secondBuilding.countDown();
+            return List.of("b", "c");
+        }));
+
+        // Assert
+        assertThat(secondBuilding.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).snapshot().version()).isEqualTo(1);
+        assertThat(second.get(5, TimeUnit.SECONDS).snapshot().version()).isEqualTo(2);
+        assertThat(shards.index(BRAND_1)).containsExactly("b", "c");
+        assertThat(shards.shard(BRAND_1)).hasValueSatisfying(shard -> assertThat(shard.snapshot().version()).isEqualTo(2));
+        assertThat(shards.snapshot().version()).isEqualTo(2);
+    }
+
+    @Test
+    void evict_shouldWaitForTheRebuildOfTheBrandInProgress() throws Exception {
+        // Arrange
+        CountDownLatch building = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<BrandShard> rebuild = CompletableFuture.supplyAsync(() -> shards.rebuild(BRAND_1, () -> {
+            building.countDown();
+            await(release);
+            return List.of("a");
+        }));
+        assertThat(building.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Act
+        CompletableFuture<Optional<BrandShard>> eviction = CompletableFuture.supplyAsync(() -> shards.evict(BRAND_1));
+
+        // Assert
+        assertThatThrownBy(() -> eviction.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+        release.countDown();
+        rebuild.get(5, TimeUnit.SECONDS);
+        assertThat(eviction.get(5, TimeUnit.SECONDS)).isPresent();
+        assertThat(shards.index(BRAND_1)).isNull();
+        assertThat(shards.shard(BRAND_1)).isEmpty();
+    }
+
+    @Test
+    void bindTo_shouldPublishGaugesPerBrand() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        shards.rebuild(BRAND_1, () -> List.of("a", "b"));
+        shards.bindTo(registry);
+
+        // Act
+        shards.rebuild(BRAND_2, () -> List.of("x"));
+        shards.evict(BRAND_1);
+
+        // Assert
+        assertThat(registry.get(BrandShards.PRICES).tag("brand", "2").gauge().value()).isEqualTo(1.0);
+        assertThat(registry.get(BrandShards.BYTES).tag("brand", "2").gauge().value()).isEqualTo(100.0);
+        assertThat(registry.get(BrandShards.PRICES).tag("brand", "1").gauge().value()).isZero();
+    }
+
+    @Test
+    void time_shouldRecordLookupsOnTheTimerOfTheShard_andNotMeterBrandsWithoutShard() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        shards.rebuild(BRAND_1, () -> List.of("a"));
+        shards.bindTo(registry);
+        shards.rebuild(BRAND_2, () -> List.of("x"));
+        shards.evict(BRAND_2);
+
+        // Act
+        String brand1 = shards.time(BRAND_1, () -> "one");
+        shards.time(BRAND_2, () -> "evicted");
+        shards.time(BRAND_2, () -> "evicted");
+        String unknown = shards.time(BrandId.of(99), () -> "unknown");
+
+        // Assert
+        assertThat(brand1).isEqualTo("one");
+        assertThat(unknown).isEqualTo("unknown");
+        assertThat(registry.get(BrandShards.LOOKUP).tag("brand", "1").timer().count()).isEqualTo(1);
+        assertThat(registry.get(BrandShards.LOOKUP).tag("brand", "2").timer().count()).isEqualTo(2);
+        assertThat(registry.find(BrandShards.LOOKUP).timers()).hasSize(2);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
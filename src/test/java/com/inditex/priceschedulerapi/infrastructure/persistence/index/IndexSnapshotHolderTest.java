@@ -0,0 +1,88 @@
+package com.inditex.priceschedulerapi.infrastructure.persistence.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for IndexSnapshotHolder.
+ * Checks versioning and that readers keep the published snapshot while a rebuild is in progress.
+ */
+class IndexSnapshotHolderTest {
+
+    private final IndexSnapshotHolder<List<String>> holder = new IndexSnapshotHolder<>(List.of(), List::size, list -> 1);
+
+    @Test
+    void snapshot_shouldStartWithEmptyIndexAsVersionZero() {
+        IndexSnapshot<List<String>> snapshot = holder.snapshot();
+
+        assertThat(snapshot.version()).isZero();
+        assertThat(snapshot.index()).isEmpty();
+        assertThat(snapshot.priceCount()).isZero();
+    }
+
+    @Test
+    void rebuild_shouldPublishNextVersionWithBuildMetadata() {
+        // Act
+        IndexSnapshot<List<String>> first = holder.rebuild(() -> List.of("a"));
+        IndexSnapshot<List<String>> second = holder.rebuild(() -> List.of("a", "b"));
+
+        // Assert
+        assertThat(first.version()).isEqualTo(1);
+        assertThat(second.version()).isEqualTo(2);
+        assertThat(second.priceCount()).isEqualTo(2);
+        assertThat(second.buildDuration().isNegative()).isFalse();
+        assertThat(holder.snapshot()).isSameAs(second);
+        assertThat(holder.index()).containsExactly("a", "b");
+    }
+
+    @Test
+    void rebuild_shouldKeepCurrentSnapshot_whenBuilderFails() {
+        // Arrange
+        IndexSnapshot<List<String>> published = holder.rebuild(() -> List.of("a"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> holder.rebuild(() -> {
+            throw new IllegalStateException("database unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(holder.snapshot()).isSameAs(published);
+    }
+
+    @Test
+    void index_shouldServePublishedSnapshot_whileRebuildIsInProgress() throws Exception {
+        // Arrange
+        holder.rebuild(() -> List.of("old"));
+        CountDownLatch building = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // Act
+        CompletableFuture<IndexSnapshot<List<String>>> rebuild = CompletableFuture.supplyAsync(() -> holder.rebuild(() -> {
+            building.countDown();
+            await(release);
+            return List.of("new");
+        }));
+        assertThat(building.await(5, TimeUnit.SECONDS)).isTrue();
+        List<String> duringRebuild = holder.index();
+        release.countDown();
+        IndexSnapshot<List<String>> published = rebuild.get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertThat(duringRebuild).containsExactly("old");
+        assertThat(published.version()).isEqualTo(2);
+        assertThat(holder.index()).containsExactly("new");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.inditex.priceschedulerapi.infrastructure.persistence.index;
+
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PriceIndexReloader.
+ */
+@ExtendWith(MockitoExtension.class)
+class PriceIndexReloaderTest {
+
+    @Mock
+    private ObjectProvider<ReloadablePriceRepository> reloadablePriceRepository;
+
+    @Mock
+    private ReloadablePriceRepository repository;
+
+    @Mock
+    private BrandShardedPriceRepository shardedRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    void reload_shouldRebuildIndexAndPublishNewVersion() {
+        // Arrange
+        IndexSnapshot<Object> snapshot = new IndexSnapshot<>(new Object(), 4, Instant.now(), Duration.ofMillis(12), 10, 2);
+        when(reloadablePriceRepository.getIfAvailable()).thenReturn(repository);
+        doReturn(snapshot).when(repository).reload();
+        PriceIndexReloader reloader = new PriceIndexReloader(reloadablePriceRepository, eventPublisher);
+
+        // Act
+        Optional<IndexSnapshot<?>> result = reloader.reload();
+
+        // Assert
+        assertThat(result).containsSame(snapshot);
+        verify(eventPublisher).publishEvent(new PriceIndexReloadedEvent(4));
+    }
+
+    @Test
+    void reload_shouldDoNothing_whenRepositoryHasNoInMemoryIndex() {
+        // Arrange
+        when(reloadablePriceRepository.getIfAvailable()).thenReturn(null);
+        PriceIndexReloader reloader = new PriceIndexReloader(reloadablePriceRepository, eventPublisher);
+
+        // Act
+        Optional<IndexSnapshot<?>> result = reloader.reload();
+
+        // Assert
+        assertThat(result).isEmpty();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void reloadBrand_shouldRebuildOnlyThatShardAndPublishItsBrand() {
+        // Arrange
+        IndexSnapshot<Object> shardSnapshot = new IndexSnapshot<>(new Object(), 2, Instant.now(), Duration.ofMillis(3), 4, 1);
+        IndexSnapshot<Object> aggregate = new IndexSnapshot<>(new Object(), 7, Instant.now(), Duration.ofMillis(9), 10, 3);
+        BrandShard shard = new BrandShard(BrandId.of(2), shardSnapshot, 2048);
+        when(reloadablePriceRepository.getIfAvailable()).thenReturn(shardedRepository);
+        when(shardedRepository.reload(BrandId.of(2))).thenReturn(shard);
+        doReturn(aggregate).when(shardedRepository).indexSnapshot();
+        PriceIndexReloader reloader = new PriceIndexReloader(reloadablePriceRepository, eventPublisher);
+
+        // Act
+        Optional<BrandShard> result = reloader.reload(BrandId.of(2));
+
+        // Assert
+        assertThat(result).containsSame(shard);
+        verify(shardedRepository, never()).reload();
+        verify(eventPublisher).publishEvent(new PriceIndexReloadedEvent(7, BrandId.of(2)));
+    }
+
+    @Test
+    void reloadBrands_shouldFallBackToFullReload_whenRepositoryIsNotSharded() {
+        // Arrange
+        IndexSnapshot<Object> snapshot = new IndexSnapshot<>(new Object(), 4, Instant.now(), Duration.ofMillis(12), 10, 2);
+        when(reloadablePriceRepository.getIfAvailable()).thenReturn(repository);
+        doReturn(snapshot).when(repository).reload();
+        PriceIndexReloader reloader = new PriceIndexReloader(reloadablePriceRepository, eventPublisher);
+
+        // Act
+        reloader.reload(List.of(BrandId.of(1), BrandId.of(2)));
+
+        // Assert
+        verify(repository).reload();
+        verify(eventPublisher).publishEvent(new PriceIndexReloadedEvent(4));
+    }
+
+    @Test
+    void reloadBrands_shouldKeepReloadingOtherBrands_whenOneFails() {
+        // Arrange
+        IndexSnapshot<Object> shardSnapshot = new IndexSnapshot<>(new Object(), 1, Instant.now(), Duration.ofMillis(3), 4, 1);
+        IndexSnapshot<Object> aggregate = new IndexSnapshot<>(new Object(), 5, Instant.now(), Duration.ofMillis(9), 10, 3);
+        when(reloadablePriceRepository.getIfAvailable()).thenReturn(shardedRepository);
+        when(shardedRepository.reload(BrandId.of(1))).thenThrow(new IllegalStateException("Connection lost"));
+        when(shardedRepository.reload(BrandId.of(2))).thenReturn(new BrandShard(BrandId.of(2), shardSnapshot, 2048));
+        doReturn(aggregate).when(shardedRepository).indexSnapshot();
+        PriceIndexReloader reloader = new PriceIndexReloader(reloadablePriceRepository, eventPublisher);
+
+        // Act
+        reloader.reload(List.of(BrandId.of(1), BrandId.of(2)));
+
+        // Assert
+        verify(eventPublisher).publishEvent(new PriceIndexReloadedEvent(5, BrandId.of(2)));
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
+    @Test
+    void evict_shouldDropShardAndPublishItsBrand() {
+        // Arrange
+        IndexSnapshot<Object> shardSnapshot = new IndexSnapshot<>(new Object(), 1, Instant.now(), Duration.ofMillis(3), 4, 1);
+        IndexSnapshot<Object> aggregate = new IndexSnapshot<>(new Object(), 6, Instant.now(), Duration.ofMillis(9), 6, 2);
+        BrandShard shard = new BrandShard(BrandId.of(2), shardSnapshot, 2048);
+        when(reloadablePriceRepository.getIfAvailable()).thenReturn(shardedRepository);
+        when(shardedRepository.evict(BrandId.of(2))).thenReturn(Optional.of(shard));
+        doReturn(aggregate).when(shardedRepository).indexSnapshot();
+        PriceIndexReloader reloader = new PriceIndexReloader(reloadablePriceRepository, eventPublisher);
+
+        // Act
+        Optional<BrandShard> result = reloader.evict(BrandId.of(2));
+
+        // Assert
+        assertThat(result).containsSame(shard);
+        verify(eventPublisher).publishEvent(new PriceIndexReloadedEvent(6, BrandId.of(2)));
+    }
+}
@@ -0,0 +1,216 @@
+package com.inditex.priceschedulerapi.infrastructure.persistence.memory;
+
+import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.model.PriceTimeline;
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import com.inditex.priceschedulerapi.domain.valueobject.ProductId;
+import com.inditex.priceschedulerapi.infrastructure.persistence.entity.PriceEntity;
+import com.inditex.priceschedulerapi.infrastructure.persistence.index.BrandShard;
+import com.inditex.priceschedulerapi.infrastructure.persistence.index.IndexSnapshot;
+import com.inditex.priceschedulerapi.infrastructure.persistence.mapper.PriceEntityMapper;
+import com.inditex.priceschedulerapi.infrastructure.persistence.repository.JpaPriceRepositoryAdapter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for InMemoryPriceRepository.
+ * Verifies that the index is loaded once and lookups no longer hit the JPA repository, and that
+ * brands are reloaded and evicted independently.
+ */
+@ExtendWith(MockitoExtension.class)
+class InMemoryPriceRepositoryTest {
+
+    @Mock
+    private JpaPriceRepositoryAdapter jpaRepository;
+
+    private final PriceEntityMapper mapper = new PriceEntityMapper();
+
+    @Test
+    void findApplicablePrices_shouldAnswerFromLoadedIndex() {
+        // Arrange
+        when(jpaRepository.findAll()).thenReturn(List.of(
+                createEntity(1, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0, "35.50"),
+                createEntity(2, LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30), 1, "25.45")
+        ));
+        InMemoryPriceRepository repository = new InMemoryPriceRepository(jpaRepository, mapper);
+        repository.load();
+
+        // Act
+        List<Price> result = repository.findApplicablePrices(
+                ProductId.of(35455L), BrandId.of(1), LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        // Assert
+        assertThat(result).extracting(price -> price.getPriceList().getValue()).containsExactly(1, 2);
+        verify(jpaRepository, times(1)).findAll();
+        verifyNoMoreInteractions(jpaRepository);
+    }
+
+    @Test
+    void findApplicablePrices_shouldReturnEmpty_whenNothingWasLoaded() {
+        // Arrange
+        when(jpaRepository.findAll()).thenReturn(List.of());
+        InMemoryPriceRepository repository = new InMemoryPriceRepository(jpaRepository, mapper);
+        repository.load();
+
+        // Act
+        List<Price> result = repository.findApplicablePrices(
+                ProductId.of(35455L), BrandId.of(1), LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        // Assert
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void findTopApplicablePrice_shouldReturnHighestPriorityPriceFromTimeline() {
+        // Arrange
+        when(jpaRepository.findAll()).thenReturn(List.of(
+                createEntity(1, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0, "35.50"),
+                createEntity(2, LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30), 1, "25.45")
+        ));
+        InMemoryPriceRepository repository = new InMemoryPriceRepository(jpaRepository, mapper);
+        repository.load();
+
+        // Act
+        Optional<Price> result = repository.findTopApplicablePrice(
+                ProductId.of(35455L), BrandId.of(1), LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        // Assert
+        assertThat(result).hasValueSatisfying(price -> assertThat(price.getPriceList().getValue()).isEqualTo(2));
+        assertThat(repository.findTopApplicablePrice(
+                ProductId.of(35455L), BrandId.of(1), LocalDateTime.of(2021, 1, 1, 0, 0))).isEmpty();
+    }
+
+    @Test
+    void reload_shouldSwapInNewIndexWithNextVersion() {
+        // Arrange
+        when(jpaRepository.findAll())
+                .thenReturn(List.of(
+                        createEntity(1, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0, "35.50")))
+                .thenReturn(List.of(
+                        createEntity(1, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0, "35.50"),
+                        createEntity(2, LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30), 1, "25.45")));
+        InMemoryPriceRepository repository = new InMemoryPriceRepository(jpaRepository, mapper);
+        repository.load();
+        PriceIntervalIndex loaded = repository.indexSnapshot().index().get(BrandId.of(1));
+
+        // Act
+        IndexSnapshot<Map<BrandId, PriceIntervalIndex>> reloaded = repository.reload();
+
+        // Assert
+        assertThat(reloaded.version()).isEqualTo(2);
+        assertThat(reloaded.priceCount()).isEqualTo(2);
+        assertThat(reloaded.index().get(BrandId.of(1))).isNotSameAs(loaded);
+        assertThat(loaded.size()).isEqualTo(1);
+        assertThat(repository.findTopApplicablePrice(ProductId.of(35455L), BrandId.of(1), LocalDateTime.of(2020, 6, 14, 16, 0)))
+                .hasValueSatisfying(price -> assertThat(price.getPriceList().getValue()).isEqualTo(2));
+    }
+
+    @Test
+    void reloadBrand_shouldRebuildOnlyThatBrandFromItsRows() {
+        // Arrange
+        when(jpaRepository.findAll()).thenReturn(List.of(
+                createEntity(1, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0, "35.50"),
+                createEntity(2, 1, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0, "40.00")
+        ));
+        when(jpaRepository.findByBrandId(1)).thenReturn(List.of(
+                createEntity(1, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0, "35.50"),
+                createEntity(2, LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30), 1, "25.45")
+        ));
+        InMemoryPriceRepository repository = new InMemoryPriceRepository(jpaRepository, mapper);
+        repository.load();
+        PriceIntervalIndex otherBrand = repository.indexSnapshot().index().get(BrandId.of(2));
+
+        // Act
+        BrandShard shard = repository.reload(BrandId.of(1));
+
+        // Assert
+        assertThat(shard.snapshot().version()).isEqualTo(2);
+        assertThat(shard.snapshot().priceCount()).isEqualTo(2);
+        assertThat(shard.estimatedBytes()).isPositive();
+        assertThat(repository.indexSnapshot().index().get(BrandId.of(2))).isSameAs(otherBrand);
+        assertThat(repository.indexSnapshot().priceCount()).isEqualTo(3);
+        assertThat(repository.findTopApplicablePrice(ProductId.of(35455L), BrandId.of(1), LocalDateTime.of(2020, 6, 14, 16, 0)))
+                .hasValueSatisfying(price -> assertThat(price.getPriceList().getValue()).isEqualTo(2));
+        verify(jpaRepository, times(1)).findAll();
+        verify(jpaRepository, times(1)).findByBrandId(1);
+        verifyNoMoreInteractions(jpaRepository);
+    }
+
+    @Test
+    void evict_shouldAnswerBrandFromDatabaseUntilItIsReloaded() {
+        // Arrange
+        PriceEntity entity = createEntity(1, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0, "35.50");
+        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 16, 0);
+        when(jpaRepository.findAll()).thenReturn(List.of(entity));
+        when(jpaRepository.findFirstByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDescIdAsc(
+                35455L, 1, applicationDate, applicationDate)).thenReturn(Optional.of(entity));
+        InMemoryPriceRepository repository = new InMemoryPriceRepository(jpaRepository, mapper);
+        repository.load();
+
+        // Act
+        Optional<BrandShard> evicted = repository.evict(BrandId.of(1));
+        Optional<Price> result = repository.findTopApplicablePrice(ProductId.of(35455L), BrandId.of(1), applicationDate);
+
+        // Assert
+        assertThat(evicted).hasValueSatisfying(shard -> assertThat(shard.snapshot().priceCount()).isEqualTo(1));
+        assertThat(repository.shards()).isEmpty();
+        assertThat(result).hasValueSatisfying(price -> assertThat(price.getPriceList().getValue()).isEqualTo(1));
+        assertThat(repository.findTopApplicablePrice(ProductId.of(35455L), BrandId.of(2), applicationDate)).isEmpty();
+    }
+
+    /**
+     * Helper method to create a PriceEntity for product 35455 and brand 1.
+     */
+    private PriceEntity createEntity(int priceList, LocalDateTime startDate, LocalDateTime endDate,
+                                     int priority, String amount) {
+        return createEntity(1, priceList, startDate, endDate, priority, amount);
+    }
+
+    /**
+     * Helper method to create a PriceEntity for product 35455.
+     */
+    private PriceEntity createEntity(int brandId, int priceList, LocalDateTime startDate, LocalDateTime endDate,
+                                     int priority, String amount) {
+        return PriceEntity.builder()
+                .brandId(brandId)
+                .productId(35455L)
+                .priceList(priceList)
+                .startDate(startDate)
+                .endDate(endDate)
+                .priority(priority)
+                .price(new BigDecimal(amount))
+                .currency("EUR")
+                .build();
+    }
+
+    @Test
+    void findTimeline_shouldReturnPrecomputedTimeline() {
+        // Arrange
+        when(jpaRepository.findAll()).thenReturn(List.of(
+                createEntity(1, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0, "35.50"),
+                createEntity(2, LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30), 1, "25.45")
+        ));
+        InMemoryPriceRepository repository = new InMemoryPriceRepository(jpaRepository, mapper);
+        repository.load();
+
+        // Act
+        PriceTimeline timeline = repository.findTimeline(ProductId.of(35455L), BrandId.of(1));
+
+        // Assert
+        assertThat(timeline.getSegments()).hasSize(3);
+        assertThat(repository.findPrices(ProductId.of(35455L), BrandId.of(1))).hasSize(2);
+        verify(jpaRepository, times(1)).findAll();
+        verifyNoMoreInteractions(jpaRepository);
+    }
+}
@@ -0,0 +1,119 @@
+package com.inditex.priceschedulerapi.infrastructure.persistence.memory;
+
+import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.model.PriceSegment;
+import com.inditex.priceschedulerapi.domain.model.PriceTimeline;
+import com.inditex.priceschedulerapi.domain.valueobject.*;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for PriceIntervalIndex.
+ * Uses the sample data of the exercise to check the interval lookups.
+ */
+class PriceIntervalIndexTest {
+
+    private static final PriceKey KEY = PriceKey.of(ProductId.of(35455L), BrandId.of(1));
+
+    private final Price priceList1 = createPrice(1, "2020-06-14T00:00:00", "2020-12-31T23:59:59", 0, "35.50");
+    private final Price priceList2 = createPrice(2, "2020-06-14T15:00:00", "2020-06-14T18:30:00", 1, "25.45");
+    private final Price priceList3 = createPrice(3, "2020-06-15T00:00:00", "2020-06-15T11:00:00", 1, "30.50");
+    private final Price priceList4 = createPrice(4, "2020-06-15T16:00:00", "2020-12-31T23:59:59", 1, "38.95");
+
+    private final PriceIntervalIndex index = PriceIntervalIndex.of(List.of(priceList4, priceList2, priceList1, priceList3));
+
+    @Test
+    void findApplicablePrices_shouldReturnBasePriceOnly_whenNoPromotionIsActive() {
+        List<Price> result = index.findApplicablePrices(KEY, LocalDateTime.parse("2020-06-14T10:00:00"));
+
+        assertThat(result).containsExactly(priceList1);
+    }
+
+    @Test
+    void findApplicablePrices_shouldReturnAllOverlappingPrices_inStartDateOrder() {
+        List<Price> result = index.findApplicablePrices(KEY, LocalDateTime.parse("2020-06-14T16:00:00"));
+
+        assertThat(result).containsExactly(priceList1, priceList2);
+    }
+
+    @Test
+    void findApplicablePrices_shouldIncludeBoundaries() {
+        assertThat(index.findApplicablePrices(KEY, LocalDateTime.parse("2020-06-14T15:00:00")))
+                .containsExactly(priceList1, priceList2);
+        assertThat(index.findApplicablePrices(KEY, LocalDateTime.parse("2020-06-14T18:30:00")))
+                .containsExactly(priceList1, priceList2);
+        assertThat(index.findApplicablePrices(KEY, LocalDateTime.parse("2020-06-14T18:30:01")))
+                .containsExactly(priceList1);
+    }
+
+    @Test
+    void findApplicablePrices_shouldSkipPricesThatEndedBeforeTheDate() {
+        List<Price> result = index.findApplicablePrices(KEY, LocalDateTime.parse("2020-06-16T21:00:00"));
+
+        assertThat(result).containsExactly(priceList1, priceList4);
+    }
+
+    @Test
+    void findApplicablePrices_shouldReturnEmpty_whenDateIsOutsideEveryRange() {
+        assertThat(index.findApplicablePrices(KEY, LocalDateTime.parse("2020-06-13T23:59:59"))).isEmpty();
+        assertThat(index.findApplicablePrices(KEY, LocalDateTime.parse("2021-01-01T00:00:00"))).isEmpty();
+    }
+
+    @Test
+    void findApplicablePrices_shouldReturnEmpty_whenKeyIsUnknown() {
+        PriceKey unknownKey = PriceKey.of(ProductId.of(99999L), BrandId.of(1));
+
+        assertThat(index.findApplicablePrices(unknownKey, LocalDateTime.parse("2020-06-14T10:00:00"))).isEmpty();
+    }
+
+    @Test
+    void of_shouldReportSizeAndKeyCount() {
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.keyCount()).isEqualTo(1);
+        assertThat(PriceIntervalIndex.of(List.of()).size()).isZero();
+        assertThat(PriceIntervalIndex.empty().keyCount()).isZero();
+    }
+
+    /**
+     * Helper method to create a Price instance for product 35455 and brand 1.
+     */
+    private Price createPrice(int priceList, String startDate, String endDate, int priority, String amount) {
+        return Price.of(
+                ProductId.of(35455L),
+                BrandId.of(1),
+                PriceList.of(priceList),
+                DateRange.of(LocalDateTime.parse(startDate), LocalDateTime.parse(endDate)),
+                Priority.of(priority),
+                Money.of(new BigDecimal(amount), "EUR")
+        );
+    }
+
+    @Test
+    void findPrices_shouldReturnEveryPriceOfTheKey_inStartDateOrder() {
+        assertThat(index.findPrices(KEY)).containsExactly(priceList1, priceList2, priceList3, priceList4);
+        assertThat(index.findPrices(PriceKey.of(ProductId.of(99999L), BrandId.of(1)))).isEmpty();
+    }
+
+    @Test
+    void findTimeline_shouldReturnTimelineFlattenedAtBuildTime() {
+        PriceTimeline timeline = index.findTimeline(KEY);
+
+        assertThat(timeline).isSameAs(index.findTimeline(KEY));
+        assertThat(timeline.getSegments()).hasSize(6);
+        assertThat(timeline.segmentAt(LocalDateTime.parse("2020-06-14T16:00:00")))
+                .map(PriceSegment::getPrice)
+                .contains(priceList2);
+    }
+
+    @Test
+    void findTimeline_shouldReturnEmptyTimeline_whenKeyIsUnknown() {
+        PriceKey unknownKey = PriceKey.of(ProductId.of(99999L), BrandId.of(1));
+
+        assertThat(index.findTimeline(unknownKey).isEmpty()).isTrue();
+    }
+}
@@ -1,5 +1,8 @@
 package com.inditex.priceschedulerapi.infrastructure.persistence.repository;
 
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import com.inditex.priceschedulerapi.domain.valueobject.PriceLookup;
+import com.inditex.priceschedulerapi.domain.valueobject.ProductId;
 import com.inditex.priceschedulerapi.infrastructure.persistence.entity.PriceEntity;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,6 +12,7 @@ import org.springframework.test.annotation.Rollback;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -52,6 +56,69 @@ class JpaPriceRepositoryAdapterTest {
         assertThat(results.get(0)).usingRecursiveComparison().isEqualTo(priceEntity);
     }
 
+    @Test
+    void shouldFindOnlyHighestPriorityPriceEntityForMatchingCriteria() {
+        // Arrange
+        PriceEntity basePrice = PriceEntity.builder()
+                .brandId(1)
+                .startDate(LocalDateTime.of(2025, 10, 1, 0, 0))
+                .endDate(LocalDateTime.of(2025, 10, 31, 23, 59))
+                .priceList(1)
+                .productId(100L)
+                .priority(0)
+                .price(new BigDecimal("49.99"))
+                .currency("EUR")
+                .build();
+        PriceEntity promotionPrice = PriceEntity.builder()
+                .brandId(1)
+                .startDate(LocalDateTime.of(2025, 10, 10, 0, 0))
+                .endDate(LocalDateTime.of(2025, 10, 20, 23, 59))
+                .priceList(2)
+                .productId(100L)
+                .priority(1)
+                .price(new BigDecimal("39.99"))
+                .currency("EUR")
+                .build();
+        repository.saveAll(List.of(basePrice, promotionPrice));
+
+        LocalDateTime applicationDate = LocalDateTime.of(2025, 10, 15, 12, 0);
+
+        // Act
+        Optional<PriceEntity> result = repository
+                .findFirstByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDescIdAsc(
+                        100L, 1, applicationDate, applicationDate);
+
+        // Assert
+        assertThat(result).hasValueSatisfying(entity ->
+                assertThat(entity).usingRecursiveComparison().isEqualTo(promotionPrice));
+    }
+
+    @Test
+    void shouldNotFindTopPriceEntityWhenNoPriceApplies() {
+        // Arrange
+        PriceEntity priceEntity = PriceEntity.builder()
+                .brandId(1)
+                .startDate(LocalDateTime.of(2025, 10, 1, 0, 0))
+                .endDate(LocalDateTime.of(2025, 10, 31, 23, 59))
+                .priceList(1)
+                .productId(100L)
+                .priority(0)
+                .price(new BigDecimal("49.99"))
+                .currency("EUR")
+                .build();
+        repository.save(priceEntity);
+
+        LocalDateTime applicationDate = LocalDateTime.of(2025, 11, 1, 0, 0);
+
+        // Act
+        Optional<PriceEntity> result = repository
+                .findFirstByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDescIdAsc(
+                        100L, 1, applicationDate, applicationDate);
+
+        // Assert
+        assertThat(result).isEmpty();
+    }
+
     @Test
     void shouldNotFindPriceEntityWhenStartDateDoesNotMatch() {
         // Arrange
@@ -179,4 +246,63 @@ class JpaPriceRepositoryAdapterTest {
         // Assert
         assertThat(results).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldFindOnlyPriceEntitiesApplicableToSomeLookupOfTheBatch() {
+        // Arrange
+        PriceEntity firstProductIn2020 = repository.save(priceEntity(100L, 2020));
+        repository.save(priceEntity(100L, 2025));
+        repository.save(priceEntity(200L, 2020));
+        PriceEntity secondProductIn2025 = repository.save(priceEntity(200L, 2025));
+
+        PriceLookup firstProductLookup = PriceLookup.of(ProductId.of(100L), BrandId.of(1), LocalDateTime.of(2020, 10, 15, 10, 0));
+        PriceLookup secondProductLookup = PriceLookup.of(ProductId.of(200L), BrandId.of(1), LocalDateTime.of(2025, 10, 15, 10, 0));
+
+        // Act
+        List<PriceEntity> results = repository.findApplicableToAny(List.of(firstProductLookup, secondProductLookup));
+
+        // Assert
+        assertThat(results).extracting(PriceEntity::getId)
+                .containsExactlyInAnyOrder(firstProductIn2020.getId(), secondProductIn2025.getId());
+    }
+
+    @Test
+    void shouldFindOverlappingPriceEntitiesWithAtLeastThePriorityInIdOrder() {
+        // Arrange
+        PriceEntity base = repository.save(priceEntity(100L, 2020));
+        PriceEntity promotion = priceEntity(100L, 2020);
+        promotion.setPriority(1);
+        promotion.setStartDate(LocalDateTime.of(2020, 10, 10, 0, 0));
+        promotion.setEndDate(LocalDateTime.of(2020, 10, 12, 0, 0));
+        promotion = repository.save(promotion);
+        PriceEntity clearance = priceEntity(100L, 2020);
+        clearance.setPriority(-1);
+        repository.save(clearance);
+        repository.save(priceEntity(100L, 2025));
+
+        // Act
+        List<PriceEntity> results = repository.findByProductIdAndBrandIdAndPriorityGreaterThanEqualAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByIdAsc(
+                100L,
+                1,
+                0,
+                base.getEndDate(),
+                base.getStartDate()
+        );
+
+        // Assert
+        assertThat(results).extracting(PriceEntity::getId).containsExactly(base.getId(), promotion.getId());
+    }
+
+    private static PriceEntity priceEntity(Long productId, int year) {
+        return PriceEntity.builder()
+                .brandId(1)
+                .startDate(LocalDateTime.of(year, 10, 1, 0, 0))
+                .endDate(LocalDateTime.of(year, 10, 31, 23, 59))
+                .priceList(1)
+                .productId(productId)
+                .priority(0)
+                .price(new BigDecimal("49.99"))
+                .currency("EUR")
+                .build();
+    }
+}
@@ -1,18 +1,28 @@
 package com.inditex.priceschedulerapi.infrastructure.persistence.repository;
 
 import com.inditex.priceschedulerapi.domain.model.Price;
+import com.inditex.priceschedulerapi.domain.model.PriceSegment;
 import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import com.inditex.priceschedulerapi.domain.valueobject.DateRange;
+import com.inditex.priceschedulerapi.domain.valueobject.PriceLookup;
+import com.inditex.priceschedulerapi.domain.valueobject.Priority;
 import com.inditex.priceschedulerapi.domain.valueobject.ProductId;
+import com.inditex.priceschedulerapi.infrastructure.metrics.PriceLookupMetrics;
 import com.inditex.priceschedulerapi.infrastructure.persistence.entity.PriceEntity;
 import com.inditex.priceschedulerapi.infrastructure.persistence.mapper.PriceEntityMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -30,6 +40,9 @@ class PriceRepositoryImplTest {
     @Mock
     private PriceEntityMapper mapper;
 
+    @Spy
+    private PriceLookupMetrics metrics = new PriceLookupMetrics(new SimpleMeterRegistry(), Set.of(1));
+
     @InjectMocks
     private PriceRepositoryImpl priceRepository;
 
@@ -123,5 +136,195 @@ class PriceRepositoryImplTest {
 
         // Assert
         assertThat(result).containsExactlyInAnyOrder(price1, price2);
+        assertThat(metrics.timer(PriceLookupMetrics.Layer.REPOSITORY, 1).count()).isEqualTo(1);
+        assertThat(metrics.timer(PriceLookupMetrics.Layer.MAPPER, 1).count()).isEqualTo(2);
+    }
+
+    @Test
+    public void testFindTopApplicablePriceQueriesOnlyTheWinningRow() {
+        // Arrange
+        ProductId productId = ProductId.of(35455L);
+        BrandId brandId = BrandId.of(1);
+        LocalDateTime applicationDate = LocalDateTime.of(2023, 6, 14, 10, 0);
+
+        PriceEntity priceEntity = new PriceEntity();
+        priceEntity.setProductId(35455L);
+        priceEntity.setBrandId(1);
+        priceEntity.setPriority(1);
+
+        Price price = Price.of(productId, brandId, null, null, null, null);
+
+        when(jpaRepository.findFirstByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDescIdAsc(
+                productId.getValue(),
+                brandId.getValue(),
+                applicationDate,
+                applicationDate
+        )).thenReturn(Optional.of(priceEntity));
+
+        when(mapper.toDomain(priceEntity)).thenReturn(price);
+
+        // Act
+        Optional<Price> result = priceRepository.findTopApplicablePrice(productId, brandId, applicationDate);
+
+        // Assert
+        assertThat(result).contains(price);
+        verify(jpaRepository, never()).findByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
+                any(), any(), any(), any());
+    }
+
+    @Test
+    public void testFindTopApplicablePriceWhenNoPriceApplies() {
+        // Arrange
+        ProductId productId = ProductId.of(35455L);
+        BrandId brandId = BrandId.of(1);
+        LocalDateTime applicationDate = LocalDateTime.of(2023, 6, 14, 10, 0);
+
+        when(jpaRepository.findFirstByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDescIdAsc(
+                productId.getValue(),
+                brandId.getValue(),
+                applicationDate,
+                applicationDate
+        )).thenReturn(Optional.empty());
+
+        // Act
+        Optional<Price> result = priceRepository.findTopApplicablePrice(productId, brandId, applicationDate);
+
+        // Assert
+        assertThat(result).isEmpty();
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    public void testFindPricesReturnsEveryPriceOfProductAndBrand() {
+        // Arrange
+        ProductId productId = ProductId.of(35455L);
+        BrandId brandId = BrandId.of(1);
+
+        PriceEntity priceEntity = new PriceEntity();
+        priceEntity.setProductId(35455L);
+        priceEntity.setBrandId(1);
+
+        Price price = Price.of(productId, brandId, null, null, null, null);
+
+        when(jpaRepository.findByProductIdAndBrandId(productId.getValue(), brandId.getValue()))
+                .thenReturn(List.of(priceEntity));
+        when(mapper.toDomain(priceEntity)).thenReturn(price);
+
+        // Act
+        List<Price> result = priceRepository.findPrices(productId, brandId);
+
+        // Assert
+        assertThat(result).containsExactly(price);
+        assertThat(metrics.timer(PriceLookupMetrics.Layer.REPOSITORY, 1).count()).isEqualTo(1);
+        assertThat(metrics.timer(PriceLookupMetrics.Layer.MAPPER, 1).count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testFindEffectiveSegmentLoadsOnlyTheRowsAroundTheWinner() {
+        // Arrange
+        ProductId productId = ProductId.of(35455L);
+        BrandId brandId = BrandId.of(1);
+        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0);
+
+        PriceEntity baseEntity = new PriceEntity();
+        baseEntity.setId(1L);
+        baseEntity.setPriority(0);
+        baseEntity.setStartDate(LocalDateTime.of(2020, 6, 14, 0, 0));
+        baseEntity.setEndDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+        PriceEntity promotionEntity = new PriceEntity();
+        promotionEntity.setId(2L);
+        promotionEntity.setPriority(1);
+        promotionEntity.setStartDate(LocalDateTime.of(2020, 6, 14, 15, 0));
+        promotionEntity.setEndDate(LocalDateTime.of(2020, 6, 14, 18, 30));
+        Price basePrice = Price.of(productId, brandId, null,
+                DateRange.of(baseEntity.getStartDate(), baseEntity.getEndDate()), Priority.of(0), null);
+        Price promotionPrice = Price.of(productId, brandId, null,
+                DateRange.of(promotionEntity.getStartDate(), promotionEntity.getEndDate()), Priority.of(1), null);
+
+        when(jpaRepository.findFirstByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDescIdAsc(
+                35455L, 1, applicationDate, applicationDate))
+                .thenReturn(Optional.of(baseEntity));
+        when(jpaRepository.findByProductIdAndBrandIdAndPriorityGreaterThanEqualAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByIdAsc(
+                35455L, 1, 0, baseEntity.getEndDate(), baseEntity.getStartDate()))
+                .thenReturn(List.of(baseEntity, promotionEntity));
+        when(mapper.toDomain(baseEntity)).thenReturn(basePrice);
+        when(mapper.toDomain(promotionEntity)).thenReturn(promotionPrice);
+
+        // Act
+        Optional<PriceSegment> result = priceRepository.findEffectiveSegment(productId, brandId, applicationDate);
+
+        // Assert
+        assertThat(result).isPresent();
+        assertThat(result.get().getPrice()).isEqualTo(basePrice);
+        assertThat(result.get().getValidity())
+                .isEqualTo(DateRange.of(LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 6, 14, 14, 59, 59, 999_999_999)));
+        assertThat(metrics.timer(PriceLookupMetrics.Layer.REPOSITORY, 1).count()).isEqualTo(1);
+        verify(jpaRepository, never()).findByProductIdAndBrandId(any(), any());
+    }
+
+    @Test
+    public void testFindEffectiveSegmentReturnsEmptyWithoutWinner() {
+        // Arrange
+        ProductId productId = ProductId.of(35455L);
+        BrandId brandId = BrandId.of(1);
+        LocalDateTime applicationDate = LocalDateTime.of(2019, 1, 1, 0, 0);
+
+        when(jpaRepository.findFirstByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDescIdAsc(
+                35455L, 1, applicationDate, applicationDate))
+                .thenReturn(Optional.empty());
+
+        // Act
+        Optional<PriceSegment> result = priceRepository.findEffectiveSegment(productId, brandId, applicationDate);
+
+        // Assert
+        assertThat(result).isEmpty();
+        verifyNoMoreInteractions(jpaRepository);
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    public void testFindApplicablePricesForBatchUsesOneQueryAndMatchesEveryLookup() {
+        // Arrange
+        ProductId productId = ProductId.of(35455L);
+        BrandId brandId = BrandId.of(1);
+        PriceLookup morning = PriceLookup.of(productId, brandId, LocalDateTime.of(2020, 6, 14, 10, 0));
+        PriceLookup afternoon = PriceLookup.of(productId, brandId, LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        PriceEntity baseEntity = new PriceEntity();
+        baseEntity.setId(1L);
+        baseEntity.setStartDate(LocalDateTime.of(2020, 6, 14, 0, 0));
+        baseEntity.setEndDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+        PriceEntity promotionEntity = new PriceEntity();
+        promotionEntity.setId(2L);
+        promotionEntity.setStartDate(LocalDateTime.of(2020, 6, 14, 15, 0));
+        promotionEntity.setEndDate(LocalDateTime.of(2020, 6, 14, 18, 30));
+        Price basePrice = Price.of(productId, brandId, null,
+                DateRange.of(LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59)), null, null);
+        Price promotionPrice = Price.of(productId, brandId, null,
+                DateRange.of(LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30)), null, null);
+
+        when(jpaRepository.findApplicableToAny(List.of(morning, afternoon)))
+                .thenReturn(List.of(baseEntity, promotionEntity));
+        when(mapper.toDomain(baseEntity)).thenReturn(basePrice);
+        when(mapper.toDomain(promotionEntity)).thenReturn(promotionPrice);
+
+        // Act
+        Map<PriceLookup, List<Price>> result = priceRepository.findApplicablePrices(List.of(morning, afternoon));
+
+        // Assert
+        assertThat(result.get(morning)).containsExactly(basePrice);
+        assertThat(result.get(afternoon)).containsExactly(basePrice, promotionPrice);
+        verify(jpaRepository, never()).findByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
+                any(), any(), any(), any());
+    }
+
+    @Test
+    public void testFindApplicablePricesForEmptyBatchDoesNotQuery() {
+        // Act
+        Map<PriceLookup, List<Price>> result = priceRepository.findApplicablePrices(List.of());
+
+        // Assert
+        assertThat(result).isEmpty();
+        verifyNoInteractions(jpaRepository);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,276 @@
+package com.inditex.priceschedulerapi.infrastructure.schedule;
+
+import com.inditex.priceschedulerapi.application.dto.PriceQueryResponse;
+import com.inditex.priceschedulerapi.application.mapper.PriceMapper;
+import com.inditex.priceschedulerapi.domain.model.PriceTimeline;
+import com.inditex.priceschedulerapi.domain.repository.PriceRepository;
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import com.inditex.priceschedulerapi.domain.valueobject.PriceKey;
+import com.inditex.priceschedulerapi.domain.valueobject.ProductId;
+import com.inditex.priceschedulerapi.infrastructure.persistence.entity.PriceEntity;
+import com.inditex.priceschedulerapi.infrastructure.persistence.mapper.PriceEntityMapper;
+import com.inditex.priceschedulerapi.infrastructure.persistence.repository.JpaPriceRepositoryAdapter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CurrentPriceView.
+ * Verifies that the current price is answered without touching the repositories, swapped at each
+ * boundary by the timing wheel, resolved again when a lookup arrives before the tick, and that
+ * listeners only hear about actual changes.
+ */
+@ExtendWith(MockitoExtension.class)
+class CurrentPriceViewTest {
+
+    private static final ProductId PRODUCT = ProductId.of(35455L);
+    private static final BrandId BRAND = BrandId.of(1);
+
+    @Mock
+    private JpaPriceRepositoryAdapter jpaRepository;
+
+    @Mock
+    private PriceRepository priceRepository;
+
+    private final PriceEntityMapper entityMapper = new PriceEntityMapper();
+
+    private final Instant[] now = {Instant.parse("2020-06-14T14:59:59Z")};
+
+    private final Clock clock = new Clock() {
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now[0];
+        }
+    };
+
+    private final List<PriceEntity> prices = List.of(
+            createEntity(1, 1, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0, "35.50"),
+            createEntity(1, 2, LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30), 1, "25.45")
+    );
+
+    @Test
+    void find_shouldAnswerFromLoadedView() {
+        // Arrange
+        when(jpaRepository.findAll()).thenReturn(prices);
+        CurrentPriceView view = createView();
+        view.load();
+
+        // Act
+        Optional<PriceQueryResponse> result = view.find(PRODUCT, BRAND, view.now());
+
+        // Assert
+        assertThat(result).hasValueSatisfying(price -> {
+            assertThat(price.priceList()).isEqualTo(1);
+            assertThat(price.validUntil()).isEqualTo(LocalDateTime.of(2020, 6, 14, 15, 0).minusNanos(1));
+        });
+        verifyNoInteractions(priceRepository);
+    }
+
+    @Test
+    void tick_shouldSwapInNewWinnerAtBoundary() {
+        // Arrange
+        when(jpaRepository.findAll()).thenReturn(prices);
+        when(priceRepository.findTimeline(PRODUCT, BRAND)).thenReturn(timeline(prices));
+        CurrentPriceView view = createView();
+        view.load();
+
+        // Act
+        now[0] = Instant.parse("2020-06-14T15:00:00Z");
+        view.tick();
+        Optional<PriceQueryResponse> result = view.find(PRODUCT, BRAND, view.now());
+
+        // Assert
+        assertThat(result).hasValueSatisfying(price -> {
+            assertThat(price.priceList()).isEqualTo(2);
+            assertThat(price.validFrom()).isEqualTo(LocalDateTime.of(2020, 6, 14, 15, 0));
+        });
+        verify(priceRepository, times(1)).findTimeline(PRODUCT, BRAND);
+    }
+
+    @Test
+    void tick_shouldNotifyListenersOfTheNewWinner() {
+        // Arrange
+        when(jpaRepository.findAll()).thenReturn(prices);
+        when(priceRepository.findTimeline(PRODUCT, BRAND)).thenReturn(timeline(prices));
+        CurrentPriceView view = createView();
+        view.load();
+        List<CurrentPriceChange> changes = new ArrayList<>();
+        view.addListener(changes::add);
+
+        // Act
+        view.load();
+        now[0] = Instant.parse("2020-06-14T15:00:00Z");
+        view.tick();
+
+        // Assert
+        assertThat(changes).singleElement().satisfies(change -> {
+            assertThat(change.key()).isEqualTo(PriceKey.of(PRODUCT, BRAND));
+            assertThat(change.price().priceList()).isEqualTo(2);
+            assertThat(change.effectiveFrom()).isEqualTo(LocalDateTime.of(2020, 6, 14, 15, 0));
+        });
+    }
+
+    @Test
+    void tick_shouldIgnoreBoundariesNotReachedYet() {
+        // Arrange
+        when(jpaRepository.findAll()).thenReturn(prices);
+        CurrentPriceView view = createView();
+        view.load();
+
+        // Act
+        now[0] = Instant.parse("2020-06-14T14:59:59.999Z");
+        view.tick();
+
+        // Assert
+        assertThat(view.find(PRODUCT, BRAND, view.now()))
+                .hasValueSatisfying(price -> assertThat(price.priceList()).isEqualTo(1));
+        verifyNoInteractions(priceRepository);
+    }
+
+    @Test
+    void find_shouldResolveAgain_whenBoundaryWasReachedBeforeTick() {
+        // Arrange
+        when(jpaRepository.findAll()).thenReturn(prices);
+        when(priceRepository.findTimeline(PRODUCT, BRAND)).thenReturn(timeline(prices));
+        CurrentPriceView view = createView();
+        view.load();
+
+        // Act
+        now[0] = Instant.parse("2020-06-14T15:00:00.500Z");
+        Optional<PriceQueryResponse> result = view.find(PRODUCT, BRAND, view.now());
+
+        // Assert
+        assertThat(result).hasValueSatisfying(price -> assertThat(price.priceList()).isEqualTo(2));
+        verify(priceRepository, times(1)).findTimeline(PRODUCT, BRAND);
+    }
+
+    @Test
+    void find_shouldReturnEmptyBeforeFirstPrice_andPriceOnceItStarts() {
+        // Arrange
+        now[0] = Instant.parse("2020-06-13T23:59:59Z");
+        when(jpaRepository.findAll()).thenReturn(prices);
+        when(priceRepository.findTimeline(PRODUCT, BRAND)).thenReturn(timeline(prices));
+        CurrentPriceView view = createView();
+        view.load();
+
+        // Act
+        Optional<PriceQueryResponse> before = view.find(PRODUCT, BRAND, view.now());
+        now[0] = Instant.parse("2020-06-14T00:00:00Z");
+        view.tick();
+        Optional<PriceQueryResponse> after = view.find(PRODUCT, BRAND, view.now());
+
+        // Assert
+        assertThat(before).isEmpty();
+        assertThat(after).hasValueSatisfying(price -> assertThat(price.priceList()).isEqualTo(1));
+        assertThat(view.size()).isEqualTo(1);
+    }
+
+    @Test
+    void load_shouldDropKeysWithoutCurrentOrFuturePrice() {
+        // Arrange
+        now[0] = Instant.parse("2021-01-01T00:00:00Z");
+        when(jpaRepository.findAll()).thenReturn(prices);
+        CurrentPriceView view = createView();
+
+        // Act
+        int keys = view.load();
+
+        // Assert
+        assertThat(keys).isZero();
+        assertThat(view.find(PRODUCT, BRAND, view.now())).isEmpty();
+        verifyNoInteractions(priceRepository);
+    }
+
+    @Test
+    void reload_shouldOnlyReplaceKeysOfTheBrand() {
+        // Arrange
+        PriceEntity otherBrand = createEntity(2, 1, LocalDateTime.of(2020, 1, 1, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0, "19.99");
+        when(jpaRepository.findAll()).thenReturn(List.of(prices.get(0), otherBrand));
+        when(jpaRepository.findByBrandId(1)).thenReturn(List.of());
+        CurrentPriceView view = createView();
+        view.load();
+
+        // Act
+        int keys = view.reload(BRAND);
+
+        // Assert
+        assertThat(keys).isZero();
+        assertThat(view.find(PRODUCT, BRAND, view.now())).isEmpty();
+        assertThat(view.find(PRODUCT, BrandId.of(2), view.now()))
+                .hasValueSatisfying(price -> assertThat(price.price()).isEqualByComparingTo("19.99"));
+        verify(jpaRepository, never()).findByBrandId(2);
+    }
+
+    @Test
+    void reload_shouldNotScheduleAnotherTimer_whenTheNextBoundaryIsUnchanged() {
+        // Arrange
+        HierarchicalTimingWheel<CurrentPriceView.Boundary> boundaries = new HierarchicalTimingWheel<>(1000, 64, 6, clock.millis());
+        when(jpaRepository.findAll()).thenReturn(prices);
+        when(jpaRepository.findByBrandId(1)).thenReturn(prices);
+        CurrentPriceView view = createView(boundaries);
+        view.load();
+
+        // Act
+        view.reload(BRAND);
+        view.reload(BRAND);
+
+        // Assert
+        assertThat(boundaries.size()).isEqualTo(1);
+        assertThat(view.find(PRODUCT, BRAND, view.now()))
+                .hasValueSatisfying(price -> assertThat(price.priceList()).isEqualTo(1));
+    }
+
+    private CurrentPriceView createView() {
+        return createView(new HierarchicalTimingWheel<>(1000, 64, 6, clock.millis()));
+    }
+
+    private CurrentPriceView createView(HierarchicalTimingWheel<CurrentPriceView.Boundary> boundaries) {
+        return new CurrentPriceView(jpaRepository, entityMapper, priceRepository, new PriceMapper(), clock,
+                ZoneOffset.UTC, boundaries);
+    }
+
+    private PriceTimeline timeline(List<PriceEntity> entities) {
+        return PriceTimeline.of(PRODUCT, BRAND, entities.stream().map(entityMapper::toDomain).toList());
+    }
+
+    /**
+     * Helper method to create a PriceEntity for product 35455.
+     */
+    private PriceEntity createEntity(int brandId, int priceList, LocalDateTime startDate, LocalDateTime endDate,
+                                     int priority, String amount) {
+        return PriceEntity.builder()
+                .brandId(brandId)
+                .productId(35455L)
+                .priceList(priceList)
+                .startDate(startDate)
+                .endDate(endDate)
+                .priority(priority)
+                .price(new BigDecimal(amount))
+                .currency("EUR")
+                .build();
+    }
+}
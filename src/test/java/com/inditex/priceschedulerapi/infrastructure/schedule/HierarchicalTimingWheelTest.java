@@ -0,0 +1,96 @@
+package com.inditex.priceschedulerapi.infrastructure.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for HierarchicalTimingWheel.
+ * Verifies that items are released once their deadline is reached, never before, whatever the
+ * level they were placed in.
+ */
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_592_128_800_000L;
+
+    @Test
+    void advance_shouldReleaseItemAtItsDeadline() {
+        // Arrange
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 8, 3, START);
+        wheel.schedule(START + 2500, "a");
+
+        // Act
+        List<String> early = wheel.advance(START + 2499);
+        List<String> due = wheel.advance(START + 2500);
+
+        // Assert
+        assertThat(early).isEmpty();
+        assertThat(due).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void advance_shouldCascadeItemsFromHigherLevels() {
+        // Arrange
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 4, 3, START);
+        wheel.schedule(START + 5_000, "level 1");
+        wheel.schedule(START + 37_000, "level 2");
+        wheel.schedule(START + 200_000, "beyond the top level");
+
+        // Act
+        List<String> released = new ArrayList<>();
+        List<Long> releasedAt = new ArrayList<>();
+        for (long now = START; now <= START + 200_000; now += 1000) {
+            for (String item : wheel.advance(now)) {
+                released.add(item);
+                releasedAt.add(now);
+            }
+        }
+
+        // Assert
+        assertThat(released).containsExactly("level 1", "level 2", "beyond the top level");
+        assertThat(releasedAt).containsExactly(START + 5_000, START + 37_000, START + 200_000);
+    }
+
+    @Test
+    void advance_shouldReleaseOverdueItemsInDeadlineOrder() {
+        // Arrange
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 8, 3, START);
+        wheel.schedule(START + 7_200, "second");
+        wheel.schedule(START + 3_100, "first");
+        wheel.schedule(START - 500, "past");
+
+        // Act
+        List<String> due = wheel.advance(START + 60_000);
+
+        // Assert
+        assertThat(due).containsExactly("past", "first", "second");
+    }
+
+    @Test
+    void advance_shouldKeepItemsOfTheCurrentTickUntilTheirDeadline() {
+        // Arrange
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 8, 3, START);
+        wheel.schedule(START + 400, "a");
+        wheel.schedule(START + 900, "b");
+
+        // Act
+        List<String> first = wheel.advance(START + 500);
+        List<String> second = wheel.advance(START + 999);
+
+        // Assert
+        assertThat(first).containsExactly("a");
+        assertThat(second).containsExactly("b");
+    }
+
+    @Test
+    void constructor_shouldRejectNonPositiveTick() {
+        assertThatThrownBy(() -> new HierarchicalTimingWheel<String>(0, 8, 3, START))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Tick must be positive");
+    }
+}
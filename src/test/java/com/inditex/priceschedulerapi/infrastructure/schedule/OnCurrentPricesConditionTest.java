@@ -0,0 +1,51 @@
+package com.inditex.priceschedulerapi.infrastructure.schedule;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for OnCurrentPricesCondition.
+ * The explicit setting wins; otherwise only the in-memory and columnar modes keep current prices.
+ */
+class OnCurrentPricesConditionTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(CurrentPricesConfiguration.class);
+
+    @Test
+    void shouldNotMatch_inDefaultJpaMode() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean("currentPrices"));
+    }
+
+    @Test
+    void shouldMatch_inInMemoryAndColumnarModes() {
+        contextRunner.withPropertyValues("price-scheduler.repository.mode=in-memory")
+                .run(context -> assertThat(context).hasBean("currentPrices"));
+        contextRunner.withPropertyValues("price-scheduler.repository.mode=columnar")
+                .run(context -> assertThat(context).hasBean("currentPrices"));
+    }
+
+    @Test
+    void shouldFollowExplicitSetting_whateverTheMode() {
+        contextRunner.withPropertyValues("price-scheduler.current-prices.enabled=true")
+                .run(context -> assertThat(context).hasBean("currentPrices"));
+        contextRunner.withPropertyValues("price-scheduler.current-prices.enabled=false",
+                        "price-scheduler.repository.mode=in-memory")
+                .run(context -> assertThat(context).doesNotHaveBean("currentPrices"));
+    }
+
+    @Configuration
+    static class CurrentPricesConfiguration {
+
+        @Bean
+        @Conditional(OnCurrentPricesCondition.class)
+        String currentPrices() {
+            return "current";
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.inditex.priceschedulerapi.infrastructure.serialization;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.priceschedulerapi.application.dto.PriceQueryRequest;
+import com.inditex.priceschedulerapi.application.dto.PriceQueryResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for EpochMillisModule.
+ * Uses a JSON mapper so the encoded dates can be inspected; the binary mappers share the module.
+ */
+class EpochMillisModuleTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 6, 14, 15, 0);
+
+    private final ObjectMapper mapper = mapper(ZoneOffset.UTC);
+
+    @Test
+    void serialize_shouldWriteEpochMillis_overridingDtoDatePatterns() throws Exception {
+        // Arrange
+        PriceQueryResponse response = new PriceQueryResponse(35455L, 1, 2, START, START.plusMinutes(210),
+                new BigDecimal("25.45"), "EUR", START, null);
+
+        // Act
+        JsonNode tree = mapper.readTree(mapper.writeValueAsBytes(response));
+
+        // Assert
+        assertThat(tree.get("startDate").isIntegralNumber()).isTrue();
+        assertThat(tree.get("startDate").asLong()).isEqualTo(1592146800000L);
+        assertThat(tree.get("endDate").asLong()).isEqualTo(1592159400000L);
+        assertThat(tree.has("validUntil")).isFalse();
+    }
+
+    @Test
+    void deserialize_shouldRoundTrip() throws Exception {
+        // Arrange
+        PriceQueryResponse response = new PriceQueryResponse(35455L, 1, 2, START, START.plusMinutes(210),
+                new BigDecimal("25.45"), "EUR", START, START.plusMinutes(210));
+
+        // Act
+        PriceQueryResponse result = mapper.readValue(mapper.writeValueAsBytes(response), PriceQueryResponse.class);
+
+        // Assert
+        assertThat(result).isEqualTo(response);
+    }
+
+    @Test
+    void deserialize_shouldAcceptIsoStrings() throws Exception {
+        // Act
+        PriceQueryRequest request = mapper.readValue(
+                "{\"productId\":35455,\"brandId\":1,\"applicationDate\":\"2020-06-14T15:00:00\"}", PriceQueryRequest.class);
+
+        // Assert
+        assertThat(request.applicationDate()).isEqualTo(START);
+    }
+
+    @Test
+    void serialize_shouldUseConfiguredZone() throws Exception {
+        // Arrange
+        ObjectMapper madrid = mapper(ZoneId.of("Europe/Madrid"));
+
+        // Act
+        long epochMillis = madrid.readTree(madrid.writeValueAsBytes(new PriceQueryRequest(1L, 1, START)))
+                .get("applicationDate").asLong();
+
+        // Assert
+        assertThat(epochMillis).isEqualTo(1592146800000L - 2 * 3600 * 1000);
+    }
+
+    private static ObjectMapper mapper(ZoneId zone) {
+        return Jackson2ObjectMapperBuilder.json()
+                .postConfigurer(mapper -> mapper.registerModule(new EpochMillisModule(zone)))
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.inditex.priceschedulerapi.infrastructure.verification;
+
+import com.inditex.priceschedulerapi.infrastructure.verification.PriceVerificationProperties.Mode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Unit tests for PriceTableScanner, against an embedded H2 database with the PRICES schema.
+ * Verifies the counts, and that the checksum depends on the content only, not on the split of the scan.
+ */
+class PriceTableScannerTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("schema.sql")
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        for (int i = 0; i < 50; i++) {
+            insert(i % 3 == 0 ? 2 : 1, 35455L + i, "35.50");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void scan_shouldCountRowsPerBrand() {
+        // Act
+        PriceTableReport report = scanner(4, 7).scan(50);
+
+        // Assert
+        assertThat(report.rows()).isEqualTo(50);
+        assertThat(report.rowsByBrand()).containsExactly(entry(1, 33L), entry(2, 17L));
+        assertThat(report.ranges()).isBetween(2, 16);
+    }
+
+    @Test
+    void scan_shouldComputeSameChecksumWhateverTheParallelism() {
+        // Act
+        PriceTableReport sequential = scanner(1, 1000).scan(50);
+        PriceTableReport parallel = scanner(8, 3).scan(50);
+
+        // Assert
+        assertThat(parallel.checksum()).isEqualTo(sequential.checksum());
+        assertThat(parallel.rows()).isEqualTo(sequential.rows());
+    }
+
+    @Test
+    void scan_shouldChangeChecksum_whenAPriceChanges() {
+        // Arrange
+        long before = scanner(2, 10).scan(50).checksum();
+
+        // Act
+        jdbcTemplate.update("UPDATE PRICES SET PRICE = ? WHERE PRODUCT_ID = ?", new BigDecimal("35.49"), 35460L);
+        long after = scanner(2, 10).scan(50).checksum();
+
+        // Assert
+        assertThat(after).isNotEqualTo(before);
+    }
+
+    @Test
+    void scan_shouldReturnEmptyReport_whenTableIsEmpty() {
+        // Arrange
+        jdbcTemplate.update("DELETE FROM PRICES");
+
+        // Act
+        PriceTableReport report = scanner(4, 10).scan(0);
+
+        // Assert
+        assertThat(report.rows()).isZero();
+        assertThat(report.rowsByBrand()).isEmpty();
+        assertThat(report.ranges()).isZero();
+    }
+
+    private PriceTableScanner scanner(int parallelism, int fetchSize) {
+        return new PriceTableScanner(jdbcTemplate, new DataSourceTransactionManager(database),
+                new PriceVerificationProperties(Mode.SCAN, parallelism, fetchSize, Duration.ofSeconds(10)));
+    }
+
+    private void insert(int brandId, long productId, String price) {
+        jdbcTemplate.update("INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                brandId, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                1, productId, 0, new BigDecimal(price), "EUR");
+    }
+}
@@ -0,0 +1,129 @@
+package com.inditex.priceschedulerapi.presentation.controller;
+
+import com.inditex.priceschedulerapi.domain.valueobject.BrandId;
+import com.inditex.priceschedulerapi.domain.valueobject.PriceKey;
+import com.inditex.priceschedulerapi.domain.valueobject.ProductId;
+import com.inditex.priceschedulerapi.infrastructure.schedule.CurrentPriceChange;
+import com.inditex.priceschedulerapi.infrastructure.schedule.CurrentPriceView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PriceChangeBroker.
+ * The senders never run, so that the buffer of a subscriber fills up as it would behind a slow client.
+ */
+@ExtendWith(MockitoExtension.class)
+class PriceChangeBrokerTest {
+
+    private static final PriceKey KEY = PriceKey.of(ProductId.of(35455L), BrandId.of(1));
+    private static final LocalDateTime NOW = LocalDateTime.of(2020, 6, 14, 15, 0);
+
+    @Mock
+    private CurrentPriceView currentPriceView;
+
+    @Mock
+    private ExecutorService senders;
+
+    private PriceChangeBroker broker;
+    private Consumer<CurrentPriceChange> listener;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        broker = new PriceChangeBroker(currentPriceView, new PriceSubscriptionProperties(1, 2, Duration.ofMinutes(1)), senders);
+        ArgumentCaptor<Consumer<CurrentPriceChange>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(currentPriceView).addListener(captor.capture());
+        listener = captor.getValue();
+    }
+
+    @Test
+    void subscribe_shouldQueueCurrentStateAndStartSender() {
+        // Arrange
+        when(currentPriceView.now()).thenReturn(NOW);
+        when(currentPriceView.find(KEY.getProductId(), KEY.getBrandId(), NOW)).thenReturn(Optional.empty());
+
+        // Act
+        broker.subscribe(Set.of(KEY));
+
+        // Assert
+        assertThat(broker.size()).isEqualTo(1);
+        verify(senders, times(1)).execute(any());
+    }
+
+    @Test
+    void publish_shouldDisconnectSubscriber_whenBufferIsFull() {
+        // Arrange
+        when(currentPriceView.now()).thenReturn(NOW);
+        when(currentPriceView.find(KEY.getProductId(), KEY.getBrandId(), NOW)).thenReturn(Optional.empty());
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        broker.bindTo(registry);
+        broker.subscribe(Set.of(KEY));
+
+        // Act
+        listener.accept(new CurrentPriceChange(KEY, null, NOW));
+        listener.accept(new CurrentPriceChange(KEY, null, NOW.plusHours(1)));
+
+        // Assert
+        assertThat(broker.size()).isZero();
+        assertThat(registry.get("price.subscriptions.dropped").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("price.subscriptions.active").gauge().value()).isZero();
+    }
+
+    @Test
+    void subscribe_shouldResolveCurrentStateOutsideTheSubscriberLock_andHoldChangesUntilItIsQueued() {
+        // Arrange: resolving the state publishes a change of the key from another thread, as a boundary would
+        when(currentPriceView.now()).thenReturn(NOW);
+        when(currentPriceView.find(KEY.getProductId(), KEY.getBrandId(), NOW)).thenAnswer(invocation -> {
+            Thread boundary = Thread.ofPlatform().start(() -> listener.accept(new CurrentPriceChange(KEY, null, NOW)));
+            boundary.join(Duration.ofSeconds(5));
+            assertThat(boundary.isAlive()).as("change published while the state is resolved").isFalse();
+            verifyNoInteractions(senders);
+            return Optional.empty();
+        });
+
+        // Act
+        broker.subscribe(Set.of(KEY));
+
+        // Assert
+        assertThat(broker.size()).isEqualTo(1);
+        verify(senders, times(1)).execute(any());
+    }
+
+    @Test
+    void publish_shouldIgnoreKeysWithoutSubscribers() {
+        // Act
+        listener.accept(new CurrentPriceChange(KEY, null, NOW));
+
+        // Assert
+        verifyNoInteractions(senders);
+    }
+
+    @Test
+    void subscribe_shouldRejectTooManyKeys() {
+        Set<PriceKey> keys = Set.of(KEY,
+                PriceKey.of(ProductId.of(35456L), BrandId.of(1)),
+                PriceKey.of(ProductId.of(35457L), BrandId.of(1)));
+
+        assertThatThrownBy(() -> broker.subscribe(keys))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("At most 2 product/brand pairs per subscription");
+        assertThat(broker.size()).isZero();
+    }
+}
@@ -1,12 +1,31 @@
 package com.inditex.priceschedulerapi.presentation.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.priceschedulerapi.application.dto.PriceBatchQueryResponse;
+import com.inditex.priceschedulerapi.application.dto.PriceQueryResponse;
+import com.inditex.priceschedulerapi.application.dto.PriceScheduleEntry;
+import com.inditex.priceschedulerapi.infrastructure.cache.EncodedResponseCache;
+import com.inditex.priceschedulerapi.infrastructure.serialization.BinaryMediaTypes;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
@@ -14,13 +33,22 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * Tests the 5 scenarios specified
  * These tests verify the complete flow from HTTP request to database query.
  */
-@SpringBootTest
+@SpringBootTest(properties = "price-scheduler.current-prices.enabled=true")
 @AutoConfigureMockMvc
 class PriceControllerIntegrationTest {
 
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileConverter;
+
+    @Autowired
+    private EncodedResponseCache encodedResponseCache;
+
     /**
      * Test 1: Request at 10:00 on June 14th for product 35455 and brand 1.
      * Expected: Price list 1 with price 35.50 EUR (priority 0).
@@ -58,7 +86,9 @@ class PriceControllerIntegrationTest {
                 .andExpect(jsonPath("$.startDate").value("2020-06-14T15:00:00"))
                 .andExpect(jsonPath("$.endDate").value("2020-06-14T18:30:00"))
                 .andExpect(jsonPath("$.price").value(25.45))
-                .andExpect(jsonPath("$.currency").value("EUR"));
+                .andExpect(jsonPath("$.currency").value("EUR"))
+                .andExpect(jsonPath("$.validFrom").value("2020-06-14T15:00:00"))
+                .andExpect(jsonPath("$.validUntil").value("2020-06-14T18:30:00"));
     }
 
     /**
@@ -130,9 +160,127 @@ class PriceControllerIntegrationTest {
                         .param("productId", "99999")
                         .param("brandId", "1")
                         .param("applicationDate", "2020-06-14T10:00:00"))
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    /**
+     * The sample prices all ended in 2020, so none of them is current.
+     */
+    @Test
+    void getCurrentPrice_shouldReturn404_whenSamplePricesHaveEnded() throws Exception {
+        mockMvc.perform(get("/api/v1/prices/current")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void getCurrentPrice_shouldReturn400_whenBrandIdIsNotPositive() throws Exception {
+        mockMvc.perform(get("/api/v1/prices/current")
+                        .param("productId", "35455")
+                        .param("brandId", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getPriceChanges_shouldOpenEventStream() throws Exception {
+        mockMvc.perform(get("/api/v1/prices/changes")
+                        .param("keys", "35455:1", "35455:2")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    void getPriceChanges_shouldReturn400_whenKeyIsMalformed() throws Exception {
+        mockMvc.perform(get("/api/v1/prices/changes")
+                        .param("keys", "35455-1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.error").value("Invalid product/brand pair '35455-1', expected productId:brandId"));
+    }
+
+    /**
+     * Caching test: the response carries headers derived from the validity window of the price,
+     * and a conditional request with the same ETag is answered with 304.
+     */
+    @Test
+    void shouldReturnCachingHeadersAnd304ForMatchingETag() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/prices")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("applicationDate", "2020-06-14T16:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=300, public"))
+                .andReturn();
+        String eTag = result.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/prices")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("applicationDate", "2020-06-14T18:29:00")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/api/v1/prices")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("applicationDate", "2020-06-14T18:30:01")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(1))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=300, public"));
+
+        mockMvc.perform(get("/api/v1/prices")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, "Fri, 16 Oct 2026 00:00:00 GMT"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(2));
+    }
+
+    /**
+     * Response cache test: lookups resolving to the same effective segment write the cached bytes.
+     */
+    @Test
+    void shouldServeRepeatedLookupsOfTheSameSegmentFromCachedBytes() throws Exception {
+        long hitsBefore = encodedResponseCache.hitCount();
+
+        String first = mockMvc.perform(get("/api/v1/prices")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("applicationDate", "2020-06-15T10:00:00"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String second = mockMvc.perform(get("/api/v1/prices")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("applicationDate", "2020-06-15T10:59:59"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(3))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(second).isEqualTo(first);
+        assertThat(encodedResponseCache.hitCount()).isGreaterThan(hitsBefore);
+    }
+
+    /**
+     * Caching test: max-age never outlives the validity window of the price.
+     */
+    @Test
+    void shouldBoundMaxAgeByRemainingValidity() throws Exception {
+        mockMvc.perform(get("/api/v1/prices")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("applicationDate", "2020-06-14T18:28:00"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=120, public"));
+    }
+
     /**
      * Additional test: Verify 400 response for invalid parameters.
      */
@@ -144,4 +292,332 @@ class PriceControllerIntegrationTest {
                         .param("applicationDate", "2020-06-14T10:00:00"))
                 .andExpect(status().isBadRequest());
     }
+
+    /**
+     * Batch test: the five scenarios plus an unknown product resolved in a single request.
+     * Expected: one result per query, in request order.
+     */
+    @Test
+    void shouldReturnBatchResultsInRequestOrder() throws Exception {
+        String body = """
+                {"queries": [
+                  {"productId": 35455, "brandId": 1, "applicationDate": "2020-06-14T10:00:00"},
+                  {"productId": 35455, "brandId": 1, "applicationDate": "2020-06-14T16:00:00"},
+                  {"productId": 35455, "brandId": 1, "applicationDate": "2020-06-14T21:00:00"},
+                  {"productId": 35455, "brandId": 1, "applicationDate": "2020-06-15T10:00:00"},
+                  {"productId": 35455, "brandId": 1, "applicationDate": "2020-06-16T21:00:00"},
+                  {"productId": 99999, "brandId": 1, "applicationDate": "2020-06-14T10:00:00"}
+                ]}
+                """;
+
+        mockMvc.perform(post("/api/v1/prices/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(6))
+                .andExpect(jsonPath("$.results[0].price.priceList").value(1))
+                .andExpect(jsonPath("$.results[1].price.priceList").value(2))
+                .andExpect(jsonPath("$.results[2].price.priceList").value(1))
+                .andExpect(jsonPath("$.results[3].price.priceList").value(3))
+                .andExpect(jsonPath("$.results[4].price.priceList").value(4))
+                .andExpect(jsonPath("$.results[4].price.price").value(38.95))
+                .andExpect(jsonPath("$.results[5].productId").value(99999))
+                .andExpect(jsonPath("$.results[5].applicationDate").value("2020-06-14T10:00:00"))
+                .andExpect(jsonPath("$.results[5].found").value(false));
+    }
+
+    /**
+     * Batch test: Verify 400 response when a query of the batch is invalid.
+     */
+    @Test
+    void shouldReturn400ForInvalidBatchQuery() throws Exception {
+        String body = """
+                {"queries": [
+                  {"productId": -1, "brandId": 1, "applicationDate": "2020-06-14T10:00:00"}
+                ]}
+                """;
+
+        mockMvc.perform(post("/api/v1/prices/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Batch test: Verify 400 response for an empty batch.
+     */
+    @Test
+    void shouldReturn400ForEmptyBatch() throws Exception {
+        mockMvc.perform(post("/api/v1/prices/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"queries\": []}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Series test: the five scenario dates of product 35455, unsorted, plus a date without price.
+     * Expected: one result per date, in request order, with the validity window of each price.
+     */
+    @Test
+    void shouldReturnSeriesResultsInRequestOrder() throws Exception {
+        String body = """
+                {"productId": 35455, "brandId": 1, "applicationDates": [
+                  "2020-06-16T21:00:00", "2020-06-14T10:00:00", "2020-06-14T16:00:00",
+                  "2020-06-14T21:00:00", "2020-06-15T10:00:00", "2020-06-13T10:00:00"
+                ]}
+                """;
+
+        mockMvc.perform(post("/api/v1/prices/series")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.productId").value(35455))
+                .andExpect(jsonPath("$.brandId").value(1))
+                .andExpect(jsonPath("$.results.length()").value(6))
+                .andExpect(jsonPath("$.results[0].applicationDate").value("2020-06-16T21:00:00"))
+                .andExpect(jsonPath("$.results[0].price.priceList").value(4))
+                .andExpect(jsonPath("$.results[1].price.priceList").value(1))
+                .andExpect(jsonPath("$.results[2].price.priceList").value(2))
+                .andExpect(jsonPath("$.results[2].price.validFrom").value("2020-06-14T15:00:00"))
+                .andExpect(jsonPath("$.results[2].price.validUntil").value("2020-06-14T18:30:00"))
+                .andExpect(jsonPath("$.results[3].price.priceList").value(1))
+                .andExpect(jsonPath("$.results[4].price.priceList").value(3))
+                .andExpect(jsonPath("$.results[5].found").value(false))
+                .andExpect(jsonPath("$.results[5].price").isEmpty());
+    }
+
+    /**
+     * Series test: Verify 400 response for an invalid product and for an empty list of dates.
+     */
+    @Test
+    void shouldReturn400ForInvalidSeries() throws Exception {
+        mockMvc.perform(post("/api/v1/prices/series")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"productId\": -1, \"brandId\": 1, \"applicationDates\": [\"2020-06-14T10:00:00\"]}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/v1/prices/series")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"productId\": 35455, \"brandId\": 1, \"applicationDates\": []}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Schedule test: Verify the NDJSON schedule of June 14th-15th, one line per effective price change.
+     */
+    @Test
+    void shouldStreamPriceScheduleAsNdjson() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/prices/schedule")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("from", "2020-06-14T10:00:00")
+                        .param("to", "2020-06-15T12:00:00"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body.lines().toList()).containsExactly(
+                "{\"productId\":35455,\"brandId\":1,\"priceList\":1,\"startDate\":\"2020-06-14T10:00:00\",\"endDate\":\"2020-06-14T14:59:59\",\"price\":35.50,\"currency\":\"EUR\"}",
+                "{\"productId\":35455,\"brandId\":1,\"priceList\":2,\"startDate\":\"2020-06-14T15:00:00\",\"endDate\":\"2020-06-14T18:30:00\",\"price\":25.45,\"currency\":\"EUR\"}",
+                "{\"productId\":35455,\"brandId\":1,\"priceList\":1,\"startDate\":\"2020-06-14T18:30:00\",\"endDate\":\"2020-06-14T23:59:59\",\"price\":35.50,\"currency\":\"EUR\"}",
+                "{\"productId\":35455,\"brandId\":1,\"priceList\":3,\"startDate\":\"2020-06-15T00:00:00\",\"endDate\":\"2020-06-15T11:00:00\",\"price\":30.50,\"currency\":\"EUR\"}",
+                "{\"productId\":35455,\"brandId\":1,\"priceList\":1,\"startDate\":\"2020-06-15T11:00:00\",\"endDate\":\"2020-06-15T12:00:00\",\"price\":35.50,\"currency\":\"EUR\"}");
+        assertThat(body).endsWith("\n");
+    }
+
+    /**
+     * Schedule test: Verify 400 response when the window starts after it ends.
+     */
+    @Test
+    void shouldReturn400ForInvertedScheduleWindow() throws Exception {
+        mockMvc.perform(get("/api/v1/prices/schedule")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("from", "2020-06-16T00:00:00")
+                        .param("to", "2020-06-15T00:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Binary encoding test: the price is served as CBOR, with dates as epoch milliseconds.
+     */
+    @Test
+    void shouldEncodePriceAsCbor_whenAccepted() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/v1/prices")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        ObjectMapper cbor = cborConverter.getObjectMapper();
+        assertThat(cbor.readTree(body).get("validFrom").asLong()).isEqualTo(1592146800000L);
+        PriceQueryResponse price = cbor.readValue(body, PriceQueryResponse.class);
+        assertThat(price.priceList()).isEqualTo(2);
+        assertThat(price.price()).isEqualByComparingTo("25.45");
+        assertThat(price.startDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 15, 0));
+        assertThat(price.validUntil()).isEqualTo(LocalDateTime.of(2020, 6, 14, 18, 30));
+    }
+
+    /**
+     * Binary encoding test: batch results are served as Smile.
+     */
+    @Test
+    void shouldEncodeBatchAsSmile_whenAccepted() throws Exception {
+        String body = """
+                {"queries": [
+                  {"productId": 35455, "brandId": 1, "applicationDate": "2020-06-14T10:00:00"},
+                  {"productId": 99999, "brandId": 1, "applicationDate": "2020-06-14T10:00:00"}
+                ]}
+                """;
+
+        byte[] response = mockMvc.perform(post("/api/v1/prices/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(BinaryMediaTypes.SMILE)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(BinaryMediaTypes.SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        PriceBatchQueryResponse batch = smileConverter.getObjectMapper().readValue(response, PriceBatchQueryResponse.class);
+        assertThat(batch.results()).extracting(PriceBatchQueryResponse.Result::found).containsExactly(true, false);
+        assertThat(batch.results().getFirst().applicationDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 10, 0));
+        assertThat(batch.results().getFirst().price().priceList()).isEqualTo(1);
+    }
+
+    /**
+     * Binary encoding test: the schedule is streamed as a CBOR sequence.
+     */
+    @Test
+    void shouldStreamPriceScheduleAsCborSequence_whenAccepted() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/prices/schedule")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("from", "2020-06-14T10:00:00")
+                        .param("to", "2020-06-15T12:00:00")
+                        .accept(BinaryMediaTypes.CBOR_SEQ))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(BinaryMediaTypes.CBOR_SEQ))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        List<PriceScheduleEntry> entries = cborConverter.getObjectMapper()
+                .readerFor(PriceScheduleEntry.class)
+                .<PriceScheduleEntry>readValues(body)
+                .readAll();
+        assertThat(entries).extracting(PriceScheduleEntry::priceList).containsExactly(1, 2, 1, 3, 1);
+        assertThat(entries.getFirst().startDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 10, 0));
+    }
+
+    /**
+     * Binary encoding test: the schedule is streamed as a sequence of Smile values.
+     */
+    @Test
+    void shouldStreamPriceScheduleAsSmile_whenAccepted() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/prices/schedule")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("from", "2020-06-14T10:00:00")
+                        .param("to", "2020-06-15T12:00:00")
+                        .accept(BinaryMediaTypes.SMILE))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(BinaryMediaTypes.SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        List<PriceScheduleEntry> entries = smileConverter.getObjectMapper()
+                .readerFor(PriceScheduleEntry.class)
+                .<PriceScheduleEntry>readValues(body)
+                .readAll();
+        assertThat(entries).extracting(PriceScheduleEntry::priceList).containsExactly(1, 2, 1, 3, 1);
+        assertThat(entries.getLast().endDate()).isEqualTo(LocalDateTime.of(2020, 6, 15, 12, 0));
+    }
+
+    /**
+     * Metrics test: Verify that lookups are timed and counted per brand and status.
+     */
+    @Test
+    void shouldRecordLookupMetricsPerBrandAndStatus() throws Exception {
+        mockMvc.perform(get("/api/v1/prices")
+                        .param("productId", "99999")
+                        .param("brandId", "1")
+                        .param("applicationDate", "2020-06-14T10:00:00"))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/actuator/metrics/price.lookup.responses")
+                        .param("tag", "brand:1", "status:404"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[0].value").isNumber());
+
+        mockMvc.perform(get("/actuator/metrics/price.lookup.duration")
+                        .param("tag", "layer:controller", "brand:1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("price.lookup.duration"));
+    }
+
+    /**
+     * Metrics test: Verify that the repository layer is timed on the path single lookups take
+     * through the segment cache, and that unlisted brands share the "other" tag.
+     */
+    @Test
+    void shouldRecordRepositoryLayerMetricsOfSingleLookups() throws Exception {
+        mockMvc.perform(get("/api/v1/prices")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("applicationDate", "2020-06-16T21:00:00"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/prices")
+                        .param("productId", "35455")
+                        .param("brandId", "424242")
+                        .param("applicationDate", "2020-06-16T21:00:00"))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/actuator/metrics/price.lookup.duration")
+                        .param("tag", "layer:repository", "brand:1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[0].statistic").value("COUNT"))
+                .andExpect(jsonPath("$.measurements[0].value").value(greaterThanOrEqualTo(1.0)));
+        mockMvc.perform(get("/actuator/metrics/price.lookup.candidates")
+                        .param("tag", "brand:1"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/metrics/price.lookup.duration")
+                        .param("tag", "layer:repository", "brand:other"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/metrics/price.lookup.duration")
+                        .param("tag", "brand:424242"))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * The application has no authentication: the import endpoint is off and the price index
+     * actuator endpoint is read-only unless configured otherwise.
+     */
+    @Test
+    void shouldNotExposeWriteOperationsByDefault() throws Exception {
+        mockMvc.perform(post("/api/v1/prices/import")
+                        .contentType("text/csv")
+                        .content("2,2020-06-14 00:00:00,2020-12-31 23:59:59,1,91001,0,19.99,EUR"))
+                .andExpect(status().isNotFound());
+
+        // Exposed, answering 404 as the jpa mode has no in-memory index
+        mockMvc.perform(get("/actuator/priceindex"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(post("/actuator/priceindex"))
+                .andExpect(status().isMethodNotAllowed());
+        mockMvc.perform(delete("/actuator/priceindex/1"))
+                .andExpect(status().isMethodNotAllowed());
+    }
 }
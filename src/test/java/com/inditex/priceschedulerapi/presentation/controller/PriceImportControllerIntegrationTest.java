@@ -0,0 +1,110 @@
+package com.inditex.priceschedulerapi.presentation.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for PriceImportController.
+ * Imports prices for products absent from the sample data and queries them back through the API.
+ */
+@SpringBootTest(properties = {
+        "price-scheduler.current-prices.enabled=true",
+        "price-scheduler.import.endpoint-enabled=true"
+})
+@AutoConfigureMockMvc
+class PriceImportControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void importPrices_shouldInsertCsvRows_andMakeThemQueryable() throws Exception {
+        String csv = """
+                BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE,CURR
+                2,2020-06-14 00:00:00,2020-12-31 23:59:59,1,91001,0,19.99,EUR
+                2,2020-06-14 15:00:00,2020-06-14 18:30:00,2,91001,1,14.99,EUR
+                2,2020-06-14 15:00:00,2020-06-14 18:30:00,2,91001,1,14.99,EURO
+                """;
+
+        mockMvc.perform(post("/api/v1/prices/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rowsRead").value(3))
+                .andExpect(jsonPath("$.rowsImported").value(2))
+                .andExpect(jsonPath("$.rowsRejected").value(1))
+                .andExpect(jsonPath("$.rejections[0]").value(startsWith("line 4:")));
+
+        mockMvc.perform(get("/api/v1/prices")
+                        .param("productId", "91001")
+                        .param("brandId", "2")
+                        .param("applicationDate", "2020-06-14T16:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(2))
+                .andExpect(jsonPath("$.price").value(14.99));
+    }
+
+    @Test
+    void importPrices_shouldInsertNdjsonRows() throws Exception {
+        String ndjson = """
+                {"productId":91002,"brandId":2,"priceList":1,"startDate":"2020-06-14T00:00:00","endDate":"2020-12-31T23:59:59","priority":0,"price":9.99,"currency":"EUR"}
+                """;
+
+        mockMvc.perform(post("/api/v1/prices/import")
+                        .contentType("application/x-ndjson")
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rowsImported").value(1));
+
+        mockMvc.perform(get("/api/v1/prices")
+                        .param("productId", "91002")
+                        .param("brandId", "2")
+                        .param("applicationDate", "2020-07-01T10:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.price").value(9.99));
+    }
+
+    @Test
+    void importPrices_shouldRefreshCurrentPrices() throws Exception {
+        String csv = """
+                BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE,CURR
+                2,2020-01-01 00:00:00,2099-12-31 23:59:59,1,91003,0,29.99,EUR
+                """;
+
+        mockMvc.perform(get("/api/v1/prices/current")
+                        .param("productId", "91003")
+                        .param("brandId", "2"))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(post("/api/v1/prices/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rowsImported").value(1));
+
+        mockMvc.perform(get("/api/v1/prices/current")
+                        .param("productId", "91003")
+                        .param("brandId", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(1))
+                .andExpect(jsonPath("$.price").value(29.99))
+                .andExpect(jsonPath("$.validUntil").value("2099-12-31T23:59:59"));
+    }
+
+    @Test
+    void importPrices_shouldReturn415_whenFormatIsNotSupported() throws Exception {
+        mockMvc.perform(post("/api/v1/prices/import")
+                        .contentType(MediaType.APPLICATION_XML)
+                        .content("<prices/>"))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+}
@@ -0,0 +1,97 @@
+package com.inditex.priceschedulerapi.presentation.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.priceschedulerapi.application.dto.PriceQueryResponse;
+import com.inditex.priceschedulerapi.infrastructure.cache.EncodedResponse;
+import com.inditex.priceschedulerapi.infrastructure.cache.EncodedResponseCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for PriceResponseEncoder.
+ * Checks the encoded bodies, the shared ETag and that cached bytes are reused.
+ */
+class PriceResponseEncoderTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private final PriceQueryResponse response = new PriceQueryResponse(35455L, 1, 2,
+            LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30),
+            new BigDecimal("25.45"), "EUR",
+            LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30));
+
+    @Test
+    void encode_shouldWriteTheSameJsonAsTheObjectMapper() throws Exception {
+        // Arrange
+        PriceResponseEncoder encoder = encoder(null);
+
+        // Act
+        EncodedResponse encoded = encoder.encode(response, MediaType.APPLICATION_JSON);
+
+        // Assert
+        assertThat(encoded.contentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(encoded.body()).isEqualTo(objectMapper.writeValueAsBytes(response));
+        assertThat(encoded.eTag()).startsWith("W/\"");
+    }
+
+    @Test
+    void encode_shouldShareTheETagAcrossEncodings() {
+        // Arrange
+        PriceResponseEncoder encoder = encoder(null);
+
+        // Act
+        EncodedResponse json = encoder.encode(response, MediaType.APPLICATION_JSON);
+        EncodedResponse cbor = encoder.encode(response, MediaType.APPLICATION_CBOR);
+
+        // Assert
+        assertThat(cbor.contentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+        assertThat(cbor.body()).isNotEqualTo(json.body());
+        assertThat(cbor.eTag()).isEqualTo(json.eTag());
+    }
+
+    @Test
+    void encode_shouldReuseCachedBytes_whenCacheIsEnabled() {
+        // Arrange
+        EncodedResponseCache cache = new EncodedResponseCache(100, 1_000_000);
+        PriceResponseEncoder encoder = encoder(cache);
+
+        // Act
+        EncodedResponse first = encoder.encode(response, MediaType.APPLICATION_JSON);
+        EncodedResponse second = encoder.encode(response, MediaType.APPLICATION_JSON);
+
+        // Assert
+        assertThat(second).isSameAs(first);
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void encode_shouldRejectUnsupportedContentTypes() {
+        // Arrange
+        PriceResponseEncoder encoder = encoder(null);
+
+        // Act & Assert
+        assertThatThrownBy(() -> encoder.encode(response, MediaType.APPLICATION_XML))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private PriceResponseEncoder encoder(EncodedResponseCache cache) {
+        ObjectProvider<EncodedResponseCache> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(cache);
+        return new PriceResponseEncoder(objectMapper, new MappingJackson2CborHttpMessageConverter(),
+                new MappingJackson2SmileHttpMessageConverter(), provider);
+    }
+}
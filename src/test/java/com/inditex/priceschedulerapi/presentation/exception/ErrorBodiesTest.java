@@ -0,0 +1,50 @@
+package com.inditex.priceschedulerapi.presentation.exception;
+
+import com.inditex.priceschedulerapi.presentation.exception.GlobalExceptionHandler.ErrorResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ErrorBodies.
+ * Checks that the cache of error bodies stays bounded and keeps the errors that come back.
+ */
+class ErrorBodiesTest {
+
+    private final ErrorBodies bodies = new ErrorBodies(400, "Invalid argument",
+            Clock.fixed(Instant.parse("2020-06-14T10:00:00Z"), ZoneOffset.UTC));
+
+    @Test
+    void get_shouldEvictTheLeastRecentlyUsedBody_whenFull() {
+        // Arrange
+        ErrorResponse recurring = bodies.get("error", "Product ID must be positive");
+        ErrorResponse eldest = bodies.get("error", "Invalid value: 0");
+        for (int i = 1; i < ErrorBodies.MAX_ENTRIES - 1; i++) {
+            bodies.get("error", "Invalid value: " + i);
+        }
+        bodies.get("error", "Product ID must be positive");
+
+        // Act
+        ErrorResponse newest = bodies.get("error", "Invalid value: new");
+
+        // Assert
+        assertThat(bodies.size()).isEqualTo(ErrorBodies.MAX_ENTRIES);
+        assertThat(bodies.get("error", "Product ID must be positive")).isSameAs(recurring);
+        assertThat(bodies.get("error", "Invalid value: new")).isSameAs(newest);
+        assertThat(bodies.get("error", "Invalid value: 0")).isNotSameAs(eldest);
+    }
+
+    @Test
+    void get_shouldNotCacheBodies_withoutFieldOrError() {
+        // Act
+        ErrorResponse body = bodies.get("error", null);
+
+        // Assert
+        assertThat(body.errors()).containsEntry("error", null);
+        assertThat(bodies.size()).isZero();
+    }
+}
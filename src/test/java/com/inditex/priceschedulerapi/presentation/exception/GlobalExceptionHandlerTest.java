@@ -6,20 +6,31 @@ import jakarta.validation.Path;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -128,6 +139,52 @@ class GlobalExceptionHandlerTest {
         assertEquals("Product ID must be positive", errorResponse.errors().get("error"));
     }
 
+    @Test
+    void handleNoEndpointException_shouldReturnNotFoundForUnmappedPaths() {
+        // Arrange
+        NoResourceFoundException exception = new NoResourceFoundException(HttpMethod.POST, "api/v1/prices/import");
+
+        // Act
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response = globalExceptionHandler.handleNoEndpointException(exception);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        GlobalExceptionHandler.ErrorResponse errorResponse = response.getBody();
+        assertEquals(404, errorResponse.status());
+        assertEquals("Not Found", errorResponse.message());
+        assertTrue(errorResponse.errors().get("error").contains("api/v1/prices/import"));
+    }
+
+    @Test
+    void handleNoEndpointException_shouldReturnMethodNotAllowedForUnsupportedMethods() {
+        // Arrange
+        HttpRequestMethodNotSupportedException exception = new HttpRequestMethodNotSupportedException("POST", List.of("GET"));
+
+        // Act
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response = globalExceptionHandler.handleNoEndpointException(exception);
+
+        // Assert
+        assertEquals(HttpStatus.METHOD_NOT_ALLOWED, response.getStatusCode());
+        assertEquals(405, response.getBody().status());
+    }
+
+    @Test
+    void handleMediaTypeNotSupportedException_shouldReturnUnsupportedMediaTypeAndProperErrorResponse() {
+        // Arrange
+        HttpMediaTypeNotSupportedException exception = new HttpMediaTypeNotSupportedException(
+                MediaType.APPLICATION_XML, List.of(MediaType.parseMediaType("text/csv")));
+
+        // Act
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response = globalExceptionHandler.handleMediaTypeNotSupportedException(exception);
+
+        // Assert
+        assertEquals(HttpStatus.UNSUPPORTED_MEDIA_TYPE, response.getStatusCode());
+        GlobalExceptionHandler.ErrorResponse errorResponse = response.getBody();
+        assertEquals(415, errorResponse.status());
+        assertEquals("Unsupported media type", errorResponse.message());
+        assertEquals("Unsupported content type: application/xml", errorResponse.errors().get("contentType"));
+    }
+
     @Test
     void handleGenericException_shouldReturnInternalServerErrorAndProperErrorResponse() {
         // Arrange
@@ -144,4 +201,82 @@ class GlobalExceptionHandlerTest {
         assertTrue(errorResponse.errors().containsKey("error"));
         assertEquals("An unexpected error occurred", errorResponse.errors().get("error"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void handleIllegalArgumentException_shouldReusePrecomputedBodyWithinTheSameSecond() {
+        // Arrange
+        Clock clock = Clock.fixed(Instant.parse("2020-06-14T10:00:00.750Z"), ZoneOffset.UTC);
+        GlobalExceptionHandler handler = new GlobalExceptionHandler(clock);
+
+        // Act
+        GlobalExceptionHandler.ErrorResponse first = handler.handleIllegalArgumentException(
+                new IllegalArgumentException("Product ID must be positive")).getBody();
+        GlobalExceptionHandler.ErrorResponse second = handler.handleIllegalArgumentException(
+                new IllegalArgumentException("Product ID must be positive")).getBody();
+        GlobalExceptionHandler.ErrorResponse other = handler.handleIllegalArgumentException(
+                new IllegalArgumentException("Brand ID must be positive")).getBody();
+
+        // Assert
+        assertSame(first, second);
+        assertNotSame(first, other);
+        assertEquals(LocalDateTime.of(2020, 6, 14, 10, 0, 0), first.timestamp());
+        assertEquals(Map.of("error", "Brand ID must be positive"), other.errors());
+    }
+
+    @Test
+    void handleIllegalArgumentException_shouldRefreshTimestampEverySecond() {
+        // Arrange
+        Instant[] now = {Instant.parse("2020-06-14T10:00:00Z")};
+        Clock clock = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now[0];
+            }
+        };
+        GlobalExceptionHandler handler = new GlobalExceptionHandler(clock);
+        IllegalArgumentException exception = new IllegalArgumentException("Product ID must be positive");
+
+        // Act
+        GlobalExceptionHandler.ErrorResponse first = handler.handleIllegalArgumentException(exception).getBody();
+        now[0] = now[0].plusSeconds(1);
+        GlobalExceptionHandler.ErrorResponse second = handler.handleIllegalArgumentException(exception).getBody();
+
+        // Assert
+        assertNotSame(first, second);
+        assertEquals(LocalDateTime.of(2020, 6, 14, 10, 0, 1), second.timestamp());
+        assertEquals(first.errors(), second.errors());
+    }
+
+    @Test
+    void handleConstraintViolationException_shouldReusePrecomputedBodyForSingleViolation() {
+        // Arrange
+        ConstraintViolation<?> violation = mock(ConstraintViolation.class);
+        Path path = mock(Path.class);
+        when(path.toString()).thenReturn("productId");
+        when(violation.getPropertyPath()).thenReturn(path);
+        when(violation.getMessage()).thenReturn("must be positive");
+        Clock clock = Clock.fixed(Instant.parse("2020-06-14T10:00:00Z"), ZoneOffset.UTC);
+        GlobalExceptionHandler handler = new GlobalExceptionHandler(clock);
+
+        // Act
+        GlobalExceptionHandler.ErrorResponse first = handler.handleConstraintViolationException(
+                new ConstraintViolationException(Set.of(violation))).getBody();
+        GlobalExceptionHandler.ErrorResponse second = handler.handleConstraintViolationException(
+                new ConstraintViolationException(Set.of(violation))).getBody();
+
+        // Assert
+        assertSame(first, second);
+        assertEquals("Validation failed", first.message());
+        assertEquals(Map.of("productId", "must be positive"), first.errors());
+    }
+}